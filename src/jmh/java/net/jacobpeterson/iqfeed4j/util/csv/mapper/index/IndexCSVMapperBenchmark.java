@@ -0,0 +1,196 @@
+package net.jacobpeterson.iqfeed4j.util.csv.mapper.index;
+
+import net.jacobpeterson.iqfeed4j.feed.lookup.historical.HistoricalFeed;
+import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1Feed;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Tick;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateContent;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMappingException;
+import net.jacobpeterson.iqfeed4j.util.tradecondition.TradeConditionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueNotWhitespace;
+import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeConverters.COLON_TIME;
+import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeConverters.DASHED_DATE_SPACE_TIME_FRACTIONAL;
+import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.DOUBLE;
+import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.INTEGER;
+import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.LONG;
+import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.SHORT;
+import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.STRING;
+
+/**
+ * {@link IndexCSVMapperBenchmark} benchmarks {@link IndexCSVMapper#map(String[], int)}, which applies its
+ * compiled, index-sorted mapping arrays, against the previous implementation, which iterated the keys of the
+ * {@link IndexCSVMapper#csvMappingsOfCSVIndices} {@link java.util.HashMap} and looked up each mapping. Both use the
+ * same {@link CSVMapping}s: the {@link Tick} mappings of {@link HistoricalFeed} and the {@link SummaryUpdate} mappings
+ * of the default {@link Level1Feed} fieldset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IndexCSVMapperBenchmark {
+
+    @Param({"TICK", "SUMMARY_UPDATE"})
+    private String messageType;
+
+    private String[] csv;
+    private int offset;
+    private IndexCSVMapper<?> compiledCSVMapper;
+    private IndexCSVMapper<?> hashMapCSVMapper;
+
+    /**
+     * Creates the {@link #csv} message and the {@link IndexCSVMapper}s of the {@link #messageType}.
+     */
+    @Setup
+    public void setup() {
+        if (messageType.equals("TICK")) {
+            csv = "LH,2021-05-03 09:30:00.123456,132.45,100,12345678,132.44,132.46,987654321,C,11,3D87,1,3"
+                    .split(",", -1);
+            offset = 1;
+            compiledCSVMapper = addTickMappings(new IndexCSVMapper<>(Tick::new));
+            hashMapCSVMapper = addTickMappings(new HashMapIndexCSVMapper<>(Tick::new));
+        } else {
+            csv = ("Q,AAPL,132.45,100,09:30:00.123456,11,12345678,132.44,300,132.46,200,131.00,133.00,130.50," +
+                    "131.20,Cba,3D87").split(",", -1);
+            offset = 1;
+            compiledCSVMapper = addSummaryUpdateMappings(new IndexCSVMapper<>(SummaryUpdate::new));
+            hashMapCSVMapper = addSummaryUpdateMappings(new HashMapIndexCSVMapper<>(SummaryUpdate::new));
+        }
+    }
+
+    /**
+     * Maps the {@link #csv} with the compiled mapping arrays.
+     *
+     * @return the mapped POJO
+     */
+    @Benchmark
+    public Object compiled() {
+        return compiledCSVMapper.map(csv, offset);
+    }
+
+    /**
+     * Maps the {@link #csv} with {@link java.util.HashMap} iteration and lookups.
+     *
+     * @return the mapped POJO
+     */
+    @Benchmark
+    public Object hashMap() {
+        return hashMapCSVMapper.map(csv, offset);
+    }
+
+    /**
+     * Adds the {@link Tick} mappings of {@link HistoricalFeed} to the given {@link IndexCSVMapper}.
+     *
+     * @param csvMapper the {@link IndexCSVMapper}
+     *
+     * @return the given {@link IndexCSVMapper}
+     */
+    private static IndexCSVMapper<Tick> addTickMappings(IndexCSVMapper<Tick> csvMapper) {
+        csvMapper.addMapping(Tick::setTimestamp, DASHED_DATE_SPACE_TIME_FRACTIONAL);
+        csvMapper.addMapping(Tick::setLast, DOUBLE);
+        csvMapper.addMapping(Tick::setLastSize, LONG);
+        csvMapper.addMapping(Tick::setTotalVolume, LONG);
+        csvMapper.addMapping(Tick::setBid, DOUBLE);
+        csvMapper.addMapping(Tick::setAsk, DOUBLE);
+        csvMapper.addMapping(Tick::setTickID, LONG);
+        csvMapper.addMapping(Tick::setBasisForLast, Tick.BasisForLast::fromValue);
+        csvMapper.addMapping(Tick::setTradeMarketCenter, SHORT);
+        csvMapper.addMapping(Tick::setTradeConditions, TradeConditionUtil::listFromTradeConditionString);
+        csvMapper.addMapping(Tick::setTradeAggressor, Tick.TradeAggressor::fromValue);
+        csvMapper.addMapping(Tick::setDayCode, INTEGER);
+        return csvMapper;
+    }
+
+    /**
+     * Adds the {@link SummaryUpdate} mappings of the default {@link Level1Feed} fieldset to the given
+     * {@link IndexCSVMapper}.
+     *
+     * @param csvMapper the {@link IndexCSVMapper}
+     *
+     * @return the given {@link IndexCSVMapper}
+     */
+    private static IndexCSVMapper<SummaryUpdate> addSummaryUpdateMappings(IndexCSVMapper<SummaryUpdate> csvMapper) {
+        csvMapper.addMapping(SummaryUpdate::setSymbol, STRING);
+        csvMapper.addMapping(CSVMapping.ofDouble(SummaryUpdate::setMostRecentTrade));
+        csvMapper.addMapping(CSVMapping.ofInt(SummaryUpdate::setMostRecentTradeSize));
+        csvMapper.addMapping(SummaryUpdate::setMostRecentTradeTime, COLON_TIME);
+        csvMapper.addMapping(CSVMapping.ofInt(SummaryUpdate::setMostRecentTradeMarketCenter));
+        csvMapper.addMapping(CSVMapping.ofInt(SummaryUpdate::setTotalVolume));
+        csvMapper.addMapping(CSVMapping.ofDouble(SummaryUpdate::setBid));
+        csvMapper.addMapping(CSVMapping.ofInt(SummaryUpdate::setBidSize));
+        csvMapper.addMapping(CSVMapping.ofDouble(SummaryUpdate::setAsk));
+        csvMapper.addMapping(CSVMapping.ofInt(SummaryUpdate::setAskSize));
+        csvMapper.addMapping(CSVMapping.ofDouble(SummaryUpdate::setOpen));
+        csvMapper.addMapping(CSVMapping.ofDouble(SummaryUpdate::setHigh));
+        csvMapper.addMapping(CSVMapping.ofDouble(SummaryUpdate::setLow));
+        csvMapper.addMapping(CSVMapping.ofDouble(SummaryUpdate::setClose));
+        csvMapper.addMapping(SummaryUpdate::setMessageContents,
+                (value) -> IntStream.range(0, value.length())
+                        .mapToObj(value::charAt)
+                        .map(String::valueOf)
+                        .map(SummaryUpdateContent::fromValue)
+                        .collect(Collectors.toList()));
+        csvMapper.addMapping(SummaryUpdate::setMostRecentTradeConditions,
+                TradeConditionUtil::listFromTradeConditionString);
+        return csvMapper;
+    }
+
+    /**
+     * {@link HashMapIndexCSVMapper} is an {@link IndexCSVMapper} that maps with the previous implementation of
+     * {@link IndexCSVMapper#map(String[], int)}, which iterated the {@link #csvMappingsOfCSVIndices} keys and looked up
+     * each {@link CSVMapping}.
+     *
+     * @param <T> the type of the POJO
+     */
+    private static class HashMapIndexCSVMapper<T> extends IndexCSVMapper<T> {
+
+        /**
+         * Instantiates a new {@link HashMapIndexCSVMapper}.
+         *
+         * @param pojoInstantiator a {@link Supplier} to instantiate a new POJO
+         */
+        public HashMapIndexCSVMapper(Supplier<T> pojoInstantiator) {
+            super(pojoInstantiator);
+        }
+
+        @Override
+        public T map(String[] csv, int offset) {
+            T instance = pojoInstantiator.get();
+
+            // Loop through all added 'CSVMappings' and apply them
+            for (int csvIndex : csvMappingsOfCSVIndices.keySet()) {
+                if (!valueNotWhitespace(csv, csvIndex + offset)) { // Don't map empty CSV values
+                    continue;
+                }
+
+                // apply() could throw a variety of exceptions
+                try {
+                    csvMappingsOfCSVIndices.get(csvIndex).apply(instance, csv[csvIndex + offset]);
+                } catch (Exception exception) {
+                    throw new CSVMappingException(csvIndex, offset, exception);
+                }
+            }
+
+            return instance;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package net.jacobpeterson.iqfeed4j.util.split;
+
+import net.jacobpeterson.iqfeed4j.feed.AbstractFeed;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QuoteEscapedSplitBenchmark} benchmarks splitting a quote-escaped CSV line with the Regex of
+ * {@link AbstractFeed#QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER} against
+ * {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)} and {@link CSVRecord#parseQuoteEscaped(byte[], int, int)}.
+ * The line is a market summary style line of {@link #fieldCount} fields, every fourth of which is a quoted value
+ * containing commas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QuoteEscapedSplitBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int fieldCount;
+
+    private String line;
+    private byte[] lineBytes;
+    private CSVRecord csvRecord;
+
+    /**
+     * Creates the {@link #line} of {@link #fieldCount} fields.
+     */
+    @Setup
+    public void setup() {
+        StringBuilder lineBuilder = new StringBuilder();
+        for (int fieldIndex = 0; fieldIndex < fieldCount; fieldIndex++) {
+            if (fieldIndex > 0) {
+                lineBuilder.append(',');
+            }
+            if (fieldIndex % 4 == 3) {
+                lineBuilder.append("\"COMPANY ").append(fieldIndex).append(", INC.\"");
+            } else {
+                lineBuilder.append(fieldIndex * 1.25);
+            }
+        }
+
+        line = lineBuilder.toString();
+        lineBytes = line.getBytes(StandardCharsets.US_ASCII);
+        csvRecord = new CSVRecord();
+    }
+
+    /**
+     * Splits the {@link #line} with the Regex.
+     *
+     * @return the split values
+     */
+    @Benchmark
+    public List<String> regexSplitter() {
+        return AbstractFeed.QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER.splitToList(line);
+    }
+
+    /**
+     * Splits the {@link #line} with {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)}.
+     *
+     * @return the split values
+     */
+    @Benchmark
+    public List<String> splitUtil() {
+        return SplitUtil.splitQuoteEscapedCommas(line);
+    }
+
+    /**
+     * Parses the {@link #lineBytes} with {@link CSVRecord#parseQuoteEscaped(byte[], int, int)}.
+     *
+     * @return the {@link CSVRecord}
+     */
+    @Benchmark
+    public CSVRecord csvRecord() {
+        csvRecord.parseQuoteEscaped(lineBytes, 0, lineBytes.length);
+        return csvRecord;
+    }
+}
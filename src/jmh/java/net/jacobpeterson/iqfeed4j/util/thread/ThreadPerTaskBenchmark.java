@@ -0,0 +1,76 @@
+package net.jacobpeterson.iqfeed4j.util.thread;
+
+import net.jacobpeterson.iqfeed4j.feed.lookup.historical.pool.HistoricalFeedPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * {@link ThreadPerTaskBenchmark} benchmarks a {@link ThreadUtil#newThreadPerTaskExecutor} of platform threads against
+ * one of virtual threads, as used by {@link HistoricalFeedPool} for its requests. Each task blocks for
+ * {@link #blockMicros} to simulate waiting for a feed response. The <code>VIRTUAL</code> {@link #threadType} requires
+ * running the benchmark on JDK 21+.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ThreadPerTaskBenchmark {
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private String threadType;
+    @Param({"100", "1000", "10000"})
+    private int taskCount;
+    @Param({"1000"})
+    private long blockMicros;
+
+    private Executor executor;
+
+    /**
+     * Creates the {@link #executor} of the {@link #threadType}.
+     */
+    @Setup
+    public void setup() {
+        if (threadType.equals("VIRTUAL")) {
+            checkState(ThreadUtil.isVirtualThreadSupported(), "Virtual threads require JDK 21+!");
+            executor = ThreadUtil.newThreadPerTaskExecutor(ThreadUtil.newVirtualThreadFactory("Benchmark"));
+        } else {
+            executor = ThreadUtil.newThreadPerTaskExecutor(ThreadUtil.newPlatformThreadFactory("Benchmark", true));
+        }
+    }
+
+    /**
+     * Executes {@link #taskCount} blocking tasks and waits until all of them have completed.
+     *
+     * @throws InterruptedException thrown for {@link InterruptedException}s
+     */
+    @Benchmark
+    public void executeBlockingTasks() throws InterruptedException {
+        final long blockNanos = TimeUnit.MICROSECONDS.toNanos(blockMicros);
+        CountDownLatch completionLatch = new CountDownLatch(taskCount);
+        for (int taskIndex = 0; taskIndex < taskCount; taskIndex++) {
+            executor.execute(() -> {
+                LockSupport.parkNanos(blockNanos);
+                completionLatch.countDown();
+            });
+        }
+        completionLatch.await();
+    }
+}
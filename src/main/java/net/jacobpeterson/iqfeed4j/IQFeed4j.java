@@ -2,6 +2,8 @@ package net.jacobpeterson.iqfeed4j;
 
 import net.jacobpeterson.iqfeed4j.executable.IQConnectExecutable;
 import net.jacobpeterson.iqfeed4j.feed.AbstractFeed;
+import net.jacobpeterson.iqfeed4j.feed.FeedDispatcher;
+import net.jacobpeterson.iqfeed4j.feed.FeedEventLoop;
 import net.jacobpeterson.iqfeed4j.feed.lookup.AbstractLookupFeed;
 import net.jacobpeterson.iqfeed4j.feed.lookup.historical.HistoricalFeed;
 import net.jacobpeterson.iqfeed4j.feed.lookup.historical.pool.HistoricalFeedPool;
@@ -12,6 +14,7 @@ import net.jacobpeterson.iqfeed4j.feed.lookup.symbolmarketinfo.SymbolMarketInfoF
 import net.jacobpeterson.iqfeed4j.feed.streaming.admin.AdminFeed;
 import net.jacobpeterson.iqfeed4j.feed.streaming.derivative.DerivativeFeed;
 import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1Feed;
+import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1FeedGroup;
 import net.jacobpeterson.iqfeed4j.feed.streaming.marketdepth.MarketDepthFeed;
 import net.jacobpeterson.iqfeed4j.properties.IQFeed4jProperties;
 import org.apache.commons.pool2.ObjectPool;
@@ -46,6 +49,7 @@ public class IQFeed4j {
 
     // Ordering of fields/methods are analogous to the ordering in the IQFeed documentation
     private Level1Feed level1Feed;
+    private Level1FeedGroup level1FeedGroup;
     // TODO MarketDepthFeed
     private DerivativeFeed derivativeFeed;
     private AdminFeed adminFeed;
@@ -56,6 +60,9 @@ public class IQFeed4j {
     private OptionChainsFeed optionChainsFeed;
     private SymbolMarketInfoFeed symbolMarketInfoFeed;
 
+    private FeedEventLoop feedEventLoop;
+    private FeedDispatcher feedDispatcher;
+
     /**
      * Instantiates a new {@link IQFeed4j} with properties defined in {@link IQFeed4jProperties#PROPERTIES_FILE}.
      */
@@ -171,6 +178,39 @@ public class IQFeed4j {
         level1Feed = null;
     }
 
+    /**
+     * Starts the {@link Level1FeedGroup} instance with the given number of {@link Level1Feed} connections, or does
+     * nothing if it's already started.
+     *
+     * @param feedCount the number of {@link Level1Feed} connections
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void startLevel1FeedGroup(int feedCount) throws IOException {
+        if (level1FeedGroup == null) {
+            Level1FeedGroup newLevel1FeedGroup = new Level1FeedGroup(feedName, feedHostname, level1FeedPort,
+                    feedCount);
+            for (Level1Feed groupLevel1Feed : newLevel1FeedGroup.getLevel1Feeds()) {
+                groupLevel1Feed.setFeedEventLoop(feedEventLoop);
+                groupLevel1Feed.setFeedDispatcher(feedDispatcher);
+            }
+            newLevel1FeedGroup.start();
+            level1FeedGroup = newLevel1FeedGroup;
+        }
+    }
+
+    /**
+     * Stops the {@link Level1FeedGroup} instance, or does nothing if it's already stopped.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void stopLevel1FeedGroup() throws IOException {
+        if (level1FeedGroup != null) {
+            level1FeedGroup.stop();
+        }
+        level1FeedGroup = null;
+    }
+
     /**
      * Starts the {@link DerivativeFeed} instance, or does nothing if it's already started.
      *
@@ -234,7 +274,8 @@ public class IQFeed4j {
      */
     public void startHistoricalFeedPool() {
         if (historicalFeedPool == null) {
-            historicalFeedPool = new HistoricalFeedPool(feedName, feedHostname, lookupFeedPort);
+            historicalFeedPool = new HistoricalFeedPool(feedName, feedHostname, lookupFeedPort,
+                    HistoricalFeedPool.createDefaultFeedPoolConfig(), feedEventLoop);
         }
     }
 
@@ -246,7 +287,8 @@ public class IQFeed4j {
      */
     public void startHistoricalFeedPool(GenericObjectPoolConfig<HistoricalFeed> feedPoolConfig) {
         if (historicalFeedPool == null) {
-            historicalFeedPool = new HistoricalFeedPool(feedName, feedHostname, lookupFeedPort, feedPoolConfig);
+            historicalFeedPool = new HistoricalFeedPool(feedName, feedHostname, lookupFeedPort, feedPoolConfig,
+                    feedEventLoop);
         }
     }
 
@@ -365,10 +407,14 @@ public class IQFeed4j {
     private <F extends AbstractFeed> F startFeed(F feed, Supplier<F> feedInstantiator) throws IOException {
         if (feed == null) {
             feed = feedInstantiator.get();
+            feed.setFeedEventLoop(feedEventLoop);
+            feed.setFeedDispatcher(feedDispatcher);
             feed.start();
         } else if (!feed.isValid()) {
             feed.stop();
             feed = feedInstantiator.get();
+            feed.setFeedEventLoop(feedEventLoop);
+            feed.setFeedDispatcher(feedDispatcher);
             feed.start();
         }
 
@@ -407,6 +453,15 @@ public class IQFeed4j {
         return level1Feed;
     }
 
+    /**
+     * Gets {@link #level1FeedGroup}
+     *
+     * @return the {@link Level1FeedGroup}
+     */
+    public Level1FeedGroup level1Group() {
+        return level1FeedGroup;
+    }
+
     /**
      * Gets {@link #derivativeFeed}
      *
@@ -479,6 +534,45 @@ public class IQFeed4j {
         return symbolMarketInfoFeed;
     }
 
+    /**
+     * Gets {@link #feedEventLoop}.
+     *
+     * @return the {@link FeedEventLoop}
+     */
+    public FeedEventLoop feedEventLoop() {
+        return feedEventLoop;
+    }
+
+    /**
+     * Sets {@link #feedEventLoop}. Feeds (including the {@link HistoricalFeedPool}) started after this is set will be
+     * read and dispatched by the given {@link FeedEventLoop} instead of by their own socket threads. Note that the
+     * {@link FeedEventLoop} is not closed by {@link IQFeed4j}.
+     *
+     * @param feedEventLoop the {@link FeedEventLoop} or <code>null</code> to use a socket thread per feed
+     */
+    public void setFeedEventLoop(FeedEventLoop feedEventLoop) {
+        this.feedEventLoop = feedEventLoop;
+    }
+
+    /**
+     * Gets {@link #feedDispatcher}.
+     *
+     * @return the {@link FeedDispatcher}
+     */
+    public FeedDispatcher feedDispatcher() {
+        return feedDispatcher;
+    }
+
+    /**
+     * Sets {@link #feedDispatcher}. Feeds (excluding the {@link HistoricalFeedPool}) started after this is set will
+     * dispatch messages on the dispatch threads of the given {@link FeedDispatcher} instead of on their socket threads.
+     *
+     * @param feedDispatcher the {@link FeedDispatcher} or <code>null</code> to dispatch on the socket threads
+     */
+    public void setFeedDispatcher(FeedDispatcher feedDispatcher) {
+        this.feedDispatcher = feedDispatcher;
+    }
+
     @Override
     public String toString() {
         return "IQFeed4j{" +
@@ -4,23 +4,42 @@ import com.google.common.base.Splitter;
 import net.jacobpeterson.iqfeed4j.feed.message.FeedMessageListener;
 import net.jacobpeterson.iqfeed4j.model.feed.common.enums.FeedCommand;
 import net.jacobpeterson.iqfeed4j.model.feed.common.enums.FeedMessageType;
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteLineFramer;
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import net.jacobpeterson.iqfeed4j.util.split.SplitUtil;
 import net.jacobpeterson.iqfeed4j.util.string.LineEnding;
+import net.jacobpeterson.iqfeed4j.util.thread.ThreadUtil;
 import org.slf4j.Logger;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueEquals;
 
 /**
@@ -35,6 +54,10 @@ public abstract class AbstractFeed implements Runnable {
 
     /**
      * A comma (,) delimited {@link Splitter} that ignores commas surrounded in quotes using a Regex {@link Pattern}.
+     * <br>
+     * Note that an {@link AbstractFeed} constructed with this {@link Splitter} does not use the Regex, but instead uses
+     * {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)} or {@link CSVRecord#parseQuoteEscaped(ByteSlice)}, which
+     * have the same semantics in linear time.
      *
      * @see <a href="https://stackoverflow.com/a/1757107">"Java: splitting a comma-separated string" reference</a>
      */
@@ -44,8 +67,16 @@ public abstract class AbstractFeed implements Runnable {
      * A comma (,) delimited {@link Splitter}. This avoids slow Regex splitting.
      */
     public static final Splitter COMMA_DELIMITED_SPLITTER = Splitter.on(',');
+    /**
+     * The default maximum number of commands that a bulk request sends in a single socket write, which bounds the
+     * size of each write (a few tens of kilobytes for watch commands).
+     */
+    public static final int DEFAULT_BULK_REQUEST_BATCH_SIZE = 500;
 
     private static final int SOCKET_THREAD_JOIN_WAIT_MILLIS = 5000;
+    private static final int NIO_READ_BUFFER_CAPACITY = 64 * 1024;
+
+    private static volatile ThreadFactory defaultSocketThreadFactory = Thread::new;
 
     protected final Logger logger;
     protected final String feedName;
@@ -55,14 +86,32 @@ public abstract class AbstractFeed implements Runnable {
     protected final boolean validateProtocolVersion;
     protected final boolean sendClientName;
 
+    private boolean started;
+    private ThreadFactory socketThreadFactory;
     private Thread socketThread;
     private boolean socketThreadRunning;
+    private ReceiveMode receiveMode;
+    private FeedEventLoop feedEventLoop;
+    private FeedDispatcher feedDispatcher;
+    private FeedDispatcher.Stage feedDispatchStage;
     private Socket feedSocket;
+    private SocketChannel feedChannel;
+    private ByteLineFramer feedLineFramer;
+    private final ByteLineFramer.LineHandler feedLineHandler;
+    private final CSVRecord feedCSVRecord;
     private BufferedWriter feedWriter;
     private BufferedReader feedReader;
+    private final Object feedWriteLock;
+    private final ArrayDeque<ByteBuffer> pendingWriteBuffers; // Guarded by 'feedWriteLock'
+    private volatile boolean writePending;
     private volatile boolean intentionalSocketClose;
+    private boolean socketCloseHandled; // Only accessed by the socket thread or the FeedEventLoop selector thread
     private boolean protocolVersionValidated; // Non-volatile to allow cache use even though used across threads
     private volatile CompletableFuture<Void> protocolVersionValidatedFuture;
+    private volatile int bulkRequestBatchSize;
+    private volatile Duration bulkRequestBatchDelay;
+    private final AtomicInteger readPauseCount;
+    private final Object readPauseLock;
     protected FeedMessageListener<String[]> customFeedMessageListener;
 
     /**
@@ -85,24 +134,45 @@ public abstract class AbstractFeed implements Runnable {
         this.csvSplitter = csvSplitter;
         this.validateProtocolVersion = validateProtocolVersion;
         this.sendClientName = sendClientName;
+
+        receiveMode = ReceiveMode.NIO;
+        socketThreadFactory = defaultSocketThreadFactory;
+        feedLineHandler = this::onLineReceived;
+        feedCSVRecord = new CSVRecord();
+        feedWriteLock = new Object();
+        pendingWriteBuffers = new ArrayDeque<>();
+        bulkRequestBatchSize = DEFAULT_BULK_REQUEST_BATCH_SIZE;
+        bulkRequestBatchDelay = Duration.ZERO;
+        readPauseCount = new AtomicInteger();
+        readPauseLock = new Object();
     }
 
     /**
-     * Starts this feed connection (creates a new socket connection on a new thread and sets protocol version) or does
-     * nothing if the feed is currently connected or has been previously connected.
+     * Starts this feed connection (creates a new socket connection on a new thread, or registers it with the
+     * {@link #feedEventLoop} if one was set, and sets protocol version) or does nothing if the feed is currently
+     * connected or has been previously connected.
      *
      * @throws IOException thrown for {@link IOException}s
      */
     public void start() throws IOException {
-        if (socketThread != null) {
+        if (started) {
             return;
         }
 
-        feedSocket = new Socket(hostname, port);
-        feedWriter = new BufferedWriter(new OutputStreamWriter(feedSocket.getOutputStream(),
-                StandardCharsets.US_ASCII));
-        feedReader = new BufferedReader(new InputStreamReader(feedSocket.getInputStream(),
-                StandardCharsets.US_ASCII));
+        if (receiveMode == ReceiveMode.NIO) {
+            feedChannel = SocketChannel.open(new InetSocketAddress(hostname, port));
+            feedSocket = feedChannel.socket();
+            feedLineFramer = new ByteLineFramer(NIO_READ_BUFFER_CAPACITY);
+            if (feedEventLoop != null) {
+                feedChannel.configureBlocking(false);
+            }
+        } else {
+            feedSocket = new Socket(hostname, port);
+            feedWriter = new BufferedWriter(new OutputStreamWriter(feedSocket.getOutputStream(),
+                    StandardCharsets.US_ASCII));
+            feedReader = new BufferedReader(new InputStreamReader(feedSocket.getInputStream(),
+                    StandardCharsets.US_ASCII));
+        }
 
         logger.debug("{} feed socket connection established.", feedName);
 
@@ -124,13 +194,24 @@ public abstract class AbstractFeed implements Runnable {
             sendMessage(clientNameCommand);
         }
 
-        socketThreadRunning = true;
-        socketThread = new Thread(this, feedName);
-        socketThread.start();
+        started = true;
+        if (feedDispatcher != null) {
+            feedDispatchStage = feedDispatcher.startStage(this);
+        }
+        if (feedEventLoop != null) {
+            feedEventLoop.register(this, feedChannel);
+        } else {
+            socketThreadRunning = true;
+            socketThread = socketThreadFactory.newThread(this);
+            socketThread.setName(feedName);
+            socketThread.start();
+        }
     }
 
     /**
-     * Stop this feed connection (closes the socket connection and stops the socket thread).
+     * Stop this feed connection (closes the socket connection and stops the socket thread). If a
+     * {@link FeedDispatcher} is used, this also waits (with a timeout) for its dispatch threads to handle the lines
+     * that have already been read and to finish.
      * <br>
      * Note that once this {@link AbstractFeed} has been stopped, it cannot be started again, so a new instance of
      * {@link AbstractFeed} needs to be created.
@@ -139,11 +220,30 @@ public abstract class AbstractFeed implements Runnable {
      */
     public void stop() throws IOException {
         socketThreadRunning = false;
+        synchronized (readPauseLock) {
+            readPauseLock.notifyAll(); // Wake up the socket thread if reading is paused
+        }
         closeSocket();
 
+        if (feedEventLoop != null) {
+            feedEventLoop.deregister(this);
+        }
+
+        joinFeedDispatchStage();
+
         logger.debug("{} feed socket stopped.", feedName);
     }
 
+    /**
+     * Stops the {@link #feedDispatchStage}, if any, and waits for its dispatch threads to finish with a timeout.
+     */
+    void joinFeedDispatchStage() {
+        if (feedDispatchStage != null) {
+            feedDispatchStage.stop();
+            feedDispatchStage.join();
+        }
+    }
+
     /**
      * Closes the {@link #feedSocket}.
      *
@@ -156,52 +256,333 @@ public abstract class AbstractFeed implements Runnable {
 
     @Override
     public void run() {
-        while (socketThreadRunning) { // Check if thread should continue running
-            try {
-                String line = feedReader.readLine(); // Uses any line ending: CR, LF, or CRLF
-
-                if (line == null) {
-                    throw new IOException("EOF was sent by server!");
-                } else {
-                    logger.trace("Received message line: {}", line);
-
-                    String[] csv = csvSplitter.splitToList(line).toArray(new String[0]);
-
-                    // Confirm protocol version valid
-                    if (validateProtocolVersion && !protocolVersionValidated &&
-                            valueEquals(csv, 0, FeedMessageType.SYSTEM.value()) &&
-                            valueEquals(csv, 1, FeedMessageType.CURRENT_PROTOCOL.value()) &&
-                            valueEquals(csv, 2, CURRENTLY_SUPPORTED_PROTOCOL_VERSION)) {
-                        logger.debug("Protocol version validated: {}", (Object) csv);
-
-                        protocolVersionValidated = true;
-                        onProtocolVersionValidated();
-                        if (protocolVersionValidatedFuture != null) {
-                            protocolVersionValidatedFuture.complete(null);
-                        }
-                    } else {
-                        // Call message handlers
-                        onMessageReceived(csv);
-                        if (customFeedMessageListener != null) {
-                            customFeedMessageListener.onMessageReceived(csv);
-                        }
+        try {
+            if (receiveMode == ReceiveMode.NIO) {
+                while (socketThreadRunning) { // Check if thread should continue running
+                    awaitReadingResumed();
+
+                    // Uses any line ending: CR, LF, or CRLF
+                    if (feedLineFramer.read(feedChannel, feedLineHandler) < 0) {
+                        throw new IOException("EOF was sent by server!");
                     }
                 }
-            } catch (Exception exception) {
-                if (intentionalSocketClose) {
-                    onFeedSocketClose();
-                } else {
-                    try {
-                        closeSocket();
-                    } catch (Exception stopException) {
-                        logger.error("Could not close {} socket!", feedName, stopException);
+            } else {
+                while (socketThreadRunning) { // Check if thread should continue running
+                    awaitReadingResumed();
+
+                    String line = feedReader.readLine(); // Uses any line ending: CR, LF, or CRLF
+
+                    if (line == null) {
+                        throw new IOException("EOF was sent by server!");
+                    } else {
+                        logger.trace("Received message line: {}", line);
+                        handleCSV(splitCSV(line));
                     }
+                }
+            }
+        } catch (Exception exception) {
+            handleSocketException(exception);
+        }
+    }
 
-                    onFeedSocketException(exception);
+    /**
+     * Called by the {@link #feedEventLoop} selector thread when {@link #feedChannel} is readable. This performs a
+     * single non-blocking read so that other feeds registered with the same {@link FeedEventLoop} are not starved.
+     */
+    void onEventLoopReadable() {
+        try {
+            // Uses any line ending: CR, LF, or CRLF
+            if (feedLineFramer.read(feedChannel, feedLineHandler) < 0) {
+                throw new IOException("EOF was sent by server!");
+            }
+        } catch (Exception exception) {
+            handleSocketException(exception);
+            feedEventLoop.deregister(this);
+        }
+    }
+
+    /**
+     * Called by the {@link #feedEventLoop} selector thread when {@link #feedChannel} is writable while
+     * {@link #writePending}. This writes as much of the {@link #pendingWriteBuffers} as the socket accepts and removes
+     * the write interest once they have all been written.
+     */
+    void onEventLoopWritable() {
+        try {
+            synchronized (feedWriteLock) {
+                writePendingWriteBuffers();
+                if (!pendingWriteBuffers.isEmpty()) {
+                    return;
                 }
+                writePending = false;
+            }
+            feedEventLoop.updateInterestOps(this, feedChannel);
+        } catch (Exception exception) {
+            handleSocketException(exception);
+            feedEventLoop.deregister(this);
+        }
+    }
 
+    /**
+     * Writes the {@link #pendingWriteBuffers} in order until they have all been written or the socket send buffer is
+     * full. This must be called while holding {@link #feedWriteLock}.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    private void writePendingWriteBuffers() throws IOException {
+        ByteBuffer pendingWriteBuffer;
+        while ((pendingWriteBuffer = pendingWriteBuffers.peek()) != null) {
+            feedChannel.write(pendingWriteBuffer);
+            if (pendingWriteBuffer.hasRemaining()) {
                 return;
             }
+            pendingWriteBuffers.poll();
+        }
+    }
+
+    /**
+     * Pauses reading from the socket of this feed (e.g. to apply backpressure while a consumer catches up), so that
+     * IQConnect stops sending once the socket buffers are full. Lines that have already been read are still handled.
+     * Calls may be nested: reading resumes once {@link #resumeReading()} has been called as many times as this.
+     * <br>
+     * With a {@link #feedEventLoop}, this removes the read interest of the socket from its selector, so that other
+     * feeds on the same {@link FeedEventLoop} are unaffected. Otherwise, the socket thread waits before its next read.
+     * This may be called from any thread, including the thread that handles messages of this feed.
+     */
+    public void pauseReading() {
+        readPauseCount.incrementAndGet();
+        onReadPauseChanged();
+    }
+
+    /**
+     * Resumes reading from the socket of this feed after {@link #pauseReading()}.
+     */
+    public void resumeReading() {
+        readPauseCount.decrementAndGet();
+        onReadPauseChanged();
+    }
+
+    /**
+     * Tests if reading is paused via {@link #pauseReading()}.
+     *
+     * @return a boolean
+     */
+    public boolean isReadingPaused() {
+        return readPauseCount.get() > 0;
+    }
+
+    /**
+     * Applies a change of {@link #readPauseCount} to the {@link #feedEventLoop} or the socket thread.
+     */
+    private void onReadPauseChanged() {
+        if (feedEventLoop != null) {
+            feedEventLoop.updateInterestOps(this, feedChannel);
+        } else {
+            synchronized (readPauseLock) {
+                readPauseLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Blocks the socket thread while {@link #isReadingPaused()}.
+     *
+     * @throws InterruptedException thrown for {@link InterruptedException}s
+     */
+    private void awaitReadingResumed() throws InterruptedException {
+        synchronized (readPauseLock) {
+            while (isReadingPaused() && socketThreadRunning) {
+                readPauseLock.wait();
+            }
+        }
+    }
+
+    /**
+     * Gets the {@link SelectionKey} interest set of the {@link #feedChannel} for the {@link #feedEventLoop}.
+     *
+     * @return the interest set
+     */
+    int getEventLoopInterestOps() {
+        return (isReadingPaused() ? 0 : SelectionKey.OP_READ) | (writePending ? SelectionKey.OP_WRITE : 0);
+    }
+
+    /**
+     * Handles an {@link Exception} thrown while reading from the socket by calling {@link #onFeedSocketClose()} if the
+     * socket was closed intentionally or by closing the socket and calling {@link #onFeedSocketException(Exception)}
+     * otherwise. This does nothing if the socket close has already been handled.
+     *
+     * @param exception the {@link Exception}
+     */
+    void handleSocketException(Exception exception) {
+        if (socketCloseHandled) {
+            return;
+        }
+        socketCloseHandled = true;
+
+        // Let the dispatch threads handle all remaining lines before signalling the close. A selector thread of the
+        // 'feedEventLoop' only signals them so that it doesn't block the other feeds on it; 'stop()' waits for them.
+        if (feedDispatchStage != null) {
+            feedDispatchStage.stop();
+            if (feedEventLoop == null) {
+                feedDispatchStage.join();
+            }
+        }
+
+        if (intentionalSocketClose) {
+            onFeedSocketClose();
+        } else {
+            try {
+                closeSocket();
+            } catch (Exception stopException) {
+                logger.error("Could not close {} socket!", feedName, stopException);
+            }
+
+            onFeedSocketException(exception);
+        }
+    }
+
+    /**
+     * Called when a line has been framed by {@link #feedLineFramer} in {@link ReceiveMode#NIO}. The given
+     * {@link ByteSlice} is reused and is only valid for the duration of this call.
+     * <br>
+     * If a {@link #feedDispatcher} is set, the line is copied into the dispatch lane selected by
+     * {@link #selectDispatchLane(ByteSlice, int)} and handled on its dispatch thread. Otherwise, the line is handled
+     * immediately on the calling thread.
+     *
+     * @param line the line {@link ByteSlice}
+     */
+    protected void onLineReceived(ByteSlice line) {
+        logger.trace("Received message line: {}", line);
+
+        long receivedNanoTime = isReceivedNanoTimeRecorded() ? System.nanoTime() : 0;
+        if (feedDispatchStage != null) {
+            feedDispatchStage.dispatch(selectDispatchLane(line, feedDispatcher.getLaneCount()), line,
+                    receivedNanoTime);
+        } else {
+            handleLine(line, feedCSVRecord, receivedNanoTime);
+        }
+    }
+
+    /**
+     * Tests if the {@link System#nanoTime()} at which each line is framed should be recorded and passed along with its
+     * {@link CSVRecord} via {@link CSVRecord#getReceivedNanoTime()} (e.g. for latency metrics). This is called on the
+     * socket reader thread for every line, so it should be fast. By default, this returns <code>false</code>.
+     *
+     * @return a boolean
+     */
+    protected boolean isReceivedNanoTimeRecorded() {
+        return false;
+    }
+
+    /**
+     * Selects the {@link #feedDispatcher} lane that the given <code>line</code> is dispatched on. Lines on the same
+     * lane are handled in order on the same dispatch thread. This is called on the socket reader thread, so it should
+     * be fast. By default, this returns <code>0</code>, so all lines are handled in order.
+     *
+     * @param line      the line {@link ByteSlice}
+     * @param laneCount the number of lanes
+     *
+     * @return the lane index, between <code>0</code> (inclusive) and <code>laneCount</code> (exclusive)
+     */
+    protected int selectDispatchLane(ByteSlice line, int laneCount) {
+        return 0;
+    }
+
+    /**
+     * Handles a framed <code>line</code>.
+     * <br>
+     * Lines of feeds using the {@link #COMMA_DELIMITED_SPLITTER} or the {@link #QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER}
+     * are parsed into the given reusable {@link CSVRecord} and passed to {@link #onMessageReceived(CSVRecord)}. Lines
+     * of feeds using any other {@link Splitter} are split with {@link #splitCSV(CharSequence)} and passed to
+     * {@link #onMessageReceived(String[])}.
+     *
+     * @param line             the line {@link ByteSlice}
+     * @param csvRecord        the reusable {@link CSVRecord} of the calling thread
+     * @param receivedNanoTime the {@link System#nanoTime()} at which the <code>line</code> was framed, or
+     *                         <code>0</code>
+     */
+    void handleLine(ByteSlice line, CSVRecord csvRecord, long receivedNanoTime) {
+        csvRecord.setReceivedNanoTime(receivedNanoTime);
+        if (csvSplitter == COMMA_DELIMITED_SPLITTER) {
+            csvRecord.parse(line);
+            handleCSV(csvRecord);
+        } else if (csvSplitter == QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER) {
+            csvRecord.parseQuoteEscaped(line);
+            handleCSV(csvRecord);
+        } else {
+            handleCSV(splitCSV(line));
+        }
+    }
+
+    /**
+     * Splits the given <code>line</code> with the {@link #csvSplitter}. The Regex of the
+     * {@link #QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER} is replaced with
+     * {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)}.
+     *
+     * @param line the line
+     *
+     * @return the CSV
+     */
+    private String[] splitCSV(CharSequence line) {
+        if (csvSplitter == QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER) {
+            return SplitUtil.splitQuoteEscapedCommas(line).toArray(new String[0]);
+        } else {
+            return csvSplitter.splitToList(line).toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Handles a received <code>csv</code> message by validating the protocol version or calling
+     * {@link #onMessageReceived(CSVRecord)} and the {@link #customFeedMessageListener}.
+     *
+     * @param csv the {@link CSVRecord}
+     */
+    private void handleCSV(CSVRecord csv) {
+        // Confirm protocol version valid
+        if (validateProtocolVersion && !protocolVersionValidated &&
+                valueEquals(csv, 0, FeedMessageType.SYSTEM.value()) &&
+                valueEquals(csv, 1, FeedMessageType.CURRENT_PROTOCOL.value()) &&
+                valueEquals(csv, 2, CURRENTLY_SUPPORTED_PROTOCOL_VERSION)) {
+            logger.debug("Protocol version validated: {}", csv);
+
+            protocolVersionValidated = true;
+            onProtocolVersionValidated();
+            if (protocolVersionValidatedFuture != null) {
+                protocolVersionValidatedFuture.complete(null);
+            }
+        } else {
+            // Call message handlers
+            onMessageReceived(csv);
+            if (customFeedMessageListener != null) {
+                customFeedMessageListener.onMessageReceived(csv.toArray());
+            }
+        }
+    }
+
+    /**
+     * Handles a received <code>csv</code> message by validating the protocol version or calling
+     * {@link #onMessageReceived(String[])} and the {@link #customFeedMessageListener}.
+     *
+     * @param csv the CSV
+     */
+    private void handleCSV(String[] csv) {
+        // Confirm protocol version valid
+        if (validateProtocolVersion && !protocolVersionValidated &&
+                valueEquals(csv, 0, FeedMessageType.SYSTEM.value()) &&
+                valueEquals(csv, 1, FeedMessageType.CURRENT_PROTOCOL.value()) &&
+                valueEquals(csv, 2, CURRENTLY_SUPPORTED_PROTOCOL_VERSION)) {
+            logger.debug("Protocol version validated: {}", (Object) csv);
+
+            protocolVersionValidated = true;
+            onProtocolVersionValidated();
+            if (protocolVersionValidatedFuture != null) {
+                protocolVersionValidatedFuture.complete(null);
+            }
+        } else {
+            // Call message handlers
+            onMessageReceived(csv);
+            if (customFeedMessageListener != null) {
+                customFeedMessageListener.onMessageReceived(csv);
+            }
         }
     }
 
@@ -217,6 +598,18 @@ public abstract class AbstractFeed implements Runnable {
      */
     protected abstract void onMessageReceived(String[] csv);
 
+    /**
+     * Called when a message is received in {@link ReceiveMode#NIO} and parsed into a {@link CSVRecord}. The given
+     * {@link CSVRecord} is reused and is only valid for the duration of this call. By default, this decodes the
+     * entire {@link CSVRecord} and calls {@link #onMessageReceived(String[])}, so subclasses should override this to
+     * read only the fields they need. Note: This method should NEVER block and should NEVER throw an exception!
+     *
+     * @param csv the {@link CSVRecord}
+     */
+    protected void onMessageReceived(CSVRecord csv) {
+        onMessageReceived(csv.toArray());
+    }
+
     /**
      * Called when the underlying {@link Socket} of this {@link AbstractFeed} throws an unexpected {@link Exception}.
      * {@link #onMessageReceived(String[])} is guaranteed to never be called on this instance after this method has been
@@ -235,14 +628,82 @@ public abstract class AbstractFeed implements Runnable {
 
     /**
      * Sends a message. This method is synchronized.
+     * <br>
+     * With a {@link #feedEventLoop}, this never blocks: the bytes that the socket send buffer can't accept are queued
+     * and written in order by the selector thread once the socket is writable, so this may be called from a message
+     * listener on the selector thread.
      *
      * @param message the message
      *
      * @throws IOException thrown for {@link IOException}s
      */
     protected void sendMessage(String message) throws IOException {
-        feedWriter.write(message);
-        feedWriter.flush();
+        synchronized (feedWriteLock) {
+            if (feedChannel == null) {
+                feedWriter.write(message);
+                feedWriter.flush();
+                return;
+            }
+
+            ByteBuffer messageBuffer = ByteBuffer.wrap(message.getBytes(StandardCharsets.US_ASCII));
+            if (feedChannel.isBlocking()) {
+                while (messageBuffer.hasRemaining()) {
+                    feedChannel.write(messageBuffer);
+                }
+                return;
+            }
+
+            pendingWriteBuffers.add(messageBuffer);
+            if (writePending) { // The selector thread writes this after the bytes that are already pending
+                return;
+            }
+            writePendingWriteBuffers();
+            if (pendingWriteBuffers.isEmpty()) {
+                return;
+            }
+            // The socket send buffer is full, so let the selector thread write the rest once it's writable
+            writePending = true;
+        }
+        feedEventLoop.updateInterestOps(this, feedChannel);
+    }
+
+    /**
+     * Sends the given <code>messages</code> in batches of at most {@link #bulkRequestBatchSize} messages
+     * ({@link #DEFAULT_BULK_REQUEST_BATCH_SIZE} by default). Each batch is sent with a single
+     * {@link #sendMessage(String)} (one write and flush) instead of one per message, and {@link #bulkRequestBatchDelay}
+     * is waited between batches. Note that messages sent by other threads may be sent between batches.
+     *
+     * @param messages the messages (each including its line ending)
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    protected void sendMessages(Collection<String> messages) throws IOException {
+        final int batchSize = bulkRequestBatchSize;
+        final long batchDelayNanos = bulkRequestBatchDelay.toNanos();
+
+        StringBuilder batchBuilder = new StringBuilder();
+        int batchMessageCount = 0;
+        Iterator<String> messageIterator = messages.iterator();
+        while (messageIterator.hasNext()) {
+            batchBuilder.append(messageIterator.next());
+            if (++batchMessageCount < batchSize && messageIterator.hasNext()) {
+                continue;
+            }
+
+            logger.debug("Sending {} messages in one batch.", batchMessageCount);
+            sendMessage(batchBuilder.toString());
+            batchBuilder.setLength(0);
+            batchMessageCount = 0;
+
+            if (batchDelayNanos > 0 && messageIterator.hasNext()) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(batchDelayNanos);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while pacing batched messages!");
+                }
+            }
+        }
     }
 
     /**
@@ -347,6 +808,166 @@ public abstract class AbstractFeed implements Runnable {
         } catch (InterruptedException | ExecutionException ignored) {}
     }
 
+    /**
+     * Gets {@link #receiveMode}.
+     *
+     * @return the {@link ReceiveMode}
+     */
+    public ReceiveMode getReceiveMode() {
+        return receiveMode;
+    }
+
+    /**
+     * Sets {@link #receiveMode}. This must be called before {@link #start()}. Defaults to {@link ReceiveMode#NIO}.
+     *
+     * @param receiveMode the {@link ReceiveMode}
+     */
+    public void setReceiveMode(ReceiveMode receiveMode) {
+        checkNotNull(receiveMode);
+        checkState(!started, "The receive mode must be set before the feed is started!");
+        checkState(receiveMode == ReceiveMode.NIO || feedEventLoop == null,
+                "A FeedEventLoop requires the NIO receive mode!");
+        checkState(receiveMode == ReceiveMode.NIO || feedDispatcher == null,
+                "A FeedDispatcher requires the NIO receive mode!");
+        this.receiveMode = receiveMode;
+    }
+
+    /**
+     * Gets {@link #feedEventLoop}.
+     *
+     * @return the {@link FeedEventLoop}
+     */
+    public FeedEventLoop getFeedEventLoop() {
+        return feedEventLoop;
+    }
+
+    /**
+     * Sets {@link #feedEventLoop}. This must be called before {@link #start()}. If set, this feed will not start its
+     * own socket thread and will instead be read and dispatched by the given {@link FeedEventLoop}. This requires
+     * {@link ReceiveMode#NIO}. Defaults to <code>null</code>.
+     *
+     * @param feedEventLoop the {@link FeedEventLoop} or <code>null</code> to use a dedicated socket thread
+     */
+    public void setFeedEventLoop(FeedEventLoop feedEventLoop) {
+        checkState(!started, "The FeedEventLoop must be set before the feed is started!");
+        checkState(feedEventLoop == null || receiveMode == ReceiveMode.NIO,
+                "A FeedEventLoop requires the NIO receive mode!");
+        this.feedEventLoop = feedEventLoop;
+    }
+
+    /**
+     * Gets {@link #feedDispatcher}.
+     *
+     * @return the {@link FeedDispatcher}
+     */
+    public FeedDispatcher getFeedDispatcher() {
+        return feedDispatcher;
+    }
+
+    /**
+     * Sets {@link #feedDispatcher}. This must be called before {@link #start()}. If set, messages are parsed and
+     * dispatched to message handlers and listeners on the dispatch threads of the given {@link FeedDispatcher} instead
+     * of on the socket thread, so that slow listeners don't stall socket reads. This requires {@link ReceiveMode#NIO}.
+     * Defaults to <code>null</code>.
+     *
+     * @param feedDispatcher the {@link FeedDispatcher} or <code>null</code> to dispatch on the socket thread
+     */
+    public void setFeedDispatcher(FeedDispatcher feedDispatcher) {
+        checkState(!started, "The FeedDispatcher must be set before the feed is started!");
+        checkState(feedDispatcher == null || receiveMode == ReceiveMode.NIO,
+                "A FeedDispatcher requires the NIO receive mode!");
+        this.feedDispatcher = feedDispatcher;
+    }
+
+    /**
+     * Gets {@link #socketThreadFactory}.
+     *
+     * @return the {@link ThreadFactory}
+     */
+    public ThreadFactory getSocketThreadFactory() {
+        return socketThreadFactory;
+    }
+
+    /**
+     * Sets {@link #socketThreadFactory}, which creates the socket thread that reads and dispatches messages for this
+     * feed when no {@link #feedEventLoop} is set. This must be called before {@link #start()}. Defaults to
+     * {@link #getDefaultSocketThreadFactory()}.
+     *
+     * @param socketThreadFactory the {@link ThreadFactory}
+     *
+     * @see ThreadUtil#newVirtualThreadFactory(String)
+     */
+    public void setSocketThreadFactory(ThreadFactory socketThreadFactory) {
+        checkNotNull(socketThreadFactory);
+        checkState(!started, "The socket ThreadFactory must be set before the feed is started!");
+        this.socketThreadFactory = socketThreadFactory;
+    }
+
+    /**
+     * Gets {@link #defaultSocketThreadFactory}.
+     *
+     * @return the {@link ThreadFactory}
+     */
+    public static ThreadFactory getDefaultSocketThreadFactory() {
+        return defaultSocketThreadFactory;
+    }
+
+    /**
+     * Sets {@link #defaultSocketThreadFactory}, which is the {@link #setSocketThreadFactory(ThreadFactory)} of all
+     * {@link AbstractFeed}s instantiated afterwards (including pooled feeds). Defaults to a {@link ThreadFactory} that
+     * creates non-daemon platform {@link Thread}s. Use
+     * {@link ThreadUtil#newVirtualThreadFactory(String)} to use virtual threads on JDK 21+.
+     *
+     * @param defaultSocketThreadFactory the {@link ThreadFactory}
+     */
+    public static void setDefaultSocketThreadFactory(ThreadFactory defaultSocketThreadFactory) {
+        checkNotNull(defaultSocketThreadFactory);
+        AbstractFeed.defaultSocketThreadFactory = defaultSocketThreadFactory;
+    }
+
+    /**
+     * Gets {@link #bulkRequestBatchSize}.
+     *
+     * @return an int
+     */
+    public int getBulkRequestBatchSize() {
+        return bulkRequestBatchSize;
+    }
+
+    /**
+     * Sets {@link #bulkRequestBatchSize}, which is the maximum number of commands that a bulk request (e.g. a watch of
+     * many symbols) sends in a single socket write. Defaults to {@link #DEFAULT_BULK_REQUEST_BATCH_SIZE}. Use
+     * {@link Integer#MAX_VALUE} to send a bulk request in a single write.
+     *
+     * @param bulkRequestBatchSize the maximum number of commands per write
+     */
+    public void setBulkRequestBatchSize(int bulkRequestBatchSize) {
+        checkArgument(bulkRequestBatchSize > 0, "The bulk request batch size must be greater than 0!");
+        this.bulkRequestBatchSize = bulkRequestBatchSize;
+    }
+
+    /**
+     * Gets {@link #bulkRequestBatchDelay}.
+     *
+     * @return the {@link Duration}
+     */
+    public Duration getBulkRequestBatchDelay() {
+        return bulkRequestBatchDelay;
+    }
+
+    /**
+     * Sets {@link #bulkRequestBatchDelay}, which is the {@link Duration} that a bulk request waits between the writes
+     * of its batches (see {@link #setBulkRequestBatchSize(int)}) to pace large requests. Defaults to
+     * {@link Duration#ZERO}.
+     *
+     * @param bulkRequestBatchDelay the {@link Duration}
+     */
+    public void setBulkRequestBatchDelay(Duration bulkRequestBatchDelay) {
+        checkNotNull(bulkRequestBatchDelay);
+        checkArgument(!bulkRequestBatchDelay.isNegative(), "The bulk request batch delay cannot be negative!");
+        this.bulkRequestBatchDelay = bulkRequestBatchDelay;
+    }
+
     /**
      * Sets {@link #customFeedMessageListener}.
      *
@@ -355,4 +976,23 @@ public abstract class AbstractFeed implements Runnable {
     public void setCustomFeedMessageListener(FeedMessageListener<String[]> customFeedMessageListener) {
         this.customFeedMessageListener = customFeedMessageListener;
     }
+
+    /**
+     * {@link ReceiveMode} defines how an {@link AbstractFeed} reads and frames message lines from its socket.
+     */
+    public enum ReceiveMode {
+
+        /**
+         * Reads from a {@link SocketChannel} into a reusable heap {@link ByteBuffer} and frames lines at the byte
+         * level using a {@link ByteLineFramer}. This avoids the intermediate <code>char</code> decoding and line
+         * {@link String} allocations of {@link #STRING}.
+         */
+        NIO,
+
+        /**
+         * Reads and decodes lines using {@link BufferedReader#readLine()}. This is the legacy receive path and is kept
+         * for compatibility.
+         */
+        STRING
+    }
 }
@@ -0,0 +1,353 @@
+package net.jacobpeterson.iqfeed4j.feed;
+
+import net.jacobpeterson.iqfeed4j.feed.AbstractFeed.ReceiveMode;
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteLineFramer.LineHandler;
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteLineRingBuffer;
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link FeedDispatcher} configures an optional dispatch stage between the socket reader of an {@link AbstractFeed}
+ * and its message handlers and listeners. Without a {@link FeedDispatcher}, messages are parsed and dispatched directly
+ * on the socket thread (or {@link FeedEventLoop} selector thread), so a slow listener stalls the socket read. With a
+ * {@link FeedDispatcher}, the reader only copies each framed line into a pre-allocated, lock-free
+ * {@link ByteLineRingBuffer} and the lines are parsed and dispatched on separate dispatch threads.
+ * <br>
+ * Each {@link AbstractFeed} gets its own set of dispatch lanes, where each lane is a {@link ByteLineRingBuffer} with a
+ * single dispatch thread, so a {@link FeedDispatcher} may be shared between {@link AbstractFeed}s. Lines are assigned
+ * to lanes by {@link AbstractFeed#selectDispatchLane(ByteSlice, int)}, which returns the first lane by default, so
+ * messages are dispatched in the order they were received. Dispatch threads wait for new lines according to the
+ * {@link WaitStrategy}. If a lane is full, the reader waits until the lane has room, which bounds memory use. A
+ * {@link FeedDispatcher} requires {@link ReceiveMode#NIO}.
+ */
+public class FeedDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeedDispatcher.class);
+
+    /**
+     * The default number of slots of each lane's {@link ByteLineRingBuffer}.
+     */
+    public static final int DEFAULT_RING_BUFFER_CAPACITY = 4096;
+
+    /**
+     * A lane index that can be returned by {@link AbstractFeed#selectDispatchLane(ByteSlice, int)} to dispatch a line
+     * as a barrier: the line is dispatched on the first lane only after all lanes have handled their previously
+     * dispatched lines, and lines dispatched after it are only handled after it has been handled.
+     */
+    public static final int ALL_LANES = -1;
+
+    private static final int INITIAL_SLOT_CAPACITY = 256;
+    private static final int MAX_LINES_PER_POLL = 256;
+    private static final int LANE_THREAD_JOIN_WAIT_MILLIS = 5000;
+
+    private final int laneCount;
+    private final int ringBufferCapacity;
+    private final WaitStrategy waitStrategy;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Instantiates a new {@link FeedDispatcher} with a {@link #DEFAULT_RING_BUFFER_CAPACITY} and platform dispatch
+     * threads.
+     *
+     * @param laneCount    the number of dispatch lanes (and threads) per {@link AbstractFeed}
+     * @param waitStrategy the {@link WaitStrategy}
+     */
+    public FeedDispatcher(int laneCount, WaitStrategy waitStrategy) {
+        this(laneCount, DEFAULT_RING_BUFFER_CAPACITY, waitStrategy, Thread::new);
+    }
+
+    /**
+     * Instantiates a new {@link FeedDispatcher}.
+     *
+     * @param laneCount          the number of dispatch lanes (and threads) per {@link AbstractFeed}
+     * @param ringBufferCapacity the number of slots of each lane's {@link ByteLineRingBuffer} (must be a power of 2)
+     * @param waitStrategy       the {@link WaitStrategy}
+     * @param threadFactory      the {@link ThreadFactory} used to create the dispatch threads
+     */
+    public FeedDispatcher(int laneCount, int ringBufferCapacity, WaitStrategy waitStrategy,
+            ThreadFactory threadFactory) {
+        checkArgument(laneCount > 0, "The lane count must be greater than 0!");
+        checkArgument(ringBufferCapacity > 0 && Integer.bitCount(ringBufferCapacity) == 1,
+                "The ring buffer capacity must be a power of 2!");
+        checkNotNull(waitStrategy);
+        checkNotNull(threadFactory);
+
+        this.laneCount = laneCount;
+        this.ringBufferCapacity = ringBufferCapacity;
+        this.waitStrategy = waitStrategy;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Creates and starts a new {@link Stage} for the given {@link AbstractFeed}.
+     *
+     * @param feed the {@link AbstractFeed}
+     *
+     * @return the {@link Stage}
+     */
+    Stage startStage(AbstractFeed feed) {
+        Stage stage = new Stage(feed);
+        stage.start();
+        return stage;
+    }
+
+    /**
+     * Gets {@link #laneCount}.
+     *
+     * @return an int
+     */
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    /**
+     * Gets {@link #ringBufferCapacity}.
+     *
+     * @return an int
+     */
+    public int getRingBufferCapacity() {
+        return ringBufferCapacity;
+    }
+
+    /**
+     * Gets {@link #waitStrategy}.
+     *
+     * @return the {@link WaitStrategy}
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * {@link Stage} is the set of dispatch lanes of a single {@link AbstractFeed}.
+     */
+    class Stage {
+
+        private final AbstractFeed feed;
+        private final Lane[] lanes;
+        private volatile boolean running;
+
+        /**
+         * Instantiates a new {@link Stage}.
+         *
+         * @param feed the {@link AbstractFeed}
+         */
+        private Stage(AbstractFeed feed) {
+            this.feed = feed;
+            lanes = new Lane[laneCount];
+            for (int index = 0; index < laneCount; index++) {
+                lanes[index] = new Lane();
+            }
+        }
+
+        /**
+         * Starts the dispatch threads.
+         */
+        private void start() {
+            running = true;
+            for (int index = 0; index < laneCount; index++) {
+                Lane lane = lanes[index];
+                lane.thread = threadFactory.newThread(lane);
+                lane.thread.setName(feed.getFeedName() + " Dispatch " + index);
+                lane.thread.start();
+            }
+        }
+
+        /**
+         * Copies the given <code>line</code> into the given lane, parking briefly while the lane is full. This must
+         * only be called by the socket reader of the {@link #feed}.
+         *
+         * @param laneIndex        the lane index
+         * @param line             the line {@link ByteSlice}
+         * @param receivedNanoTime the {@link System#nanoTime()} at which the <code>line</code> was framed, or
+         *                         <code>0</code>
+         */
+        void dispatch(int laneIndex, ByteSlice line, long receivedNanoTime) {
+            if (laneIndex == ALL_LANES) {
+                awaitAllLanesHandled();
+                publish(lanes[0].ringBuffer, line, receivedNanoTime);
+                awaitAllLanesHandled();
+            } else {
+                publish(lanes[laneIndex].ringBuffer, line, receivedNanoTime);
+            }
+        }
+
+        /**
+         * Publishes the given <code>line</code> to the given {@link ByteLineRingBuffer}, waiting while it's full.
+         *
+         * @param ringBuffer       the {@link ByteLineRingBuffer}
+         * @param line             the line {@link ByteSlice}
+         * @param receivedNanoTime the {@link System#nanoTime()} at which the <code>line</code> was framed
+         */
+        private void publish(ByteLineRingBuffer ringBuffer, ByteSlice line, long receivedNanoTime) {
+            while (!ringBuffer.tryPublish(line, receivedNanoTime)) {
+                if (!running) {
+                    return;
+                }
+                // Always park (regardless of the wait strategy) so that a spinning reader can't starve the dispatch
+                // thread that it's waiting on
+                LockSupport.parkNanos(1);
+            }
+        }
+
+        /**
+         * Waits until all lanes have handled all of their dispatched lines. Since a {@link ByteLineRingBuffer} slot is
+         * only released after its line has been handled, this waits until all lanes are empty.
+         */
+        private void awaitAllLanesHandled() {
+            for (Lane lane : lanes) {
+                while (!lane.ringBuffer.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    LockSupport.parkNanos(1);
+                }
+            }
+        }
+
+        /**
+         * Signals the dispatch threads to stop once all dispatched lines have been handled. This doesn't wait for
+         * them, so it may be called from a {@link FeedEventLoop} selector thread without blocking the other
+         * {@link AbstractFeed}s on it. Use {@link #join()} to wait for the dispatch threads to finish.
+         */
+        void stop() {
+            running = false;
+        }
+
+        /**
+         * Waits up to {@link FeedDispatcher#LANE_THREAD_JOIN_WAIT_MILLIS} in total for the dispatch threads to finish
+         * after {@link #stop()}. The dispatch thread that calls this (e.g. from a listener) is not waited for.
+         *
+         * @return true if all dispatch threads (other than the calling thread) have finished, false otherwise
+         */
+        boolean join() {
+            final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LANE_THREAD_JOIN_WAIT_MILLIS);
+            for (Lane lane : lanes) {
+                if (lane.thread == null || lane.thread == Thread.currentThread()) {
+                    continue;
+                }
+
+                try {
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                    if (remainingMillis > 0) {
+                        lane.thread.join(remainingMillis);
+                    }
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+
+                if (lane.thread.isAlive()) {
+                    LOGGER.warn("{} dispatch thread did not finish within {} milliseconds!", feed.getFeedName(),
+                            LANE_THREAD_JOIN_WAIT_MILLIS);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * {@link Lane} is a {@link ByteLineRingBuffer} with a single dispatch thread.
+         */
+        private class Lane implements Runnable {
+
+            private final ByteLineRingBuffer ringBuffer;
+            private final CSVRecord csvRecord;
+            private final LineHandler lineHandler;
+            private Thread thread;
+
+            /**
+             * Instantiates a new {@link Lane}.
+             */
+            public Lane() {
+                ringBuffer = new ByteLineRingBuffer(ringBufferCapacity, INITIAL_SLOT_CAPACITY);
+                csvRecord = new CSVRecord();
+                lineHandler = line -> feed.handleLine(line, csvRecord, ringBuffer.getConsumerLineTimestamp());
+            }
+
+            @Override
+            public void run() {
+                int idleCount = 0;
+                // Drain any remaining lines once stopped
+                while (running || !ringBuffer.isEmpty()) {
+                    try {
+                        if (ringBuffer.poll(lineHandler, MAX_LINES_PER_POLL) > 0) {
+                            idleCount = 0;
+                        } else {
+                            waitStrategy.idle(idleCount);
+                            if (idleCount < Integer.MAX_VALUE) {
+                                idleCount++;
+                            }
+                        }
+                    } catch (Exception exception) {
+                        LOGGER.error("{} dispatch error!", feed.getFeedName(), exception);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link WaitStrategy} defines how dispatch threads wait for new lines, trading CPU use for latency.
+     */
+    public enum WaitStrategy {
+
+        /**
+         * Busy-spins without yielding. This gives the lowest latency, but fully occupies a CPU core per dispatch
+         * thread.
+         */
+        BUSY_SPIN {
+            @Override
+            void idle(int idleCount) {}
+        },
+
+        /**
+         * Busy-spins for a short while and then calls {@link Thread#yield()}. This gives low latency while letting
+         * other threads run, but still uses a CPU core per dispatch thread when other threads are idle.
+         */
+        YIELD {
+            @Override
+            void idle(int idleCount) {
+                if (idleCount >= SPIN_COUNT) {
+                    Thread.yield();
+                }
+            }
+        },
+
+        /**
+         * Busy-spins for a short while, then yields for a short while, and then parks for
+         * {@link #PARK_NANOS} nanoseconds at a time. This uses almost no CPU when idle, at the cost of higher latency
+         * after idle periods.
+         */
+        PARK {
+            @Override
+            void idle(int idleCount) {
+                if (idleCount >= SPIN_COUNT + YIELD_COUNT) {
+                    LockSupport.parkNanos(PARK_NANOS);
+                } else if (idleCount >= SPIN_COUNT) {
+                    Thread.yield();
+                }
+            }
+        };
+
+        private static final int SPIN_COUNT = 100;
+        private static final int YIELD_COUNT = 100;
+        private static final long PARK_NANOS = 50_000;
+
+        /**
+         * Waits once.
+         *
+         * @param idleCount the number of consecutive times this has been called without progress
+         */
+        abstract void idle(int idleCount);
+    }
+}
@@ -0,0 +1,326 @@
+package net.jacobpeterson.iqfeed4j.feed;
+
+import net.jacobpeterson.iqfeed4j.feed.AbstractFeed.ReceiveMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * {@link FeedEventLoop} multiplexes the sockets of many {@link AbstractFeed}s onto one or a few NIO {@link Selector}s
+ * instead of running one blocking socket thread per {@link AbstractFeed}. Each selector thread performs the
+ * non-blocking reads, line framing, and message dispatching for all of the {@link AbstractFeed}s registered on it.
+ * <br>
+ * An {@link AbstractFeed} uses a {@link FeedEventLoop} if one is set via
+ * {@link AbstractFeed#setFeedEventLoop(FeedEventLoop)} before {@link AbstractFeed#start()}, which requires
+ * {@link ReceiveMode#NIO}. An {@link AbstractFeed} is always serviced by the same selector thread, so its messages are
+ * still dispatched in order. Note that all {@link AbstractFeed}s on a selector thread share that thread, so message
+ * listeners should never block.
+ */
+public class FeedEventLoop implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeedEventLoop.class);
+    private static final int SELECTOR_THREAD_JOIN_WAIT_MILLIS = 10000;
+
+    private final String name;
+    private final SelectorThread[] selectorThreads;
+    private final Thread[] threads;
+    private final Map<AbstractFeed, SelectorThread> selectorThreadsOfFeeds;
+    private volatile boolean running;
+
+    /**
+     * Instantiates a new {@link FeedEventLoop} with a single {@link Selector}.
+     *
+     * @param name the name of this {@link FeedEventLoop}
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public FeedEventLoop(String name) throws IOException {
+        this(name, 1);
+    }
+
+    /**
+     * Instantiates and starts a new {@link FeedEventLoop}.
+     *
+     * @param name          the name of this {@link FeedEventLoop}
+     * @param selectorCount the number of {@link Selector}s (and threads) to distribute {@link AbstractFeed}s across
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public FeedEventLoop(String name, int selectorCount) throws IOException {
+        this(name, selectorCount, Thread::new);
+    }
+
+    /**
+     * Instantiates and starts a new {@link FeedEventLoop}.
+     *
+     * @param name          the name of this {@link FeedEventLoop}
+     * @param selectorCount the number of {@link Selector}s (and threads) to distribute {@link AbstractFeed}s across
+     * @param threadFactory the {@link ThreadFactory} used to create the selector threads
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public FeedEventLoop(String name, int selectorCount, ThreadFactory threadFactory) throws IOException {
+        checkNotNull(threadFactory);
+        checkArgument(selectorCount > 0, "The selector count must be greater than 0!");
+
+        this.name = name;
+        selectorThreads = new SelectorThread[selectorCount];
+        threads = new Thread[selectorCount];
+        selectorThreadsOfFeeds = new ConcurrentHashMap<>();
+        running = true;
+
+        for (int index = 0; index < selectorCount; index++) {
+            selectorThreads[index] = new SelectorThread(Selector.open());
+        }
+        for (int index = 0; index < selectorCount; index++) {
+            threads[index] = threadFactory.newThread(selectorThreads[index]);
+            threads[index].setName(name + " Selector " + index);
+            threads[index].start();
+        }
+    }
+
+    /**
+     * Registers the given {@link AbstractFeed} and its non-blocking {@link SocketChannel} on the least loaded
+     * {@link Selector}.
+     *
+     * @param feed        the {@link AbstractFeed}
+     * @param feedChannel the non-blocking {@link SocketChannel} of the <code>feed</code>
+     */
+    void register(AbstractFeed feed, SocketChannel feedChannel) {
+        checkState(running, "%s is closed!", name);
+
+        SelectorThread leastLoadedSelectorThread = selectorThreads[0];
+        for (SelectorThread selectorThread : selectorThreads) {
+            if (selectorThread.registeredFeedCount.get() < leastLoadedSelectorThread.registeredFeedCount.get()) {
+                leastLoadedSelectorThread = selectorThread;
+            }
+        }
+
+        final SelectorThread selectorThread = leastLoadedSelectorThread;
+        selectorThread.registeredFeedCount.incrementAndGet();
+        selectorThreadsOfFeeds.put(feed, selectorThread);
+        selectorThread.execute(() -> {
+            try {
+                feedChannel.register(selectorThread.selector, feed.getEventLoopInterestOps(), feed);
+                LOGGER.debug("Registered {} on {}.", feed.getFeedName(), name);
+            } catch (Exception exception) {
+                feed.handleSocketException(exception);
+                deregister(feed);
+            }
+        });
+    }
+
+    /**
+     * Updates the {@link SelectionKey} interest set of the given registered {@link AbstractFeed} to
+     * {@link AbstractFeed#getEventLoopInterestOps()} on its selector thread. This does nothing if the
+     * <code>feed</code> isn't registered.
+     *
+     * @param feed        the {@link AbstractFeed}
+     * @param feedChannel the non-blocking {@link SocketChannel} of the <code>feed</code>
+     */
+    void updateInterestOps(AbstractFeed feed, SocketChannel feedChannel) {
+        SelectorThread selectorThread = selectorThreadsOfFeeds.get(feed);
+        if (selectorThread != null) {
+            selectorThread.execute(() -> {
+                SelectionKey selectionKey = feedChannel.keyFor(selectorThread.selector);
+                if (selectionKey != null && selectionKey.isValid()) {
+                    selectionKey.interestOps(feed.getEventLoopInterestOps());
+                }
+            });
+        }
+    }
+
+    /**
+     * Deregisters the given {@link AbstractFeed} and calls {@link AbstractFeed#handleSocketException(Exception)} on
+     * its selector thread, if it hasn't been handled already. The {@link SocketChannel} of the <code>feed</code>
+     * should be closed before calling this.
+     *
+     * @param feed the {@link AbstractFeed}
+     */
+    void deregister(AbstractFeed feed) {
+        SelectorThread selectorThread = selectorThreadsOfFeeds.remove(feed);
+        if (selectorThread != null) {
+            selectorThread.registeredFeedCount.decrementAndGet();
+            selectorThread.execute(() -> feed.handleSocketException(new ClosedChannelException()));
+        }
+    }
+
+    /**
+     * Closes this {@link FeedEventLoop} by stopping all selector threads. Any {@link AbstractFeed}s that are still
+     * registered will have their sockets closed and {@link AbstractFeed#onFeedSocketException(Exception)} called.
+     * This waits up to {@link #SELECTOR_THREAD_JOIN_WAIT_MILLIS} in total for the selector threads to finish, which
+     * includes waiting for the {@link FeedDispatcher} dispatch threads of those {@link AbstractFeed}s. It doesn't wait
+     * if called from a selector thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (SelectorThread selectorThread : selectorThreads) {
+            selectorThread.selector.wakeup();
+        }
+
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SELECTOR_THREAD_JOIN_WAIT_MILLIS);
+        for (Thread thread : threads) {
+            if (thread == Thread.currentThread()) {
+                continue;
+            }
+
+            try {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (remainingMillis > 0) {
+                    thread.join(remainingMillis);
+                }
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (thread.isAlive()) {
+                LOGGER.warn("{} did not finish within {} milliseconds!", thread.getName(),
+                        SELECTOR_THREAD_JOIN_WAIT_MILLIS);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of {@link AbstractFeed}s currently registered with this {@link FeedEventLoop}.
+     *
+     * @return an int
+     */
+    public int getRegisteredFeedCount() {
+        return selectorThreadsOfFeeds.size();
+    }
+
+    /**
+     * Is {@link #running}.
+     *
+     * @return a boolean
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets {@link #name}.
+     *
+     * @return a {@link String}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@link SelectorThread} runs the select loop of a single {@link Selector}.
+     */
+    private class SelectorThread implements Runnable {
+
+        private final Selector selector;
+        private final Queue<Runnable> tasks;
+        private final AtomicInteger registeredFeedCount;
+
+        /**
+         * Instantiates a new {@link SelectorThread}.
+         *
+         * @param selector the {@link Selector}
+         */
+        public SelectorThread(Selector selector) {
+            this.selector = selector;
+            tasks = new ConcurrentLinkedQueue<>();
+            registeredFeedCount = new AtomicInteger();
+        }
+
+        /**
+         * Executes the given <code>task</code> on this {@link SelectorThread}.
+         *
+         * @param task the task {@link Runnable}
+         */
+        public void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    runTasks();
+
+                    Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                    while (selectedKeys.hasNext()) {
+                        SelectionKey selectedKey = selectedKeys.next();
+                        selectedKeys.remove();
+
+                        try {
+                            AbstractFeed feed = (AbstractFeed) selectedKey.attachment();
+                            if (selectedKey.isValid() && selectedKey.isWritable()) {
+                                feed.onEventLoopWritable();
+                            }
+                            if (selectedKey.isValid() && selectedKey.isReadable()) {
+                                feed.onEventLoopReadable();
+                            }
+                        } catch (CancelledKeyException ignored) {} // The feed socket was closed concurrently
+                    }
+                } catch (Exception exception) {
+                    LOGGER.error("{} selector error!", name, exception);
+                }
+            }
+
+            // Fail all feeds that are still registered, wait for their dispatch threads, and then close the selector
+            runTasks();
+            List<AbstractFeed> registeredFeeds = new ArrayList<>();
+            for (SelectionKey registeredKey : selector.keys()) {
+                AbstractFeed feed = (AbstractFeed) registeredKey.attachment();
+                feed.handleSocketException(new IOException(name + " was closed!"));
+                deregister(feed);
+                registeredFeeds.add(feed);
+            }
+            runTasks();
+            for (AbstractFeed feed : registeredFeeds) {
+                feed.joinFeedDispatchStage();
+            }
+
+            try {
+                selector.close();
+            } catch (IOException exception) {
+                LOGGER.error("Could not close {} selector!", name, exception);
+            }
+        }
+
+        /**
+         * Runs all pending {@link #tasks}.
+         */
+        private void runTasks() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception exception) {
+                    LOGGER.error("{} task error!", name, exception);
+                }
+            }
+        }
+    }
+}
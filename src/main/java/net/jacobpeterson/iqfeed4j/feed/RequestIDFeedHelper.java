@@ -3,6 +3,7 @@ package net.jacobpeterson.iqfeed4j.feed;
 import net.jacobpeterson.iqfeed4j.feed.lookup.AbstractLookupFeed;
 import net.jacobpeterson.iqfeed4j.model.feed.common.enums.FeedMessageType;
 import net.jacobpeterson.iqfeed4j.model.feed.common.enums.FeedSpecialMessage;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -78,6 +79,30 @@ public class RequestIDFeedHelper {
         return valueEquals(csv, 2, FeedSpecialMessage.SYNTAX_ERROR.value());
     }
 
+    /**
+     * Same as {@link #isRequestErrorMessage(String[], String)}, but for a {@link CSVRecord}.
+     *
+     * @param csv       the {@link CSVRecord}
+     * @param requestID the request ID
+     *
+     * @return true if the CSV represents an {@link FeedMessageType#ERROR} message
+     */
+    public boolean isRequestErrorMessage(CSVRecord csv, String requestID) {
+        return valueEquals(csv, 0, requestID) && valueEquals(csv, 1, FeedMessageType.ERROR.value());
+    }
+
+    /**
+     * Same as {@link #isRequestEndOfMessage(String[], String)}, but for a {@link CSVRecord}.
+     *
+     * @param csv       the {@link CSVRecord}
+     * @param requestID the request ID
+     *
+     * @return true if the message represents an {@link FeedSpecialMessage#END_OF_MESSAGE} message
+     */
+    public boolean isRequestEndOfMessage(CSVRecord csv, String requestID) {
+        return valueEquals(csv, 0, requestID) && valueEquals(csv, 1, FeedSpecialMessage.END_OF_MESSAGE.value());
+    }
+
     /**
      * Gets a new Request ID. This method is thread safe.
      *
@@ -87,8 +112,9 @@ public class RequestIDFeedHelper {
         int maxRequestID;
         synchronized (requestIDs) {
             maxRequestID = requestIDs.stream().max(Integer::compareTo).orElse(0) + 1;
+            // Add within the same lock so that concurrent callers never get the same request ID
+            requestIDs.add(maxRequestID);
         }
-        requestIDs.add(maxRequestID);
         return String.valueOf(maxRequestID);
     }
 
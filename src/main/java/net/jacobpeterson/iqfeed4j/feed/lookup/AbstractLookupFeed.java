@@ -9,6 +9,7 @@ import net.jacobpeterson.iqfeed4j.feed.exception.SyntaxException;
 import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageListener;
 import net.jacobpeterson.iqfeed4j.model.feed.common.enums.FeedMessageType;
 import net.jacobpeterson.iqfeed4j.model.feed.common.enums.FeedSpecialMessage;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.index.AbstractIndexCSVMapper;
 import org.slf4j.Logger;
 
@@ -94,6 +95,48 @@ public abstract class AbstractLookupFeed extends AbstractFeed {
         return true;
     }
 
+    /**
+     * Same as {@link #handleStandardMultiMessage(String[], String, int, Map, AbstractIndexCSVMapper)}, but performs
+     * {@link AbstractIndexCSVMapper#map(CSVRecord, int)} on the given {@link CSVRecord} so that only mapped CSV values
+     * are decoded. Request error messages are decoded into a <code>String[]</code> and handled normally.
+     *
+     * @param <T>                   the type of {@link MultiMessageListener}
+     * @param csv                   the {@link CSVRecord}
+     * @param requestID             the Request ID
+     * @param offset                the offset to add to CSV indices
+     * @param listenersOfRequestIDs the {@link Map} with the keys being the Request IDs and the values being the
+     *                              corresponding {@link MultiMessageListener}s
+     * @param indexCSVMapper        the {@link AbstractIndexCSVMapper} for the message
+     *
+     * @return true if the <code>requestID</code> was a key inside <code>listenersOfRequestIDs</code>, false otherwise
+     */
+    protected <T> boolean handleStandardMultiMessage(CSVRecord csv, String requestID, int offset,
+            Map<String, MultiMessageListener<T>> listenersOfRequestIDs, AbstractIndexCSVMapper<T> indexCSVMapper) {
+        MultiMessageListener<T> listener = listenersOfRequestIDs.get(requestID);
+
+        if (listener == null) {
+            return false;
+        }
+
+        if (requestIDFeedHelper.isRequestErrorMessage(csv, requestID)) {
+            return handleStandardMultiMessage(csv.toArray(), requestID, offset, listenersOfRequestIDs,
+                    indexCSVMapper);
+        } else if (requestIDFeedHelper.isRequestEndOfMessage(csv, requestID)) {
+            listenersOfRequestIDs.remove(requestID);
+            requestIDFeedHelper.removeRequestID(requestID);
+            listener.handleEndOfMultiMessage();
+        } else {
+            try {
+                T message = indexCSVMapper.map(csv, offset);
+                listener.onMessageReceived(message);
+            } catch (Exception exception) {
+                listener.onMessageException(exception);
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Checks if a message is a {@link FeedMessageType#ERROR} message or that the first CSV value is whitespace to check
      * if a Request ID is present.
@@ -116,4 +159,26 @@ public abstract class AbstractLookupFeed extends AbstractFeed {
 
         return false;
     }
+
+    /**
+     * Same as {@link #isErrorOrInvalidMessage(String[])}, but for a {@link CSVRecord}.
+     *
+     * @param csv the {@link CSVRecord}
+     *
+     * @return true if the message is an error or is invalid
+     */
+    protected boolean isErrorOrInvalidMessage(CSVRecord csv) {
+        if (valueEquals(csv, 0, FeedMessageType.ERROR.value())) {
+            logger.error("Received error message! {}", csv);
+            return true;
+        }
+
+        // Messages sent on this feed have a numeric Request ID first
+        if (!valueNotWhitespace(csv, 0)) {
+            logger.error("Received unknown message format: {}", csv);
+            return true;
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,227 @@
+package net.jacobpeterson.iqfeed4j.feed.lookup.historical;
+
+import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageListener;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.index.AbstractIndexCSVMapper;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueNotWhitespace;
+
+/**
+ * {@link AbstractColumnarAccumulator} is a {@link MultiMessageListener} that accumulates the rows of a
+ * {@link HistoricalFeed} request directly into growable primitive columns (one array per field) instead of into a
+ * {@link java.util.List} of POJOs. Each row is decoded straight from the {@link CSVRecord} of the message, so no POJO,
+ * boxed number, {@link java.time.LocalDateTime}, or {@link java.util.List} is allocated per row.
+ * <br>
+ * Prices are stored either as <code>double</code>s or, if a price scale is given, as fixed-point mantissas (see
+ * {@link FixedPointUtil}). Absent numeric values are stored as <code>0</code>. Timestamps are stored as epoch
+ * microseconds of the Eastern local date-time (see
+ * {@link net.jacobpeterson.iqfeed4j.util.datetime.DateTimeParseUtil}).
+ * <br>
+ * The column arrays may be longer than {@link #size()}, so only the first {@link #size()} elements are valid (call
+ * {@link #trimToSize()} first for exactly sized arrays). The columns should only be read after
+ * {@link #awaitCompletion()} returns.
+ */
+public abstract class AbstractColumnarAccumulator extends MultiMessageListener<Void> {
+
+    /**
+     * The price scale that stores prices as <code>double</code>s.
+     */
+    public static final int DOUBLE_PRICE_SCALE = -1;
+    /**
+     * The default initial capacity of the columns.
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    protected final int priceScale;
+    protected final CompletableFuture<Void> completionFuture;
+    protected final AbstractIndexCSVMapper<Void> csvMapper;
+    protected int size;
+    protected int capacity;
+
+    /**
+     * Instantiates a new {@link AbstractColumnarAccumulator}.
+     *
+     * @param priceScale      the scale of fixed-point prices or {@link #DOUBLE_PRICE_SCALE}
+     * @param initialCapacity the initial capacity of the columns
+     */
+    protected AbstractColumnarAccumulator(int priceScale, int initialCapacity) {
+        checkArgument(priceScale == DOUBLE_PRICE_SCALE || (priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE),
+                "The price scale must be %s or between 0 and %s!", DOUBLE_PRICE_SCALE, FixedPointUtil.MAX_SCALE);
+        checkArgument(initialCapacity > 0, "The initial capacity must be positive!");
+
+        this.priceScale = priceScale;
+        capacity = initialCapacity;
+        completionFuture = new CompletableFuture<>();
+        csvMapper = new AbstractIndexCSVMapper<Void>(() -> null) {
+            // Reused for 'String[]' rows, which are only mapped on the single thread that reads the feed
+            private final CSVRecord stringArrayCSVRecord = new CSVRecord();
+
+            @Override
+            public Void map(String[] csv, int offset) {
+                stringArrayCSVRecord.parse(csv);
+                return map(stringArrayCSVRecord, offset);
+            }
+
+            @Override
+            public Void map(CSVRecord csv, int offset) {
+                if (size == capacity) {
+                    resize(Math.max(capacity + (capacity >> 1), capacity + 1));
+                }
+                // The row is only counted once all of its columns have been written
+                appendRow(csv, offset, size);
+                size++;
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Writes the row of the given <code>csv</code> into the columns at the given <code>index</code>.
+     *
+     * @param csv    the {@link CSVRecord}
+     * @param offset the offset to add to CSV indices
+     * @param index  the row index
+     */
+    protected abstract void appendRow(CSVRecord csv, int offset, int index);
+
+    /**
+     * Resizes all columns to the given <code>newCapacity</code> and sets {@link #capacity}.
+     *
+     * @param newCapacity the new capacity
+     */
+    protected abstract void resize(int newCapacity);
+
+    /**
+     * Parses the price at the given CSV <code>index</code> as a <code>double</code>.
+     *
+     * @param csv   the {@link CSVRecord}
+     * @param index the CSV index
+     *
+     * @return the price or <code>0</code> if absent
+     */
+    protected static double parseDoublePrice(CSVRecord csv, int index) {
+        return valueNotWhitespace(csv, index) ? csv.parseDouble(index) : 0;
+    }
+
+    /**
+     * Parses the price at the given CSV <code>index</code> as a fixed-point mantissa at the {@link #priceScale}.
+     *
+     * @param csv   the {@link CSVRecord}
+     * @param index the CSV index
+     *
+     * @return the mantissa or <code>0</code> if absent
+     */
+    protected long parseFixedPointPrice(CSVRecord csv, int index) {
+        return valueNotWhitespace(csv, index) ? FixedPointUtil.parse(csv.field(index), priceScale) : 0;
+    }
+
+    /**
+     * Parses the <code>long</code> at the given CSV <code>index</code>.
+     *
+     * @param csv   the {@link CSVRecord}
+     * @param index the CSV index
+     *
+     * @return the <code>long</code> or <code>0</code> if absent
+     */
+    protected static long parseLong(CSVRecord csv, int index) {
+        return valueNotWhitespace(csv, index) ? csv.parseLong(index) : 0;
+    }
+
+    @Override
+    public void onMessageReceived(Void message) {}
+
+    @Override
+    public void onMessageException(Exception exception) {
+        completionFuture.completeExceptionally(exception);
+    }
+
+    @Override
+    public void onEndOfMultiMessage() {
+        completionFuture.complete(null);
+    }
+
+    /**
+     * Blocks until {@link #onEndOfMultiMessage()} has been called by the underlying feed.
+     *
+     * @throws ExecutionException   thrown for {@link ExecutionException}s
+     * @throws InterruptedException thrown for {@link InterruptedException}s
+     */
+    public void awaitCompletion() throws ExecutionException, InterruptedException {
+        completionFuture.get();
+    }
+
+    /**
+     * Resizes all columns to exactly {@link #size()}.
+     */
+    public void trimToSize() {
+        if (size != capacity && size > 0) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Checks that the given row <code>index</code> is less than {@link #size()}.
+     *
+     * @param index the row index
+     */
+    protected void checkRowIndex(int index) {
+        checkElementIndex(index, size);
+    }
+
+    /**
+     * Checks that prices are stored as fixed-point mantissas.
+     */
+    protected void checkFixedPoint() {
+        checkState(isFixedPoint(), "Prices are stored as doubles!");
+    }
+
+    /**
+     * Checks that prices are stored as <code>double</code>s.
+     */
+    protected void checkDouble() {
+        checkState(!isFixedPoint(), "Prices are stored as fixed-point mantissas!");
+    }
+
+    /**
+     * Gets {@link #csvMapper}.
+     *
+     * @return the {@link AbstractIndexCSVMapper}
+     */
+    AbstractIndexCSVMapper<Void> getCSVMapper() {
+        return csvMapper;
+    }
+
+    /**
+     * Gets the number of accumulated rows.
+     *
+     * @return an int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tests if prices are stored as fixed-point mantissas.
+     *
+     * @return a boolean
+     */
+    public boolean isFixedPoint() {
+        return priceScale != DOUBLE_PRICE_SCALE;
+    }
+
+    /**
+     * Gets {@link #priceScale}.
+     *
+     * @return the price scale or {@link #DOUBLE_PRICE_SCALE}
+     */
+    public int getPriceScale() {
+        return priceScale;
+    }
+}
@@ -0,0 +1,271 @@
+package net.jacobpeterson.iqfeed4j.feed.lookup.historical;
+
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Interval;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import net.jacobpeterson.iqfeed4j.util.datetime.DateTimeParseUtil;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
+
+import java.util.Arrays;
+
+import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueNotWhitespace;
+
+/**
+ * {@inheritDoc}
+ * <br>
+ * {@link ColumnarIntervalAccumulator} accumulates the fields of {@link Interval}s. A row takes 64 bytes: 8 for the
+ * timestamp, 32 for the high, low, open, and close prices, and 24 for the total volume, period volume, and number of
+ * trades.
+ */
+public class ColumnarIntervalAccumulator extends AbstractColumnarAccumulator {
+
+    protected long[] timestamps;
+    protected double[] highs;
+    protected double[] lows;
+    protected double[] opens;
+    protected double[] closes;
+    protected long[] highMantissas;
+    protected long[] lowMantissas;
+    protected long[] openMantissas;
+    protected long[] closeMantissas;
+    protected long[] totalVolumes;
+    protected long[] periodVolumes;
+    protected long[] numberOfTrades;
+
+    /**
+     * Instantiates a new {@link ColumnarIntervalAccumulator} that stores prices as <code>double</code>s.
+     */
+    public ColumnarIntervalAccumulator() {
+        this(DOUBLE_PRICE_SCALE, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new {@link ColumnarIntervalAccumulator}.
+     *
+     * @param priceScale      the scale (number of fractional digits) of fixed-point prices (e.g. the Level 1 "Decimal
+     *                        Precision" of the symbol) or {@link #DOUBLE_PRICE_SCALE}
+     * @param initialCapacity the initial capacity of the columns (e.g. the expected number of {@link Interval}s)
+     */
+    public ColumnarIntervalAccumulator(int priceScale, int initialCapacity) {
+        super(priceScale, initialCapacity);
+
+        timestamps = new long[initialCapacity];
+        if (isFixedPoint()) {
+            highMantissas = new long[initialCapacity];
+            lowMantissas = new long[initialCapacity];
+            openMantissas = new long[initialCapacity];
+            closeMantissas = new long[initialCapacity];
+        } else {
+            highs = new double[initialCapacity];
+            lows = new double[initialCapacity];
+            opens = new double[initialCapacity];
+            closes = new double[initialCapacity];
+        }
+        totalVolumes = new long[initialCapacity];
+        periodVolumes = new long[initialCapacity];
+        numberOfTrades = new long[initialCapacity];
+    }
+
+    @Override
+    protected void appendRow(CSVRecord csv, int offset, int index) {
+        timestamps[index] = valueNotWhitespace(csv, offset) ?
+                DateTimeParseUtil.parseDashedDateSpaceTimeFractionalToEpochMicros(csv.field(offset)) : 0;
+        if (isFixedPoint()) {
+            highMantissas[index] = parseFixedPointPrice(csv, offset + 1);
+            lowMantissas[index] = parseFixedPointPrice(csv, offset + 2);
+            openMantissas[index] = parseFixedPointPrice(csv, offset + 3);
+            closeMantissas[index] = parseFixedPointPrice(csv, offset + 4);
+        } else {
+            highs[index] = parseDoublePrice(csv, offset + 1);
+            lows[index] = parseDoublePrice(csv, offset + 2);
+            opens[index] = parseDoublePrice(csv, offset + 3);
+            closes[index] = parseDoublePrice(csv, offset + 4);
+        }
+        totalVolumes[index] = parseLong(csv, offset + 5);
+        periodVolumes[index] = parseLong(csv, offset + 6);
+        numberOfTrades[index] = parseLong(csv, offset + 7);
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        if (isFixedPoint()) {
+            highMantissas = Arrays.copyOf(highMantissas, newCapacity);
+            lowMantissas = Arrays.copyOf(lowMantissas, newCapacity);
+            openMantissas = Arrays.copyOf(openMantissas, newCapacity);
+            closeMantissas = Arrays.copyOf(closeMantissas, newCapacity);
+        } else {
+            highs = Arrays.copyOf(highs, newCapacity);
+            lows = Arrays.copyOf(lows, newCapacity);
+            opens = Arrays.copyOf(opens, newCapacity);
+            closes = Arrays.copyOf(closes, newCapacity);
+        }
+        totalVolumes = Arrays.copyOf(totalVolumes, newCapacity);
+        periodVolumes = Arrays.copyOf(periodVolumes, newCapacity);
+        numberOfTrades = Arrays.copyOf(numberOfTrades, newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Gets the high price of the given row as a <code>double</code>, regardless of how prices are stored.
+     *
+     * @param index the row index
+     *
+     * @return the high price
+     */
+    public double getHigh(int index) {
+        checkRowIndex(index);
+        return isFixedPoint() ? FixedPointUtil.toDouble(highMantissas[index], priceScale) : highs[index];
+    }
+
+    /**
+     * Gets the low price of the given row as a <code>double</code>, regardless of how prices are stored.
+     *
+     * @param index the row index
+     *
+     * @return the low price
+     */
+    public double getLow(int index) {
+        checkRowIndex(index);
+        return isFixedPoint() ? FixedPointUtil.toDouble(lowMantissas[index], priceScale) : lows[index];
+    }
+
+    /**
+     * Gets the open price of the given row as a <code>double</code>, regardless of how prices are stored.
+     *
+     * @param index the row index
+     *
+     * @return the open price
+     */
+    public double getOpen(int index) {
+        checkRowIndex(index);
+        return isFixedPoint() ? FixedPointUtil.toDouble(openMantissas[index], priceScale) : opens[index];
+    }
+
+    /**
+     * Gets the close price of the given row as a <code>double</code>, regardless of how prices are stored.
+     *
+     * @param index the row index
+     *
+     * @return the close price
+     */
+    public double getClose(int index) {
+        checkRowIndex(index);
+        return isFixedPoint() ? FixedPointUtil.toDouble(closeMantissas[index], priceScale) : closes[index];
+    }
+
+    /**
+     * Gets {@link #timestamps}, the Eastern epoch microseconds.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * Gets {@link #highs}.
+     *
+     * @return a <code>double[]</code>
+     */
+    public double[] getHighs() {
+        checkDouble();
+        return highs;
+    }
+
+    /**
+     * Gets {@link #lows}.
+     *
+     * @return a <code>double[]</code>
+     */
+    public double[] getLows() {
+        checkDouble();
+        return lows;
+    }
+
+    /**
+     * Gets {@link #opens}.
+     *
+     * @return a <code>double[]</code>
+     */
+    public double[] getOpens() {
+        checkDouble();
+        return opens;
+    }
+
+    /**
+     * Gets {@link #closes}.
+     *
+     * @return a <code>double[]</code>
+     */
+    public double[] getCloses() {
+        checkDouble();
+        return closes;
+    }
+
+    /**
+     * Gets {@link #highMantissas}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getHighMantissas() {
+        checkFixedPoint();
+        return highMantissas;
+    }
+
+    /**
+     * Gets {@link #lowMantissas}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getLowMantissas() {
+        checkFixedPoint();
+        return lowMantissas;
+    }
+
+    /**
+     * Gets {@link #openMantissas}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getOpenMantissas() {
+        checkFixedPoint();
+        return openMantissas;
+    }
+
+    /**
+     * Gets {@link #closeMantissas}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getCloseMantissas() {
+        checkFixedPoint();
+        return closeMantissas;
+    }
+
+    /**
+     * Gets {@link #totalVolumes}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getTotalVolumes() {
+        return totalVolumes;
+    }
+
+    /**
+     * Gets {@link #periodVolumes}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getPeriodVolumes() {
+        return periodVolumes;
+    }
+
+    /**
+     * Gets {@link #numberOfTrades}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getNumberOfTrades() {
+        return numberOfTrades;
+    }
+}
@@ -0,0 +1,339 @@
+package net.jacobpeterson.iqfeed4j.feed.lookup.historical;
+
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Tick;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Tick.BasisForLast;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Tick.TradeAggressor;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import net.jacobpeterson.iqfeed4j.util.datetime.DateTimeParseUtil;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
+import net.jacobpeterson.iqfeed4j.util.tradecondition.TradeConditionUtil;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueNotWhitespace;
+
+/**
+ * {@inheritDoc}
+ * <br>
+ * {@link ColumnarTickAccumulator} accumulates the fields of {@link Tick}s. A row takes 69 bytes: 8 for the timestamp,
+ * 24 for the prices, 24 for the sizes and tick ID, 8 for up to {@link TradeConditionUtil#MAX_PACKED_TRADE_CONDITIONS}
+ * packed trade conditions (see {@link TradeConditionUtil#packFromTradeConditionString(CharSequence)}), and 5 for the
+ * remaining fields, where the enum fields are stored as their ASCII value (or <code>0</code> if absent).
+ */
+public class ColumnarTickAccumulator extends AbstractColumnarAccumulator {
+
+    protected long[] timestamps;
+    protected double[] lasts;
+    protected double[] bids;
+    protected double[] asks;
+    protected long[] lastMantissas;
+    protected long[] bidMantissas;
+    protected long[] askMantissas;
+    protected long[] lastSizes;
+    protected long[] totalVolumes;
+    protected long[] tickIDs;
+    protected byte[] basisForLasts;
+    protected short[] tradeMarketCenters;
+    protected long[] packedTradeConditions;
+    protected byte[] tradeAggressors;
+    protected byte[] dayCodes;
+
+    /**
+     * Instantiates a new {@link ColumnarTickAccumulator} that stores prices as <code>double</code>s.
+     */
+    public ColumnarTickAccumulator() {
+        this(DOUBLE_PRICE_SCALE, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Instantiates a new {@link ColumnarTickAccumulator}.
+     *
+     * @param priceScale      the scale (number of fractional digits) of fixed-point prices (e.g. the Level 1 "Decimal
+     *                        Precision" of the symbol) or {@link #DOUBLE_PRICE_SCALE}
+     * @param initialCapacity the initial capacity of the columns (e.g. the expected number of {@link Tick}s)
+     */
+    public ColumnarTickAccumulator(int priceScale, int initialCapacity) {
+        super(priceScale, initialCapacity);
+
+        timestamps = new long[initialCapacity];
+        if (isFixedPoint()) {
+            lastMantissas = new long[initialCapacity];
+            bidMantissas = new long[initialCapacity];
+            askMantissas = new long[initialCapacity];
+        } else {
+            lasts = new double[initialCapacity];
+            bids = new double[initialCapacity];
+            asks = new double[initialCapacity];
+        }
+        lastSizes = new long[initialCapacity];
+        totalVolumes = new long[initialCapacity];
+        tickIDs = new long[initialCapacity];
+        basisForLasts = new byte[initialCapacity];
+        tradeMarketCenters = new short[initialCapacity];
+        packedTradeConditions = new long[initialCapacity];
+        tradeAggressors = new byte[initialCapacity];
+        dayCodes = new byte[initialCapacity];
+    }
+
+    @Override
+    protected void appendRow(CSVRecord csv, int offset, int index) {
+        timestamps[index] = valueNotWhitespace(csv, offset) ?
+                DateTimeParseUtil.parseDashedDateSpaceTimeFractionalToEpochMicros(csv.field(offset)) : 0;
+        if (isFixedPoint()) {
+            lastMantissas[index] = parseFixedPointPrice(csv, offset + 1);
+            bidMantissas[index] = parseFixedPointPrice(csv, offset + 4);
+            askMantissas[index] = parseFixedPointPrice(csv, offset + 5);
+        } else {
+            lasts[index] = parseDoublePrice(csv, offset + 1);
+            bids[index] = parseDoublePrice(csv, offset + 4);
+            asks[index] = parseDoublePrice(csv, offset + 5);
+        }
+        lastSizes[index] = parseLong(csv, offset + 2);
+        totalVolumes[index] = parseLong(csv, offset + 3);
+        tickIDs[index] = parseLong(csv, offset + 6);
+        basisForLasts[index] = valueNotWhitespace(csv, offset + 7) ? csv.field(offset + 7).byteAt(0) : 0;
+        tradeMarketCenters[index] = (short) parseLong(csv, offset + 8);
+        packedTradeConditions[index] = valueNotWhitespace(csv, offset + 9) ?
+                TradeConditionUtil.packFromTradeConditionString(csv.field(offset + 9)) : 0;
+        tradeAggressors[index] = valueNotWhitespace(csv, offset + 10) ? csv.field(offset + 10).byteAt(0) : 0;
+        dayCodes[index] = (byte) parseLong(csv, offset + 11);
+    }
+
+    @Override
+    protected void resize(int newCapacity) {
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        if (isFixedPoint()) {
+            lastMantissas = Arrays.copyOf(lastMantissas, newCapacity);
+            bidMantissas = Arrays.copyOf(bidMantissas, newCapacity);
+            askMantissas = Arrays.copyOf(askMantissas, newCapacity);
+        } else {
+            lasts = Arrays.copyOf(lasts, newCapacity);
+            bids = Arrays.copyOf(bids, newCapacity);
+            asks = Arrays.copyOf(asks, newCapacity);
+        }
+        lastSizes = Arrays.copyOf(lastSizes, newCapacity);
+        totalVolumes = Arrays.copyOf(totalVolumes, newCapacity);
+        tickIDs = Arrays.copyOf(tickIDs, newCapacity);
+        basisForLasts = Arrays.copyOf(basisForLasts, newCapacity);
+        tradeMarketCenters = Arrays.copyOf(tradeMarketCenters, newCapacity);
+        packedTradeConditions = Arrays.copyOf(packedTradeConditions, newCapacity);
+        tradeAggressors = Arrays.copyOf(tradeAggressors, newCapacity);
+        dayCodes = Arrays.copyOf(dayCodes, newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Gets the last price of the given row as a <code>double</code>, regardless of how prices are stored.
+     *
+     * @param index the row index
+     *
+     * @return the last price
+     */
+    public double getLast(int index) {
+        checkRowIndex(index);
+        return isFixedPoint() ? FixedPointUtil.toDouble(lastMantissas[index], priceScale) : lasts[index];
+    }
+
+    /**
+     * Gets the bid price of the given row as a <code>double</code>, regardless of how prices are stored.
+     *
+     * @param index the row index
+     *
+     * @return the bid price
+     */
+    public double getBid(int index) {
+        checkRowIndex(index);
+        return isFixedPoint() ? FixedPointUtil.toDouble(bidMantissas[index], priceScale) : bids[index];
+    }
+
+    /**
+     * Gets the ask price of the given row as a <code>double</code>, regardless of how prices are stored.
+     *
+     * @param index the row index
+     *
+     * @return the ask price
+     */
+    public double getAsk(int index) {
+        checkRowIndex(index);
+        return isFixedPoint() ? FixedPointUtil.toDouble(askMantissas[index], priceScale) : asks[index];
+    }
+
+    /**
+     * Gets the {@link BasisForLast} of the given row.
+     *
+     * @param index the row index
+     *
+     * @return the {@link BasisForLast} or <code>null</code> if absent
+     */
+    public BasisForLast getBasisForLast(int index) {
+        checkRowIndex(index);
+        return basisForLasts[index] == 0 ? null : BasisForLast.fromValue(String.valueOf((char) basisForLasts[index]));
+    }
+
+    /**
+     * Gets the trade conditions of the given row.
+     *
+     * @param index the row index
+     *
+     * @return a new {@link List} or <code>null</code> if there are no trade conditions
+     */
+    public List<Integer> getTradeConditions(int index) {
+        checkRowIndex(index);
+        return TradeConditionUtil.listFromPackedTradeConditions(packedTradeConditions[index]);
+    }
+
+    /**
+     * Gets the {@link TradeAggressor} of the given row.
+     *
+     * @param index the row index
+     *
+     * @return the {@link TradeAggressor} or <code>null</code> if absent
+     */
+    public TradeAggressor getTradeAggressor(int index) {
+        checkRowIndex(index);
+        return tradeAggressors[index] == 0 ? null :
+                TradeAggressor.fromValue(String.valueOf((char) tradeAggressors[index]));
+    }
+
+    /**
+     * Gets {@link #timestamps}, the Eastern epoch microseconds.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * Gets {@link #lasts}.
+     *
+     * @return a <code>double[]</code>
+     */
+    public double[] getLasts() {
+        checkDouble();
+        return lasts;
+    }
+
+    /**
+     * Gets {@link #bids}.
+     *
+     * @return a <code>double[]</code>
+     */
+    public double[] getBids() {
+        checkDouble();
+        return bids;
+    }
+
+    /**
+     * Gets {@link #asks}.
+     *
+     * @return a <code>double[]</code>
+     */
+    public double[] getAsks() {
+        checkDouble();
+        return asks;
+    }
+
+    /**
+     * Gets {@link #lastMantissas}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getLastMantissas() {
+        checkFixedPoint();
+        return lastMantissas;
+    }
+
+    /**
+     * Gets {@link #bidMantissas}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getBidMantissas() {
+        checkFixedPoint();
+        return bidMantissas;
+    }
+
+    /**
+     * Gets {@link #askMantissas}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getAskMantissas() {
+        checkFixedPoint();
+        return askMantissas;
+    }
+
+    /**
+     * Gets {@link #lastSizes}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getLastSizes() {
+        return lastSizes;
+    }
+
+    /**
+     * Gets {@link #totalVolumes}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getTotalVolumes() {
+        return totalVolumes;
+    }
+
+    /**
+     * Gets {@link #tickIDs}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getTickIDs() {
+        return tickIDs;
+    }
+
+    /**
+     * Gets {@link #basisForLasts}.
+     *
+     * @return a <code>byte[]</code>
+     */
+    public byte[] getBasisForLasts() {
+        return basisForLasts;
+    }
+
+    /**
+     * Gets {@link #tradeMarketCenters}.
+     *
+     * @return a <code>short[]</code>
+     */
+    public short[] getTradeMarketCenters() {
+        return tradeMarketCenters;
+    }
+
+    /**
+     * Gets {@link #packedTradeConditions}.
+     *
+     * @return a <code>long[]</code>
+     */
+    public long[] getPackedTradeConditions() {
+        return packedTradeConditions;
+    }
+
+    /**
+     * Gets {@link #tradeAggressors}.
+     *
+     * @return a <code>byte[]</code>
+     */
+    public byte[] getTradeAggressors() {
+        return tradeAggressors;
+    }
+
+    /**
+     * Gets {@link #dayCodes}.
+     *
+     * @return a <code>byte[]</code>
+     */
+    public byte[] getDayCodes() {
+        return dayCodes;
+    }
+}
@@ -2,17 +2,30 @@ package net.jacobpeterson.iqfeed4j.feed.lookup.historical;
 
 import net.jacobpeterson.iqfeed4j.feed.lookup.AbstractLookupFeed;
 import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageAccumulator;
+import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageIterator;
 import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageListener;
 import net.jacobpeterson.iqfeed4j.model.feed.common.interval.IntervalType;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.DatedInterval;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.DatedIntervalCSVMapper;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.FixedPointInterval;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.FixedPointTick;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Interval;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.IntervalCSVMapper;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.PrimitiveInterval;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.PrimitiveIntervalCSVMapper;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.PrimitiveTick;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.PrimitiveTickCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Tick;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.TickCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.enums.DataDirection;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.enums.HistoricalCommand;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.enums.PartialDatapoint;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.enums.TimeLabelPlacement;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeFormatters;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.index.IndexCSVMapper;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
 import net.jacobpeterson.iqfeed4j.util.string.LineEnding;
 import net.jacobpeterson.iqfeed4j.util.tradecondition.TradeConditionUtil;
 import org.slf4j.Logger;
@@ -25,16 +38,12 @@ import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeConverters.DASHED_DATE;
 import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeConverters.DASHED_DATE_SPACE_TIME;
 import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeConverters.DASHED_DATE_SPACE_TIME_FRACTIONAL;
-import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.DOUBLE;
-import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.INTEGER;
-import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.LONG;
-import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.SHORT;
 
 /**
  * {@link HistoricalFeed} is an {@link AbstractLookupFeed} for historical data.
@@ -53,54 +62,112 @@ public class HistoricalFeed extends AbstractLookupFeed {
      */
     public static int DATAPOINTS_PER_SEND = 150;
 
+    /**
+     * This is the capacity of the queue of the {@link MultiMessageIterator}s created by the <code>streamTicks</code>
+     * methods (e.g. {@link #streamTicks(String, int, DataDirection)}), which bounds the number of datapoints held in
+     * memory while they are consumed. Once the queue is full, reading from the feed socket is paused until the queue
+     * has been drained to half of its capacity (see {@link MultiMessageIterator}).
+     * <br>
+     * It is set to 10000 by default, but can be changed.
+     */
+    public static int STREAM_QUEUE_CAPACITY = 10000;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(HistoricalFeed.class);
     protected static final String FEED_NAME_SUFFIX = " Historical";
 
-    protected static final IndexCSVMapper<Tick> TICK_CSV_MAPPER;
-    protected static final IndexCSVMapper<Interval> INTERVAL_CSV_MAPPER;
-    protected static final IndexCSVMapper<DatedInterval> DATED_INTERVAL_CSV_MAPPER;
+    protected static final TickCSVMapper TICK_CSV_MAPPER;
+    protected static final IntervalCSVMapper INTERVAL_CSV_MAPPER;
+    protected static final DatedIntervalCSVMapper DATED_INTERVAL_CSV_MAPPER;
+    protected static final PrimitiveTickCSVMapper PRIMITIVE_TICK_CSV_MAPPER;
+    protected static final PrimitiveIntervalCSVMapper PRIMITIVE_INTERVAL_CSV_MAPPER;
+    protected static final IndexCSVMapper<FixedPointTick>[] FIXED_POINT_TICK_CSV_MAPPERS_OF_PRICE_SCALES;
+    protected static final IndexCSVMapper<FixedPointInterval>[] FIXED_POINT_INTERVAL_CSV_MAPPERS_OF_PRICE_SCALES;
 
     static {
-        // Add mappings with CSV indices analogous to line of execution
-
-        TICK_CSV_MAPPER = new IndexCSVMapper<>(Tick::new);
-        TICK_CSV_MAPPER.addMapping(Tick::setTimestamp, DASHED_DATE_SPACE_TIME_FRACTIONAL);
-        TICK_CSV_MAPPER.addMapping(Tick::setLast, DOUBLE);
-        TICK_CSV_MAPPER.addMapping(Tick::setLastSize, LONG);
-        TICK_CSV_MAPPER.addMapping(Tick::setTotalVolume, LONG);
-        TICK_CSV_MAPPER.addMapping(Tick::setBid, DOUBLE);
-        TICK_CSV_MAPPER.addMapping(Tick::setAsk, DOUBLE);
-        TICK_CSV_MAPPER.addMapping(Tick::setTickID, LONG);
-        TICK_CSV_MAPPER.addMapping(Tick::setBasisForLast, Tick.BasisForLast::fromValue);
-        TICK_CSV_MAPPER.addMapping(Tick::setTradeMarketCenter, SHORT);
-        TICK_CSV_MAPPER.addMapping(Tick::setTradeConditions, TradeConditionUtil::listFromTradeConditionString);
-        TICK_CSV_MAPPER.addMapping(Tick::setTradeAggressor, Tick.TradeAggressor::fromValue);
-        TICK_CSV_MAPPER.addMapping(Tick::setDayCode, INTEGER);
-
-        INTERVAL_CSV_MAPPER = new IndexCSVMapper<>(Interval::new);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setTimestamp, DASHED_DATE_SPACE_TIME);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setHigh, DOUBLE);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setLow, DOUBLE);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setOpen, DOUBLE);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setClose, DOUBLE);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setTotalVolume, LONG);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setPeriodVolume, LONG);
-        INTERVAL_CSV_MAPPER.addMapping(Interval::setNumberOfTrades, LONG);
-
-        DATED_INTERVAL_CSV_MAPPER = new IndexCSVMapper<>(DatedInterval::new);
-        DATED_INTERVAL_CSV_MAPPER.addMapping(DatedInterval::setDate, DASHED_DATE);
-        DATED_INTERVAL_CSV_MAPPER.addMapping(DatedInterval::setHigh, DOUBLE);
-        DATED_INTERVAL_CSV_MAPPER.addMapping(DatedInterval::setLow, DOUBLE);
-        DATED_INTERVAL_CSV_MAPPER.addMapping(DatedInterval::setOpen, DOUBLE);
-        DATED_INTERVAL_CSV_MAPPER.addMapping(DatedInterval::setClose, DOUBLE);
-        DATED_INTERVAL_CSV_MAPPER.addMapping(DatedInterval::setPeriodVolume, LONG);
-        DATED_INTERVAL_CSV_MAPPER.addMapping(DatedInterval::setOpenInterest, INTEGER);
+        // These CSV mappers are generated from the 'csvIndex' properties in 'schema_json/' at build time
+        TICK_CSV_MAPPER = new TickCSVMapper();
+        INTERVAL_CSV_MAPPER = new IntervalCSVMapper();
+        DATED_INTERVAL_CSV_MAPPER = new DatedIntervalCSVMapper();
+        PRIMITIVE_TICK_CSV_MAPPER = new PrimitiveTickCSVMapper();
+        PRIMITIVE_INTERVAL_CSV_MAPPER = new PrimitiveIntervalCSVMapper();
+
+        // The fixed-point variants are indexed by the requested price scale
+        FIXED_POINT_TICK_CSV_MAPPERS_OF_PRICE_SCALES = newFixedPointTickCSVMappers();
+        FIXED_POINT_INTERVAL_CSV_MAPPERS_OF_PRICE_SCALES = newFixedPointIntervalCSVMappers();
+    }
+
+    /**
+     * Creates the {@link FixedPointTick} {@link IndexCSVMapper}s for all price scales from <code>0</code> to
+     * {@link FixedPointUtil#MAX_SCALE}.
+     *
+     * @return the {@link IndexCSVMapper}s indexed by price scale
+     */
+    @SuppressWarnings("unchecked")
+    private static IndexCSVMapper<FixedPointTick>[] newFixedPointTickCSVMappers() {
+        IndexCSVMapper<FixedPointTick>[] csvMappers = new IndexCSVMapper[FixedPointUtil.MAX_SCALE + 1];
+        for (int priceScale = 0; priceScale < csvMappers.length; priceScale++) {
+            final int scale = priceScale;
+            IndexCSVMapper<FixedPointTick> csvMapper = new IndexCSVMapper<>(() -> {
+                FixedPointTick fixedPointTick = new FixedPointTick();
+                fixedPointTick.setPriceScale(scale);
+                return fixedPointTick;
+            });
+            csvMapper.addMapping(FixedPointTick::setTimestamp, DASHED_DATE_SPACE_TIME_FRACTIONAL);
+            csvMapper.addMapping(CSVMapping.ofFixedPoint(FixedPointTick::setLast, scale));
+            csvMapper.addMapping(CSVMapping.ofLong(FixedPointTick::setLastSize));
+            csvMapper.addMapping(CSVMapping.ofLong(FixedPointTick::setTotalVolume));
+            csvMapper.addMapping(CSVMapping.ofFixedPoint(FixedPointTick::setBid, scale));
+            csvMapper.addMapping(CSVMapping.ofFixedPoint(FixedPointTick::setAsk, scale));
+            csvMapper.addMapping(CSVMapping.ofLong(FixedPointTick::setTickID));
+            csvMapper.addMapping(FixedPointTick::setBasisForLast, Tick.BasisForLast::fromValue);
+            csvMapper.addMapping(CSVMapping.ofInt((tick, value) -> tick.setTradeMarketCenter((short) value)));
+            csvMapper.addMapping(FixedPointTick::setTradeConditions, TradeConditionUtil::listFromTradeConditionString);
+            csvMapper.addMapping(FixedPointTick::setTradeAggressor, Tick.TradeAggressor::fromValue);
+            csvMapper.addMapping(CSVMapping.ofInt(FixedPointTick::setDayCode));
+            csvMappers[priceScale] = csvMapper;
+        }
+        return csvMappers;
+    }
+
+    /**
+     * Creates the {@link FixedPointInterval} {@link IndexCSVMapper}s for all price scales from <code>0</code> to
+     * {@link FixedPointUtil#MAX_SCALE}.
+     *
+     * @return the {@link IndexCSVMapper}s indexed by price scale
+     */
+    @SuppressWarnings("unchecked")
+    private static IndexCSVMapper<FixedPointInterval>[] newFixedPointIntervalCSVMappers() {
+        IndexCSVMapper<FixedPointInterval>[] csvMappers = new IndexCSVMapper[FixedPointUtil.MAX_SCALE + 1];
+        for (int priceScale = 0; priceScale < csvMappers.length; priceScale++) {
+            final int scale = priceScale;
+            IndexCSVMapper<FixedPointInterval> csvMapper = new IndexCSVMapper<>(() -> {
+                FixedPointInterval fixedPointInterval = new FixedPointInterval();
+                fixedPointInterval.setPriceScale(scale);
+                return fixedPointInterval;
+            });
+            csvMapper.addMapping(FixedPointInterval::setTimestamp, DASHED_DATE_SPACE_TIME);
+            csvMapper.addMapping(CSVMapping.ofFixedPoint(FixedPointInterval::setHigh, scale));
+            csvMapper.addMapping(CSVMapping.ofFixedPoint(FixedPointInterval::setLow, scale));
+            csvMapper.addMapping(CSVMapping.ofFixedPoint(FixedPointInterval::setOpen, scale));
+            csvMapper.addMapping(CSVMapping.ofFixedPoint(FixedPointInterval::setClose, scale));
+            csvMapper.addMapping(CSVMapping.ofLong(FixedPointInterval::setTotalVolume));
+            csvMapper.addMapping(CSVMapping.ofLong(FixedPointInterval::setPeriodVolume));
+            csvMapper.addMapping(CSVMapping.ofLong(FixedPointInterval::setNumberOfTrades));
+            csvMappers[priceScale] = csvMapper;
+        }
+        return csvMappers;
     }
 
     protected final Object messageReceivedLock;
     protected final HashMap<String, MultiMessageListener<Tick>> tickListenersOfRequestIDs;
     protected final HashMap<String, MultiMessageListener<Interval>> intervalListenersOfRequestIDs;
     protected final HashMap<String, MultiMessageListener<DatedInterval>> datedIntervalListenersOfRequestIDs;
+    protected final HashMap<String, MultiMessageListener<PrimitiveTick>> primitiveTickListenersOfRequestIDs;
+    protected final HashMap<String, MultiMessageListener<PrimitiveInterval>> primitiveIntervalListenersOfRequestIDs;
+    protected final HashMap<String, MultiMessageListener<FixedPointTick>> fixedPointTickListenersOfRequestIDs;
+    protected final HashMap<String, MultiMessageListener<FixedPointInterval>> fixedPointIntervalListenersOfRequestIDs;
+    // The values are 'AbstractColumnarAccumulator's, which map each message into their own columns
+    protected final HashMap<String, MultiMessageListener<Void>> columnarListenersOfRequestIDs;
 
     /**
      * Instantiates a new {@link HistoricalFeed}.
@@ -116,6 +183,11 @@ public class HistoricalFeed extends AbstractLookupFeed {
         tickListenersOfRequestIDs = new HashMap<>();
         intervalListenersOfRequestIDs = new HashMap<>();
         datedIntervalListenersOfRequestIDs = new HashMap<>();
+        primitiveTickListenersOfRequestIDs = new HashMap<>();
+        primitiveIntervalListenersOfRequestIDs = new HashMap<>();
+        fixedPointTickListenersOfRequestIDs = new HashMap<>();
+        fixedPointIntervalListenersOfRequestIDs = new HashMap<>();
+        columnarListenersOfRequestIDs = new HashMap<>();
     }
 
     @Override
@@ -139,6 +211,96 @@ public class HistoricalFeed extends AbstractLookupFeed {
                     DATED_INTERVAL_CSV_MAPPER)) {
                 return;
             }
+
+            if (handleStandardMultiMessage(csv, requestID, 2, primitiveTickListenersOfRequestIDs,
+                    PRIMITIVE_TICK_CSV_MAPPER)) {
+                return;
+            }
+
+            if (handleStandardMultiMessage(csv, requestID, 2, primitiveIntervalListenersOfRequestIDs,
+                    PRIMITIVE_INTERVAL_CSV_MAPPER)) {
+                return;
+            }
+
+            MultiMessageListener<FixedPointTick> fixedPointTickListener =
+                    fixedPointTickListenersOfRequestIDs.get(requestID);
+            if (fixedPointTickListener != null) {
+                handleStandardMultiMessage(csv, requestID, 2, fixedPointTickListenersOfRequestIDs,
+                        FIXED_POINT_TICK_CSV_MAPPERS_OF_PRICE_SCALES[getPriceScale(fixedPointTickListener)]);
+                return;
+            }
+
+            MultiMessageListener<FixedPointInterval> fixedPointIntervalListener =
+                    fixedPointIntervalListenersOfRequestIDs.get(requestID);
+            if (fixedPointIntervalListener != null) {
+                handleStandardMultiMessage(csv, requestID, 2, fixedPointIntervalListenersOfRequestIDs,
+                        FIXED_POINT_INTERVAL_CSV_MAPPERS_OF_PRICE_SCALES[getPriceScale(fixedPointIntervalListener)]);
+                return;
+            }
+
+            MultiMessageListener<Void> columnarListener = columnarListenersOfRequestIDs.get(requestID);
+            if (columnarListener != null) {
+                handleStandardMultiMessage(csv, requestID, 2, columnarListenersOfRequestIDs,
+                        ((AbstractColumnarAccumulator) columnarListener).getCSVMapper());
+                return;
+            }
+        }
+    }
+
+    @Override
+    protected void onMessageReceived(CSVRecord csv) {
+        if (isErrorOrInvalidMessage(csv)) {
+            return;
+        }
+
+        String requestID = csv.fieldAsString(0);
+
+        synchronized (messageReceivedLock) {
+            if (handleStandardMultiMessage(csv, requestID, 2, tickListenersOfRequestIDs, TICK_CSV_MAPPER)) {
+                return;
+            }
+
+            if (handleStandardMultiMessage(csv, requestID, 2, intervalListenersOfRequestIDs, INTERVAL_CSV_MAPPER)) {
+                return;
+            }
+
+            if (handleStandardMultiMessage(csv, requestID, 2, datedIntervalListenersOfRequestIDs,
+                    DATED_INTERVAL_CSV_MAPPER)) {
+                return;
+            }
+
+            if (handleStandardMultiMessage(csv, requestID, 2, primitiveTickListenersOfRequestIDs,
+                    PRIMITIVE_TICK_CSV_MAPPER)) {
+                return;
+            }
+
+            if (handleStandardMultiMessage(csv, requestID, 2, primitiveIntervalListenersOfRequestIDs,
+                    PRIMITIVE_INTERVAL_CSV_MAPPER)) {
+                return;
+            }
+
+            MultiMessageListener<FixedPointTick> fixedPointTickListener =
+                    fixedPointTickListenersOfRequestIDs.get(requestID);
+            if (fixedPointTickListener != null) {
+                handleStandardMultiMessage(csv, requestID, 2, fixedPointTickListenersOfRequestIDs,
+                        FIXED_POINT_TICK_CSV_MAPPERS_OF_PRICE_SCALES[getPriceScale(fixedPointTickListener)]);
+                return;
+            }
+
+            MultiMessageListener<FixedPointInterval> fixedPointIntervalListener =
+                    fixedPointIntervalListenersOfRequestIDs.get(requestID);
+            if (fixedPointIntervalListener != null) {
+                handleStandardMultiMessage(csv, requestID, 2, fixedPointIntervalListenersOfRequestIDs,
+                        FIXED_POINT_INTERVAL_CSV_MAPPERS_OF_PRICE_SCALES[getPriceScale(fixedPointIntervalListener)]);
+                return;
+            }
+
+            MultiMessageListener<Void> columnarListener = columnarListenersOfRequestIDs.get(requestID);
+            if (columnarListener != null) {
+                handleStandardMultiMessage(csv, requestID, 2, columnarListenersOfRequestIDs,
+                        ((AbstractColumnarAccumulator) columnarListener).getCSVMapper());
+                return;
+            }
         }
     }
 
@@ -147,6 +309,22 @@ public class HistoricalFeed extends AbstractLookupFeed {
         tickListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
         intervalListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
         datedIntervalListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
+        primitiveTickListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
+        primitiveIntervalListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
+        fixedPointTickListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
+        fixedPointIntervalListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
+        columnarListenersOfRequestIDs.values().forEach(listener -> listener.onMessageException(exception));
+    }
+
+    /**
+     * Gets the price scale of the given {@link PriceScaledMultiMessageListener}.
+     *
+     * @param multiMessageListener the {@link PriceScaledMultiMessageListener}
+     *
+     * @return the price scale
+     */
+    private static int getPriceScale(MultiMessageListener<?> multiMessageListener) {
+        return ((PriceScaledMultiMessageListener<?>) multiMessageListener).priceScale;
     }
 
     @Override
@@ -171,6 +349,22 @@ public class HistoricalFeed extends AbstractLookupFeed {
      */
     public void requestTicks(String symbol, int maxDataPoints, DataDirection dataDirection,
             MultiMessageListener<Tick> ticksListener) throws IOException {
+        requestTicks(symbol, maxDataPoints, dataDirection, tickListenersOfRequestIDs, ticksListener);
+    }
+
+    /**
+     * Sends the {@link HistoricalCommand#HISTORICAL_TICKS_DATAPOINTS} request of {@link #requestTicks(String, int,
+     * DataDirection, MultiMessageListener)} and registers the <code>ticksListener</code> in the given
+     * <code>ticksListenersOfRequestIDs</code>.
+     *
+     * @param <M>                        the type of the POJO that the requested ticks are mapped to
+     * @param ticksListenersOfRequestIDs the {@link HashMap} of {@link MultiMessageListener}s of request IDs
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    protected <M> void requestTicks(String symbol, int maxDataPoints, DataDirection dataDirection,
+            HashMap<String, MultiMessageListener<M>> ticksListenersOfRequestIDs,
+            MultiMessageListener<M> ticksListener) throws IOException {
         checkNotNull(symbol);
         checkNotNull(ticksListener);
 
@@ -191,7 +385,7 @@ public class HistoricalFeed extends AbstractLookupFeed {
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
         synchronized (messageReceivedLock) {
-            tickListenersOfRequestIDs.put(requestID, ticksListener);
+            ticksListenersOfRequestIDs.put(requestID, ticksListener);
         }
 
         sendAndLogMessage(requestBuilder.toString());
@@ -214,6 +408,66 @@ public class HistoricalFeed extends AbstractLookupFeed {
         return asyncListener.getMessages();
     }
 
+    /**
+     * Calls {@link #requestTicks(String, int, DataDirection, MultiMessageListener)} and passes the requested data
+     * through a {@link MultiMessageIterator} with a capacity of {@link #STREAM_QUEUE_CAPACITY}, so it can be consumed
+     * while it's still being received. The returned {@link Stream} should be closed if it isn't fully consumed.
+     *
+     * @return a {@link Stream} of {@link Tick}s
+     *
+     * @throws IOException thrown for {@link IOException}s
+     * @see MultiMessageIterator
+     */
+    public Stream<Tick> streamTicks(String symbol, int maxDataPoints, DataDirection dataDirection)
+            throws IOException {
+        MultiMessageIterator<Tick> iterator = new MultiMessageIterator<>(STREAM_QUEUE_CAPACITY, this);
+        requestTicks(symbol, maxDataPoints, dataDirection, iterator);
+        return iterator.stream();
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, int, DataDirection, MultiMessageListener)}, but maps to {@link
+     * PrimitiveTick}s, which have primitive numeric fields.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestPrimitiveTicks(String symbol, int maxDataPoints, DataDirection dataDirection,
+            MultiMessageListener<PrimitiveTick> ticksListener) throws IOException {
+        requestTicks(symbol, maxDataPoints, dataDirection, primitiveTickListenersOfRequestIDs, ticksListener);
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, int, DataDirection, MultiMessageListener)}, but maps to {@link
+     * FixedPointTick}s, which have fixed-point prices at the given <code>priceScale</code>.
+     *
+     * @param priceScale the scale (number of fractional digits) of the fixed-point prices (e.g. the Level 1
+     *                   "Decimal Precision" of the <code>symbol</code>)
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestFixedPointTicks(String symbol, int maxDataPoints, DataDirection dataDirection, int priceScale,
+            MultiMessageListener<FixedPointTick> ticksListener) throws IOException {
+        checkArgument(priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE,
+                "The price scale must be between 0 and %s!", FixedPointUtil.MAX_SCALE);
+        checkNotNull(ticksListener);
+
+        requestTicks(symbol, maxDataPoints, dataDirection, fixedPointTickListenersOfRequestIDs,
+                new PriceScaledMultiMessageListener<>(ticksListener, priceScale));
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, int, DataDirection, MultiMessageListener)}, but accumulates the {@link
+     * Tick}s directly into the primitive columns of the given {@link ColumnarTickAccumulator}.
+     *
+     * @param ticksAccumulator the {@link ColumnarTickAccumulator}
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestColumnarTicks(String symbol, int maxDataPoints, DataDirection dataDirection,
+            ColumnarTickAccumulator ticksAccumulator) throws IOException {
+        requestTicks(symbol, maxDataPoints, dataDirection, columnarListenersOfRequestIDs, ticksAccumulator);
+    }
+
     /**
      * Retrieves {@link Tick}s for the previous <code>maxDays</code> days for the specified <code>symbol</code>. This
      * sends a {@link HistoricalCommand#HISTORICAL_TICKS_DAYS} request.
@@ -233,6 +487,24 @@ public class HistoricalFeed extends AbstractLookupFeed {
     public void requestTicks(String symbol, int maxDays, Integer maxDataPoints, LocalTime beginFilterTime,
             LocalTime endFilterTime, DataDirection dataDirection, MultiMessageListener<Tick> ticksListener)
             throws IOException {
+        requestTicks(symbol, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                tickListenersOfRequestIDs, ticksListener);
+    }
+
+    /**
+     * Sends the {@link HistoricalCommand#HISTORICAL_TICKS_DAYS} request of {@link #requestTicks(String, int, Integer,
+     * LocalTime, LocalTime, DataDirection, MultiMessageListener)} and registers the <code>ticksListener</code> in the
+     * given <code>ticksListenersOfRequestIDs</code>.
+     *
+     * @param <M>                        the type of the POJO that the requested ticks are mapped to
+     * @param ticksListenersOfRequestIDs the {@link HashMap} of {@link MultiMessageListener}s of request IDs
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    protected <M> void requestTicks(String symbol, int maxDays, Integer maxDataPoints, LocalTime beginFilterTime,
+            LocalTime endFilterTime, DataDirection dataDirection,
+            HashMap<String, MultiMessageListener<M>> ticksListenersOfRequestIDs,
+            MultiMessageListener<M> ticksListener) throws IOException {
         checkNotNull(symbol);
         checkNotNull(ticksListener);
 
@@ -268,7 +540,7 @@ public class HistoricalFeed extends AbstractLookupFeed {
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
         synchronized (messageReceivedLock) {
-            tickListenersOfRequestIDs.put(requestID, ticksListener);
+            ticksListenersOfRequestIDs.put(requestID, ticksListener);
         }
 
         sendAndLogMessage(requestBuilder.toString());
@@ -292,6 +564,73 @@ public class HistoricalFeed extends AbstractLookupFeed {
         return asyncListener.getMessages();
     }
 
+    /**
+     * Calls {@link #requestTicks(String, int, Integer, LocalTime, LocalTime, DataDirection, MultiMessageListener)} and
+     * passes the requested data through a {@link MultiMessageIterator} with a capacity of
+     * {@link #STREAM_QUEUE_CAPACITY}, so it can be consumed while it's still being received. The returned
+     * {@link Stream} should be closed if it isn't fully consumed.
+     *
+     * @return a {@link Stream} of {@link Tick}s
+     *
+     * @throws IOException thrown for {@link IOException}s
+     * @see MultiMessageIterator
+     */
+    public Stream<Tick> streamTicks(String symbol, int maxDays, Integer maxDataPoints, LocalTime beginFilterTime,
+            LocalTime endFilterTime, DataDirection dataDirection) throws IOException {
+        MultiMessageIterator<Tick> iterator = new MultiMessageIterator<>(STREAM_QUEUE_CAPACITY, this);
+        requestTicks(symbol, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection, iterator);
+        return iterator.stream();
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, int, Integer, LocalTime, LocalTime, DataDirection, MultiMessageListener)},
+     * but maps to {@link PrimitiveTick}s, which have primitive numeric fields.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestPrimitiveTicks(String symbol, int maxDays, Integer maxDataPoints, LocalTime beginFilterTime,
+            LocalTime endFilterTime, DataDirection dataDirection,
+            MultiMessageListener<PrimitiveTick> ticksListener) throws IOException {
+        requestTicks(symbol, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                primitiveTickListenersOfRequestIDs, ticksListener);
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, int, Integer, LocalTime, LocalTime, DataDirection, MultiMessageListener)},
+     * but maps to {@link FixedPointTick}s, which have fixed-point prices at the given <code>priceScale</code>.
+     *
+     * @param priceScale the scale (number of fractional digits) of the fixed-point prices (e.g. the Level 1
+     *                   "Decimal Precision" of the <code>symbol</code>)
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestFixedPointTicks(String symbol, int maxDays, Integer maxDataPoints, LocalTime beginFilterTime,
+            LocalTime endFilterTime, DataDirection dataDirection, int priceScale,
+            MultiMessageListener<FixedPointTick> ticksListener) throws IOException {
+        checkArgument(priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE,
+                "The price scale must be between 0 and %s!", FixedPointUtil.MAX_SCALE);
+        checkNotNull(ticksListener);
+
+        requestTicks(symbol, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                fixedPointTickListenersOfRequestIDs, new PriceScaledMultiMessageListener<>(ticksListener, priceScale));
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, int, Integer, LocalTime, LocalTime, DataDirection, MultiMessageListener)},
+     * but accumulates the {@link Tick}s directly into the primitive columns of the given {@link
+     * ColumnarTickAccumulator}.
+     *
+     * @param ticksAccumulator the {@link ColumnarTickAccumulator}
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestColumnarTicks(String symbol, int maxDays, Integer maxDataPoints, LocalTime beginFilterTime,
+            LocalTime endFilterTime, DataDirection dataDirection, ColumnarTickAccumulator ticksAccumulator)
+            throws IOException {
+        requestTicks(symbol, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                columnarListenersOfRequestIDs, ticksAccumulator);
+    }
+
     /**
      * Retrieves {@link Tick} data between <code>beginDateTime</code> and <code>endDateTime</code> for the specified
      * <code>symbol</code>. This sends a {@link HistoricalCommand#HISTORICAL_TICKS_DATETIMES} request.
@@ -312,6 +651,24 @@ public class HistoricalFeed extends AbstractLookupFeed {
     public void requestTicks(String symbol, LocalDateTime beginDateTime, LocalDateTime endDateTime,
             Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
             MultiMessageListener<Tick> ticksListener) throws IOException {
+        requestTicks(symbol, beginDateTime, endDateTime, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                tickListenersOfRequestIDs, ticksListener);
+    }
+
+    /**
+     * Sends the {@link HistoricalCommand#HISTORICAL_TICKS_DATETIMES} request of {@link #requestTicks(String,
+     * LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection, MultiMessageListener)} and registers
+     * the <code>ticksListener</code> in the given <code>ticksListenersOfRequestIDs</code>.
+     *
+     * @param <M>                        the type of the POJO that the requested ticks are mapped to
+     * @param ticksListenersOfRequestIDs the {@link HashMap} of {@link MultiMessageListener}s of request IDs
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    protected <M> void requestTicks(String symbol, LocalDateTime beginDateTime, LocalDateTime endDateTime,
+            Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
+            HashMap<String, MultiMessageListener<M>> ticksListenersOfRequestIDs,
+            MultiMessageListener<M> ticksListener) throws IOException {
         checkNotNull(symbol);
         checkArgument(beginDateTime != null || endDateTime != null);
         checkNotNull(ticksListener);
@@ -357,7 +714,7 @@ public class HistoricalFeed extends AbstractLookupFeed {
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
         synchronized (messageReceivedLock) {
-            tickListenersOfRequestIDs.put(requestID, ticksListener);
+            ticksListenersOfRequestIDs.put(requestID, ticksListener);
         }
 
         sendAndLogMessage(requestBuilder.toString());
@@ -383,6 +740,79 @@ public class HistoricalFeed extends AbstractLookupFeed {
         return asyncListener.getMessages();
     }
 
+    /**
+     * Calls
+     * {@link #requestTicks(String, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection,
+     * MultiMessageListener)} and passes the requested data through a {@link MultiMessageIterator} with a capacity of
+     * {@link #STREAM_QUEUE_CAPACITY}, so it can be consumed while it's still being received. This is preferred over
+     * {@link #requestTicks(String, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection)} for
+     * long date ranges since only up to {@link #STREAM_QUEUE_CAPACITY} {@link Tick}s are held in memory at once. The
+     * returned {@link Stream} should be closed if it isn't fully consumed.
+     *
+     * @return a {@link Stream} of {@link Tick}s
+     *
+     * @throws IOException thrown for {@link IOException}s
+     * @see MultiMessageIterator
+     */
+    public Stream<Tick> streamTicks(String symbol, LocalDateTime beginDateTime, LocalDateTime endDateTime,
+            Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection)
+            throws IOException {
+        MultiMessageIterator<Tick> iterator = new MultiMessageIterator<>(STREAM_QUEUE_CAPACITY, this);
+        requestTicks(symbol, beginDateTime, endDateTime, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                iterator);
+        return iterator.stream();
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection,
+     * MultiMessageListener)}, but maps to {@link PrimitiveTick}s, which have primitive numeric fields.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestPrimitiveTicks(String symbol, LocalDateTime beginDateTime, LocalDateTime endDateTime,
+            Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
+            MultiMessageListener<PrimitiveTick> ticksListener) throws IOException {
+        requestTicks(symbol, beginDateTime, endDateTime, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                primitiveTickListenersOfRequestIDs, ticksListener);
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection,
+     * MultiMessageListener)}, but maps to {@link FixedPointTick}s, which have fixed-point prices at the given
+     * <code>priceScale</code>.
+     *
+     * @param priceScale the scale (number of fractional digits) of the fixed-point prices (e.g. the Level 1
+     *                   "Decimal Precision" of the <code>symbol</code>)
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestFixedPointTicks(String symbol, LocalDateTime beginDateTime, LocalDateTime endDateTime,
+            Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
+            int priceScale, MultiMessageListener<FixedPointTick> ticksListener) throws IOException {
+        checkArgument(priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE,
+                "The price scale must be between 0 and %s!", FixedPointUtil.MAX_SCALE);
+        checkNotNull(ticksListener);
+
+        requestTicks(symbol, beginDateTime, endDateTime, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                fixedPointTickListenersOfRequestIDs, new PriceScaledMultiMessageListener<>(ticksListener, priceScale));
+    }
+
+    /**
+     * Same as {@link #requestTicks(String, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection,
+     * MultiMessageListener)}, but accumulates the {@link Tick}s directly into the primitive columns of the given {@link
+     * ColumnarTickAccumulator}.
+     *
+     * @param ticksAccumulator the {@link ColumnarTickAccumulator}
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestColumnarTicks(String symbol, LocalDateTime beginDateTime, LocalDateTime endDateTime,
+            Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
+            ColumnarTickAccumulator ticksAccumulator) throws IOException {
+        requestTicks(symbol, beginDateTime, endDateTime, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                columnarListenersOfRequestIDs, ticksAccumulator);
+    }
+
     /**
      * Retrieves up to <code>maxDataPoints</code> number of {@link Interval}s for the specified <code>symbol</code>.
      * This sends a {@link HistoricalCommand#HISTORICAL_INTERVAL_DATAPOINTS} request.
@@ -398,6 +828,24 @@ public class HistoricalFeed extends AbstractLookupFeed {
      */
     public void requestIntervals(String symbol, int intervalLength, Integer maxDataPoints, DataDirection dataDirection,
             IntervalType intervalType, MultiMessageListener<Interval> intervalsListener) throws IOException {
+        requestIntervals(symbol, intervalLength, maxDataPoints, dataDirection, intervalType,
+                intervalListenersOfRequestIDs, intervalsListener);
+    }
+
+    /**
+     * Sends the {@link HistoricalCommand#HISTORICAL_INTERVAL_DATAPOINTS} request of {@link #requestIntervals(String,
+     * int, Integer, DataDirection, IntervalType, MultiMessageListener)} and registers the
+     * <code>intervalsListener</code> in the given <code>intervalsListenersOfRequestIDs</code>.
+     *
+     * @param <M>                            the type of the POJO that the requested intervals are mapped to
+     * @param intervalsListenersOfRequestIDs the {@link HashMap} of {@link MultiMessageListener}s of request IDs
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    protected <M> void requestIntervals(String symbol, int intervalLength, Integer maxDataPoints,
+            DataDirection dataDirection, IntervalType intervalType,
+            HashMap<String, MultiMessageListener<M>> intervalsListenersOfRequestIDs,
+            MultiMessageListener<M> intervalsListener) throws IOException {
         checkNotNull(symbol);
         checkNotNull(maxDataPoints);
         checkNotNull(intervalsListener);
@@ -427,7 +875,7 @@ public class HistoricalFeed extends AbstractLookupFeed {
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
         synchronized (messageReceivedLock) {
-            intervalListenersOfRequestIDs.put(requestID, intervalsListener);
+            intervalsListenersOfRequestIDs.put(requestID, intervalsListener);
         }
 
         sendAndLogMessage(requestBuilder.toString());
@@ -451,6 +899,56 @@ public class HistoricalFeed extends AbstractLookupFeed {
         return asyncListener.getMessages();
     }
 
+    /**
+     * Same as {@link #requestIntervals(String, int, Integer, DataDirection, IntervalType, MultiMessageListener)}, but
+     * maps to {@link PrimitiveInterval}s, which have primitive numeric fields.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestPrimitiveIntervals(String symbol, int intervalLength, Integer maxDataPoints,
+            DataDirection dataDirection, IntervalType intervalType,
+            MultiMessageListener<PrimitiveInterval> intervalsListener) throws IOException {
+        requestIntervals(symbol, intervalLength, maxDataPoints, dataDirection, intervalType,
+                primitiveIntervalListenersOfRequestIDs, intervalsListener);
+    }
+
+    /**
+     * Same as {@link #requestIntervals(String, int, Integer, DataDirection, IntervalType, MultiMessageListener)}, but
+     * maps to {@link FixedPointInterval}s, which have fixed-point prices at the given <code>priceScale</code>.
+     *
+     * @param priceScale the scale (number of fractional digits) of the fixed-point prices (e.g. the Level 1
+     *                   "Decimal Precision" of the <code>symbol</code>)
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestFixedPointIntervals(String symbol, int intervalLength, Integer maxDataPoints,
+            DataDirection dataDirection, IntervalType intervalType, int priceScale,
+            MultiMessageListener<FixedPointInterval> intervalsListener) throws IOException {
+        checkArgument(priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE,
+                "The price scale must be between 0 and %s!", FixedPointUtil.MAX_SCALE);
+        checkNotNull(intervalsListener);
+
+        requestIntervals(symbol, intervalLength, maxDataPoints, dataDirection, intervalType,
+                fixedPointIntervalListenersOfRequestIDs,
+                new PriceScaledMultiMessageListener<>(intervalsListener, priceScale));
+    }
+
+    /**
+     * Same as {@link #requestIntervals(String, int, Integer, DataDirection, IntervalType, MultiMessageListener)}, but
+     * accumulates the {@link Interval}s directly into the primitive columns of the given {@link
+     * ColumnarIntervalAccumulator}.
+     *
+     * @param intervalsAccumulator the {@link ColumnarIntervalAccumulator}
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestColumnarIntervals(String symbol, int intervalLength, Integer maxDataPoints,
+            DataDirection dataDirection, IntervalType intervalType, ColumnarIntervalAccumulator intervalsAccumulator)
+            throws IOException {
+        requestIntervals(symbol, intervalLength, maxDataPoints, dataDirection, intervalType,
+                columnarListenersOfRequestIDs, intervalsAccumulator);
+    }
+
     /**
      * Retrieves {@link Interval}s for <code>maxDays</code> days for the specified <code>symbol</code>. This sends a
      * {@link HistoricalCommand#HISTORICAL_INTERVAL_DAYS} request.
@@ -472,6 +970,24 @@ public class HistoricalFeed extends AbstractLookupFeed {
     public void requestIntervals(String symbol, int intervalLength, int maxDays, Integer maxDataPoints,
             LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection, IntervalType intervalType,
             MultiMessageListener<Interval> intervalsListener) throws IOException {
+        requestIntervals(symbol, intervalLength, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                intervalType, intervalListenersOfRequestIDs, intervalsListener);
+    }
+
+    /**
+     * Sends the {@link HistoricalCommand#HISTORICAL_INTERVAL_DAYS} request of {@link #requestIntervals(String, int,
+     * int, Integer, LocalTime, LocalTime, DataDirection, IntervalType, MultiMessageListener)} and registers the
+     * <code>intervalsListener</code> in the given <code>intervalsListenersOfRequestIDs</code>.
+     *
+     * @param <M>                            the type of the POJO that the requested intervals are mapped to
+     * @param intervalsListenersOfRequestIDs the {@link HashMap} of {@link MultiMessageListener}s of request IDs
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    protected <M> void requestIntervals(String symbol, int intervalLength, int maxDays, Integer maxDataPoints,
+            LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection, IntervalType intervalType,
+            HashMap<String, MultiMessageListener<M>> intervalsListenersOfRequestIDs,
+            MultiMessageListener<M> intervalsListener) throws IOException {
         checkNotNull(symbol);
         checkNotNull(intervalsListener);
 
@@ -515,7 +1031,7 @@ public class HistoricalFeed extends AbstractLookupFeed {
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
         synchronized (messageReceivedLock) {
-            intervalListenersOfRequestIDs.put(requestID, intervalsListener);
+            intervalsListenersOfRequestIDs.put(requestID, intervalsListener);
         }
 
         sendAndLogMessage(requestBuilder.toString());
@@ -541,6 +1057,57 @@ public class HistoricalFeed extends AbstractLookupFeed {
         return asyncListener.getMessages();
     }
 
+    /**
+     * Same as {@link #requestIntervals(String, int, int, Integer, LocalTime, LocalTime, DataDirection, IntervalType,
+     * MultiMessageListener)}, but maps to {@link PrimitiveInterval}s, which have primitive numeric fields.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestPrimitiveIntervals(String symbol, int intervalLength, int maxDays, Integer maxDataPoints,
+            LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection, IntervalType intervalType,
+            MultiMessageListener<PrimitiveInterval> intervalsListener) throws IOException {
+        requestIntervals(symbol, intervalLength, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                intervalType, primitiveIntervalListenersOfRequestIDs, intervalsListener);
+    }
+
+    /**
+     * Same as {@link #requestIntervals(String, int, int, Integer, LocalTime, LocalTime, DataDirection, IntervalType,
+     * MultiMessageListener)}, but maps to {@link FixedPointInterval}s, which have fixed-point prices at the given
+     * <code>priceScale</code>.
+     *
+     * @param priceScale the scale (number of fractional digits) of the fixed-point prices (e.g. the Level 1
+     *                   "Decimal Precision" of the <code>symbol</code>)
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestFixedPointIntervals(String symbol, int intervalLength, int maxDays, Integer maxDataPoints,
+            LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection, IntervalType intervalType,
+            int priceScale, MultiMessageListener<FixedPointInterval> intervalsListener) throws IOException {
+        checkArgument(priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE,
+                "The price scale must be between 0 and %s!", FixedPointUtil.MAX_SCALE);
+        checkNotNull(intervalsListener);
+
+        requestIntervals(symbol, intervalLength, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                intervalType, fixedPointIntervalListenersOfRequestIDs,
+                new PriceScaledMultiMessageListener<>(intervalsListener, priceScale));
+    }
+
+    /**
+     * Same as {@link #requestIntervals(String, int, int, Integer, LocalTime, LocalTime, DataDirection, IntervalType,
+     * MultiMessageListener)}, but accumulates the {@link Interval}s directly into the primitive columns of the given
+     * {@link ColumnarIntervalAccumulator}.
+     *
+     * @param intervalsAccumulator the {@link ColumnarIntervalAccumulator}
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestColumnarIntervals(String symbol, int intervalLength, int maxDays, Integer maxDataPoints,
+            LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection, IntervalType intervalType,
+            ColumnarIntervalAccumulator intervalsAccumulator) throws IOException {
+        requestIntervals(symbol, intervalLength, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                intervalType, columnarListenersOfRequestIDs, intervalsAccumulator);
+    }
+
     /**
      * Retrieves {@link Interval} data between <code>beginDateTime</code> and <code>endDateTime</code> for the
      * specified
@@ -565,6 +1132,26 @@ public class HistoricalFeed extends AbstractLookupFeed {
             LocalDateTime endDateTime, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
             DataDirection dataDirection, IntervalType intervalType, MultiMessageListener<Interval> intervalsListener)
             throws IOException {
+        requestIntervals(symbol, intervalLength, beginDateTime, endDateTime, maxDataPoints, beginFilterTime,
+                endFilterTime, dataDirection, intervalType, intervalListenersOfRequestIDs, intervalsListener);
+    }
+
+    /**
+     * Sends the {@link HistoricalCommand#HISTORICAL_INTERVAL_DATETIMES} request of {@link #requestIntervals(String,
+     * int, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection, IntervalType,
+     * MultiMessageListener)} and registers the <code>intervalsListener</code> in the given
+     * <code>intervalsListenersOfRequestIDs</code>.
+     *
+     * @param <M>                            the type of the POJO that the requested intervals are mapped to
+     * @param intervalsListenersOfRequestIDs the {@link HashMap} of {@link MultiMessageListener}s of request IDs
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    protected <M> void requestIntervals(String symbol, int intervalLength, LocalDateTime beginDateTime,
+            LocalDateTime endDateTime, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
+            DataDirection dataDirection, IntervalType intervalType,
+            HashMap<String, MultiMessageListener<M>> intervalsListenersOfRequestIDs,
+            MultiMessageListener<M> intervalsListener) throws IOException {
         checkNotNull(symbol);
         checkArgument(beginDateTime != null || endDateTime != null);
         checkNotNull(intervalsListener);
@@ -618,7 +1205,7 @@ public class HistoricalFeed extends AbstractLookupFeed {
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
         synchronized (messageReceivedLock) {
-            intervalListenersOfRequestIDs.put(requestID, intervalsListener);
+            intervalsListenersOfRequestIDs.put(requestID, intervalsListener);
         }
 
         sendAndLogMessage(requestBuilder.toString());
@@ -646,6 +1233,61 @@ public class HistoricalFeed extends AbstractLookupFeed {
         return asyncListener.getMessages();
     }
 
+    /**
+     * Same as {@link #requestIntervals(String, int, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime,
+     * DataDirection, IntervalType, MultiMessageListener)}, but maps to {@link PrimitiveInterval}s, which have primitive
+     * numeric fields.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestPrimitiveIntervals(String symbol, int intervalLength, LocalDateTime beginDateTime,
+            LocalDateTime endDateTime, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
+            DataDirection dataDirection, IntervalType intervalType,
+            MultiMessageListener<PrimitiveInterval> intervalsListener) throws IOException {
+        requestIntervals(symbol, intervalLength, beginDateTime, endDateTime, maxDataPoints, beginFilterTime,
+                endFilterTime, dataDirection, intervalType, primitiveIntervalListenersOfRequestIDs, intervalsListener);
+    }
+
+    /**
+     * Same as {@link #requestIntervals(String, int, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime,
+     * DataDirection, IntervalType, MultiMessageListener)}, but maps to {@link FixedPointInterval}s, which have
+     * fixed-point prices at the given <code>priceScale</code>.
+     *
+     * @param priceScale the scale (number of fractional digits) of the fixed-point prices (e.g. the Level 1
+     *                   "Decimal Precision" of the <code>symbol</code>)
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestFixedPointIntervals(String symbol, int intervalLength, LocalDateTime beginDateTime,
+            LocalDateTime endDateTime, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
+            DataDirection dataDirection, IntervalType intervalType, int priceScale,
+            MultiMessageListener<FixedPointInterval> intervalsListener) throws IOException {
+        checkArgument(priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE,
+                "The price scale must be between 0 and %s!", FixedPointUtil.MAX_SCALE);
+        checkNotNull(intervalsListener);
+
+        requestIntervals(symbol, intervalLength, beginDateTime, endDateTime, maxDataPoints, beginFilterTime,
+                endFilterTime, dataDirection, intervalType, fixedPointIntervalListenersOfRequestIDs,
+                new PriceScaledMultiMessageListener<>(intervalsListener, priceScale));
+    }
+
+    /**
+     * Same as {@link #requestIntervals(String, int, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime,
+     * DataDirection, IntervalType, MultiMessageListener)}, but accumulates the {@link Interval}s directly into the
+     * primitive columns of the given {@link ColumnarIntervalAccumulator}.
+     *
+     * @param intervalsAccumulator the {@link ColumnarIntervalAccumulator}
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestColumnarIntervals(String symbol, int intervalLength, LocalDateTime beginDateTime,
+            LocalDateTime endDateTime, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
+            DataDirection dataDirection, IntervalType intervalType, ColumnarIntervalAccumulator intervalsAccumulator)
+            throws IOException {
+        requestIntervals(symbol, intervalLength, beginDateTime, endDateTime, maxDataPoints, beginFilterTime,
+                endFilterTime, dataDirection, intervalType, columnarListenersOfRequestIDs, intervalsAccumulator);
+    }
+
     /**
      * Retrieves up to <code>maxDays</code> days of End-Of-Day {@link DatedInterval} for the specified
      * <code>symbol</code>. This sends a {@link HistoricalCommand#HISTORICAL_DAILY_DATAPOINTS} request.
@@ -928,4 +1570,42 @@ public class HistoricalFeed extends AbstractLookupFeed {
     //
     // END Feed commands
     //
+
+    /**
+     * {@link PriceScaledMultiMessageListener} is a {@link MultiMessageListener} that delegates to another
+     * {@link MultiMessageListener} and holds the requested price scale of a fixed-point request.
+     *
+     * @param <T> the type of the message
+     */
+    private static class PriceScaledMultiMessageListener<T> extends MultiMessageListener<T> {
+
+        private final MultiMessageListener<T> multiMessageListener;
+        private final int priceScale;
+
+        /**
+         * Instantiates a new {@link PriceScaledMultiMessageListener}.
+         *
+         * @param multiMessageListener the {@link MultiMessageListener} to delegate to
+         * @param priceScale           the price scale
+         */
+        public PriceScaledMultiMessageListener(MultiMessageListener<T> multiMessageListener, int priceScale) {
+            this.multiMessageListener = multiMessageListener;
+            this.priceScale = priceScale;
+        }
+
+        @Override
+        public void onMessageReceived(T message) {
+            multiMessageListener.onMessageReceived(message);
+        }
+
+        @Override
+        public void onMessageException(Exception exception) {
+            multiMessageListener.onMessageException(exception);
+        }
+
+        @Override
+        public void onEndOfMultiMessage() {
+            multiMessageListener.handleEndOfMultiMessage();
+        }
+    }
 }
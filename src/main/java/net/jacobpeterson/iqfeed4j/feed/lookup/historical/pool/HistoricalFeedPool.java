@@ -1,6 +1,16 @@
 package net.jacobpeterson.iqfeed4j.feed.lookup.historical.pool;
 
+import net.jacobpeterson.iqfeed4j.feed.FeedEventLoop;
+import net.jacobpeterson.iqfeed4j.feed.exception.IQFeedRuntimeException;
+import net.jacobpeterson.iqfeed4j.feed.exception.NoDataException;
 import net.jacobpeterson.iqfeed4j.feed.lookup.historical.HistoricalFeed;
+import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageListener;
+import net.jacobpeterson.iqfeed4j.model.feed.common.interval.IntervalType;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Interval;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.Tick;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.historical.enums.DataDirection;
+import net.jacobpeterson.iqfeed4j.util.ratelimit.TokenBucketRateLimiter;
+import net.jacobpeterson.iqfeed4j.util.thread.ThreadUtil;
 import org.apache.commons.pool2.ObjectPool;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.PooledObjectFactory;
@@ -8,12 +18,38 @@ import org.apache.commons.pool2.impl.DefaultEvictionPolicy;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.time.DayOfWeek;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * {@link HistoricalFeedPool} contains a thread-safe pool of {@link HistoricalFeed}s and has IQFeed's history request
@@ -22,15 +58,48 @@ import static com.google.common.base.Preconditions.checkArgument;
  */
 public class HistoricalFeedPool {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoricalFeedPool.class);
+
     /**
      * Defines the feed request time delay in milliseconds which is currently 20 ms (50 requests/second) plus 1 ms for
-     * margin.
+     * margin. The default rate limit is derived from this (see {@link #createRateLimiter(long)}).
      */
     public static final int DEFAULT_FEED_REQUEST_TIME_DELAY_MILLIS = 20 + 1;
+    /**
+     * Defines IQFeed's history request rate limit, which is currently 50 requests/second.
+     */
+    public static final int FEED_REQUESTS_PER_SECOND_LIMIT = 50;
+    /**
+     * Defines the maximum number of requests that may be made at once after an idle period.
+     */
+    public static final int MAX_FEED_REQUEST_BURST_SIZE = 5;
+    /**
+     * Defines the default sustained request rate, which is one request per
+     * {@link #DEFAULT_FEED_REQUEST_TIME_DELAY_MILLIS}.
+     */
+    public static final double DEFAULT_FEED_REQUESTS_PER_SECOND = 1000d / DEFAULT_FEED_REQUEST_TIME_DELAY_MILLIS;
+    /**
+     * Defines the default number of requests that may be made at once after an idle period, which is whatever
+     * {@link #DEFAULT_FEED_REQUESTS_PER_SECOND} leaves of {@link #FEED_REQUESTS_PER_SECOND_LIMIT}.
+     */
+    public static final int DEFAULT_FEED_REQUEST_BURST_SIZE = burstSizeOf(DEFAULT_FEED_REQUESTS_PER_SECOND);
+    /**
+     * Defines the default maximum number of sub-ranges of a split range request (e.g.
+     * {@link #requestTicksSplit(String, LocalDateTime, LocalDateTime, LocalTime, LocalTime, DataDirection,
+     * SplitPeriod)}) that are requested at once.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_SUB_REQUESTS = 8;
+    /**
+     * Defines the default maximum number of asynchronous requests that share one {@link HistoricalFeed} at once.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS_PER_FEED = 1;
 
     private final ObjectPool<HistoricalFeed> pool;
-    private final Object lastRequestMillisLock;
-    private long lastRequestMillis;
+    private final Object sharedFeedsLock;
+    private final List<SharedFeed> sharedFeeds;
+    private volatile TokenBucketRateLimiter rateLimiter;
+    private volatile Executor requestExecutor;
+    private volatile int maxInFlightRequestsPerFeed;
 
     /**
      * Instantiates a new {@link HistoricalFeedPool} using {@link Factory} as the {@link HistoricalFeed}
@@ -41,6 +110,51 @@ public class HistoricalFeedPool {
      * @param port               the port
      */
     public HistoricalFeedPool(String historicalFeedName, String hostname, int port) {
+        this(historicalFeedName, hostname, port, createDefaultFeedPoolConfig(), null);
+    }
+
+    /**
+     * Instantiates a new {@link HistoricalFeedPool} using {@link Factory} as the {@link HistoricalFeed}
+     * {@link PooledObjectFactory} and a given {@link GenericObjectPoolConfig}.
+     *
+     * @param historicalFeedName the {@link HistoricalFeed} name
+     * @param hostname           the hostname
+     * @param port               the port
+     * @param feedPoolConfig     the {@link HistoricalFeed} {@link GenericObjectPoolConfig}
+     */
+    public HistoricalFeedPool(String historicalFeedName, String hostname, int port,
+            GenericObjectPoolConfig<HistoricalFeed> feedPoolConfig) {
+        this(historicalFeedName, hostname, port, feedPoolConfig, null);
+    }
+
+    /**
+     * Instantiates a new {@link HistoricalFeedPool} using {@link Factory} as the {@link HistoricalFeed}
+     * {@link PooledObjectFactory} and a given {@link GenericObjectPoolConfig}. All pooled {@link HistoricalFeed}s are
+     * read and dispatched by the given {@link FeedEventLoop} instead of by their own socket threads.
+     *
+     * @param historicalFeedName the {@link HistoricalFeed} name
+     * @param hostname           the hostname
+     * @param port               the port
+     * @param feedPoolConfig     the {@link HistoricalFeed} {@link GenericObjectPoolConfig}
+     * @param feedEventLoop      the {@link FeedEventLoop} (<code>null</code> for a socket thread per feed)
+     */
+    public HistoricalFeedPool(String historicalFeedName, String hostname, int port,
+            GenericObjectPoolConfig<HistoricalFeed> feedPoolConfig, FeedEventLoop feedEventLoop) {
+        pool = new GenericObjectPool<>(new Factory(historicalFeedName, hostname, port, feedEventLoop),
+                feedPoolConfig);
+        sharedFeedsLock = new Object();
+        sharedFeeds = new ArrayList<>();
+        rateLimiter = createDefaultRateLimiter();
+        requestExecutor = createDefaultRequestExecutor();
+        maxInFlightRequestsPerFeed = DEFAULT_MAX_IN_FLIGHT_REQUESTS_PER_FEED;
+    }
+
+    /**
+     * Creates the default customized {@link GenericObjectPoolConfig} of {@link HistoricalFeed}s.
+     *
+     * @return a {@link GenericObjectPoolConfig}
+     */
+    public static GenericObjectPoolConfig<HistoricalFeed> createDefaultFeedPoolConfig() {
         final GenericObjectPoolConfig<HistoricalFeed> feedPoolConfig = new GenericObjectPoolConfig<>();
         // Configure max/min pool objects
         feedPoolConfig.setMaxTotal(100);
@@ -56,35 +170,89 @@ public class HistoricalFeedPool {
         feedPoolConfig.setMinEvictableIdleTime(Duration.ofSeconds(30));
         feedPoolConfig.setTimeBetweenEvictionRuns(Duration.ofSeconds(25));
         feedPoolConfig.setNumTestsPerEvictionRun(-3); // Evict 1/3rd of idle feeds
+        return feedPoolConfig;
+    }
+
+    /**
+     * Instantiates a new {@link HistoricalFeedPool}.
+     *
+     * @param objectPool the {@link ObjectPool} of {@link HistoricalFeed}s to use
+     */
+    public HistoricalFeedPool(ObjectPool<HistoricalFeed> objectPool) {
+        checkArgument(objectPool.getNumActive() <= 0);
+        this.pool = objectPool;
+        sharedFeedsLock = new Object();
+        sharedFeeds = new ArrayList<>();
+        rateLimiter = createDefaultRateLimiter();
+        requestExecutor = createDefaultRequestExecutor();
+        maxInFlightRequestsPerFeed = DEFAULT_MAX_IN_FLIGHT_REQUESTS_PER_FEED;
+    }
 
-        pool = new GenericObjectPool<>(new Factory(historicalFeedName, hostname, port), feedPoolConfig);
-        lastRequestMillisLock = new Object();
+    /**
+     * Creates the default {@link #rateLimiter} via {@link #createRateLimiter(long)} with
+     * {@link #getFeedRequestTimeDelayMillis()}.
+     *
+     * @return a {@link TokenBucketRateLimiter}
+     */
+    protected TokenBucketRateLimiter createDefaultRateLimiter() {
+        return createRateLimiter(getFeedRequestTimeDelayMillis());
     }
 
     /**
-     * Instantiates a new {@link HistoricalFeedPool} using {@link Factory} as the {@link HistoricalFeed}
-     * {@link PooledObjectFactory} and a given {@link GenericObjectPoolConfig}.
+     * Creates a {@link TokenBucketRateLimiter} that allows one request per <code>feedRequestTimeDelayMillis</code>
+     * (i.e. <code>1000 / feedRequestTimeDelayMillis</code> requests per second) with bursts of whatever that rate
+     * leaves of {@link #FEED_REQUESTS_PER_SECOND_LIMIT} (between <code>1</code> and
+     * {@link #MAX_FEED_REQUEST_BURST_SIZE} requests).
      *
-     * @param historicalFeedName the {@link HistoricalFeed} name
-     * @param hostname           the hostname
-     * @param port               the port
-     * @param feedPoolConfig     the {@link HistoricalFeed} {@link GenericObjectPoolConfig}
+     * @param feedRequestTimeDelayMillis the feed request time delay in milliseconds
+     *
+     * @return a {@link TokenBucketRateLimiter}
      */
-    public HistoricalFeedPool(String historicalFeedName, String hostname, int port,
-            GenericObjectPoolConfig<HistoricalFeed> feedPoolConfig) {
-        pool = new GenericObjectPool<>(new Factory(historicalFeedName, hostname, port), feedPoolConfig);
-        lastRequestMillisLock = new Object();
+    public static TokenBucketRateLimiter createRateLimiter(long feedRequestTimeDelayMillis) {
+        checkArgument(feedRequestTimeDelayMillis > 0, "The feed request time delay must be positive!");
+        double requestsPerSecond = 1000d / feedRequestTimeDelayMillis;
+        return new TokenBucketRateLimiter(requestsPerSecond, burstSizeOf(requestsPerSecond));
     }
 
     /**
-     * Instantiates a new {@link HistoricalFeedPool}.
+     * Gets the burst size for the given sustained <code>requestsPerSecond</code>, which is whatever remains of
+     * {@link #FEED_REQUESTS_PER_SECOND_LIMIT} (so that no more than {@link #FEED_REQUESTS_PER_SECOND_LIMIT} requests
+     * are made in any one-second window, even right after an idle period), but between <code>1</code> and
+     * {@link #MAX_FEED_REQUEST_BURST_SIZE}.
      *
-     * @param objectPool the {@link ObjectPool} of {@link HistoricalFeed}s to use
+     * @param requestsPerSecond the requests per second
+     *
+     * @return the burst size
      */
-    public HistoricalFeedPool(ObjectPool<HistoricalFeed> objectPool) {
-        checkArgument(objectPool.getNumActive() <= 0);
-        this.pool = objectPool;
-        lastRequestMillisLock = new Object();
+    private static int burstSizeOf(double requestsPerSecond) {
+        return (int) Math.max(1, Math.min(MAX_FEED_REQUEST_BURST_SIZE,
+                Math.floor(FEED_REQUESTS_PER_SECOND_LIMIT - requestsPerSecond)));
+    }
+
+    /**
+     * Gets the time delay in milliseconds for feed request rate limiting, from which the default {@link #rateLimiter}
+     * is created (see {@link #createDefaultRateLimiter()}). Note that this is called by the constructor.
+     *
+     * @return a positive number of milliseconds
+     *
+     * @deprecated override {@link #createDefaultRateLimiter()} or use {@link #setRateLimiter(TokenBucketRateLimiter)}
+     * instead
+     */
+    @Deprecated
+    protected long getFeedRequestTimeDelayMillis() {
+        return DEFAULT_FEED_REQUEST_TIME_DELAY_MILLIS;
+    }
+
+    /**
+     * Creates the default {@link #requestExecutor}, which starts a new virtual thread for each request on JDK 21+ or a
+     * new daemon platform thread for each request otherwise.
+     *
+     * @return an {@link Executor}
+     *
+     * @see ThreadUtil#newVirtualThreadFactory(String)
+     */
+    public static Executor createDefaultRequestExecutor() {
+        return ThreadUtil.newThreadPerTaskExecutor(ThreadUtil.newVirtualThreadFactory("HistoricalFeedPool Request"));
     }
 
     /**
@@ -96,15 +264,26 @@ public class HistoricalFeedPool {
 
     /**
      * Synchronously makes a request to a {@link HistoricalFeed} in this {@link HistoricalFeedPool} given a request
-     * {@link Consumer}. This method may block for up to {@link Factory#getFeedRequestTimeDelayMillis()} milliseconds.
+     * {@link Consumer}. This method blocks until a permit of the {@link #rateLimiter} is available.
      *
      * @param historicalFeedConsumer the {@link HistoricalFeed} {@link Consumer}
      *
      * @throws Exception thrown for a variety of {@link Exception}s
      */
     public void request(Consumer<HistoricalFeed> historicalFeedConsumer) throws Exception {
-        blockIfRateLimited();
+        rateLimiter.acquire();
+        borrowAndRequest(historicalFeedConsumer);
+    }
 
+    /**
+     * Borrows a {@link HistoricalFeed} from the {@link #pool}, passes it to the given request {@link Consumer}, and
+     * returns it to the {@link #pool}.
+     *
+     * @param historicalFeedConsumer the {@link HistoricalFeed} {@link Consumer}
+     *
+     * @throws Exception thrown for a variety of {@link Exception}s
+     */
+    private void borrowAndRequest(Consumer<HistoricalFeed> historicalFeedConsumer) throws Exception {
         HistoricalFeed borrowedHistoricalFeed = pool.borrowObject();
         try {
             historicalFeedConsumer.accept(borrowedHistoricalFeed);
@@ -114,29 +293,797 @@ public class HistoricalFeedPool {
     }
 
     /**
-     * Blocks until time since {@link #lastRequestMillis} is greater than {@link #getFeedRequestTimeDelayMillis()}. Also
-     * sets {@link #lastRequestMillis} to the current time.
+     * Asynchronously makes a request to a {@link HistoricalFeed} in this {@link HistoricalFeedPool} given a request
+     * {@link Consumer} on the {@link #requestExecutor}. The request is only submitted to the {@link #requestExecutor}
+     * once a permit of the {@link #rateLimiter} is available, so no thread is blocked while rate limited. This allows
+     * many requests to be queued without tying up the caller's threads.
      *
-     * @throws InterruptedException thrown for {@link InterruptedException}s
+     * @param historicalFeedConsumer the {@link HistoricalFeed} {@link Consumer}
+     *
+     * @return a {@link CompletableFuture} that completes once the request {@link Consumer} has returned, or completes
+     * exceptionally if the request failed
+     */
+    public CompletableFuture<Void> requestAsync(Consumer<HistoricalFeed> historicalFeedConsumer) {
+        CompletableFuture<Void> requestFuture = new CompletableFuture<>();
+        rateLimiter.acquireAsync().thenRun(() -> {
+            try {
+                requestExecutor.execute(() -> {
+                    try {
+                        borrowAndRequest(historicalFeedConsumer);
+                        requestFuture.complete(null);
+                    } catch (Throwable throwable) {
+                        requestFuture.completeExceptionally(throwable);
+                    }
+                });
+            } catch (Throwable throwable) { // E.g. a 'RejectedExecutionException'
+                requestFuture.completeExceptionally(throwable);
+            }
+        });
+        return requestFuture;
+    }
+
+    //
+    // START Asynchronous requests
+    //
+
+    /**
+     * Asynchronously requests {@link Tick}s. Unlike {@link #requestAsync(Consumer)}, no thread is blocked while
+     * waiting for the response: a {@link HistoricalFeed} is only leased from this {@link HistoricalFeedPool} to send
+     * the request and is released once its end-of-message has been received. Up to
+     * {@link #getMaxInFlightRequestsPerFeed()} requests share one leased {@link HistoricalFeed} at once.
+     * <br>
+     * Cancelling the returned {@link CompletableFuture} releases the lease immediately. Since the rest of the
+     * cancelled response is still sent on the {@link HistoricalFeed}, it isn't leased to any new requests and is
+     * invalidated (closed) instead of being returned to the {@link #pool} once its other requests have ended.
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of {@link Tick}s
+     *
+     * @see HistoricalFeed#requestTicks(String, int, DataDirection)
+     */
+    public CompletableFuture<List<Tick>> requestTicksAsync(String symbol, int maxDataPoints,
+            DataDirection dataDirection) {
+        return requestListAsync((historicalFeed, ticksListener) ->
+                historicalFeed.requestTicks(symbol, maxDataPoints, dataDirection, ticksListener));
+    }
+
+    /**
+     * Same as {@link #requestTicksAsync(String, int, DataDirection)}.
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of {@link Tick}s
+     *
+     * @see HistoricalFeed#requestTicks(String, int, Integer, LocalTime, LocalTime, DataDirection)
+     */
+    public CompletableFuture<List<Tick>> requestTicksAsync(String symbol, int maxDays, Integer maxDataPoints,
+            LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection) {
+        return requestListAsync((historicalFeed, ticksListener) -> historicalFeed.requestTicks(symbol, maxDays,
+                maxDataPoints, beginFilterTime, endFilterTime, dataDirection, ticksListener));
+    }
+
+    /**
+     * Same as {@link #requestTicksAsync(String, int, DataDirection)}.
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of {@link Tick}s
+     *
+     * @see HistoricalFeed#requestTicks(String, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime,
+     * DataDirection)
      */
-    private void blockIfRateLimited() throws InterruptedException {
-        synchronized (lastRequestMillisLock) {
-            long elapsedMillis = System.currentTimeMillis() - lastRequestMillis;
-            if (elapsedMillis < getFeedRequestTimeDelayMillis()) {
-                Thread.sleep(getFeedRequestTimeDelayMillis() - elapsedMillis);
+    public CompletableFuture<List<Tick>> requestTicksAsync(String symbol, LocalDateTime beginDateTime,
+            LocalDateTime endDateTime, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
+            DataDirection dataDirection) {
+        return requestListAsync((historicalFeed, ticksListener) -> historicalFeed.requestTicks(symbol,
+                beginDateTime, endDateTime, maxDataPoints, beginFilterTime, endFilterTime, dataDirection,
+                ticksListener));
+    }
+
+    /**
+     * Same as {@link #requestTicksAsync(String, int, DataDirection)}, but for {@link Interval}s.
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of {@link Interval}s
+     *
+     * @see HistoricalFeed#requestIntervals(String, int, Integer, DataDirection, IntervalType)
+     */
+    public CompletableFuture<List<Interval>> requestIntervalsAsync(String symbol, int intervalLength,
+            Integer maxDataPoints, DataDirection dataDirection, IntervalType intervalType) {
+        return requestListAsync((historicalFeed, intervalsListener) -> historicalFeed.requestIntervals(symbol,
+                intervalLength, maxDataPoints, dataDirection, intervalType, intervalsListener));
+    }
+
+    /**
+     * Same as {@link #requestTicksAsync(String, int, DataDirection)}, but for {@link Interval}s.
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of {@link Interval}s
+     *
+     * @see HistoricalFeed#requestIntervals(String, int, int, Integer, LocalTime, LocalTime, DataDirection,
+     * IntervalType)
+     */
+    public CompletableFuture<List<Interval>> requestIntervalsAsync(String symbol, int intervalLength, int maxDays,
+            Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
+            IntervalType intervalType) {
+        return requestListAsync((historicalFeed, intervalsListener) -> historicalFeed.requestIntervals(symbol,
+                intervalLength, maxDays, maxDataPoints, beginFilterTime, endFilterTime, dataDirection, intervalType,
+                intervalsListener));
+    }
+
+    /**
+     * Same as {@link #requestTicksAsync(String, int, DataDirection)}, but for {@link Interval}s.
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of {@link Interval}s
+     *
+     * @see HistoricalFeed#requestIntervals(String, int, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime,
+     * DataDirection, IntervalType)
+     */
+    public CompletableFuture<List<Interval>> requestIntervalsAsync(String symbol, int intervalLength,
+            LocalDateTime beginDateTime, LocalDateTime endDateTime, Integer maxDataPoints, LocalTime beginFilterTime,
+            LocalTime endFilterTime, DataDirection dataDirection, IntervalType intervalType) {
+        return requestListAsync((historicalFeed, intervalsListener) -> historicalFeed.requestIntervals(symbol,
+                intervalLength, beginDateTime, endDateTime, maxDataPoints, beginFilterTime, endFilterTime,
+                dataDirection, intervalType, intervalsListener));
+    }
+
+    /**
+     * Asynchronously makes the request of the given {@link ListenerRequest} once a permit of the {@link #rateLimiter}
+     * is available. The request is sent on the {@link #requestExecutor} via a {@link HistoricalFeed} leased with
+     * {@link #leaseSharedFeed()}, which is released once the request has ended.
+     *
+     * @param <T>             the type of message
+     * @param listenerRequest the {@link ListenerRequest}
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of messages
+     */
+    private <T> CompletableFuture<List<T>> requestListAsync(ListenerRequest<T> listenerRequest) {
+        CompletableFuture<List<T>> listFuture = new CompletableFuture<>();
+        rateLimiter.acquireAsync().thenRun(() -> executeOrRun(() -> {
+            if (listFuture.isDone()) { // E.g. cancelled while waiting for a permit
+                return;
+            }
+
+            SharedFeed sharedFeed;
+            try {
+                sharedFeed = leaseSharedFeed();
+            } catch (Throwable throwable) {
+                listFuture.completeExceptionally(throwable);
+                return;
             }
 
-            lastRequestMillis = System.currentTimeMillis();
+            SharedFeedAccumulator<T> accumulator = new SharedFeedAccumulator<>(sharedFeed, listFuture);
+            if (listFuture.isDone()) { // Cancelled while leasing, so the lease has already been released
+                return;
+            }
+            try {
+                listenerRequest.request(sharedFeed.historicalFeed, accumulator);
+            } catch (Throwable throwable) {
+                accumulator.onMessageException(throwable instanceof Exception ? (Exception) throwable :
+                        new IQFeedRuntimeException(throwable));
+            }
+        }));
+        return listFuture;
+    }
+
+    /**
+     * Leases a {@link SharedFeed} that has less than {@link #maxInFlightRequestsPerFeed} requests in flight and isn't
+     * marked for recycling or borrows a new one from the {@link #pool}, which may block if the {@link #pool} is
+     * exhausted.
+     *
+     * @return the leased {@link SharedFeed}
+     *
+     * @throws Exception thrown for a variety of {@link Exception}s
+     */
+    private SharedFeed leaseSharedFeed() throws Exception {
+        synchronized (sharedFeedsLock) {
+            for (SharedFeed sharedFeed : sharedFeeds) {
+                if (sharedFeed.inFlightRequests < maxInFlightRequestsPerFeed && !sharedFeed.recycle &&
+                        sharedFeed.historicalFeed.isValid()) {
+                    sharedFeed.inFlightRequests++;
+                    return sharedFeed;
+                }
+            }
+        }
+
+        SharedFeed sharedFeed = new SharedFeed(pool.borrowObject());
+        synchronized (sharedFeedsLock) {
+            sharedFeeds.add(sharedFeed);
         }
+        return sharedFeed;
     }
 
     /**
-     * Gets the time delay in milliseconds for feed request rate limiting.
+     * Releases a lease of the given {@link SharedFeed} and, once it has no requests in flight, returns its
+     * {@link HistoricalFeed} to the {@link #pool} or invalidates it if it's marked for recycling.
      *
-     * @return a positive number of milliseconds
+     * @param sharedFeed the {@link SharedFeed}
+     * @param recycle    true to mark the {@link SharedFeed} for recycling (e.g. because the response of a cancelled
+     *                   request is still being received on it)
      */
-    protected long getFeedRequestTimeDelayMillis() {
-        return DEFAULT_FEED_REQUEST_TIME_DELAY_MILLIS;
+    private void releaseSharedFeed(SharedFeed sharedFeed, boolean recycle) {
+        final boolean invalidate;
+        synchronized (sharedFeedsLock) {
+            sharedFeed.recycle |= recycle;
+            if (--sharedFeed.inFlightRequests > 0) {
+                return;
+            }
+            sharedFeeds.remove(sharedFeed);
+            invalidate = sharedFeed.recycle;
+        }
+
+        try {
+            if (invalidate) {
+                pool.invalidateObject(sharedFeed.historicalFeed);
+            } else {
+                pool.returnObject(sharedFeed.historicalFeed);
+            }
+        } catch (Exception exception) {
+            LOGGER.error("Could not return HistoricalFeed to the pool!", exception);
+        }
+    }
+
+    /**
+     * Executes the given {@link Runnable} on the {@link #requestExecutor} or runs it on the calling thread if the
+     * {@link #requestExecutor} rejected it.
+     *
+     * @param runnable the {@link Runnable}
+     */
+    private void executeOrRun(Runnable runnable) {
+        try {
+            requestExecutor.execute(runnable);
+        } catch (RejectedExecutionException rejectedExecutionException) {
+            runnable.run();
+        }
+    }
+
+    //
+    // END Asynchronous requests
+    //
+
+    //
+    // START Split range requests
+    //
+
+    /**
+     * Calls {@link #requestTicksSplit(String, LocalDateTime, LocalDateTime, LocalTime, LocalTime, DataDirection,
+     * SplitPeriod, int)} with {@link #DEFAULT_MAX_CONCURRENT_SUB_REQUESTS}.
+     *
+     * @return a {@link CompletableFuture} of the merged {@link List} of {@link Tick}s
+     */
+    public CompletableFuture<List<Tick>> requestTicksSplit(String symbol, LocalDateTime beginDateTime,
+            LocalDateTime endDateTime, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
+            SplitPeriod splitPeriod) {
+        return requestTicksSplit(symbol, beginDateTime, endDateTime, beginFilterTime, endFilterTime, dataDirection,
+                splitPeriod, DEFAULT_MAX_CONCURRENT_SUB_REQUESTS);
+    }
+
+    /**
+     * Requests {@link Tick}s between <code>beginDateTime</code> and <code>endDateTime</code> by splitting the range
+     * into sub-ranges of the given {@link SplitPeriod} and requesting up to <code>maxConcurrentSubRequests</code> of
+     * them concurrently via {@link #requestTicksAsync(String, LocalDateTime, LocalDateTime, Integer, LocalTime,
+     * LocalTime, DataDirection)}, so that they are spread across the connections of this {@link HistoricalFeedPool}
+     * while respecting its rate limit. No thread is blocked while a sub-request is in flight. The {@link Tick}s are
+     * merged in the order of the given <code>dataDirection</code>. Sub-ranges without data (e.g. weekends or holidays)
+     * are skipped.
+     * <br>
+     * If a sub-request fails or the returned {@link CompletableFuture} is cancelled, no further sub-ranges are
+     * requested and the outstanding sub-requests are cancelled.
+     *
+     * @param symbol                   the symbol. Max length of 30 characters.
+     * @param beginDateTime            earliest date/time (Eastern) to receive data for
+     * @param endDateTime              most recent date/time (Eastern) to receive data for
+     * @param beginFilterTime          allows you to specify the earliest time of day (Eastern) for which to receive
+     *                                 data (optional)
+     * @param endFilterTime            allows you to specify the latest time of day (Eastern) for which to receive
+     *                                 data (optional)
+     * @param dataDirection            the data direction (defaults to {@link DataDirection#NEWEST_TO_OLDEST})
+     *                                 (optional)
+     * @param splitPeriod              the {@link SplitPeriod}
+     * @param maxConcurrentSubRequests the maximum number of sub-ranges requested at once
+     *
+     * @return a {@link CompletableFuture} of the merged {@link List} of {@link Tick}s, which completes exceptionally if
+     * any sub-request failed
+     *
+     * @see HistoricalFeed#requestTicks(String, LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime,
+     * DataDirection)
+     */
+    public CompletableFuture<List<Tick>> requestTicksSplit(String symbol, LocalDateTime beginDateTime,
+            LocalDateTime endDateTime, LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection,
+            SplitPeriod splitPeriod, int maxConcurrentSubRequests) {
+        checkNotNull(symbol);
+        checkArgument(maxConcurrentSubRequests > 0, "The maximum concurrent sub-requests must be positive!");
+        List<LocalDateTime[]> subRanges = splitRange(beginDateTime, endDateTime, dataDirection, splitPeriod);
+
+        return new SplitTicksRequest(subRanges, maxConcurrentSubRequests,
+                subRange -> requestTicksSubRange(symbol, subRange, endDateTime, beginFilterTime, endFilterTime,
+                        dataDirection)).start();
+    }
+
+    /**
+     * Same as {@link #requestTicksSplit(String, LocalDateTime, LocalDateTime, LocalTime, LocalTime, DataDirection,
+     * SplitPeriod, int)}, but streams the merged {@link Tick}s so that they can be consumed while later sub-ranges are
+     * still being requested. At most <code>maxConcurrentSubRequests</code> sub-ranges are requested or held ahead of
+     * the consumer at once, which bounds memory use. Closing the returned {@link Stream} stops requesting further
+     * sub-ranges and cancels the outstanding sub-requests.
+     *
+     * @param maxConcurrentSubRequests the maximum number of sub-ranges requested ahead of the consumer
+     *
+     * @return a {@link Stream} of {@link Tick}s, which throws an {@link IQFeedRuntimeException} upon consumption if a
+     * sub-request failed
+     */
+    public Stream<Tick> streamTicksSplit(String symbol, LocalDateTime beginDateTime, LocalDateTime endDateTime,
+            LocalTime beginFilterTime, LocalTime endFilterTime, DataDirection dataDirection, SplitPeriod splitPeriod,
+            int maxConcurrentSubRequests) {
+        checkNotNull(symbol);
+        checkArgument(maxConcurrentSubRequests > 0, "The maximum concurrent sub-requests must be positive!");
+        List<LocalDateTime[]> subRanges = splitRange(beginDateTime, endDateTime, dataDirection, splitPeriod);
+
+        SplitTicksIterator splitTicksIterator = new SplitTicksIterator(subRanges.iterator(), maxConcurrentSubRequests,
+                subRange -> requestTicksSubRange(symbol, subRange, endDateTime, beginFilterTime, endFilterTime,
+                        dataDirection));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(splitTicksIterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(splitTicksIterator::close);
+    }
+
+    /**
+     * Requests the {@link Tick}s of the given <code>subRange</code> via {@link #requestTicksAsync(String,
+     * LocalDateTime, LocalDateTime, Integer, LocalTime, LocalTime, DataDirection)}. A {@link NoDataException} results
+     * in an empty {@link List}. Since adjacent sub-ranges share their boundary date/time and IQFeed range bounds are
+     * inclusive, {@link Tick}s at the end of a sub-range (other than the last one) are removed so that they're only
+     * included once. Cancelling the returned {@link CompletableFuture} cancels the underlying request.
+     *
+     * @return a {@link CompletableFuture} of the {@link List} of {@link Tick}s
+     */
+    private CompletableFuture<List<Tick>> requestTicksSubRange(String symbol, LocalDateTime[] subRange,
+            LocalDateTime endDateTime, LocalTime beginFilterTime, LocalTime endFilterTime,
+            DataDirection dataDirection) {
+        CompletableFuture<List<Tick>> requestFuture = requestTicksAsync(symbol, subRange[0], subRange[1], null,
+                beginFilterTime, endFilterTime, dataDirection);
+        CompletableFuture<List<Tick>> subRangeFuture = new CompletableFuture<>();
+        requestFuture.whenComplete((ticks, throwable) -> {
+            if (throwable == null) {
+                if (!subRange[1].equals(endDateTime)) {
+                    ticks.removeIf(tick -> !tick.getTimestamp().isBefore(subRange[1]));
+                }
+                subRangeFuture.complete(ticks);
+            } else if (unwrapCompletionException(throwable) instanceof NoDataException) {
+                subRangeFuture.complete(Collections.emptyList());
+            } else {
+                subRangeFuture.completeExceptionally(unwrapCompletionException(throwable));
+            }
+        });
+        subRangeFuture.whenComplete((ticks, throwable) -> {
+            if (subRangeFuture.isCancelled()) {
+                requestFuture.cancel(false);
+            }
+        });
+        return subRangeFuture;
+    }
+
+    /**
+     * Unwraps the cause of the given <code>throwable</code> if it's a {@link CompletionException}.
+     *
+     * @param throwable the {@link Throwable}
+     *
+     * @return the unwrapped {@link Throwable}
+     */
+    private static Throwable unwrapCompletionException(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() :
+                throwable;
+    }
+
+    /**
+     * Splits the range between <code>beginDateTime</code> and <code>endDateTime</code> into sub-ranges at the
+     * boundaries of the given {@link SplitPeriod}. Adjacent sub-ranges share their boundary date/time. The sub-ranges
+     * are ordered from oldest to newest if <code>dataDirection</code> is {@link DataDirection#OLDEST_TO_NEWEST} and
+     * from newest to oldest otherwise, so that concatenating their data preserves the <code>dataDirection</code>.
+     *
+     * @return a {@link List} of <code>{begin, end}</code> sub-ranges
+     */
+    private static List<LocalDateTime[]> splitRange(LocalDateTime beginDateTime, LocalDateTime endDateTime,
+            DataDirection dataDirection, SplitPeriod splitPeriod) {
+        checkNotNull(beginDateTime);
+        checkNotNull(endDateTime);
+        checkNotNull(splitPeriod);
+        checkArgument(!endDateTime.isBefore(beginDateTime),
+                "The end date/time must not be before the begin date/time!");
+
+        List<LocalDateTime[]> subRanges = new ArrayList<>();
+        LocalDateTime subRangeBegin = beginDateTime;
+        do {
+            LocalDateTime subRangeEnd = splitPeriod.getNextBoundary(subRangeBegin);
+            if (!subRangeEnd.isBefore(endDateTime)) {
+                subRangeEnd = endDateTime;
+            }
+            subRanges.add(new LocalDateTime[]{subRangeBegin, subRangeEnd});
+            subRangeBegin = subRangeEnd;
+        } while (subRangeBegin.isBefore(endDateTime));
+
+        if (dataDirection != DataDirection.OLDEST_TO_NEWEST) {
+            Collections.reverse(subRanges);
+        }
+        return subRanges;
+    }
+
+    //
+    // END Split range requests
+    //
+
+    /**
+     * Gets {@link #rateLimiter}.
+     *
+     * @return the {@link TokenBucketRateLimiter}
+     */
+    public TokenBucketRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Sets {@link #rateLimiter}, which rate limits all requests of this {@link HistoricalFeedPool}. Defaults to
+     * {@link #createDefaultRateLimiter()}.
+     *
+     * @param rateLimiter the {@link TokenBucketRateLimiter}
+     */
+    public void setRateLimiter(TokenBucketRateLimiter rateLimiter) {
+        checkNotNull(rateLimiter);
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Gets {@link #maxInFlightRequestsPerFeed}.
+     *
+     * @return an int
+     */
+    public int getMaxInFlightRequestsPerFeed() {
+        return maxInFlightRequestsPerFeed;
+    }
+
+    /**
+     * Sets {@link #maxInFlightRequestsPerFeed}, which is the maximum number of asynchronous requests (e.g. of
+     * {@link #requestTicksAsync(String, int, DataDirection)}) that are sent on one {@link HistoricalFeed} at once.
+     * Defaults to {@link #DEFAULT_MAX_IN_FLIGHT_REQUESTS_PER_FEED}.
+     *
+     * @param maxInFlightRequestsPerFeed the maximum number of in-flight requests per {@link HistoricalFeed}
+     */
+    public void setMaxInFlightRequestsPerFeed(int maxInFlightRequestsPerFeed) {
+        checkArgument(maxInFlightRequestsPerFeed > 0, "The maximum in-flight requests per feed must be positive!");
+        this.maxInFlightRequestsPerFeed = maxInFlightRequestsPerFeed;
+    }
+
+    /**
+     * Gets {@link #requestExecutor}.
+     *
+     * @return the {@link Executor}
+     */
+    public Executor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * Sets {@link #requestExecutor}, which runs the requests of {@link #requestAsync(Consumer)}. Defaults to
+     * {@link #createDefaultRequestExecutor()}.
+     *
+     * @param requestExecutor the {@link Executor}
+     */
+    public void setRequestExecutor(Executor requestExecutor) {
+        checkNotNull(requestExecutor);
+        this.requestExecutor = requestExecutor;
+    }
+
+    /**
+     * {@link SplitPeriod} defines the size of the sub-ranges that a split range request is divided into.
+     */
+    public enum SplitPeriod {
+
+        /**
+         * Splits at every midnight. This gives the most parallelism and suits dense data (e.g. ticks of liquid
+         * symbols).
+         */
+        DAY {
+            @Override
+            LocalDateTime getNextBoundary(LocalDateTime dateTime) {
+                return dateTime.toLocalDate().plusDays(1).atStartOfDay();
+            }
+        },
+
+        /**
+         * Splits at every Monday midnight. This makes fewer sub-requests and suits sparse data (e.g. ticks of
+         * illiquid symbols).
+         */
+        WEEK {
+            @Override
+            LocalDateTime getNextBoundary(LocalDateTime dateTime) {
+                return dateTime.toLocalDate().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atStartOfDay();
+            }
+        };
+
+        /**
+         * Gets the first boundary after the given <code>dateTime</code>.
+         *
+         * @param dateTime the {@link LocalDateTime}
+         *
+         * @return the boundary {@link LocalDateTime}
+         */
+        abstract LocalDateTime getNextBoundary(LocalDateTime dateTime);
+    }
+
+    /**
+     * {@link ListenerRequest} makes a listener-based request on a {@link HistoricalFeed}.
+     *
+     * @param <T> the type of message
+     */
+    @FunctionalInterface
+    private interface ListenerRequest<T> {
+
+        /**
+         * Makes the request on the given {@link HistoricalFeed}.
+         *
+         * @param historicalFeed the {@link HistoricalFeed}
+         * @param listener       the {@link MultiMessageListener}
+         *
+         * @throws IOException thrown for {@link IOException}s
+         */
+        void request(HistoricalFeed historicalFeed, MultiMessageListener<T> listener) throws IOException;
+    }
+
+    /**
+     * {@link SharedFeed} is a {@link HistoricalFeed} borrowed from the {@link #pool} that is shared by up to
+     * {@link #maxInFlightRequestsPerFeed} requests.
+     */
+    private static class SharedFeed {
+
+        private final HistoricalFeed historicalFeed;
+        private int inFlightRequests; // Guarded by 'sharedFeedsLock'
+        private boolean recycle; // Guarded by 'sharedFeedsLock'
+
+        /**
+         * Instantiates a new {@link SharedFeed} with one request in flight.
+         *
+         * @param historicalFeed the {@link HistoricalFeed}
+         */
+        public SharedFeed(HistoricalFeed historicalFeed) {
+            this.historicalFeed = historicalFeed;
+            inFlightRequests = 1;
+        }
+    }
+
+    /**
+     * {@link SharedFeedAccumulator} is a {@link MultiMessageListener} that accumulates messages into a {@link List}
+     * and, once the request has ended, releases its {@link SharedFeed} and completes a {@link CompletableFuture} on the
+     * {@link #requestExecutor}, so that neither blocks the thread of the {@link HistoricalFeed}. If the
+     * {@link CompletableFuture} is cancelled first, the {@link SharedFeed} is released and marked for recycling right
+     * away and the remaining messages are discarded.
+     *
+     * @param <T> the type of message
+     */
+    private class SharedFeedAccumulator<T> extends MultiMessageListener<T> {
+
+        private final SharedFeed sharedFeed;
+        private final CompletableFuture<List<T>> listFuture;
+        private final List<T> messages;
+        private final AtomicBoolean ended;
+
+        /**
+         * Instantiates a new {@link SharedFeedAccumulator}.
+         *
+         * @param sharedFeed the {@link SharedFeed}
+         * @param listFuture the {@link CompletableFuture} of the {@link List} of messages
+         */
+        public SharedFeedAccumulator(SharedFeed sharedFeed, CompletableFuture<List<T>> listFuture) {
+            this.sharedFeed = sharedFeed;
+            this.listFuture = listFuture;
+            messages = new ArrayList<>();
+            ended = new AtomicBoolean();
+
+            listFuture.whenComplete((list, throwable) -> {
+                if (listFuture.isCancelled() && ended.compareAndSet(false, true)) {
+                    executeOrRun(() -> releaseSharedFeed(sharedFeed, true));
+                }
+            });
+        }
+
+        @Override
+        public void onMessageReceived(T message) {
+            if (!listFuture.isDone()) { // Discard the remaining messages if cancelled
+                messages.add(message);
+            }
+        }
+
+        @Override
+        public void onMessageException(Exception exception) {
+            if (ended.compareAndSet(false, true)) {
+                executeOrRun(() -> {
+                    releaseSharedFeed(sharedFeed, false);
+                    listFuture.completeExceptionally(exception);
+                });
+            }
+        }
+
+        @Override
+        public void onEndOfMultiMessage() {
+            if (ended.compareAndSet(false, true)) {
+                executeOrRun(() -> {
+                    releaseSharedFeed(sharedFeed, false);
+                    listFuture.complete(messages);
+                });
+            }
+        }
+    }
+
+    /**
+     * {@link SplitTicksIterator} is an {@link Iterator} of the {@link Tick}s of ordered sub-ranges that keeps up to a
+     * maximum number of sub-range requests in flight ahead of the consumer.
+     */
+    private static class SplitTicksIterator implements Iterator<Tick>, AutoCloseable {
+
+        private final Iterator<LocalDateTime[]> subRangeIterator;
+        private final int maxConcurrentSubRequests;
+        private final Function<LocalDateTime[], CompletableFuture<List<Tick>>> subRangeRequester;
+        private final ArrayDeque<CompletableFuture<List<Tick>>> subRequestFutures;
+        private Iterator<Tick> currentTicksIterator;
+        private boolean closed;
+
+        /**
+         * Instantiates a new {@link SplitTicksIterator}.
+         *
+         * @param subRangeIterator         the ordered sub-range {@link Iterator}
+         * @param maxConcurrentSubRequests the maximum number of sub-range requests in flight
+         * @param subRangeRequester        the sub-range requester
+         */
+        public SplitTicksIterator(Iterator<LocalDateTime[]> subRangeIterator, int maxConcurrentSubRequests,
+                Function<LocalDateTime[], CompletableFuture<List<Tick>>> subRangeRequester) {
+            this.subRangeIterator = subRangeIterator;
+            this.maxConcurrentSubRequests = maxConcurrentSubRequests;
+            this.subRangeRequester = subRangeRequester;
+            subRequestFutures = new ArrayDeque<>(maxConcurrentSubRequests);
+            currentTicksIterator = Collections.emptyIterator();
+            fillSubRequests();
+        }
+
+        /**
+         * Requests sub-ranges until {@link #maxConcurrentSubRequests} are in flight or none are left.
+         */
+        private void fillSubRequests() {
+            while (!closed && subRequestFutures.size() < maxConcurrentSubRequests && subRangeIterator.hasNext()) {
+                subRequestFutures.add(subRangeRequester.apply(subRangeIterator.next()));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!currentTicksIterator.hasNext()) {
+                if (closed || subRequestFutures.isEmpty()) {
+                    return false;
+                }
+
+                CompletableFuture<List<Tick>> subRequestFuture = subRequestFutures.poll();
+                fillSubRequests();
+                try {
+                    currentTicksIterator = subRequestFuture.join().iterator();
+                } catch (CompletionException completionException) {
+                    close();
+                    throw completionException.getCause() instanceof IQFeedRuntimeException ?
+                            (IQFeedRuntimeException) completionException.getCause() :
+                            new IQFeedRuntimeException(completionException.getCause());
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Tick next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentTicksIterator.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            subRequestFutures.forEach(subRequestFuture -> subRequestFuture.cancel(false));
+            subRequestFutures.clear();
+            currentTicksIterator = Collections.emptyIterator();
+        }
+    }
+
+    /**
+     * {@link SplitTicksRequest} requests the {@link Tick}s of ordered sub-ranges with up to a maximum number of
+     * sub-range requests in flight and merges them into a single {@link List} in the order of the sub-ranges.
+     */
+    private static class SplitTicksRequest {
+
+        private final List<LocalDateTime[]> subRanges;
+        private final int maxConcurrentSubRequests;
+        private final Function<LocalDateTime[], CompletableFuture<List<Tick>>> subRangeRequester;
+        private final AtomicReferenceArray<CompletableFuture<List<Tick>>> subRequestFutures;
+        private final AtomicInteger nextSubRangeIndex;
+        private final AtomicInteger remainingSubRangeCount;
+        private final CompletableFuture<List<Tick>> ticksFuture;
+
+        /**
+         * Instantiates a new {@link SplitTicksRequest}.
+         *
+         * @param subRanges                the ordered sub-ranges
+         * @param maxConcurrentSubRequests the maximum number of sub-range requests in flight
+         * @param subRangeRequester        the sub-range requester
+         */
+        public SplitTicksRequest(List<LocalDateTime[]> subRanges, int maxConcurrentSubRequests,
+                Function<LocalDateTime[], CompletableFuture<List<Tick>>> subRangeRequester) {
+            this.subRanges = subRanges;
+            this.maxConcurrentSubRequests = maxConcurrentSubRequests;
+            this.subRangeRequester = subRangeRequester;
+            subRequestFutures = new AtomicReferenceArray<>(subRanges.size());
+            nextSubRangeIndex = new AtomicInteger();
+            remainingSubRangeCount = new AtomicInteger(subRanges.size());
+            ticksFuture = new CompletableFuture<>();
+        }
+
+        /**
+         * Requests the first {@link #maxConcurrentSubRequests} sub-ranges. Each completed sub-range request then
+         * requests the next sub-range.
+         *
+         * @return a {@link CompletableFuture} of the merged {@link List} of {@link Tick}s
+         */
+        public CompletableFuture<List<Tick>> start() {
+            // Cancel the outstanding sub-range requests if this fails or is cancelled
+            ticksFuture.whenComplete((ticks, throwable) -> {
+                if (throwable != null) {
+                    for (int index = 0; index < subRequestFutures.length(); index++) {
+                        CompletableFuture<List<Tick>> subRequestFuture = subRequestFutures.get(index);
+                        if (subRequestFuture != null) {
+                            subRequestFuture.cancel(false);
+                        }
+                    }
+                }
+            });
+
+            for (int count = 0; count < maxConcurrentSubRequests; count++) {
+                requestNextSubRange();
+            }
+            return ticksFuture;
+        }
+
+        /**
+         * Requests the next sub-range, if there is one and {@link #ticksFuture} isn't done.
+         */
+        private void requestNextSubRange() {
+            if (ticksFuture.isDone()) {
+                return;
+            }
+            final int index = nextSubRangeIndex.getAndIncrement();
+            if (index >= subRanges.size()) {
+                return;
+            }
+
+            CompletableFuture<List<Tick>> subRequestFuture = subRangeRequester.apply(subRanges.get(index));
+            subRequestFutures.set(index, subRequestFuture);
+            if (ticksFuture.isDone()) { // Completed concurrently before the sub-request future was set
+                subRequestFuture.cancel(false);
+                return;
+            }
+
+            subRequestFuture.whenComplete((ticks, throwable) -> {
+                if (throwable != null) {
+                    ticksFuture.completeExceptionally(unwrapCompletionException(throwable));
+                } else if (remainingSubRangeCount.decrementAndGet() == 0) {
+                    ticksFuture.complete(mergeTicks());
+                } else {
+                    requestNextSubRange();
+                }
+            });
+        }
+
+        /**
+         * Merges the {@link Tick}s of all completed {@link #subRequestFutures} in the order of the sub-ranges.
+         *
+         * @return the merged {@link List} of {@link Tick}s
+         */
+        private List<Tick> mergeTicks() {
+            int tickCount = 0;
+            for (int index = 0; index < subRequestFutures.length(); index++) {
+                tickCount += subRequestFutures.get(index).join().size();
+            }
+            List<Tick> ticks = new ArrayList<>(tickCount);
+            for (int index = 0; index < subRequestFutures.length(); index++) {
+                ticks.addAll(subRequestFutures.get(index).join());
+            }
+            return ticks;
+        }
     }
 
     /**
@@ -147,6 +1094,7 @@ public class HistoricalFeedPool {
         private final String historicalFeedName;
         private final String hostname;
         private final int port;
+        private final FeedEventLoop feedEventLoop;
 
         /**
          * Instantiates a new {@link Factory}.
@@ -156,14 +1104,28 @@ public class HistoricalFeedPool {
          * @param port               the port
          */
         public Factory(String historicalFeedName, String hostname, int port) {
+            this(historicalFeedName, hostname, port, null);
+        }
+
+        /**
+         * Instantiates a new {@link Factory}.
+         *
+         * @param historicalFeedName the {@link HistoricalFeed} name
+         * @param hostname           the hostname
+         * @param port               the port
+         * @param feedEventLoop      the {@link FeedEventLoop} (<code>null</code> for a socket thread per feed)
+         */
+        public Factory(String historicalFeedName, String hostname, int port, FeedEventLoop feedEventLoop) {
             this.historicalFeedName = historicalFeedName;
             this.hostname = hostname;
             this.port = port;
+            this.feedEventLoop = feedEventLoop;
         }
 
         @Override
         public PooledObject<HistoricalFeed> makeObject() throws Exception {
             HistoricalFeed historicalFeed = new HistoricalFeed(historicalFeedName, hostname, port);
+            historicalFeed.setFeedEventLoop(feedEventLoop);
             historicalFeed.start();
             historicalFeed.waitForProtocolVersionValidation(15, TimeUnit.SECONDS);
 
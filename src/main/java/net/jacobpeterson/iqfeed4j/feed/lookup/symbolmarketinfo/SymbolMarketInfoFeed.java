@@ -4,16 +4,20 @@ import net.jacobpeterson.iqfeed4j.feed.lookup.AbstractLookupFeed;
 import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageAccumulator;
 import net.jacobpeterson.iqfeed4j.feed.message.MultiMessageListener;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.ListedMarket;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.ListedMarketCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.NIACCode;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.NIACCodeCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.SICCode;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.SICCodeCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.SecurityType;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.SecurityTypeCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.SymbolSearchResult;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.TradeCondition;
+import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.TradeConditionCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.enums.SearchCodeType;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.enums.SearchField;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.enums.SymbolFilterType;
 import net.jacobpeterson.iqfeed4j.model.feed.lookup.symbolmarketinfo.enums.SymbolMarketInfoCommand;
-import net.jacobpeterson.iqfeed4j.util.csv.mapper.index.IndexCSVMapper;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.index.TrailingIndexCSVMapper;
 import net.jacobpeterson.iqfeed4j.util.string.LineEnding;
 import org.slf4j.Logger;
@@ -42,11 +46,11 @@ public class SymbolMarketInfoFeed extends AbstractLookupFeed {
     protected static final TrailingIndexCSVMapper<SymbolSearchResult> FILTER_SYMBOL_SEARCH_RESULT_CSV_MAPPER;
     protected static final TrailingIndexCSVMapper<SymbolSearchResult> SIC_CODE_SYMBOL_SEARCH_RESULT_CSV_MAPPER;
     protected static final TrailingIndexCSVMapper<SymbolSearchResult> NIAC_CODE_SYMBOL_SEARCH_RESULT_CSV_MAPPER;
-    protected static final IndexCSVMapper<ListedMarket> LISTED_MARKET_CSV_MAPPER;
-    protected static final IndexCSVMapper<SecurityType> SECURITY_TYPE_CSV_MAPPER;
-    protected static final IndexCSVMapper<TradeCondition> TRADE_CONDITION_CSV_MAPPER;
-    protected static final IndexCSVMapper<SICCode> SIC_CODE_CSV_MAPPER;
-    protected static final IndexCSVMapper<NIACCode> NIAC_CODE_CSV_MAPPER;
+    protected static final ListedMarketCSVMapper LISTED_MARKET_CSV_MAPPER;
+    protected static final SecurityTypeCSVMapper SECURITY_TYPE_CSV_MAPPER;
+    protected static final TradeConditionCSVMapper TRADE_CONDITION_CSV_MAPPER;
+    protected static final SICCodeCSVMapper SIC_CODE_CSV_MAPPER;
+    protected static final NIACCodeCSVMapper NIAC_CODE_CSV_MAPPER;
 
     static {
         // Add mappings with CSV indices analogous to line of execution
@@ -71,30 +75,12 @@ public class SymbolMarketInfoFeed extends AbstractLookupFeed {
         NIAC_CODE_SYMBOL_SEARCH_RESULT_CSV_MAPPER.addMapping(SymbolSearchResult::setSecurityTypeID, INTEGER);
         NIAC_CODE_SYMBOL_SEARCH_RESULT_CSV_MAPPER.setTrailingMapping(SymbolSearchResult::setDescription, STRING);
 
-        LISTED_MARKET_CSV_MAPPER = new IndexCSVMapper<>(ListedMarket::new);
-        LISTED_MARKET_CSV_MAPPER.addMapping(ListedMarket::setListedMarketID, INTEGER);
-        LISTED_MARKET_CSV_MAPPER.addMapping(ListedMarket::setShortName, STRING);
-        LISTED_MARKET_CSV_MAPPER.addMapping(ListedMarket::setLongName, STRING);
-        LISTED_MARKET_CSV_MAPPER.addMapping(ListedMarket::setGroupID, INTEGER);
-        LISTED_MARKET_CSV_MAPPER.addMapping(ListedMarket::setShortGroupName, STRING);
-
-        SECURITY_TYPE_CSV_MAPPER = new IndexCSVMapper<>(SecurityType::new);
-        SECURITY_TYPE_CSV_MAPPER.addMapping(SecurityType::setSecurityTypeID, INTEGER);
-        SECURITY_TYPE_CSV_MAPPER.addMapping(SecurityType::setShortName, STRING);
-        SECURITY_TYPE_CSV_MAPPER.addMapping(SecurityType::setLongName, STRING);
-
-        TRADE_CONDITION_CSV_MAPPER = new IndexCSVMapper<>(TradeCondition::new);
-        TRADE_CONDITION_CSV_MAPPER.addMapping(TradeCondition::setTradeConditionID, INTEGER);
-        TRADE_CONDITION_CSV_MAPPER.addMapping(TradeCondition::setShortName, STRING);
-        TRADE_CONDITION_CSV_MAPPER.addMapping(TradeCondition::setLongName, STRING);
-
-        SIC_CODE_CSV_MAPPER = new IndexCSVMapper<>(SICCode::new);
-        SIC_CODE_CSV_MAPPER.addMapping(SICCode::setSICCode, INTEGER);
-        SIC_CODE_CSV_MAPPER.addMapping(SICCode::setDescription, STRING);
-
-        NIAC_CODE_CSV_MAPPER = new IndexCSVMapper<>(NIACCode::new);
-        NIAC_CODE_CSV_MAPPER.addMapping(NIACCode::setNIACCode, INTEGER);
-        NIAC_CODE_CSV_MAPPER.addMapping(NIACCode::setDescription, STRING);
+        // These CSV mappers are generated from the 'csvIndex' properties in 'schema_json/' at build time
+        LISTED_MARKET_CSV_MAPPER = new ListedMarketCSVMapper();
+        SECURITY_TYPE_CSV_MAPPER = new SecurityTypeCSVMapper();
+        TRADE_CONDITION_CSV_MAPPER = new TradeConditionCSVMapper();
+        SIC_CODE_CSV_MAPPER = new SICCodeCSVMapper();
+        NIAC_CODE_CSV_MAPPER = new NIACCodeCSVMapper();
     }
 
     protected final Object messageReceivedLock;
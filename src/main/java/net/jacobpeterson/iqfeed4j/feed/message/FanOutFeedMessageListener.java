@@ -0,0 +1,130 @@
+package net.jacobpeterson.iqfeed4j.feed.message;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link FanOutFeedMessageListener} is a {@link FeedMessageListener} that passes every message to each of its
+ * {@link FeedMessageListener}s in the order they were added, so that a message only has to be parsed once for any
+ * number of {@link FeedMessageListener}s.
+ * <br>
+ * The {@link FeedMessageListener}s are kept in a copy-on-write array, so dispatching a message takes no lock and
+ * doesn't allocate, while adding or removing a {@link FeedMessageListener} copies the array. Note that the same message
+ * instance is passed to every {@link FeedMessageListener}, so {@link FeedMessageListener}s should not mutate it.
+ *
+ * @param <T> the type of message
+ */
+public class FanOutFeedMessageListener<T> implements FeedMessageListener<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FanOutFeedMessageListener.class);
+
+    private final Object listenersLock;
+    private volatile FeedMessageListener<T>[] listeners;
+
+    /**
+     * Instantiates a new {@link FanOutFeedMessageListener}.
+     */
+    @SuppressWarnings("unchecked")
+    public FanOutFeedMessageListener() {
+        listenersLock = new Object();
+        listeners = (FeedMessageListener<T>[]) new FeedMessageListener<?>[0];
+    }
+
+    /**
+     * Adds a {@link FeedMessageListener}. The same {@link FeedMessageListener} may be added more than once, in which
+     * case it receives every message once per addition.
+     *
+     * @param listener the {@link FeedMessageListener}
+     */
+    public void addListener(FeedMessageListener<T> listener) {
+        checkNotNull(listener);
+
+        synchronized (listenersLock) {
+            FeedMessageListener<T>[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+            newListeners[listeners.length] = listener;
+            listeners = newListeners;
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the given {@link FeedMessageListener}.
+     *
+     * @param listener the {@link FeedMessageListener}
+     *
+     * @return true if the <code>listener</code> was removed, false otherwise
+     */
+    public boolean removeListener(FeedMessageListener<T> listener) {
+        synchronized (listenersLock) {
+            for (int index = 0; index < listeners.length; index++) {
+                if (listeners[index] == listener) {
+                    FeedMessageListener<T>[] newListeners = Arrays.copyOf(listeners, listeners.length - 1);
+                    System.arraycopy(listeners, index + 1, newListeners, index, listeners.length - index - 1);
+                    listeners = newListeners;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Passes the given <code>message</code> to every {@link FeedMessageListener}. An {@link Exception} thrown by one
+     * {@link FeedMessageListener} is logged and doesn't prevent delivery to the others.
+     *
+     * @param message the message
+     */
+    @Override
+    public void onMessageReceived(T message) {
+        for (FeedMessageListener<T> listener : listeners) {
+            try {
+                listener.onMessageReceived(message);
+            } catch (Exception exception) {
+                LOGGER.error("Message listener threw an exception!", exception);
+            }
+        }
+    }
+
+    @Override
+    public void onMessageException(Exception exception) {
+        for (FeedMessageListener<T> listener : listeners) {
+            try {
+                listener.onMessageException(exception);
+            } catch (Exception listenerException) {
+                LOGGER.error("Message listener threw an exception!", listenerException);
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the {@link FeedMessageListener}s.
+     *
+     * @return an unmodifiable {@link List} of {@link FeedMessageListener}s
+     */
+    public List<FeedMessageListener<T>> getListeners() {
+        return Collections.unmodifiableList(Arrays.asList(listeners.clone()));
+    }
+
+    /**
+     * Gets the number of {@link FeedMessageListener}s.
+     *
+     * @return an int
+     */
+    public int size() {
+        return listeners.length;
+    }
+
+    /**
+     * Tests if this {@link FanOutFeedMessageListener} has no {@link FeedMessageListener}s.
+     *
+     * @return a boolean
+     */
+    public boolean isEmpty() {
+        return listeners.length == 0;
+    }
+}
@@ -0,0 +1,208 @@
+package net.jacobpeterson.iqfeed4j.feed.message;
+
+import net.jacobpeterson.iqfeed4j.feed.AbstractFeed;
+import net.jacobpeterson.iqfeed4j.feed.exception.IQFeedRuntimeException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@inheritDoc}
+ * <br>
+ * This passes all data/messages through a queue to be consumed by an {@link Iterator} or a {@link Stream} while
+ * they are still being received, so that only about the queue capacity of messages are held in memory at once.
+ * <br>
+ * Once the queue reaches its capacity, reading from the socket of the underlying feed is paused via
+ * {@link AbstractFeed#pauseReading()} (so that IQConnect stops sending) until the consumer has taken half of the
+ * queued messages. The thread that calls this listener is never blocked, so this is safe to use with a
+ * {@link net.jacobpeterson.iqfeed4j.feed.FeedEventLoop} or a {@link net.jacobpeterson.iqfeed4j.feed.FeedDispatcher}
+ * that is shared with other feeds. Messages that were already read when reading is paused are still queued, so the
+ * queue may briefly exceed its capacity. Note that pausing reading also pauses the handling of all other messages of
+ * the underlying feed, so messages should be consumed promptly and this {@link MultiMessageIterator} should be closed
+ * if it isn't exhausted.
+ * <br>
+ * {@link #close()} stops the consumption early: queued messages are dropped and all remaining messages of the request
+ * are discarded as they are received, so that the request still completes normally on the underlying feed.
+ *
+ * @param <T> the type of message
+ */
+public class MultiMessageIterator<T> extends MultiMessageListener<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Object END_OF_MULTI_MESSAGE = new Object();
+
+    protected final int queueCapacity;
+    protected final AbstractFeed feed;
+    protected final BlockingQueue<Object> queue;
+    private final AtomicBoolean readingPaused;
+    private volatile boolean closed;
+    private boolean terminated; // Only accessed by the feed thread
+    private Object nextElement; // Only accessed by the consumer
+
+    /**
+     * Instantiates a new {@link MultiMessageIterator}.
+     *
+     * @param queueCapacity the number of received messages at which reading from the <code>feed</code> is paused
+     * @param feed          the {@link AbstractFeed} that the messages are received on
+     */
+    public MultiMessageIterator(int queueCapacity, AbstractFeed feed) {
+        checkArgument(queueCapacity > 0, "The queue capacity must be positive!");
+        checkNotNull(feed);
+
+        this.queueCapacity = queueCapacity;
+        this.feed = feed;
+        queue = new LinkedBlockingQueue<>();
+        readingPaused = new AtomicBoolean();
+    }
+
+    @Override
+    public void onMessageReceived(T message) {
+        if (!terminated && !closed) {
+            queue.add(message);
+            pauseReadingIfFull();
+        }
+    }
+
+    @Override
+    public void onMessageException(Exception exception) {
+        if (!terminated) {
+            terminated = true;
+            queue.add(new ExceptionElement(exception));
+        }
+    }
+
+    @Override
+    public void onEndOfMultiMessage() {
+        if (!terminated) {
+            terminated = true;
+            queue.add(END_OF_MULTI_MESSAGE);
+        }
+    }
+
+    /**
+     * Pauses reading from the {@link #feed} if the {@link #queue} has reached the {@link #queueCapacity}.
+     */
+    private void pauseReadingIfFull() {
+        if (queue.size() >= queueCapacity && readingPaused.compareAndSet(false, true)) {
+            feed.pauseReading();
+            // The consumer may have drained the queue before 'readingPaused' was set, so check again
+            resumeReadingIfDrained();
+        }
+    }
+
+    /**
+     * Resumes reading from the {@link #feed} if it was paused and the {@link #queue} has been drained to half of the
+     * {@link #queueCapacity} or this {@link MultiMessageIterator} is {@link #closed}.
+     */
+    private void resumeReadingIfDrained() {
+        if ((closed || queue.size() <= queueCapacity / 2) && readingPaused.compareAndSet(true, false)) {
+            feed.resumeReading();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * This blocks until the next message has been received or the request has ended.
+     *
+     * @throws IQFeedRuntimeException thrown if the request failed or the calling thread was interrupted
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextElement == null) {
+            if (closed) {
+                return false;
+            }
+
+            try {
+                nextElement = queue.take();
+                resumeReadingIfDrained();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new IQFeedRuntimeException(interruptedException);
+            }
+        }
+
+        if (nextElement instanceof ExceptionElement) {
+            throw new IQFeedRuntimeException(((ExceptionElement) nextElement).exception);
+        }
+        return nextElement != END_OF_MULTI_MESSAGE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * This blocks until the next message has been received or the request has ended.
+     *
+     * @throws IQFeedRuntimeException thrown if the request failed or the calling thread was interrupted
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T message = (T) nextElement;
+        nextElement = null;
+        return message;
+    }
+
+    /**
+     * Creates a sequential {@link Stream} of this {@link MultiMessageIterator}. Closing the {@link Stream} (e.g. with
+     * a try-with-resources statement) calls {@link #close()}.
+     *
+     * @return a {@link Stream}
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Stops the consumption of messages. All queued and remaining messages of the request are discarded and reading
+     * from the {@link #feed} is resumed if it was paused.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+        nextElement = END_OF_MULTI_MESSAGE;
+        resumeReadingIfDrained();
+    }
+
+    /**
+     * Is {@link #closed}.
+     *
+     * @return a boolean
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * {@link ExceptionElement} wraps an {@link Exception} in the {@link #queue}.
+     */
+    private static class ExceptionElement {
+
+        private final Exception exception;
+
+        /**
+         * Instantiates a new {@link ExceptionElement}.
+         *
+         * @param exception the {@link Exception}
+         */
+        public ExceptionElement(Exception exception) {
+            this.exception = exception;
+        }
+    }
+}
@@ -20,11 +20,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -283,6 +286,77 @@ public class DerivativeFeed extends AbstractServerConnectionFeed {
         checkNotNull(intervalType);
 
         String requestID = requestIDFeedHelper.getNewRequestID();
+        String request = buildIntervalWatchRequest(symbol, intervalLength, beginDateTime, maxDaysOfDataPoints,
+                maxDataPoints, beginFilterTime, endFilterTime, intervalType, updateIntervalDelay, requestID);
+
+        synchronized (messageReceivedLock) {
+            intervalListenerDataOfRequestIDs.put(requestID, new IntervalListenerData(intervalListener, symbol));
+        }
+
+        sendAndLogMessage(request);
+    }
+
+    /**
+     * Requests new interval bar watches for each of the given <code>symbols</code> with the same parameters. This is
+     * the same as calling
+     * {@link #requestIntervalWatch(String, int, LocalDateTime, Integer, Integer, LocalTime, LocalTime, IntervalType,
+     * Integer, FeedMessageListener)} for each symbol, except that the {@link DerivativeCommand#BAR_WATCH} requests are
+     * coalesced into batched socket writes (see {@link #setBulkRequestBatchSize(int)} and
+     * {@link #setBulkRequestBatchDelay(Duration)}).
+     *
+     * @param symbols             the symbols to watch
+     * @param intervalLength      see {@link #requestIntervalWatch(String, int, LocalDateTime, Integer, Integer,
+     *                            LocalTime, LocalTime, IntervalType, Integer, FeedMessageListener)}
+     * @param beginDateTime       the earliest date/time to receive data for (optional)
+     * @param maxDaysOfDataPoints the maximum number of trading days to be retrieved (optional)
+     * @param maxDataPoints       the maximum number of datapoints to be retrieved (optional)
+     * @param beginFilterTime     allows you to specify the earliest time of day (Eastern) for which to receive data.
+     *                            (optional)
+     * @param endFilterTime       allows you to specify the latest time of day (Eastern) for which to receive data.
+     *                            (optional)
+     * @param intervalType        the {@link IntervalType}
+     * @param updateIntervalDelay the number of seconds before sending out an updated bar (defaults to 0) (optional)
+     * @param intervalListener    the {@link FeedMessageListener} of {@link Interval}s for all <code>symbols</code>
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestIntervalWatchAll(Collection<String> symbols, int intervalLength, LocalDateTime beginDateTime,
+            Integer maxDaysOfDataPoints, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
+            IntervalType intervalType, Integer updateIntervalDelay, FeedMessageListener<Interval> intervalListener)
+            throws IOException {
+        checkNotNull(symbols);
+        checkNotNull(intervalType);
+
+        List<String> requests = new ArrayList<>(symbols.size());
+        Map<String, IntervalListenerData> intervalListenerDataOfNewRequestIDs = new HashMap<>();
+        for (String symbol : symbols) {
+            checkNotNull(symbol);
+
+            String requestID = requestIDFeedHelper.getNewRequestID();
+            requests.add(buildIntervalWatchRequest(symbol, intervalLength, beginDateTime, maxDaysOfDataPoints,
+                    maxDataPoints, beginFilterTime, endFilterTime, intervalType, updateIntervalDelay, requestID));
+            intervalListenerDataOfNewRequestIDs.put(requestID, new IntervalListenerData(intervalListener, symbol));
+        }
+
+        synchronized (messageReceivedLock) {
+            intervalListenerDataOfRequestIDs.putAll(intervalListenerDataOfNewRequestIDs);
+        }
+
+        LOGGER.debug("Watching intervals of {} symbols.", requests.size());
+        sendMessages(requests);
+    }
+
+    /**
+     * Builds a {@link DerivativeCommand#BAR_WATCH} request.
+     *
+     * @return the request
+     *
+     * @see #requestIntervalWatch(String, int, LocalDateTime, Integer, Integer, LocalTime, LocalTime, IntervalType,
+     * Integer, FeedMessageListener)
+     */
+    private String buildIntervalWatchRequest(String symbol, int intervalLength, LocalDateTime beginDateTime,
+            Integer maxDaysOfDataPoints, Integer maxDataPoints, LocalTime beginFilterTime, LocalTime endFilterTime,
+            IntervalType intervalType, Integer updateIntervalDelay, String requestID) {
         StringBuilder requestBuilder = new StringBuilder();
 
         requestBuilder.append(DerivativeCommand.BAR_WATCH.value()).append(",");
@@ -324,11 +398,7 @@ public class DerivativeFeed extends AbstractServerConnectionFeed {
 
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
-        synchronized (messageReceivedLock) {
-            intervalListenerDataOfRequestIDs.put(requestID, new IntervalListenerData(intervalListener, symbol));
-        }
-
-        sendAndLogMessage(requestBuilder.toString());
+        return requestBuilder.toString();
     }
 
     /**
@@ -440,6 +510,44 @@ public class DerivativeFeed extends AbstractServerConnectionFeed {
         sendAndLogMessage(requestBuilder.toString());
     }
 
+    /**
+     * Removes the interval watches of the given <code>symbols</code>. This is the same as calling
+     * {@link #requestIntervalWatchRemoval(String)} for each symbol, except that the
+     * {@link DerivativeCommand#BAR_REMOVE} requests are coalesced into batched socket writes (see
+     * {@link #setBulkRequestBatchSize(int)} and {@link #setBulkRequestBatchDelay(Duration)}).
+     *
+     * @param symbols the symbols to unwatch
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestUnwatchAll(Collection<String> symbols) throws IOException {
+        checkNotNull(symbols);
+        Set<String> symbolsToRemove = new HashSet<>(symbols);
+
+        List<String> requests = new ArrayList<>();
+        synchronized (messageReceivedLock) {
+            Iterator<Map.Entry<String, IntervalListenerData>> entryIterator =
+                    intervalListenerDataOfRequestIDs.entrySet().iterator();
+            while (entryIterator.hasNext()) {
+                Map.Entry<String, IntervalListenerData> entry = entryIterator.next();
+                String requestID = entry.getKey();
+                String symbol = entry.getValue().getSymbol();
+                if (!symbolsToRemove.contains(symbol)) {
+                    continue;
+                }
+
+                requests.add(DerivativeCommand.BAR_REMOVE.value() + "," + symbol + "," + requestID +
+                        LineEnding.CR_LF.getASCIIString());
+
+                entryIterator.remove();
+                requestIDFeedHelper.removeRequestID(requestID);
+            }
+        }
+
+        LOGGER.debug("Removing {} interval watches.", requests.size());
+        sendMessages(requests);
+    }
+
     //
     // END Feed commands
     //
@@ -0,0 +1,396 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.feed.message.FeedMessageListener;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link ConflatingSummaryUpdateListener} is a {@link FeedMessageListener} of {@link SummaryUpdate}s for a single
+ * symbol that conflates {@link SummaryUpdate}s for a slow consumer. Received {@link SummaryUpdate}s are merged into a
+ * single pending {@link SummaryUpdate} (see {@link #merge(SummaryUpdate, SummaryUpdate)}), which is delivered to the
+ * underlying {@link FeedMessageListener} on an {@link Executor} once the underlying {@link FeedMessageListener} is
+ * ready for it. While the underlying {@link FeedMessageListener} is busy, intermediate {@link SummaryUpdate}s are
+ * skipped instead of queued, so memory use is bounded to one pending {@link SummaryUpdate} per symbol and the
+ * underlying {@link FeedMessageListener} always receives the latest merged state.
+ * <br>
+ * Received {@link SummaryUpdate}s are never modified (e.g. so that they can be shared with other listeners of the same
+ * symbol): {@link SummaryUpdate}s are merged into a copy that is owned by this {@link FeedMessageListener}.
+ * <br>
+ * The underlying {@link FeedMessageListener} is never called concurrently and is called in the order that
+ * {@link SummaryUpdate}s were received.
+ */
+public class ConflatingSummaryUpdateListener implements FeedMessageListener<SummaryUpdate> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConflatingSummaryUpdateListener.class);
+
+    private final FeedMessageListener<SummaryUpdate> summaryUpdateListener;
+    private final Executor executor;
+    private final Runnable deliverPendingTask;
+    private final Object pendingLock;
+    private SummaryUpdate pendingSummaryUpdate;
+    private boolean pendingSummaryUpdateOwned;
+    private Exception pendingException;
+    private boolean deliveryScheduled;
+    private long conflatedCount;
+
+    /**
+     * Instantiates a new {@link ConflatingSummaryUpdateListener}.
+     *
+     * @param summaryUpdateListener the underlying {@link FeedMessageListener} of conflated {@link SummaryUpdate}s
+     * @param executor              the {@link Executor} that calls the <code>summaryUpdateListener</code>
+     */
+    public ConflatingSummaryUpdateListener(FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            Executor executor) {
+        checkNotNull(summaryUpdateListener);
+        checkNotNull(executor);
+
+        this.summaryUpdateListener = summaryUpdateListener;
+        this.executor = executor;
+        deliverPendingTask = this::deliverPending;
+        pendingLock = new Object();
+    }
+
+    @Override
+    public void onMessageReceived(SummaryUpdate summaryUpdate) {
+        synchronized (pendingLock) {
+            if (pendingSummaryUpdate == null) {
+                // Deliver the received instance as-is unless another one needs to be merged into it
+                pendingSummaryUpdate = summaryUpdate;
+                pendingSummaryUpdateOwned = false;
+            } else {
+                if (!pendingSummaryUpdateOwned) {
+                    // Keep the primitive-backed type (and price scale) so that consumers of it don't see boxed values
+                    SummaryUpdate ownedSummaryUpdate = pendingSummaryUpdate instanceof PrimitiveSummaryUpdate ?
+                            new PrimitiveSummaryUpdate(
+                                    ((PrimitiveSummaryUpdate) pendingSummaryUpdate).getPriceScale()) :
+                            new SummaryUpdate();
+                    merge(ownedSummaryUpdate, pendingSummaryUpdate);
+                    pendingSummaryUpdate = ownedSummaryUpdate;
+                    pendingSummaryUpdateOwned = true;
+                }
+                merge(pendingSummaryUpdate, summaryUpdate);
+                conflatedCount++;
+            }
+
+            scheduleDelivery();
+        }
+    }
+
+    @Override
+    public void onMessageException(Exception exception) {
+        synchronized (pendingLock) {
+            pendingException = exception;
+            scheduleDelivery();
+        }
+    }
+
+    /**
+     * Schedules {@link #deliverPending()} on the {@link #executor} if it isn't already scheduled or running. This
+     * must be called while holding {@link #pendingLock}.
+     */
+    private void scheduleDelivery() {
+        if (!deliveryScheduled) {
+            deliveryScheduled = true;
+            executor.execute(deliverPendingTask);
+        }
+    }
+
+    /**
+     * Delivers the {@link #pendingSummaryUpdate} and then the {@link #pendingException} until there are none left.
+     */
+    private void deliverPending() {
+        while (true) {
+            SummaryUpdate summaryUpdate;
+            Exception exception;
+            synchronized (pendingLock) {
+                summaryUpdate = pendingSummaryUpdate;
+                exception = pendingException;
+                pendingSummaryUpdate = null;
+                pendingException = null;
+
+                if (summaryUpdate == null && exception == null) {
+                    deliveryScheduled = false;
+                    return;
+                }
+            }
+
+            if (summaryUpdate != null) {
+                try {
+                    summaryUpdateListener.onMessageReceived(summaryUpdate);
+                } catch (Exception listenerException) {
+                    LOGGER.error("Conflated SummaryUpdate listener error!", listenerException);
+                }
+            }
+            if (exception != null) {
+                summaryUpdateListener.onMessageException(exception);
+            }
+        }
+    }
+
+    /**
+     * Merges the given <code>source</code> {@link SummaryUpdate} into the given <code>target</code>
+     * {@link SummaryUpdate}. Every non-null field of <code>source</code> (including {@link SummaryUpdate#getSymbol()}
+     * and {@link SummaryUpdate#getType()}) overwrites the field in <code>target</code>, and
+     * {@link SummaryUpdate#getMessageContents()} becomes the union of both, so that it describes everything that
+     * changed since the last delivered {@link SummaryUpdate}. The <code>source</code> {@link SummaryUpdate} is not
+     * modified and no mutable state is shared with it, so merging into a new {@link SummaryUpdate} creates a copy.
+     *
+     * @param target the target {@link SummaryUpdate}
+     * @param source the source {@link SummaryUpdate}
+     */
+    public static void merge(SummaryUpdate target, SummaryUpdate source) {
+        if (source.get7DayYield() != null) {
+            target.set7DayYield(source.get7DayYield());
+        }
+        if (source.getAsk() != null) {
+            target.setAsk(source.getAsk());
+        }
+        if (source.getAskChange() != null) {
+            target.setAskChange(source.getAskChange());
+        }
+        if (source.getAskMarketCenter() != null) {
+            target.setAskMarketCenter(source.getAskMarketCenter());
+        }
+        if (source.getAskSize() != null) {
+            target.setAskSize(source.getAskSize());
+        }
+        if (source.getAskTime() != null) {
+            target.setAskTime(source.getAskTime());
+        }
+        if (source.getAvailableRegions() != null) {
+            target.setAvailableRegions(source.getAvailableRegions());
+        }
+        if (source.getAverageMaturity() != null) {
+            target.setAverageMaturity(source.getAverageMaturity());
+        }
+        if (source.getBid() != null) {
+            target.setBid(source.getBid());
+        }
+        if (source.getBidChange() != null) {
+            target.setBidChange(source.getBidChange());
+        }
+        if (source.getBidMarketCenter() != null) {
+            target.setBidMarketCenter(source.getBidMarketCenter());
+        }
+        if (source.getBidSize() != null) {
+            target.setBidSize(source.getBidSize());
+        }
+        if (source.getBidTime() != null) {
+            target.setBidTime(source.getBidTime());
+        }
+        if (source.getChange() != null) {
+            target.setChange(source.getChange());
+        }
+        if (source.getChangeFromOpen() != null) {
+            target.setChangeFromOpen(source.getChangeFromOpen());
+        }
+        if (source.getClose() != null) {
+            target.setClose(source.getClose());
+        }
+        if (source.getCloseRange1() != null) {
+            target.setCloseRange1(source.getCloseRange1());
+        }
+        if (source.getCloseRange2() != null) {
+            target.setCloseRange2(source.getCloseRange2());
+        }
+        if (source.getDaysToExpiration() != null) {
+            target.setDaysToExpiration(source.getDaysToExpiration());
+        }
+        if (source.getDecimalPrecision() != null) {
+            target.setDecimalPrecision(source.getDecimalPrecision());
+        }
+        if (source.getDelay() != null) {
+            target.setDelay(source.getDelay());
+        }
+        if (source.getExchangeID() != null) {
+            target.setExchangeID(source.getExchangeID());
+        }
+        if (source.getExtendedTrade() != null) {
+            target.setExtendedTrade(source.getExtendedTrade());
+        }
+        if (source.getExtendedTradeDate() != null) {
+            target.setExtendedTradeDate(source.getExtendedTradeDate());
+        }
+        if (source.getExtendedTradeMarketCenter() != null) {
+            target.setExtendedTradeMarketCenter(source.getExtendedTradeMarketCenter());
+        }
+        if (source.getExtendedTradeSize() != null) {
+            target.setExtendedTradeSize(source.getExtendedTradeSize());
+        }
+        if (source.getExtendedTradeTime() != null) {
+            target.setExtendedTradeTime(source.getExtendedTradeTime());
+        }
+        if (source.getExtendedTradingChange() != null) {
+            target.setExtendedTradingChange(source.getExtendedTradingChange());
+        }
+        if (source.getExtendedTradingDifference() != null) {
+            target.setExtendedTradingDifference(source.getExtendedTradingDifference());
+        }
+        if (source.getFinancialStatusIndicator() != null) {
+            target.setFinancialStatusIndicator(source.getFinancialStatusIndicator());
+        }
+        if (source.getFractionDisplayCode() != null) {
+            target.setFractionDisplayCode(source.getFractionDisplayCode());
+        }
+        if (source.getHigh() != null) {
+            target.setHigh(source.getHigh());
+        }
+        if (source.getLast() != null) {
+            target.setLast(source.getLast());
+        }
+        if (source.getLastDate() != null) {
+            target.setLastDate(source.getLastDate());
+        }
+        if (source.getLastMarketCenter() != null) {
+            target.setLastMarketCenter(source.getLastMarketCenter());
+        }
+        if (source.getLastSize() != null) {
+            target.setLastSize(source.getLastSize());
+        }
+        if (source.getLastTime() != null) {
+            target.setLastTime(source.getLastTime());
+        }
+        if (source.getLow() != null) {
+            target.setLow(source.getLow());
+        }
+        if (source.getMarketCapitalization() != null) {
+            target.setMarketCapitalization(source.getMarketCapitalization());
+        }
+        if (source.getMarketOpen() != null) {
+            target.setMarketOpen(source.getMarketOpen());
+        }
+        if (source.getMostRecentTrade() != null) {
+            target.setMostRecentTrade(source.getMostRecentTrade());
+        }
+        if (source.getMostRecentTradeAggressor() != null) {
+            target.setMostRecentTradeAggressor(source.getMostRecentTradeAggressor());
+        }
+        if (source.getMostRecentTradeConditions() != null) {
+            target.setMostRecentTradeConditions(source.getMostRecentTradeConditions());
+        }
+        if (source.getMostRecentTradeDate() != null) {
+            target.setMostRecentTradeDate(source.getMostRecentTradeDate());
+        }
+        if (source.getMostRecentTradeDayCode() != null) {
+            target.setMostRecentTradeDayCode(source.getMostRecentTradeDayCode());
+        }
+        if (source.getMostRecentTradeMarketCenter() != null) {
+            target.setMostRecentTradeMarketCenter(source.getMostRecentTradeMarketCenter());
+        }
+        if (source.getMostRecentTradeSize() != null) {
+            target.setMostRecentTradeSize(source.getMostRecentTradeSize());
+        }
+        if (source.getMostRecentTradeTime() != null) {
+            target.setMostRecentTradeTime(source.getMostRecentTradeTime());
+        }
+        if (source.getNetAssetValue() != null) {
+            target.setNetAssetValue(source.getNetAssetValue());
+        }
+        if (source.getNumberOfTradesToday() != null) {
+            target.setNumberOfTradesToday(source.getNumberOfTradesToday());
+        }
+        if (source.getOpen() != null) {
+            target.setOpen(source.getOpen());
+        }
+        if (source.getOpenInterest() != null) {
+            target.setOpenInterest(source.getOpenInterest());
+        }
+        if (source.getOpenRange1() != null) {
+            target.setOpenRange1(source.getOpenRange1());
+        }
+        if (source.getOpenRange2() != null) {
+            target.setOpenRange2(source.getOpenRange2());
+        }
+        if (source.getPercentChange() != null) {
+            target.setPercentChange(source.getPercentChange());
+        }
+        if (source.getPercentOffAverageVolume() != null) {
+            target.setPercentOffAverageVolume(source.getPercentOffAverageVolume());
+        }
+        if (source.getPreviousDayVolume() != null) {
+            target.setPreviousDayVolume(source.getPreviousDayVolume());
+        }
+        if (source.getPriceEarningsRatio() != null) {
+            target.setPriceEarningsRatio(source.getPriceEarningsRatio());
+        }
+        if (source.getRange() != null) {
+            target.setRange(source.getRange());
+        }
+        if (source.getRestrictedCode() != null) {
+            target.setRestrictedCode(source.getRestrictedCode());
+        }
+        if (source.getSettle() != null) {
+            target.setSettle(source.getSettle());
+        }
+        if (source.getSettlementDate() != null) {
+            target.setSettlementDate(source.getSettlementDate());
+        }
+        if (source.getSpread() != null) {
+            target.setSpread(source.getSpread());
+        }
+        if (source.getTick() != null) {
+            target.setTick(source.getTick());
+        }
+        if (source.getTickID() != null) {
+            target.setTickID(source.getTickID());
+        }
+        if (source.getTotalVolume() != null) {
+            target.setTotalVolume(source.getTotalVolume());
+        }
+        if (source.getVolatility() != null) {
+            target.setVolatility(source.getVolatility());
+        }
+        if (source.getVwap() != null) {
+            target.setVwap(source.getVwap());
+        }
+
+        if (source.getSymbol() != null) {
+            target.setSymbol(source.getSymbol());
+        }
+        if (source.getType() != null) {
+            target.setType(source.getType());
+        }
+        if (source.getMessageContents() != null) {
+            if (target.getMessageContents() == null) {
+                target.setMessageContents(new ArrayList<>(source.getMessageContents()));
+            } else {
+                List<SummaryUpdateContent> mergedMessageContents = new ArrayList<>(target.getMessageContents());
+                for (SummaryUpdateContent messageContent : source.getMessageContents()) {
+                    if (!mergedMessageContents.contains(messageContent)) {
+                        mergedMessageContents.add(messageContent);
+                    }
+                }
+                target.setMessageContents(mergedMessageContents);
+            }
+        }
+    }
+
+    /**
+     * Gets {@link #summaryUpdateListener}.
+     *
+     * @return the underlying {@link FeedMessageListener}
+     */
+    public FeedMessageListener<SummaryUpdate> getSummaryUpdateListener() {
+        return summaryUpdateListener;
+    }
+
+    /**
+     * Gets the number of {@link SummaryUpdate}s that were merged into a pending {@link SummaryUpdate} instead of being
+     * delivered individually.
+     *
+     * @return a long
+     */
+    public long getConflatedCount() {
+        synchronized (pendingLock) {
+            return conflatedCount;
+        }
+    }
+}
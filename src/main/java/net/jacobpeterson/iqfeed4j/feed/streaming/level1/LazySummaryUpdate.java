@@ -0,0 +1,1048 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1Feed.SummaryUpdateDecodeMode;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateContent;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMappingException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField.*;
+import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueNotWhitespace;
+
+/**
+ * {@link LazySummaryUpdate} is a {@link SummaryUpdate} that is backed by its raw CSV message and the current
+ * {@link SummaryUpdateField} layout of summary/update messages. A field is only decoded when its getter is first
+ * called, so fields that a consumer never reads (e.g. dates, times, or {@link #getMessageContents()} when only
+ * {@link #getBid()} and {@link #getAsk()} are read) are never decoded. Calling a setter marks its field as decoded, so
+ * a set value is never overwritten by the raw CSV message.
+ * <br>
+ * Unlike an eagerly mapped {@link SummaryUpdate}, a malformed CSV value throws a {@link CSVMappingException} from its
+ * getter instead of the entire message being dropped. Since the getters mutate internal state, this class is not
+ * thread-safe, even for concurrent reads.
+ *
+ * @see SummaryUpdateDecodeMode#LAZY
+ */
+public class LazySummaryUpdate extends SummaryUpdate {
+
+    private static final long serialVersionUID = 1L;
+    private static final SummaryUpdateField[] SUMMARY_UPDATE_FIELDS = SummaryUpdateField.values();
+
+    private final transient Layout layout;
+    private final transient CSVRecord csvRecord;
+    private final transient String[] csv;
+    private final long[] decodedFieldMasks;
+
+    /**
+     * Instantiates a new {@link LazySummaryUpdate}.
+     *
+     * @param layout    the {@link Layout}
+     * @param csvRecord the {@link CSVRecord} that this {@link LazySummaryUpdate} owns (see {@link CSVRecord#copy()})
+     */
+    LazySummaryUpdate(Layout layout, CSVRecord csvRecord) {
+        this(layout, checkNotNull(csvRecord), null);
+    }
+
+    /**
+     * Instantiates a new {@link LazySummaryUpdate}.
+     *
+     * @param layout the {@link Layout}
+     * @param csv    the CSV
+     */
+    LazySummaryUpdate(Layout layout, String[] csv) {
+        this(layout, null, checkNotNull(csv));
+    }
+
+    /**
+     * Instantiates a new {@link LazySummaryUpdate}.
+     *
+     * @param layout    the {@link Layout}
+     * @param csvRecord the {@link CSVRecord} or <code>null</code>
+     * @param csv       the CSV or <code>null</code>
+     */
+    private LazySummaryUpdate(Layout layout, CSVRecord csvRecord, String[] csv) {
+        this.layout = checkNotNull(layout);
+        this.csvRecord = csvRecord;
+        this.csv = csv;
+        decodedFieldMasks = new long[(SUMMARY_UPDATE_FIELDS.length + 63) / 64];
+    }
+
+    /**
+     * Decodes the given {@link SummaryUpdateField} from the raw CSV message, if it hasn't been decoded or set already.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @throws CSVMappingException thrown for {@link CSVMappingException}s
+     */
+    private void decode(SummaryUpdateField summaryUpdateField) {
+        final int ordinal = summaryUpdateField.ordinal();
+        if ((decodedFieldMasks[ordinal >>> 6] & (1L << ordinal)) != 0) {
+            return;
+        }
+        decodedFieldMasks[ordinal >>> 6] |= 1L << ordinal;
+
+        final int csvIndex = layout.csvIndicesOfFields[ordinal];
+        if (csvIndex < 0) {
+            return;
+        }
+
+        // apply() could throw a variety of exceptions
+        try {
+            if (csvRecord != null) {
+                if (valueNotWhitespace(csvRecord, csvIndex)) {
+                    layout.csvMappingsOfFields[ordinal].apply(this, csvRecord, csvIndex);
+                }
+            } else if (valueNotWhitespace(csv, csvIndex)) {
+                layout.csvMappingsOfFields[ordinal].apply(this, csv[csvIndex]);
+            }
+        } catch (Exception exception) {
+            throw new CSVMappingException(csvIndex, exception);
+        }
+    }
+
+    /**
+     * Marks the given {@link SummaryUpdateField} as decoded.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     */
+    private void markDecoded(SummaryUpdateField summaryUpdateField) {
+        final int ordinal = summaryUpdateField.ordinal();
+        decodedFieldMasks[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    /**
+     * Decodes all fields that haven't been decoded or set already.
+     *
+     * @throws CSVMappingException thrown for {@link CSVMappingException}s
+     */
+    public void decodeAll() {
+        for (SummaryUpdateField summaryUpdateField : SUMMARY_UPDATE_FIELDS) {
+            decode(summaryUpdateField);
+        }
+    }
+
+    /**
+     * Decodes all fields before serialization, since the raw CSV message isn't serialized.
+     *
+     * @return this {@link LazySummaryUpdate}
+     */
+    private Object writeReplace() {
+        decodeAll();
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        decodeAll();
+        return super.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        decodeAll();
+        if (other instanceof LazySummaryUpdate) {
+            ((LazySummaryUpdate) other).decodeAll();
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        decodeAll();
+        return super.hashCode();
+    }
+
+    //
+    // START Lazily decoded getters and setters
+    //
+
+    @Override
+    public Double get7DayYield() {
+        decode(SEVEN_DAY_YIELD);
+        return super.get7DayYield();
+    }
+
+    @Override
+    public void set7DayYield(Double sevenDayYield) {
+        markDecoded(SEVEN_DAY_YIELD);
+        super.set7DayYield(sevenDayYield);
+    }
+
+    @Override
+    public Double getAsk() {
+        decode(ASK);
+        return super.getAsk();
+    }
+
+    @Override
+    public void setAsk(Double ask) {
+        markDecoded(ASK);
+        super.setAsk(ask);
+    }
+
+    @Override
+    public Double getAskChange() {
+        decode(ASK_CHANGE);
+        return super.getAskChange();
+    }
+
+    @Override
+    public void setAskChange(Double askChange) {
+        markDecoded(ASK_CHANGE);
+        super.setAskChange(askChange);
+    }
+
+    @Override
+    public Integer getAskMarketCenter() {
+        decode(ASK_MARKET_CENTER);
+        return super.getAskMarketCenter();
+    }
+
+    @Override
+    public void setAskMarketCenter(Integer askMarketCenter) {
+        markDecoded(ASK_MARKET_CENTER);
+        super.setAskMarketCenter(askMarketCenter);
+    }
+
+    @Override
+    public Integer getAskSize() {
+        decode(ASK_SIZE);
+        return super.getAskSize();
+    }
+
+    @Override
+    public void setAskSize(Integer askSize) {
+        markDecoded(ASK_SIZE);
+        super.setAskSize(askSize);
+    }
+
+    @Override
+    public LocalTime getAskTime() {
+        decode(ASK_TIME);
+        return super.getAskTime();
+    }
+
+    @Override
+    public void setAskTime(LocalTime askTime) {
+        markDecoded(ASK_TIME);
+        super.setAskTime(askTime);
+    }
+
+    @Override
+    public String getAvailableRegions() {
+        decode(AVAILABLE_REGIONS);
+        return super.getAvailableRegions();
+    }
+
+    @Override
+    public void setAvailableRegions(String availableRegions) {
+        markDecoded(AVAILABLE_REGIONS);
+        super.setAvailableRegions(availableRegions);
+    }
+
+    @Override
+    public Double getAverageMaturity() {
+        decode(AVERAGE_MATURITY);
+        return super.getAverageMaturity();
+    }
+
+    @Override
+    public void setAverageMaturity(Double averageMaturity) {
+        markDecoded(AVERAGE_MATURITY);
+        super.setAverageMaturity(averageMaturity);
+    }
+
+    @Override
+    public Double getBid() {
+        decode(BID);
+        return super.getBid();
+    }
+
+    @Override
+    public void setBid(Double bid) {
+        markDecoded(BID);
+        super.setBid(bid);
+    }
+
+    @Override
+    public Double getBidChange() {
+        decode(BID_CHANGE);
+        return super.getBidChange();
+    }
+
+    @Override
+    public void setBidChange(Double bidChange) {
+        markDecoded(BID_CHANGE);
+        super.setBidChange(bidChange);
+    }
+
+    @Override
+    public Integer getBidMarketCenter() {
+        decode(BID_MARKET_CENTER);
+        return super.getBidMarketCenter();
+    }
+
+    @Override
+    public void setBidMarketCenter(Integer bidMarketCenter) {
+        markDecoded(BID_MARKET_CENTER);
+        super.setBidMarketCenter(bidMarketCenter);
+    }
+
+    @Override
+    public Integer getBidSize() {
+        decode(BID_SIZE);
+        return super.getBidSize();
+    }
+
+    @Override
+    public void setBidSize(Integer bidSize) {
+        markDecoded(BID_SIZE);
+        super.setBidSize(bidSize);
+    }
+
+    @Override
+    public LocalTime getBidTime() {
+        decode(BID_TIME);
+        return super.getBidTime();
+    }
+
+    @Override
+    public void setBidTime(LocalTime bidTime) {
+        markDecoded(BID_TIME);
+        super.setBidTime(bidTime);
+    }
+
+    @Override
+    public Double getChange() {
+        decode(CHANGE);
+        return super.getChange();
+    }
+
+    @Override
+    public void setChange(Double change) {
+        markDecoded(CHANGE);
+        super.setChange(change);
+    }
+
+    @Override
+    public Double getChangeFromOpen() {
+        decode(CHANGE_FROM_OPEN);
+        return super.getChangeFromOpen();
+    }
+
+    @Override
+    public void setChangeFromOpen(Double changeFromOpen) {
+        markDecoded(CHANGE_FROM_OPEN);
+        super.setChangeFromOpen(changeFromOpen);
+    }
+
+    @Override
+    public Double getClose() {
+        decode(CLOSE);
+        return super.getClose();
+    }
+
+    @Override
+    public void setClose(Double close) {
+        markDecoded(CLOSE);
+        super.setClose(close);
+    }
+
+    @Override
+    public Double getCloseRange1() {
+        decode(CLOSE_RANGE_1);
+        return super.getCloseRange1();
+    }
+
+    @Override
+    public void setCloseRange1(Double closeRange1) {
+        markDecoded(CLOSE_RANGE_1);
+        super.setCloseRange1(closeRange1);
+    }
+
+    @Override
+    public Double getCloseRange2() {
+        decode(CLOSE_RANGE_2);
+        return super.getCloseRange2();
+    }
+
+    @Override
+    public void setCloseRange2(Double closeRange2) {
+        markDecoded(CLOSE_RANGE_2);
+        super.setCloseRange2(closeRange2);
+    }
+
+    @Override
+    public String getDaysToExpiration() {
+        decode(DAYS_TO_EXPIRATION);
+        return super.getDaysToExpiration();
+    }
+
+    @Override
+    public void setDaysToExpiration(String daysToExpiration) {
+        markDecoded(DAYS_TO_EXPIRATION);
+        super.setDaysToExpiration(daysToExpiration);
+    }
+
+    @Override
+    public String getDecimalPrecision() {
+        decode(DECIMAL_PRECISION);
+        return super.getDecimalPrecision();
+    }
+
+    @Override
+    public void setDecimalPrecision(String decimalPrecision) {
+        markDecoded(DECIMAL_PRECISION);
+        super.setDecimalPrecision(decimalPrecision);
+    }
+
+    @Override
+    public Integer getDelay() {
+        decode(DELAY);
+        return super.getDelay();
+    }
+
+    @Override
+    public void setDelay(Integer delay) {
+        markDecoded(DELAY);
+        super.setDelay(delay);
+    }
+
+    @Override
+    public Integer getExchangeID() {
+        decode(EXCHANGE_ID);
+        return super.getExchangeID();
+    }
+
+    @Override
+    public void setExchangeID(Integer exchangeID) {
+        markDecoded(EXCHANGE_ID);
+        super.setExchangeID(exchangeID);
+    }
+
+    @Override
+    public Double getExtendedTrade() {
+        decode(EXTENDED_TRADE);
+        return super.getExtendedTrade();
+    }
+
+    @Override
+    public void setExtendedTrade(Double extendedTrade) {
+        markDecoded(EXTENDED_TRADE);
+        super.setExtendedTrade(extendedTrade);
+    }
+
+    @Override
+    public LocalDate getExtendedTradeDate() {
+        decode(EXTENDED_TRADE_DATE);
+        return super.getExtendedTradeDate();
+    }
+
+    @Override
+    public void setExtendedTradeDate(LocalDate extendedTradeDate) {
+        markDecoded(EXTENDED_TRADE_DATE);
+        super.setExtendedTradeDate(extendedTradeDate);
+    }
+
+    @Override
+    public Integer getExtendedTradeMarketCenter() {
+        decode(EXTENDED_TRADE_MARKET_CENTER);
+        return super.getExtendedTradeMarketCenter();
+    }
+
+    @Override
+    public void setExtendedTradeMarketCenter(Integer extendedTradeMarketCenter) {
+        markDecoded(EXTENDED_TRADE_MARKET_CENTER);
+        super.setExtendedTradeMarketCenter(extendedTradeMarketCenter);
+    }
+
+    @Override
+    public Integer getExtendedTradeSize() {
+        decode(EXTENDED_TRADE_SIZE);
+        return super.getExtendedTradeSize();
+    }
+
+    @Override
+    public void setExtendedTradeSize(Integer extendedTradeSize) {
+        markDecoded(EXTENDED_TRADE_SIZE);
+        super.setExtendedTradeSize(extendedTradeSize);
+    }
+
+    @Override
+    public LocalTime getExtendedTradeTime() {
+        decode(EXTENDED_TRADE_TIME);
+        return super.getExtendedTradeTime();
+    }
+
+    @Override
+    public void setExtendedTradeTime(LocalTime extendedTradeTime) {
+        markDecoded(EXTENDED_TRADE_TIME);
+        super.setExtendedTradeTime(extendedTradeTime);
+    }
+
+    @Override
+    public Double getExtendedTradingChange() {
+        decode(EXTENDED_TRADING_CHANGE);
+        return super.getExtendedTradingChange();
+    }
+
+    @Override
+    public void setExtendedTradingChange(Double extendedTradingChange) {
+        markDecoded(EXTENDED_TRADING_CHANGE);
+        super.setExtendedTradingChange(extendedTradingChange);
+    }
+
+    @Override
+    public Double getExtendedTradingDifference() {
+        decode(EXTENDED_TRADING_DIFFERENCE);
+        return super.getExtendedTradingDifference();
+    }
+
+    @Override
+    public void setExtendedTradingDifference(Double extendedTradingDifference) {
+        markDecoded(EXTENDED_TRADING_DIFFERENCE);
+        super.setExtendedTradingDifference(extendedTradingDifference);
+    }
+
+    @Override
+    public String getFinancialStatusIndicator() {
+        decode(FINANCIAL_STATUS_INDICATOR);
+        return super.getFinancialStatusIndicator();
+    }
+
+    @Override
+    public void setFinancialStatusIndicator(String financialStatusIndicator) {
+        markDecoded(FINANCIAL_STATUS_INDICATOR);
+        super.setFinancialStatusIndicator(financialStatusIndicator);
+    }
+
+    @Override
+    public String getFractionDisplayCode() {
+        decode(FRACTION_DISPLAY_CODE);
+        return super.getFractionDisplayCode();
+    }
+
+    @Override
+    public void setFractionDisplayCode(String fractionDisplayCode) {
+        markDecoded(FRACTION_DISPLAY_CODE);
+        super.setFractionDisplayCode(fractionDisplayCode);
+    }
+
+    @Override
+    public Double getHigh() {
+        decode(HIGH);
+        return super.getHigh();
+    }
+
+    @Override
+    public void setHigh(Double high) {
+        markDecoded(HIGH);
+        super.setHigh(high);
+    }
+
+    @Override
+    public Double getLast() {
+        decode(LAST);
+        return super.getLast();
+    }
+
+    @Override
+    public void setLast(Double last) {
+        markDecoded(LAST);
+        super.setLast(last);
+    }
+
+    @Override
+    public LocalDate getLastDate() {
+        decode(LAST_DATE);
+        return super.getLastDate();
+    }
+
+    @Override
+    public void setLastDate(LocalDate lastDate) {
+        markDecoded(LAST_DATE);
+        super.setLastDate(lastDate);
+    }
+
+    @Override
+    public Integer getLastMarketCenter() {
+        decode(LAST_MARKET_CENTER);
+        return super.getLastMarketCenter();
+    }
+
+    @Override
+    public void setLastMarketCenter(Integer lastMarketCenter) {
+        markDecoded(LAST_MARKET_CENTER);
+        super.setLastMarketCenter(lastMarketCenter);
+    }
+
+    @Override
+    public Integer getLastSize() {
+        decode(LAST_SIZE);
+        return super.getLastSize();
+    }
+
+    @Override
+    public void setLastSize(Integer lastSize) {
+        markDecoded(LAST_SIZE);
+        super.setLastSize(lastSize);
+    }
+
+    @Override
+    public LocalTime getLastTime() {
+        decode(LAST_TIME);
+        return super.getLastTime();
+    }
+
+    @Override
+    public void setLastTime(LocalTime lastTime) {
+        markDecoded(LAST_TIME);
+        super.setLastTime(lastTime);
+    }
+
+    @Override
+    public Double getLow() {
+        decode(LOW);
+        return super.getLow();
+    }
+
+    @Override
+    public void setLow(Double low) {
+        markDecoded(LOW);
+        super.setLow(low);
+    }
+
+    @Override
+    public Double getMarketCapitalization() {
+        decode(MARKET_CAPITALIZATION);
+        return super.getMarketCapitalization();
+    }
+
+    @Override
+    public void setMarketCapitalization(Double marketCapitalization) {
+        markDecoded(MARKET_CAPITALIZATION);
+        super.setMarketCapitalization(marketCapitalization);
+    }
+
+    @Override
+    public MarketOpen getMarketOpen() {
+        decode(MARKET_OPEN);
+        return super.getMarketOpen();
+    }
+
+    @Override
+    public void setMarketOpen(MarketOpen marketOpen) {
+        markDecoded(MARKET_OPEN);
+        super.setMarketOpen(marketOpen);
+    }
+
+    @Override
+    public List<SummaryUpdateContent> getMessageContents() {
+        decode(MESSAGE_CONTENTS);
+        return super.getMessageContents();
+    }
+
+    @Override
+    public void setMessageContents(List<SummaryUpdateContent> messageContents) {
+        markDecoded(MESSAGE_CONTENTS);
+        super.setMessageContents(messageContents);
+    }
+
+    @Override
+    public Double getMostRecentTrade() {
+        decode(MOST_RECENT_TRADE);
+        return super.getMostRecentTrade();
+    }
+
+    @Override
+    public void setMostRecentTrade(Double mostRecentTrade) {
+        markDecoded(MOST_RECENT_TRADE);
+        super.setMostRecentTrade(mostRecentTrade);
+    }
+
+    @Override
+    public MostRecentTradeAggressor getMostRecentTradeAggressor() {
+        decode(MOST_RECENT_TRADE_AGGRESSOR);
+        return super.getMostRecentTradeAggressor();
+    }
+
+    @Override
+    public void setMostRecentTradeAggressor(MostRecentTradeAggressor mostRecentTradeAggressor) {
+        markDecoded(MOST_RECENT_TRADE_AGGRESSOR);
+        super.setMostRecentTradeAggressor(mostRecentTradeAggressor);
+    }
+
+    @Override
+    public List<Integer> getMostRecentTradeConditions() {
+        decode(MOST_RECENT_TRADE_CONDITIONS);
+        return super.getMostRecentTradeConditions();
+    }
+
+    @Override
+    public void setMostRecentTradeConditions(List<Integer> mostRecentTradeConditions) {
+        markDecoded(MOST_RECENT_TRADE_CONDITIONS);
+        super.setMostRecentTradeConditions(mostRecentTradeConditions);
+    }
+
+    @Override
+    public LocalDate getMostRecentTradeDate() {
+        decode(MOST_RECENT_TRADE_DATE);
+        return super.getMostRecentTradeDate();
+    }
+
+    @Override
+    public void setMostRecentTradeDate(LocalDate mostRecentTradeDate) {
+        markDecoded(MOST_RECENT_TRADE_DATE);
+        super.setMostRecentTradeDate(mostRecentTradeDate);
+    }
+
+    @Override
+    public Integer getMostRecentTradeDayCode() {
+        decode(MOST_RECENT_TRADE_DAY_CODE);
+        return super.getMostRecentTradeDayCode();
+    }
+
+    @Override
+    public void setMostRecentTradeDayCode(Integer mostRecentTradeDayCode) {
+        markDecoded(MOST_RECENT_TRADE_DAY_CODE);
+        super.setMostRecentTradeDayCode(mostRecentTradeDayCode);
+    }
+
+    @Override
+    public Integer getMostRecentTradeMarketCenter() {
+        decode(MOST_RECENT_TRADE_MARKET_CENTER);
+        return super.getMostRecentTradeMarketCenter();
+    }
+
+    @Override
+    public void setMostRecentTradeMarketCenter(Integer mostRecentTradeMarketCenter) {
+        markDecoded(MOST_RECENT_TRADE_MARKET_CENTER);
+        super.setMostRecentTradeMarketCenter(mostRecentTradeMarketCenter);
+    }
+
+    @Override
+    public Integer getMostRecentTradeSize() {
+        decode(MOST_RECENT_TRADE_SIZE);
+        return super.getMostRecentTradeSize();
+    }
+
+    @Override
+    public void setMostRecentTradeSize(Integer mostRecentTradeSize) {
+        markDecoded(MOST_RECENT_TRADE_SIZE);
+        super.setMostRecentTradeSize(mostRecentTradeSize);
+    }
+
+    @Override
+    public LocalTime getMostRecentTradeTime() {
+        decode(MOST_RECENT_TRADE_TIME);
+        return super.getMostRecentTradeTime();
+    }
+
+    @Override
+    public void setMostRecentTradeTime(LocalTime mostRecentTradeTime) {
+        markDecoded(MOST_RECENT_TRADE_TIME);
+        super.setMostRecentTradeTime(mostRecentTradeTime);
+    }
+
+    @Override
+    public Double getNetAssetValue() {
+        decode(NET_ASSET_VALUE);
+        return super.getNetAssetValue();
+    }
+
+    @Override
+    public void setNetAssetValue(Double netAssetValue) {
+        markDecoded(NET_ASSET_VALUE);
+        super.setNetAssetValue(netAssetValue);
+    }
+
+    @Override
+    public Integer getNumberOfTradesToday() {
+        decode(NUMBER_OF_TRADES_TODAY);
+        return super.getNumberOfTradesToday();
+    }
+
+    @Override
+    public void setNumberOfTradesToday(Integer numberOfTradesToday) {
+        markDecoded(NUMBER_OF_TRADES_TODAY);
+        super.setNumberOfTradesToday(numberOfTradesToday);
+    }
+
+    @Override
+    public Double getOpen() {
+        decode(OPEN);
+        return super.getOpen();
+    }
+
+    @Override
+    public void setOpen(Double open) {
+        markDecoded(OPEN);
+        super.setOpen(open);
+    }
+
+    @Override
+    public Integer getOpenInterest() {
+        decode(OPEN_INTEREST);
+        return super.getOpenInterest();
+    }
+
+    @Override
+    public void setOpenInterest(Integer openInterest) {
+        markDecoded(OPEN_INTEREST);
+        super.setOpenInterest(openInterest);
+    }
+
+    @Override
+    public Double getOpenRange1() {
+        decode(OPEN_RANGE_1);
+        return super.getOpenRange1();
+    }
+
+    @Override
+    public void setOpenRange1(Double openRange1) {
+        markDecoded(OPEN_RANGE_1);
+        super.setOpenRange1(openRange1);
+    }
+
+    @Override
+    public Double getOpenRange2() {
+        decode(OPEN_RANGE_2);
+        return super.getOpenRange2();
+    }
+
+    @Override
+    public void setOpenRange2(Double openRange2) {
+        markDecoded(OPEN_RANGE_2);
+        super.setOpenRange2(openRange2);
+    }
+
+    @Override
+    public Double getPercentChange() {
+        decode(PERCENT_CHANGE);
+        return super.getPercentChange();
+    }
+
+    @Override
+    public void setPercentChange(Double percentChange) {
+        markDecoded(PERCENT_CHANGE);
+        super.setPercentChange(percentChange);
+    }
+
+    @Override
+    public Double getPercentOffAverageVolume() {
+        decode(PERCENT_OFF_AVERAGE_VOLUME);
+        return super.getPercentOffAverageVolume();
+    }
+
+    @Override
+    public void setPercentOffAverageVolume(Double percentOffAverageVolume) {
+        markDecoded(PERCENT_OFF_AVERAGE_VOLUME);
+        super.setPercentOffAverageVolume(percentOffAverageVolume);
+    }
+
+    @Override
+    public Integer getPreviousDayVolume() {
+        decode(PREVIOUS_DAY_VOLUME);
+        return super.getPreviousDayVolume();
+    }
+
+    @Override
+    public void setPreviousDayVolume(Integer previousDayVolume) {
+        markDecoded(PREVIOUS_DAY_VOLUME);
+        super.setPreviousDayVolume(previousDayVolume);
+    }
+
+    @Override
+    public Double getPriceEarningsRatio() {
+        decode(PRICE_EARNINGS_RATIO);
+        return super.getPriceEarningsRatio();
+    }
+
+    @Override
+    public void setPriceEarningsRatio(Double priceEarningsRatio) {
+        markDecoded(PRICE_EARNINGS_RATIO);
+        super.setPriceEarningsRatio(priceEarningsRatio);
+    }
+
+    @Override
+    public Double getRange() {
+        decode(RANGE);
+        return super.getRange();
+    }
+
+    @Override
+    public void setRange(Double range) {
+        markDecoded(RANGE);
+        super.setRange(range);
+    }
+
+    @Override
+    public RestrictedCode getRestrictedCode() {
+        decode(RESTRICTED_CODE);
+        return super.getRestrictedCode();
+    }
+
+    @Override
+    public void setRestrictedCode(RestrictedCode restrictedCode) {
+        markDecoded(RESTRICTED_CODE);
+        super.setRestrictedCode(restrictedCode);
+    }
+
+    @Override
+    public Double getSettle() {
+        decode(SETTLE);
+        return super.getSettle();
+    }
+
+    @Override
+    public void setSettle(Double settle) {
+        markDecoded(SETTLE);
+        super.setSettle(settle);
+    }
+
+    @Override
+    public LocalDate getSettlementDate() {
+        decode(SETTLEMENT_DATE);
+        return super.getSettlementDate();
+    }
+
+    @Override
+    public void setSettlementDate(LocalDate settlementDate) {
+        markDecoded(SETTLEMENT_DATE);
+        super.setSettlementDate(settlementDate);
+    }
+
+    @Override
+    public Double getSpread() {
+        decode(SPREAD);
+        return super.getSpread();
+    }
+
+    @Override
+    public void setSpread(Double spread) {
+        markDecoded(SPREAD);
+        super.setSpread(spread);
+    }
+
+    @Override
+    public String getSymbol() {
+        decode(SYMBOL);
+        return super.getSymbol();
+    }
+
+    @Override
+    public void setSymbol(String symbol) {
+        markDecoded(SYMBOL);
+        super.setSymbol(symbol);
+    }
+
+    @Override
+    public Integer getTick() {
+        decode(TICK);
+        return super.getTick();
+    }
+
+    @Override
+    public void setTick(Integer tick) {
+        markDecoded(TICK);
+        super.setTick(tick);
+    }
+
+    @Override
+    public Integer getTickID() {
+        decode(TICK_ID);
+        return super.getTickID();
+    }
+
+    @Override
+    public void setTickID(Integer tickID) {
+        markDecoded(TICK_ID);
+        super.setTickID(tickID);
+    }
+
+    @Override
+    public Integer getTotalVolume() {
+        decode(TOTAL_VOLUME);
+        return super.getTotalVolume();
+    }
+
+    @Override
+    public void setTotalVolume(Integer totalVolume) {
+        markDecoded(TOTAL_VOLUME);
+        super.setTotalVolume(totalVolume);
+    }
+
+    @Override
+    public Double getVolatility() {
+        decode(VOLATILITY);
+        return super.getVolatility();
+    }
+
+    @Override
+    public void setVolatility(Double volatility) {
+        markDecoded(VOLATILITY);
+        super.setVolatility(volatility);
+    }
+
+    @Override
+    public Double getVwap() {
+        decode(VWAP);
+        return super.getVwap();
+    }
+
+    @Override
+    public void setVwap(Double vwap) {
+        markDecoded(VWAP);
+        super.setVwap(vwap);
+    }
+
+    //
+    // END Lazily decoded getters and setters
+    //
+
+    /**
+     * {@link Layout} holds the CSV index and the {@link CSVMapping} of every {@link SummaryUpdateField} of the current
+     * "Dynamic Fieldset" of summary/update messages.
+     */
+    static final class Layout {
+
+        private final int[] csvIndicesOfFields;
+        private final CSVMapping<SummaryUpdate, ?>[] csvMappingsOfFields;
+
+        /**
+         * Instantiates a new {@link Layout}. <code>null</code> or unmapped {@link SummaryUpdateField}s are skipped.
+         *
+         * @param summaryUpdateFields              the {@link SummaryUpdateField}s in CSV index order
+         * @param csvMappingsOfSummaryUpdateFields the {@link CSVMapping}s of {@link SummaryUpdateField}s
+         * @param offset                           the offset to add to CSV indices
+         */
+        @SuppressWarnings("unchecked")
+        Layout(List<SummaryUpdateField> summaryUpdateFields,
+                Map<SummaryUpdateField, CSVMapping<SummaryUpdate, ?>> csvMappingsOfSummaryUpdateFields, int offset) {
+            csvIndicesOfFields = new int[SUMMARY_UPDATE_FIELDS.length];
+            csvMappingsOfFields = new CSVMapping[SUMMARY_UPDATE_FIELDS.length];
+            Arrays.fill(csvIndicesOfFields, -1);
+
+            for (int index = 0; index < summaryUpdateFields.size(); index++) {
+                SummaryUpdateField summaryUpdateField = summaryUpdateFields.get(index);
+                if (summaryUpdateField == null) {
+                    continue;
+                }
+
+                CSVMapping<SummaryUpdate, ?> csvMapping = csvMappingsOfSummaryUpdateFields.get(summaryUpdateField);
+                if (csvMapping != null) {
+                    csvIndicesOfFields[summaryUpdateField.ordinal()] = index + offset;
+                    csvMappingsOfFields[summaryUpdateField.ordinal()] = csvMapping;
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
 
+import net.jacobpeterson.iqfeed4j.feed.FeedDispatcher;
+import net.jacobpeterson.iqfeed4j.feed.message.FanOutFeedMessageListener;
 import net.jacobpeterson.iqfeed4j.feed.message.FeedMessageListener;
 import net.jacobpeterson.iqfeed4j.feed.message.SingleMessageFuture;
 import net.jacobpeterson.iqfeed4j.feed.streaming.AbstractServerConnectionFeed;
@@ -13,11 +15,13 @@ import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.FundamentalData;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.FundamentalData.OptionsMultipleDeliverables;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.NewsHeadline;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.RegionalQuote;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.RegionalQuoteCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate.MarketOpen;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate.MostRecentTradeAggressor;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate.RestrictedCode;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.TradeCorrection;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.TradeCorrectionCSVMapper;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.Level1Command;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.Level1MessageType;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.Level1SystemCommand;
@@ -25,31 +29,42 @@ import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.Level1System
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.loglevel.LogLevel;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateContent;
 import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField;
-import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.tradecorrection.CorrectionType;
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.index.DirectIndexCSVMapper;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.index.IndexCSVMapper;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.list.AbstractListCSVMapper;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.list.DirectListCSVMapper;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.list.ListCSVMapper;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
 import net.jacobpeterson.iqfeed4j.util.string.LineEnding;
 import net.jacobpeterson.iqfeed4j.util.tradecondition.TradeConditionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1Feed.CSVPOJOPopulators.splitFactorAndDate;
 import static net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField.*;
@@ -63,7 +78,6 @@ import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateT
 import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeConverters.SLASHED_DATE;
 import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.DOUBLE;
 import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.INTEGER;
-import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.LONG;
 import static net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveConvertors.STRING;
 
 /**
@@ -93,19 +107,31 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         }
     }
 
+    /**
+     * The default {@link #getSummaryUpdatePriceScale()}.
+     */
+    public static final int DEFAULT_SUMMARY_UPDATE_PRICE_SCALE = 6;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(Level1Feed.class);
     protected static final String FEED_NAME_SUFFIX = " Level 1 Feed";
     protected static final DirectListCSVMapper<String> STRING_LIST_CSV_MAPPER;
     protected static final HashMap<SummaryUpdateField, CSVMapping<SummaryUpdate, ?>>
             CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS;
+    protected static final HashMap<SummaryUpdateField, CSVMapping<SummaryUpdate, ?>>
+            CSV_MAPPINGS_OF_PRIMITIVE_SUMMARY_UPDATE_FIELDS;
+    protected static final HashMap<SummaryUpdateField, CSVMapping<SummaryUpdate, ?>>
+            CSV_MAPPINGS_OF_FIXED_POINT_SUMMARY_UPDATE_FIELDS;
     protected static final IndexCSVMapper<FundamentalData> FUNDAMENTAL_DATA_CSV_MAPPER;
-    protected static final IndexCSVMapper<RegionalQuote> REGIONAL_QUOTE_CSV_MAPPER;
-    protected static final IndexCSVMapper<TradeCorrection> TRADE_CORRECTION_CSV_MAPPER;
+    protected static final RegionalQuoteCSVMapper REGIONAL_QUOTE_CSV_MAPPER;
+    protected static final TradeCorrectionCSVMapper TRADE_CORRECTION_CSV_MAPPER;
     protected static final IndexCSVMapper<NewsHeadline> NEWS_HEADLINE_CSV_MAPPER;
     protected static final IndexCSVMapper<CustomerInformation> CUSTOMER_INFORMATION_CSV_MAPPER;
     protected static final DirectListCSVMapper<SummaryUpdateField> SUMMARY_UPDATE_FIELDS_CSV_MAPPER;
     protected static final DirectListCSVMapper<LogLevel> LOG_LEVELS_CSV_MAPPER;
     protected static final DirectIndexCSVMapper<LocalDateTime> TIMESTAMP_CSV_MAPPER;
+    private static final byte SYSTEM_MESSAGE_TYPE = (byte) FeedMessageType.SYSTEM.value().charAt(0);
+    private static final boolean[] SYMBOL_MESSAGE_TYPES;
+    private static final Level1MessageType[] LEVEL1_MESSAGE_TYPES_OF_BYTES;
 
     static {
         STRING_LIST_CSV_MAPPER = new DirectListCSVMapper<>(ArrayList::new, STRING);
@@ -114,83 +140,83 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         // storing 'CSVMapping's based on 'SummaryUpdateField's due to "Dynamic Fieldsets" that can be set.
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS = new HashMap<>();
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(SEVEN_DAY_YIELD,
-                new CSVMapping<>(SummaryUpdate::set7DayYield, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::set7DayYield));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(ASK,
-                new CSVMapping<>(SummaryUpdate::setAsk, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setAsk));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(ASK_CHANGE,
-                new CSVMapping<>(SummaryUpdate::setAskChange, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setAskChange));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(ASK_MARKET_CENTER,
-                new CSVMapping<>(SummaryUpdate::setAskMarketCenter, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setAskMarketCenter));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(ASK_SIZE,
-                new CSVMapping<>(SummaryUpdate::setAskSize, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setAskSize));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(ASK_TIME,
                 new CSVMapping<>(SummaryUpdate::setAskTime, COLON_TIME));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(AVAILABLE_REGIONS,
                 new CSVMapping<>(SummaryUpdate::setAvailableRegions, STRING));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(AVERAGE_MATURITY,
-                new CSVMapping<>(SummaryUpdate::setAverageMaturity, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setAverageMaturity));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(BID,
-                new CSVMapping<>(SummaryUpdate::setBid, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setBid));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(BID_CHANGE,
-                new CSVMapping<>(SummaryUpdate::setBidChange, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setBidChange));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(BID_MARKET_CENTER,
-                new CSVMapping<>(SummaryUpdate::setBidMarketCenter, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setBidMarketCenter));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(BID_SIZE,
-                new CSVMapping<>(SummaryUpdate::setBidSize, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setBidSize));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(BID_TIME,
                 new CSVMapping<>(SummaryUpdate::setBidTime, COLON_TIME));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(CHANGE,
-                new CSVMapping<>(SummaryUpdate::setChange, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setChange));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(CHANGE_FROM_OPEN,
-                new CSVMapping<>(SummaryUpdate::setChangeFromOpen, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setChangeFromOpen));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(CLOSE,
-                new CSVMapping<>(SummaryUpdate::setClose, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setClose));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(CLOSE_RANGE_1,
-                new CSVMapping<>(SummaryUpdate::setCloseRange1, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setCloseRange1));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(CLOSE_RANGE_2,
-                new CSVMapping<>(SummaryUpdate::setCloseRange2, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setCloseRange2));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(DAYS_TO_EXPIRATION,
                 new CSVMapping<>(SummaryUpdate::setDaysToExpiration, STRING));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(DECIMAL_PRECISION,
                 new CSVMapping<>(SummaryUpdate::setDecimalPrecision, STRING));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(DELAY,
-                new CSVMapping<>(SummaryUpdate::setDelay, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setDelay));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXCHANGE_ID,
                 new CSVMapping<>(SummaryUpdate::setExchangeID, (value) -> Integer.parseInt(value, 16)));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXTENDED_TRADE,
-                new CSVMapping<>(SummaryUpdate::setExtendedTrade, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setExtendedTrade));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXTENDED_TRADE_DATE,
                 new CSVMapping<>(SummaryUpdate::setExtendedTradeDate, SLASHED_DATE));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXTENDED_TRADE_MARKET_CENTER,
-                new CSVMapping<>(SummaryUpdate::setExtendedTradeMarketCenter, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setExtendedTradeMarketCenter));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXTENDED_TRADE_SIZE,
-                new CSVMapping<>(SummaryUpdate::setExtendedTradeSize, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setExtendedTradeSize));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXTENDED_TRADE_TIME,
                 new CSVMapping<>(SummaryUpdate::setExtendedTradeTime, COLON_TIME));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXTENDED_TRADING_CHANGE,
-                new CSVMapping<>(SummaryUpdate::setExtendedTradingChange, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setExtendedTradingChange));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(EXTENDED_TRADING_DIFFERENCE,
-                new CSVMapping<>(SummaryUpdate::setExtendedTradingDifference, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setExtendedTradingDifference));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(FINANCIAL_STATUS_INDICATOR,
                 new CSVMapping<>(SummaryUpdate::setFinancialStatusIndicator, STRING));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(FRACTION_DISPLAY_CODE,
                 new CSVMapping<>(SummaryUpdate::setFractionDisplayCode, STRING));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(HIGH,
-                new CSVMapping<>(SummaryUpdate::setHigh, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setHigh));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(LAST,
-                new CSVMapping<>(SummaryUpdate::setLast, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setLast));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(LAST_DATE,
                 new CSVMapping<>(SummaryUpdate::setLastDate, SLASHED_DATE));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(LAST_MARKET_CENTER,
-                new CSVMapping<>(SummaryUpdate::setLastMarketCenter, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setLastMarketCenter));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(LAST_SIZE,
-                new CSVMapping<>(SummaryUpdate::setLastSize, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setLastSize));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(LAST_TIME,
                 new CSVMapping<>(SummaryUpdate::setLastTime, COLON_TIME));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(LOW,
-                new CSVMapping<>(SummaryUpdate::setLow, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setLow));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MARKET_CAPITALIZATION,
-                new CSVMapping<>(SummaryUpdate::setMarketCapitalization, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setMarketCapitalization));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MARKET_OPEN,
                 new CSVMapping<>(SummaryUpdate::setMarketOpen, MarketOpen::fromValue));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MESSAGE_CONTENTS,
@@ -201,7 +227,7 @@ public class Level1Feed extends AbstractServerConnectionFeed {
                                 .map(SummaryUpdateContent::fromValue)
                                 .collect(Collectors.toList())));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE,
-                new CSVMapping<>(SummaryUpdate::setMostRecentTrade, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setMostRecentTrade));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE_AGGRESSOR,
                 new CSVMapping<>(SummaryUpdate::setMostRecentTradeAggressor, MostRecentTradeAggressor::fromValue));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE_CONDITIONS,
@@ -210,55 +236,86 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE_DATE,
                 new CSVMapping<>(SummaryUpdate::setMostRecentTradeDate, SLASHED_DATE));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE_DAY_CODE,
-                new CSVMapping<>(SummaryUpdate::setMostRecentTradeDayCode, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setMostRecentTradeDayCode));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE_MARKET_CENTER,
-                new CSVMapping<>(SummaryUpdate::setMostRecentTradeMarketCenter, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setMostRecentTradeMarketCenter));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE_SIZE,
-                new CSVMapping<>(SummaryUpdate::setMostRecentTradeSize, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setMostRecentTradeSize));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(MOST_RECENT_TRADE_TIME,
                 new CSVMapping<>(SummaryUpdate::setMostRecentTradeTime, COLON_TIME));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(NET_ASSET_VALUE,
-                new CSVMapping<>(SummaryUpdate::setNetAssetValue, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setNetAssetValue));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(NUMBER_OF_TRADES_TODAY,
-                new CSVMapping<>(SummaryUpdate::setNumberOfTradesToday, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setNumberOfTradesToday));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(OPEN,
-                new CSVMapping<>(SummaryUpdate::setOpen, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setOpen));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(OPEN_INTEREST,
-                new CSVMapping<>(SummaryUpdate::setOpenInterest, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setOpenInterest));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(OPEN_RANGE_1,
-                new CSVMapping<>(SummaryUpdate::setOpenRange1, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setOpenRange1));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(OPEN_RANGE_2,
-                new CSVMapping<>(SummaryUpdate::setOpenRange2, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setOpenRange2));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(PERCENT_CHANGE,
-                new CSVMapping<>(SummaryUpdate::setPercentChange, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setPercentChange));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(PERCENT_OFF_AVERAGE_VOLUME,
-                new CSVMapping<>(SummaryUpdate::setPercentOffAverageVolume, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setPercentOffAverageVolume));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(PREVIOUS_DAY_VOLUME,
-                new CSVMapping<>(SummaryUpdate::setPreviousDayVolume, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setPreviousDayVolume));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(PRICE_EARNINGS_RATIO,
-                new CSVMapping<>(SummaryUpdate::setPriceEarningsRatio, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setPriceEarningsRatio));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(RANGE,
-                new CSVMapping<>(SummaryUpdate::setRange, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setRange));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(RESTRICTED_CODE,
                 new CSVMapping<>(SummaryUpdate::setRestrictedCode, RestrictedCode::fromValue));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(SETTLE,
-                new CSVMapping<>(SummaryUpdate::setSettle, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setSettle));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(SETTLEMENT_DATE,
                 new CSVMapping<>(SummaryUpdate::setSettlementDate, SLASHED_DATE));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(SPREAD,
-                new CSVMapping<>(SummaryUpdate::setSpread, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setSpread));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(SYMBOL,
                 new CSVMapping<>(SummaryUpdate::setSymbol, STRING));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(TICK,
-                new CSVMapping<>(SummaryUpdate::setTick, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setTick));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(TICK_ID,
-                new CSVMapping<>(SummaryUpdate::setTickID, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setTickID));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(TOTAL_VOLUME,
-                new CSVMapping<>(SummaryUpdate::setTotalVolume, INTEGER));
+                CSVMapping.ofInt(SummaryUpdate::setTotalVolume));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(VOLATILITY,
-                new CSVMapping<>(SummaryUpdate::setVolatility, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setVolatility));
         CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS.put(VWAP,
-                new CSVMapping<>(SummaryUpdate::setVwap, DOUBLE));
+                CSVMapping.ofDouble(SummaryUpdate::setVwap));
+
+        // The primitive fields of a 'PrimitiveSummaryUpdate' are set without boxing
+        CSV_MAPPINGS_OF_PRIMITIVE_SUMMARY_UPDATE_FIELDS = new HashMap<>(CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS);
+        for (SummaryUpdateField summaryUpdateField : PrimitiveSummaryUpdate.DOUBLE_FIELDS) {
+            CSV_MAPPINGS_OF_PRIMITIVE_SUMMARY_UPDATE_FIELDS.put(summaryUpdateField, CSVMapping.ofDouble(
+                    (summaryUpdate, value) -> ((PrimitiveSummaryUpdate) summaryUpdate)
+                            .setDouble(summaryUpdateField, value)));
+        }
+        for (SummaryUpdateField summaryUpdateField : PrimitiveSummaryUpdate.LONG_FIELDS) {
+            if (summaryUpdateField == EXCHANGE_ID) { // Hexadecimal, so keep the boxed mapping
+                continue;
+            }
+            CSV_MAPPINGS_OF_PRIMITIVE_SUMMARY_UPDATE_FIELDS.put(summaryUpdateField, CSVMapping.ofInt(
+                    (summaryUpdate, value) -> ((PrimitiveSummaryUpdate) summaryUpdate)
+                            .setLong(summaryUpdateField, value)));
+        }
+        for (SummaryUpdateField summaryUpdateField : PrimitiveSummaryUpdate.TIME_FIELDS) {
+            CSV_MAPPINGS_OF_PRIMITIVE_SUMMARY_UPDATE_FIELDS.put(summaryUpdateField, CSVMapping.ofColonTimeNanoOfDay(
+                    (summaryUpdate, nanoOfDay) -> ((PrimitiveSummaryUpdate) summaryUpdate)
+                            .setNanoOfDay(summaryUpdateField, nanoOfDay)));
+        }
+
+        // The 'double' fields of a fixed-point 'PrimitiveSummaryUpdate' are parsed directly into mantissas
+        CSV_MAPPINGS_OF_FIXED_POINT_SUMMARY_UPDATE_FIELDS =
+                new HashMap<>(CSV_MAPPINGS_OF_PRIMITIVE_SUMMARY_UPDATE_FIELDS);
+        for (SummaryUpdateField summaryUpdateField : PrimitiveSummaryUpdate.DOUBLE_FIELDS) {
+            CSV_MAPPINGS_OF_FIXED_POINT_SUMMARY_UPDATE_FIELDS.put(summaryUpdateField, CSVMapping.ofFixedPoint(
+                    (summaryUpdate, mantissa) -> ((PrimitiveSummaryUpdate) summaryUpdate)
+                            .setFixedPoint(summaryUpdateField, mantissa),
+                    summaryUpdate -> ((PrimitiveSummaryUpdate) summaryUpdate).getPriceScale()));
+        }
 
         // Add mappings with CSV indices analogous to line of execution
 
@@ -327,30 +384,9 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         FUNDAMENTAL_DATA_CSV_MAPPER.addMapping(FundamentalData::setFigi, STRING);
         FUNDAMENTAL_DATA_CSV_MAPPER.addMapping(FundamentalData::setSecuritySubType, INTEGER);
 
-        REGIONAL_QUOTE_CSV_MAPPER = new IndexCSVMapper<>(RegionalQuote::new);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setSymbol, STRING);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setExchange, STRING);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setRegionalBid, DOUBLE);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setRegionalBidSize, INTEGER);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setRegionalBidTime, COLON_TIME);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setRegionalAsk, DOUBLE);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setRegionalAskSize, INTEGER);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setRegionalAskTime, COLON_TIME);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setFractionDisplayCode, INTEGER);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setDecimalPrecision, INTEGER);
-        REGIONAL_QUOTE_CSV_MAPPER.addMapping(RegionalQuote::setMarketCenter, INTEGER);
-
-        TRADE_CORRECTION_CSV_MAPPER = new IndexCSVMapper<>(TradeCorrection::new);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setSymbol, STRING);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setCorrectionType, CorrectionType::fromValue);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setTradeDate, SLASHED_DATE);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setTradeTime, COLON_TIME);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setTradePrice, DOUBLE);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setTradeSize, INTEGER);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setTickID, LONG);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setTradeConditions,
-                TradeConditionUtil::listFromTradeConditionString);
-        TRADE_CORRECTION_CSV_MAPPER.addMapping(TradeCorrection::setTradeMarketCenter, INTEGER);
+        // These CSV mappers are generated from the 'csvIndex' properties in 'schema_json/' at build time
+        REGIONAL_QUOTE_CSV_MAPPER = new RegionalQuoteCSVMapper();
+        TRADE_CORRECTION_CSV_MAPPER = new TradeCorrectionCSVMapper();
 
         NEWS_HEADLINE_CSV_MAPPER = new IndexCSVMapper<>(NewsHeadline::new);
         NEWS_HEADLINE_CSV_MAPPER.addMapping(NewsHeadline::setDistributorCode, STRING);
@@ -375,13 +411,27 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         LOG_LEVELS_CSV_MAPPER = new DirectListCSVMapper<>(ArrayList::new, LogLevel::fromValue);
 
         TIMESTAMP_CSV_MAPPER = new DirectIndexCSVMapper<>(0, DATE_SPACE_COLON_TIME);
+
+        SYMBOL_MESSAGE_TYPES = new boolean[128];
+        for (Level1MessageType symbolMessageType : new Level1MessageType[]{Level1MessageType.FUNDAMENTAL,
+                Level1MessageType.SUMMARY, Level1MessageType.UPDATE, Level1MessageType.REGIONAL_UPDATE,
+                Level1MessageType.TRADE_CORRECTION, Level1MessageType.SYMBOL_NOT_WATCHED}) {
+            SYMBOL_MESSAGE_TYPES[symbolMessageType.value().charAt(0)] = true;
+        }
+
+        LEVEL1_MESSAGE_TYPES_OF_BYTES = new Level1MessageType[128];
+        for (Level1MessageType level1MessageType : Level1MessageType.values()) {
+            LEVEL1_MESSAGE_TYPES_OF_BYTES[level1MessageType.value().charAt(0)] = level1MessageType;
+        }
     }
 
     protected final Object messageReceivedLock;
-    protected final HashMap<String, FeedMessageListener<FundamentalData>> fundamentalDataListenersOfSymbols;
-    protected final HashMap<String, FeedMessageListener<SummaryUpdate>> summaryUpdateListenersOfSymbols;
-    protected final HashMap<String, FeedMessageListener<RegionalQuote>> regionalQuoteListenersOfSymbols;
-    protected final HashMap<String, FeedMessageListener<TradeCorrection>> tradeCorrectionListenersOfSymbols;
+    // Symbol messages are handled without holding 'messageReceivedLock' so that they can be handled concurrently on
+    // the lanes of a 'FeedDispatcher', so these are concurrent maps.
+    protected final ConcurrentHashMap<String, FeedMessageListener<FundamentalData>> fundamentalDataListenersOfSymbols;
+    protected final ConcurrentHashMap<String, FeedMessageListener<SummaryUpdate>> summaryUpdateListenersOfSymbols;
+    protected final ConcurrentHashMap<String, FeedMessageListener<RegionalQuote>> regionalQuoteListenersOfSymbols;
+    protected final ConcurrentHashMap<String, FeedMessageListener<TradeCorrection>> tradeCorrectionListenersOfSymbols;
     // Using 'Queue' here since IQConnect.exe handles all requests with FIFO priority
     protected final Queue<SingleMessageFuture<LocalDateTime>> timestampFuturesQueue;
     protected final Queue<SingleMessageFuture<FeedStatistics>> feedStatisticsFuturesQueue;
@@ -390,9 +440,26 @@ public class Level1Feed extends AbstractServerConnectionFeed {
     protected final Queue<SingleMessageFuture<List<SummaryUpdateField>>> currentUpdateFieldNamesFuturesQueue;
     protected final Queue<SingleMessageFuture<List<LogLevel>>> logLevelsFuturesQueue;
     protected final Queue<SingleMessageFuture<List<String>>> watchedSymbolsFuturesQueue;
-
-    protected Level1FeedEventListener level1FeedEventListener;
-    protected IndexCSVMapper<SummaryUpdate> summaryUpdateCSVMapper;
+    // A 'null' value means that the listener of the symbol didn't declare its required 'SummaryUpdateField's
+    protected final HashMap<String, Set<SummaryUpdateField>> requiredSummaryUpdateFieldsOfSymbols;
+    // 'subscriptionLock' is held while sending the watch and unwatch requests of subscriptions so that they are sent
+    // in the same order as the subscription counts change. It is always acquired before 'messageReceivedLock'.
+    protected final Object subscriptionLock;
+    protected final HashMap<String, SymbolSubscribers> subscribersOfSymbols;
+
+    protected volatile Level1FeedEventListener level1FeedEventListener;
+    protected volatile IndexCSVMapper<SummaryUpdate> summaryUpdateCSVMapper;
+    protected volatile IndexCSVMapper<SummaryUpdate> primitiveSummaryUpdateCSVMapper;
+    protected volatile IndexCSVMapper<SummaryUpdate> fixedPointSummaryUpdateCSVMapper;
+    protected volatile LazySummaryUpdate.Layout lazySummaryUpdateLayout;
+    protected volatile SummaryUpdateDecodeMode summaryUpdateDecodeMode;
+    protected volatile int summaryUpdatePriceScale;
+    protected Executor summaryUpdateConflationExecutor;
+    protected volatile Level1SnapshotStore level1SnapshotStore;
+    protected volatile boolean automaticUpdateFieldSelection;
+    protected volatile Level1LatencyMetrics level1LatencyMetrics;
+    protected List<SummaryUpdateField> defaultSummaryUpdateFields;
+    protected Set<SummaryUpdateField> selectedSummaryUpdateFields;
 
     protected FeedMessageListener<NewsHeadline> newsHeadlineListener;
     protected LocalDateTime latestTimestamp;
@@ -410,10 +477,10 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         super(LOGGER, level1FeedName + FEED_NAME_SUFFIX, hostname, port, COMMA_DELIMITED_SPLITTER, true, true);
 
         messageReceivedLock = new Object();
-        fundamentalDataListenersOfSymbols = new HashMap<>();
-        summaryUpdateListenersOfSymbols = new HashMap<>();
-        regionalQuoteListenersOfSymbols = new HashMap<>();
-        tradeCorrectionListenersOfSymbols = new HashMap<>();
+        fundamentalDataListenersOfSymbols = new ConcurrentHashMap<>();
+        summaryUpdateListenersOfSymbols = new ConcurrentHashMap<>();
+        regionalQuoteListenersOfSymbols = new ConcurrentHashMap<>();
+        tradeCorrectionListenersOfSymbols = new ConcurrentHashMap<>();
         timestampFuturesQueue = new LinkedList<>();
         feedStatisticsFuturesQueue = new LinkedList<>();
         fundamentalFieldNamesFuturesQueue = new LinkedList<>();
@@ -421,6 +488,11 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         currentUpdateFieldNamesFuturesQueue = new LinkedList<>();
         logLevelsFuturesQueue = new LinkedList<>();
         watchedSymbolsFuturesQueue = new LinkedList<>();
+        requiredSummaryUpdateFieldsOfSymbols = new HashMap<>();
+        subscriptionLock = new Object();
+        subscribersOfSymbols = new HashMap<>();
+        summaryUpdateDecodeMode = SummaryUpdateDecodeMode.EAGER;
+        summaryUpdatePriceScale = DEFAULT_SUMMARY_UPDATE_PRICE_SCALE;
 
         level1FeedEventListener = new Level1FeedEventListener() {
             @Override
@@ -456,8 +528,8 @@ public class Level1Feed extends AbstractServerConnectionFeed {
             return;
         }
 
-        synchronized (messageReceivedLock) {
-            if (valueEquals(csv, 0, FeedMessageType.SYSTEM.value())) {
+        if (valueEquals(csv, 0, FeedMessageType.SYSTEM.value())) {
+            synchronized (messageReceivedLock) {
                 if (!valuePresent(csv, 1)) {
                     LOGGER.error("Received unknown System message: {}", (Object) csv);
                     return;
@@ -516,40 +588,145 @@ public class Level1Feed extends AbstractServerConnectionFeed {
                 } catch (IllegalArgumentException illegalArgumentException) {
                     LOGGER.error("Received unknown System message type for message: {}", csv, illegalArgumentException);
                 }
-            } else {
-                try {
-                    Level1MessageType messageType = Level1MessageType.fromValue(csv[0]);
+            }
+        } else {
+            try {
+                Level1MessageType messageType = Level1MessageType.fromValue(csv[0]);
 
-                    switch (messageType) {
-                        case FUNDAMENTAL:
-                            handleFundamentalMessage(csv);
-                            break;
-                        case SUMMARY:
-                        case UPDATE:
-                            handleSummaryUpdateMessage(csv, messageType);
-                            break;
-                        case REGIONAL_UPDATE:
-                            handleRegionalUpdateMessage(csv);
-                            break;
-                        case NEWS_HEADLINE:
+                // Symbol messages only use concurrent maps, so they don't need to hold 'messageReceivedLock'
+                switch (messageType) {
+                    case FUNDAMENTAL:
+                        handleFundamentalMessage(csv);
+                        break;
+                    case SUMMARY:
+                    case UPDATE:
+                        handleSummaryUpdateMessage(csv, messageType);
+                        break;
+                    case REGIONAL_UPDATE:
+                        handleRegionalUpdateMessage(csv);
+                        break;
+                    case NEWS_HEADLINE:
+                        synchronized (messageReceivedLock) {
                             handleNewsHeadlineMessage(csv);
-                            break;
-                        case TIMESTAMP:
-                            handleTimestampMessage(csv);
-                            break;
-                        case TRADE_CORRECTION:
-                            handleTradeCorrectionMessage(csv);
-                            break;
-                        case SYMBOL_NOT_WATCHED:
-                            handleSymbolNotWatched(csv);
-                            break;
-                        default:
-                            LOGGER.error("Unhandled message type: {}", messageType);
-                    }
-                } catch (IllegalArgumentException illegalArgumentException) {
-                    LOGGER.error("Received unknown message type for message: {}", csv, illegalArgumentException);
+                        }
+                        break;
+                    case TIMESTAMP:
+                        synchronized (messageReceivedLock) {
+                            handleTimestampMessage(csv, 0);
+                        }
+                        break;
+                    case TRADE_CORRECTION:
+                        handleTradeCorrectionMessage(csv);
+                        break;
+                    case SYMBOL_NOT_WATCHED:
+                        handleSymbolNotWatched(csv);
+                        break;
+                    default:
+                        LOGGER.error("Unhandled message type: {}", messageType);
+                }
+            } catch (IllegalArgumentException illegalArgumentException) {
+                LOGGER.error("Received unknown message type for message: {}", csv, illegalArgumentException);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * {@link Level1MessageType#SUMMARY} and {@link Level1MessageType#UPDATE} messages are mapped directly from the
+     * {@link CSVRecord} so that unselected or unmapped {@link SummaryUpdate} fields are never decoded. All other
+     * messages are handled by {@link #onMessageReceived(String[])}.
+     * <br>
+     * If {@link #level1LatencyMetrics} is set, the latencies of {@link Level1MessageType} messages are recorded into
+     * it.
+     */
+    @Override
+    protected void onMessageReceived(CSVRecord csv) {
+        if (valueEquals(csv, 0, Level1MessageType.UPDATE.value())) {
+            handleSummaryUpdateMessage(csv, Level1MessageType.UPDATE);
+        } else if (valueEquals(csv, 0, Level1MessageType.SUMMARY.value())) {
+            handleSummaryUpdateMessage(csv, Level1MessageType.SUMMARY);
+        } else {
+            Level1LatencyMetrics latencyMetrics = level1LatencyMetrics;
+            if (latencyMetrics == null || csv.getReceivedNanoTime() == 0) {
+                super.onMessageReceived(csv);
+                return;
+            }
+
+            Level1MessageType messageType = getLevel1MessageType(csv);
+            if (messageType == Level1MessageType.TIMESTAMP) {
+                synchronized (messageReceivedLock) {
+                    handleTimestampMessage(csv.toArray(), csv.getReceivedNanoTime());
+                }
+            } else {
+                super.onMessageReceived(csv);
+            }
+
+            if (messageType != null) {
+                latencyMetrics.record(messageType, csv.getReceivedNanoTime(), 0, System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * Gets the {@link Level1MessageType} of the given <code>csv</code> without allocating.
+     *
+     * @param csv the {@link CSVRecord}
+     *
+     * @return the {@link Level1MessageType} or <code>null</code> if the message isn't a {@link Level1MessageType}
+     */
+    private static Level1MessageType getLevel1MessageType(CSVRecord csv) {
+        if (csv.fieldLength(0) != 1) {
+            return null;
+        }
+
+        byte messageType = csv.field(0).byteAt(0);
+        return messageType > 0 ? LEVEL1_MESSAGE_TYPES_OF_BYTES[messageType] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * The {@link System#nanoTime()} is only recorded if {@link Level1LatencyMetrics} are enabled.
+     */
+    @Override
+    protected boolean isReceivedNanoTimeRecorded() {
+        return level1LatencyMetrics != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Symbol messages ({@link Level1MessageType#FUNDAMENTAL}, {@link Level1MessageType#SUMMARY},
+     * {@link Level1MessageType#UPDATE}, {@link Level1MessageType#REGIONAL_UPDATE},
+     * {@link Level1MessageType#TRADE_CORRECTION}, and {@link Level1MessageType#SYMBOL_NOT_WATCHED}) are dispatched on
+     * the lane that their symbol hashes to, so messages of the same symbol are handled in order, while messages of
+     * different symbols are handled in parallel. System messages are dispatched after all lanes have handled their
+     * messages (e.g. so that a {@link Level1SystemMessageType#CURRENT_UPDATE_FIELDNAMES} message applies to exactly
+     * the messages received after it) and all other messages are dispatched on the first lane.
+     */
+    @Override
+    protected int selectDispatchLane(ByteSlice line, int laneCount) {
+        if (laneCount == 1 || line.length() < 2 || line.byteAt(1) != ',') {
+            return 0;
+        }
+
+        byte messageType = line.byteAt(0);
+        if (messageType == SYSTEM_MESSAGE_TYPE) {
+            return FeedDispatcher.ALL_LANES;
+        } else if (messageType > 0 && SYMBOL_MESSAGE_TYPES[messageType]) {
+            // Hash the symbol in the second field
+            int symbolHash = 0;
+            for (int index = 2; index < line.length(); index++) {
+                byte value = line.byteAt(index);
+                if (value == ',') {
+                    break;
                 }
+                symbolHash = 31 * symbolHash + value;
             }
+            return (symbolHash & Integer.MAX_VALUE) % laneCount;
+        } else {
+            return 0;
         }
     }
 
@@ -608,7 +785,18 @@ public class Level1Feed extends AbstractServerConnectionFeed {
 
         try {
             List<SummaryUpdateField> currentSummaryUpdateFields = summaryUpdateFieldsList.get();
-            summaryUpdateCSVMapper = new IndexCSVMapper<>(SummaryUpdate::new);
+            // The first fieldset is the default fieldset, which is sent upon connection
+            if (defaultSummaryUpdateFields == null) {
+                defaultSummaryUpdateFields = currentSummaryUpdateFields;
+                selectedSummaryUpdateFields = EnumSet.noneOf(SummaryUpdateField.class);
+                currentSummaryUpdateFields.stream().filter(Objects::nonNull).forEach(selectedSummaryUpdateFields::add);
+                selectedSummaryUpdateFields.remove(SYMBOL);
+            }
+            IndexCSVMapper<SummaryUpdate> newSummaryUpdateCSVMapper = new IndexCSVMapper<>(SummaryUpdate::new);
+            IndexCSVMapper<SummaryUpdate> newPrimitiveSummaryUpdateCSVMapper =
+                    new IndexCSVMapper<>(PrimitiveSummaryUpdate::new);
+            IndexCSVMapper<SummaryUpdate> newFixedPointSummaryUpdateCSVMapper =
+                    new IndexCSVMapper<>(() -> new PrimitiveSummaryUpdate(summaryUpdatePriceScale));
 
             for (int index = 0; index < currentSummaryUpdateFields.size(); index++) {
                 SummaryUpdateField summaryUpdateField = currentSummaryUpdateFields.get(index);
@@ -623,8 +811,18 @@ public class Level1Feed extends AbstractServerConnectionFeed {
                     continue;
                 }
 
-                summaryUpdateCSVMapper.setMapping(index, summaryUpdateFieldMapping);
+                newSummaryUpdateCSVMapper.setMapping(index, summaryUpdateFieldMapping);
+                newPrimitiveSummaryUpdateCSVMapper.setMapping(index,
+                        CSV_MAPPINGS_OF_PRIMITIVE_SUMMARY_UPDATE_FIELDS.get(summaryUpdateField));
+                newFixedPointSummaryUpdateCSVMapper.setMapping(index,
+                        CSV_MAPPINGS_OF_FIXED_POINT_SUMMARY_UPDATE_FIELDS.get(summaryUpdateField));
             }
+            // Publish the fully built mappers since summary/update messages are handled without 'messageReceivedLock'
+            summaryUpdateCSVMapper = newSummaryUpdateCSVMapper;
+            primitiveSummaryUpdateCSVMapper = newPrimitiveSummaryUpdateCSVMapper;
+            fixedPointSummaryUpdateCSVMapper = newFixedPointSummaryUpdateCSVMapper;
+            lazySummaryUpdateLayout = new LazySummaryUpdate.Layout(currentSummaryUpdateFields,
+                    CSV_MAPPINGS_OF_SUMMARY_UPDATE_FIELDS, 1);
 
             LOGGER.debug("Successfully mapped summary/update CSV messages to: {}", currentSummaryUpdateFields);
         } catch (Exception exception) {
@@ -677,29 +875,82 @@ public class Level1Feed extends AbstractServerConnectionFeed {
 
     private void handleSummaryUpdateMessage(String[] csv, Level1MessageType messageType) {
         try {
-            SummaryUpdate summaryUpdate = summaryUpdateCSVMapper.map(csv, 1);
-            FeedMessageListener<SummaryUpdate> listener =
-                    summaryUpdateListenersOfSymbols.get(summaryUpdate.getSymbol());
-            if (listener == null) {
-                LOGGER.trace("Received SummaryUpdate, but no listener for symbol {} exists!",
-                        summaryUpdate.getSymbol());
-            } else {
-                switch (messageType) {
-                    case SUMMARY:
-                        summaryUpdate.setType(SummaryUpdate.Type.SUMMARY);
-                        break;
-                    case UPDATE:
-                        summaryUpdate.setType(SummaryUpdate.Type.UPDATE);
-                        break;
-                }
+            SummaryUpdate summaryUpdate;
+            switch (summaryUpdateDecodeMode) {
+                case LAZY:
+                    summaryUpdate = new LazySummaryUpdate(lazySummaryUpdateLayout, csv);
+                    break;
+                case PRIMITIVE:
+                    summaryUpdate = primitiveSummaryUpdateCSVMapper.map(csv, 1);
+                    break;
+                case FIXED_POINT:
+                    summaryUpdate = fixedPointSummaryUpdateCSVMapper.map(csv, 1);
+                    break;
+                default:
+                    summaryUpdate = summaryUpdateCSVMapper.map(csv, 1);
+                    break;
+            }
+            handleSummaryUpdate(summaryUpdate, messageType);
+        } catch (Exception exception) {
+            LOGGER.error("Could not handle SummaryUpdate message!", exception);
+        }
+    }
+
+    private void handleSummaryUpdateMessage(CSVRecord csv, Level1MessageType messageType) {
+        try {
+            SummaryUpdate summaryUpdate;
+            switch (summaryUpdateDecodeMode) {
+                case LAZY:
+                    // A 'LazySummaryUpdate' needs its own copy of the line since 'csv' is reused for the next message
+                    summaryUpdate = new LazySummaryUpdate(lazySummaryUpdateLayout, csv.copy());
+                    break;
+                case PRIMITIVE:
+                    summaryUpdate = primitiveSummaryUpdateCSVMapper.map(csv, 1);
+                    break;
+                case FIXED_POINT:
+                    summaryUpdate = fixedPointSummaryUpdateCSVMapper.map(csv, 1);
+                    break;
+                default:
+                    summaryUpdate = summaryUpdateCSVMapper.map(csv, 1);
+                    break;
+            }
 
-                listener.onMessageReceived(summaryUpdate);
+            Level1LatencyMetrics latencyMetrics = level1LatencyMetrics;
+            if (latencyMetrics == null || csv.getReceivedNanoTime() == 0) {
+                handleSummaryUpdate(summaryUpdate, messageType);
+            } else {
+                long mappedNanoTime = System.nanoTime();
+                handleSummaryUpdate(summaryUpdate, messageType);
+                latencyMetrics.record(messageType, csv.getReceivedNanoTime(), mappedNanoTime, System.nanoTime());
             }
         } catch (Exception exception) {
             LOGGER.error("Could not handle SummaryUpdate message!", exception);
         }
     }
 
+    private void handleSummaryUpdate(SummaryUpdate summaryUpdate, Level1MessageType messageType) {
+        Level1SnapshotStore snapshotStore = level1SnapshotStore;
+        if (snapshotStore != null) {
+            snapshotStore.update(summaryUpdate);
+        }
+
+        FeedMessageListener<SummaryUpdate> listener = summaryUpdateListenersOfSymbols.get(summaryUpdate.getSymbol());
+        if (listener == null) {
+            LOGGER.trace("Received SummaryUpdate, but no listener for symbol {} exists!", summaryUpdate.getSymbol());
+        } else {
+            switch (messageType) {
+                case SUMMARY:
+                    summaryUpdate.setType(SummaryUpdate.Type.SUMMARY);
+                    break;
+                case UPDATE:
+                    summaryUpdate.setType(SummaryUpdate.Type.UPDATE);
+                    break;
+            }
+
+            listener.onMessageReceived(summaryUpdate);
+        }
+    }
+
     private void handleRegionalUpdateMessage(String[] csv) {
         try {
             RegionalQuote regionalQuote = REGIONAL_QUOTE_CSV_MAPPER.map(csv, 1);
@@ -729,11 +980,16 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         }
     }
 
-    private void handleTimestampMessage(String[] csv) {
+    private void handleTimestampMessage(String[] csv, long receivedNanoTime) {
         try {
             LocalDateTime timestamp = TIMESTAMP_CSV_MAPPER.map(csv, 1);
             latestTimestamp = timestamp;
 
+            Level1LatencyMetrics latencyMetrics = level1LatencyMetrics;
+            if (latencyMetrics != null && receivedNanoTime != 0) {
+                latencyMetrics.recordServerTimestamp(timestamp, receivedNanoTime);
+            }
+
             if (!timestampFuturesQueue.isEmpty()) {
                 timestampFuturesQueue.poll().complete(timestamp);
             }
@@ -841,12 +1097,18 @@ public class Level1Feed extends AbstractServerConnectionFeed {
 
         synchronized (messageReceivedLock) {
             fundamentalDataListenersOfSymbols.put(symbol, fundamentalDataListener);
-            summaryUpdateListenersOfSymbols.put(symbol, summaryUpdateListener);
+            summaryUpdateListenersOfSymbols.put(symbol, conflateIfEnabled(summaryUpdateListener));
+            requiredSummaryUpdateFieldsOfSymbols.put(symbol, getRequiredSummaryUpdateFields(summaryUpdateListener));
             if (tradeCorrectionListener != null) {
                 tradeCorrectionListenersOfSymbols.put(symbol, tradeCorrectionListener);
             }
         }
 
+        // Select the fieldset before watching so that the first summary message of the symbol already uses it
+        if (automaticUpdateFieldSelection) {
+            selectRequiredUpdateFieldNames();
+        }
+
         // If symbol is already being watched, nothing happens
         sendAndLogMessage(requestBuilder.toString());
     }
@@ -896,12 +1158,18 @@ public class Level1Feed extends AbstractServerConnectionFeed {
 
         synchronized (messageReceivedLock) {
             fundamentalDataListenersOfSymbols.put(symbol, fundamentalDataListener);
-            summaryUpdateListenersOfSymbols.put(symbol, summaryUpdateListener);
+            summaryUpdateListenersOfSymbols.put(symbol, conflateIfEnabled(summaryUpdateListener));
+            requiredSummaryUpdateFieldsOfSymbols.put(symbol, getRequiredSummaryUpdateFields(summaryUpdateListener));
             if (tradeCorrectionListener != null) {
                 tradeCorrectionListenersOfSymbols.put(symbol, tradeCorrectionListener);
             }
         }
 
+        // Select the fieldset before watching so that the first summary message of the symbol already uses it
+        if (automaticUpdateFieldSelection) {
+            selectRequiredUpdateFieldNames();
+        }
+
         // If symbol is already being watched, nothing happens
         sendAndLogMessage(requestBuilder.toString());
     }
@@ -922,14 +1190,316 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         requestBuilder.append(symbol);
         requestBuilder.append(LineEnding.CR_LF.getASCIIString());
 
-        synchronized (messageReceivedLock) {
-            fundamentalDataListenersOfSymbols.remove(symbol);
-            summaryUpdateListenersOfSymbols.remove(symbol);
-            regionalQuoteListenersOfSymbols.remove(symbol);
-            tradeCorrectionListenersOfSymbols.remove(symbol);
+        synchronized (subscriptionLock) {
+            subscribersOfSymbols.remove(symbol);
+            synchronized (messageReceivedLock) {
+                fundamentalDataListenersOfSymbols.remove(symbol);
+                summaryUpdateListenersOfSymbols.remove(symbol);
+                requiredSummaryUpdateFieldsOfSymbols.remove(symbol);
+                regionalQuoteListenersOfSymbols.remove(symbol);
+                tradeCorrectionListenersOfSymbols.remove(symbol);
+            }
         }
 
         sendAndLogMessage(requestBuilder.toString());
+
+        if (automaticUpdateFieldSelection) {
+            selectRequiredUpdateFieldNames();
+        }
+    }
+
+    /**
+     * Calls {@link #requestWatchAll(Collection, FeedMessageListener, FeedMessageListener, FeedMessageListener)} with
+     * <code>tradeCorrectionListener</code> set to <code>null</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatchAll(Collection<String> symbols,
+            FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener) throws IOException {
+        requestWatchAll(symbols, fundamentalDataListener, summaryUpdateListener, null);
+    }
+
+    /**
+     * Begins watching the given <code>symbols</code> for Level 1 updates with the given listeners. This is the same as
+     * calling {@link #requestWatch(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)} for each
+     * symbol, except that the {@link Level1Command#WATCH} requests are coalesced into batched socket writes (see
+     * {@link #setBulkRequestBatchSize(int)} and {@link #setBulkRequestBatchDelay(Duration)}) and the required
+     * {@link SummaryUpdateField}s are selected only once, which makes watching thousands of symbols much faster.
+     *
+     * @param symbols                 the symbols that you wish to receive updates on
+     * @param fundamentalDataListener the {@link FeedMessageListener} of {@link FundamentalData} for all
+     *                                <code>symbols</code>. Note if a {@link FeedMessageListener} already exists for a
+     *                                symbol, then it is overwritten with this one.
+     * @param summaryUpdateListener   the {@link FeedMessageListener} of {@link SummaryUpdate}s for all
+     *                                <code>symbols</code>. Note if a {@link FeedMessageListener} already exists for a
+     *                                symbol, then it is overwritten with this one.
+     * @param tradeCorrectionListener the {@link FeedMessageListener} of {@link TradeCorrection}s for all
+     *                                <code>symbols</code>. Set to <code>null</code> if {@link TradeCorrection}
+     *                                messages should not be listened to. Note if a {@link FeedMessageListener} already
+     *                                exists for a symbol, then it is overwritten with this one.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatchAll(Collection<String> symbols,
+            FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        checkNotNull(symbols);
+        checkNotNull(fundamentalDataListener);
+        checkNotNull(summaryUpdateListener);
+
+        List<String> requests = new ArrayList<>(symbols.size());
+        for (String symbol : symbols) {
+            checkNotNull(symbol);
+            requests.add(Level1Command.WATCH.value() + symbol + LineEnding.CR_LF.getASCIIString());
+        }
+
+        synchronized (messageReceivedLock) {
+            Set<SummaryUpdateField> requiredSummaryUpdateFields = getRequiredSummaryUpdateFields(summaryUpdateListener);
+            for (String symbol : symbols) {
+                fundamentalDataListenersOfSymbols.put(symbol, fundamentalDataListener);
+                summaryUpdateListenersOfSymbols.put(symbol, conflateIfEnabled(summaryUpdateListener));
+                requiredSummaryUpdateFieldsOfSymbols.put(symbol, requiredSummaryUpdateFields);
+                if (tradeCorrectionListener != null) {
+                    tradeCorrectionListenersOfSymbols.put(symbol, tradeCorrectionListener);
+                }
+            }
+        }
+
+        // Select the fieldset before watching so that the first summary messages of the symbols already use it
+        if (automaticUpdateFieldSelection) {
+            selectRequiredUpdateFieldNames();
+        }
+
+        LOGGER.debug("Watching {} symbols.", requests.size());
+        sendMessages(requests);
+    }
+
+    /**
+     * Terminates Level 1 updates for the given <code>symbols</code> (including regionals). This is the same as calling
+     * {@link #requestUnwatch(String)} for each symbol, except that the {@link Level1Command#UNWATCH} requests are
+     * coalesced into batched socket writes (see {@link #setBulkRequestBatchSize(int)} and
+     * {@link #setBulkRequestBatchDelay(Duration)}).
+     *
+     * @param symbols the symbols that you wish to terminate updates on
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestUnwatchAll(Collection<String> symbols) throws IOException {
+        checkNotNull(symbols);
+
+        List<String> requests = new ArrayList<>(symbols.size());
+        for (String symbol : symbols) {
+            checkNotNull(symbol);
+            requests.add(Level1Command.UNWATCH.value() + symbol + LineEnding.CR_LF.getASCIIString());
+        }
+
+        synchronized (subscriptionLock) {
+            synchronized (messageReceivedLock) {
+                for (String symbol : symbols) {
+                    subscribersOfSymbols.remove(symbol);
+                    fundamentalDataListenersOfSymbols.remove(symbol);
+                    summaryUpdateListenersOfSymbols.remove(symbol);
+                    requiredSummaryUpdateFieldsOfSymbols.remove(symbol);
+                    regionalQuoteListenersOfSymbols.remove(symbol);
+                    tradeCorrectionListenersOfSymbols.remove(symbol);
+                }
+            }
+        }
+
+        LOGGER.debug("Unwatching {} symbols.", requests.size());
+        sendMessages(requests);
+
+        if (automaticUpdateFieldSelection) {
+            selectRequiredUpdateFieldNames();
+        }
+    }
+
+    /**
+     * Subscribes the given listeners to Level 1 updates of the given <code>symbol</code>. Unlike
+     * {@link #requestWatch(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)}, any number of
+     * listeners can be subscribed to the same <code>symbol</code>, so that multiple consumers can share one
+     * {@link Level1Feed}. Each message is parsed once and then passed to every subscribed listener via a
+     * {@link FanOutFeedMessageListener}.
+     * <br>
+     * Subscriptions are reference counted: only the first subscription of a <code>symbol</code> sends a
+     * {@link Level1Command#WATCH} request and only the last {@link #unsubscribe(String, FeedMessageListener,
+     * FeedMessageListener, FeedMessageListener)} sends a {@link Level1Command#UNWATCH} request. Every later
+     * subscription sends a {@link Level1Command#FORCE_WATCH_REFRESH} request instead so that its listeners also
+     * receive the current {@link FundamentalData} and summary {@link SummaryUpdate} (which are then also received by
+     * the existing listeners of the <code>symbol</code>).
+     * <br>
+     * This method should not be called with a <code>symbol</code> that is watched via
+     * {@link #requestWatch(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)} or
+     * {@link #requestWatchTrades(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)}.
+     * {@link #requestUnwatch(String)} and {@link #requestUnwatchAll()} remove all subscriptions of their symbols.
+     *
+     * @param symbol                  the symbol that you wish to receive updates on
+     * @param fundamentalDataListener the {@link FeedMessageListener} of {@link FundamentalData} or <code>null</code>
+     * @param summaryUpdateListener   the {@link FeedMessageListener} of {@link SummaryUpdate}s or <code>null</code>
+     * @param tradeCorrectionListener the {@link FeedMessageListener} of {@link TradeCorrection}s or
+     *                                <code>null</code>
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void subscribe(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        checkNotNull(symbol);
+        checkArgument(fundamentalDataListener != null || summaryUpdateListener != null ||
+                tradeCorrectionListener != null, "At least one listener must be given!");
+
+        synchronized (subscriptionLock) {
+            SymbolSubscribers subscribers = subscribersOfSymbols.get(symbol);
+            boolean firstSubscription = subscribers == null;
+            if (firstSubscription) {
+                subscribers = new SymbolSubscribers();
+                subscribersOfSymbols.put(symbol, subscribers);
+            }
+            subscribers.add(fundamentalDataListener, summaryUpdateListener, tradeCorrectionListener);
+
+            synchronized (messageReceivedLock) {
+                if (firstSubscription) {
+                    fundamentalDataListenersOfSymbols.put(symbol, subscribers.fundamentalDataListeners);
+                    summaryUpdateListenersOfSymbols.put(symbol, conflateIfEnabled(subscribers.summaryUpdateListeners));
+                    tradeCorrectionListenersOfSymbols.put(symbol, subscribers.tradeCorrectionListeners);
+                }
+                requiredSummaryUpdateFieldsOfSymbols.put(symbol,
+                        getRequiredSummaryUpdateFields(subscribers.summaryUpdateListeners));
+            }
+
+            if (automaticUpdateFieldSelection) {
+                selectRequiredUpdateFieldNames();
+            }
+
+            if (firstSubscription) {
+                StringBuilder requestBuilder = new StringBuilder();
+                requestBuilder.append(Level1Command.WATCH.value());
+                requestBuilder.append(symbol);
+                requestBuilder.append(LineEnding.CR_LF.getASCIIString());
+
+                sendAndLogMessage(requestBuilder.toString());
+            } else {
+                requestForceRefresh(symbol);
+            }
+        }
+    }
+
+    /**
+     * Unsubscribes the given listeners that were subscribed to the given <code>symbol</code> via
+     * {@link #subscribe(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)}. The listeners must
+     * be the same instances that were subscribed together. If this removes the last subscription of the
+     * <code>symbol</code>, then the <code>symbol</code> is unwatched via {@link #requestUnwatch(String)}.
+     *
+     * @param symbol                  the symbol that you wish to stop receiving updates on
+     * @param fundamentalDataListener the subscribed {@link FeedMessageListener} of {@link FundamentalData} or
+     *                                <code>null</code>
+     * @param summaryUpdateListener   the subscribed {@link FeedMessageListener} of {@link SummaryUpdate}s or
+     *                                <code>null</code>
+     * @param tradeCorrectionListener the subscribed {@link FeedMessageListener} of {@link TradeCorrection}s or
+     *                                <code>null</code>
+     *
+     * @return true if a subscription was removed, false if no matching subscription exists
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public boolean unsubscribe(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        checkNotNull(symbol);
+
+        synchronized (subscriptionLock) {
+            SymbolSubscribers subscribers = subscribersOfSymbols.get(symbol);
+            if (subscribers == null ||
+                    !subscribers.remove(fundamentalDataListener, summaryUpdateListener, tradeCorrectionListener)) {
+                return false;
+            }
+
+            if (subscribers.subscriptionCount == 0) {
+                requestUnwatch(symbol);
+                return true;
+            }
+
+            synchronized (messageReceivedLock) {
+                requiredSummaryUpdateFieldsOfSymbols.put(symbol,
+                        getRequiredSummaryUpdateFields(subscribers.summaryUpdateListeners));
+            }
+
+            if (automaticUpdateFieldSelection) {
+                selectRequiredUpdateFieldNames();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Gets the number of subscriptions of the given <code>symbol</code> made via
+     * {@link #subscribe(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)}.
+     *
+     * @param symbol the symbol
+     *
+     * @return an int
+     */
+    public int getSubscriptionCount(String symbol) {
+        synchronized (subscriptionLock) {
+            SymbolSubscribers subscribers = subscribersOfSymbols.get(symbol);
+            return subscribers == null ? 0 : subscribers.subscriptionCount;
+        }
+    }
+
+    /**
+     * Wraps the given {@link FeedMessageListener} of {@link SummaryUpdate}s in a
+     * {@link ConflatingSummaryUpdateListener} if a {@link #summaryUpdateConflationExecutor} is set.
+     *
+     * @param summaryUpdateListener the {@link FeedMessageListener} of {@link SummaryUpdate}s
+     *
+     * @return the {@link FeedMessageListener} to register
+     */
+    private FeedMessageListener<SummaryUpdate> conflateIfEnabled(
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener) {
+        if (summaryUpdateConflationExecutor == null) {
+            return summaryUpdateListener;
+        } else {
+            return new ConflatingSummaryUpdateListener(summaryUpdateListener, summaryUpdateConflationExecutor);
+        }
+    }
+
+    /**
+     * Gets the {@link SelectiveSummaryUpdateListener#getRequiredSummaryUpdateFields()} of the given
+     * {@link FeedMessageListener} of {@link SummaryUpdate}s. For a {@link FanOutFeedMessageListener}, this is the
+     * union of the required {@link SummaryUpdateField}s of its listeners.
+     *
+     * @param summaryUpdateListener the {@link FeedMessageListener} of {@link SummaryUpdate}s
+     *
+     * @return the required {@link SummaryUpdateField}s or <code>null</code> if the <code>summaryUpdateListener</code>
+     * isn't a {@link SelectiveSummaryUpdateListener}
+     */
+    private Set<SummaryUpdateField> getRequiredSummaryUpdateFields(
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener) {
+        if (summaryUpdateListener instanceof FanOutFeedMessageListener) {
+            EnumSet<SummaryUpdateField> requiredSummaryUpdateFields = EnumSet.noneOf(SummaryUpdateField.class);
+            for (FeedMessageListener<SummaryUpdate> listener :
+                    ((FanOutFeedMessageListener<SummaryUpdate>) summaryUpdateListener).getListeners()) {
+                Set<SummaryUpdateField> listenerRequiredSummaryUpdateFields = getRequiredSummaryUpdateFields(listener);
+                if (listenerRequiredSummaryUpdateFields == null) {
+                    return null;
+                }
+                requiredSummaryUpdateFields.addAll(listenerRequiredSummaryUpdateFields);
+            }
+            return requiredSummaryUpdateFields;
+        }
+
+        if (!(summaryUpdateListener instanceof SelectiveSummaryUpdateListener)) {
+            return null;
+        }
+
+        Set<SummaryUpdateField> requiredSummaryUpdateFields =
+                ((SelectiveSummaryUpdateListener) summaryUpdateListener).getRequiredSummaryUpdateFields();
+        checkNotNull(requiredSummaryUpdateFields);
+        EnumSet<SummaryUpdateField> requiredSummaryUpdateFieldsCopy = EnumSet.noneOf(SummaryUpdateField.class);
+        requiredSummaryUpdateFieldsCopy.addAll(requiredSummaryUpdateFields);
+        return requiredSummaryUpdateFieldsCopy;
     }
 
     /**
@@ -1148,6 +1718,10 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         SingleMessageFuture<List<SummaryUpdateField>> future = new SingleMessageFuture<>();
         synchronized (messageReceivedLock) {
             currentUpdateFieldNamesFuturesQueue.add(future);
+
+            selectedSummaryUpdateFields = EnumSet.noneOf(SummaryUpdateField.class);
+            selectedSummaryUpdateFields.addAll(Arrays.asList(summaryUpdateFields));
+            selectedSummaryUpdateFields.remove(SYMBOL);
         }
 
         sendLevel1SystemCommand(Level1SystemCommand.SELECT_UPDATE_FIELDS,
@@ -1156,6 +1730,58 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         return future;
     }
 
+    /**
+     * Selects the union of the {@link SummaryUpdateField}s required by the summary/update listeners of all watched
+     * symbols via {@link #selectUpdateFieldNames(SummaryUpdateField...)}. A listener that is a
+     * {@link SelectiveSummaryUpdateListener} requires its
+     * {@link SelectiveSummaryUpdateListener#getRequiredSummaryUpdateFields()} and any other listener requires the
+     * default fieldset of this connection. If a {@link #level1SnapshotStore} is set, the {@link SummaryUpdateField}s of
+     * all {@link Level1SnapshotStore.Field}s are also required. This is called automatically upon watching or
+     * unwatching a symbol if {@link #automaticUpdateFieldSelection} is enabled.
+     *
+     * @return the {@link SingleMessageFuture} of the {@link SummaryUpdateField}s for summary/update messages for this
+     * connection or <code>null</code> if the fieldset didn't change, if no symbols are watched, or if the default
+     * fieldset is required but hasn't been received yet
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public SingleMessageFuture<List<SummaryUpdateField>> selectRequiredUpdateFieldNames() throws IOException {
+        EnumSet<SummaryUpdateField> requiredSummaryUpdateFields = EnumSet.noneOf(SummaryUpdateField.class);
+        synchronized (messageReceivedLock) {
+            if (requiredSummaryUpdateFieldsOfSymbols.isEmpty()) {
+                return null;
+            }
+
+            for (Set<SummaryUpdateField> summaryUpdateFields : requiredSummaryUpdateFieldsOfSymbols.values()) {
+                if (summaryUpdateFields != null) {
+                    requiredSummaryUpdateFields.addAll(summaryUpdateFields);
+                } else if (defaultSummaryUpdateFields != null) {
+                    defaultSummaryUpdateFields.stream().filter(Objects::nonNull)
+                            .forEach(requiredSummaryUpdateFields::add);
+                } else {
+                    LOGGER.warn("Cannot select the required summary/update fields before the default fields are " +
+                            "received!");
+                    return null;
+                }
+            }
+
+            if (level1SnapshotStore != null) {
+                for (Level1SnapshotStore.Field field : Level1SnapshotStore.Field.values()) {
+                    requiredSummaryUpdateFields.add(field.getSummaryUpdateField());
+                }
+            }
+
+            requiredSummaryUpdateFields.remove(SYMBOL);
+            if (requiredSummaryUpdateFields.isEmpty() ||
+                    requiredSummaryUpdateFields.equals(selectedSummaryUpdateFields)) {
+                return null;
+            }
+        }
+
+        LOGGER.debug("Selecting required summary/update fields: {}", requiredSummaryUpdateFields);
+        return selectUpdateFieldNames(requiredSummaryUpdateFields.toArray(new SummaryUpdateField[0]));
+    }
+
     /**
      * Change the logging levels for IQFeed. This sends a {@link Level1SystemCommand#SET_LOG_LEVELS} request.
      *
@@ -1200,11 +1826,15 @@ public class Level1Feed extends AbstractServerConnectionFeed {
      * @throws IOException thrown for {@link IOException}s
      */
     public void requestUnwatchAll() throws IOException {
-        synchronized (messageReceivedLock) {
-            fundamentalDataListenersOfSymbols.clear();
-            summaryUpdateListenersOfSymbols.clear();
-            regionalQuoteListenersOfSymbols.clear();
-            tradeCorrectionListenersOfSymbols.clear();
+        synchronized (subscriptionLock) {
+            subscribersOfSymbols.clear();
+            synchronized (messageReceivedLock) {
+                fundamentalDataListenersOfSymbols.clear();
+                summaryUpdateListenersOfSymbols.clear();
+                requiredSummaryUpdateFieldsOfSymbols.clear();
+                regionalQuoteListenersOfSymbols.clear();
+                tradeCorrectionListenersOfSymbols.clear();
+            }
         }
 
         sendLevel1SystemCommand(Level1SystemCommand.UNWATCH_ALL);
@@ -1260,6 +1890,139 @@ public class Level1Feed extends AbstractServerConnectionFeed {
         }
     }
 
+    /**
+     * Gets {@link #summaryUpdateConflationExecutor}.
+     *
+     * @return the {@link Executor}
+     */
+    public Executor getSummaryUpdateConflationExecutor() {
+        return summaryUpdateConflationExecutor;
+    }
+
+    /**
+     * Sets {@link #summaryUpdateConflationExecutor}. If set, the {@link SummaryUpdate} listeners of symbols watched
+     * afterwards are wrapped in a {@link ConflatingSummaryUpdateListener}, so that a listener that can't keep up
+     * receives the latest merged {@link SummaryUpdate} on the given {@link Executor} instead of every intermediate
+     * {@link SummaryUpdate}. Defaults to <code>null</code> (no conflation).
+     *
+     * @param summaryUpdateConflationExecutor the {@link Executor} or <code>null</code> to disable conflation
+     */
+    public void setSummaryUpdateConflationExecutor(Executor summaryUpdateConflationExecutor) {
+        synchronized (messageReceivedLock) {
+            this.summaryUpdateConflationExecutor = summaryUpdateConflationExecutor;
+        }
+    }
+
+    /**
+     * Gets {@link #summaryUpdateDecodeMode}.
+     *
+     * @return the {@link SummaryUpdateDecodeMode}
+     */
+    public SummaryUpdateDecodeMode getSummaryUpdateDecodeMode() {
+        return summaryUpdateDecodeMode;
+    }
+
+    /**
+     * Sets {@link #summaryUpdateDecodeMode}. This applies to all {@link SummaryUpdate}s received afterwards. Defaults
+     * to {@link SummaryUpdateDecodeMode#EAGER}.
+     *
+     * @param summaryUpdateDecodeMode the {@link SummaryUpdateDecodeMode}
+     */
+    public void setSummaryUpdateDecodeMode(SummaryUpdateDecodeMode summaryUpdateDecodeMode) {
+        checkNotNull(summaryUpdateDecodeMode);
+        this.summaryUpdateDecodeMode = summaryUpdateDecodeMode;
+    }
+
+    /**
+     * Gets {@link #summaryUpdatePriceScale}.
+     *
+     * @return the price scale
+     */
+    public int getSummaryUpdatePriceScale() {
+        return summaryUpdatePriceScale;
+    }
+
+    /**
+     * Sets {@link #summaryUpdatePriceScale}, which is the scale of the fixed-point mantissas of the
+     * {@link PrimitiveSummaryUpdate}s of {@link SummaryUpdateDecodeMode#FIXED_POINT}. This should be at least the
+     * largest {@link SummaryUpdateField#DECIMAL_PRECISION} of the watched symbols, since any further fractional digits
+     * are rounded half-up. This applies to all {@link SummaryUpdate}s received afterwards. Defaults to
+     * {@link #DEFAULT_SUMMARY_UPDATE_PRICE_SCALE}.
+     *
+     * @param summaryUpdatePriceScale the price scale
+     */
+    public void setSummaryUpdatePriceScale(int summaryUpdatePriceScale) {
+        checkArgument(summaryUpdatePriceScale >= 0 && summaryUpdatePriceScale <= FixedPointUtil.MAX_SCALE,
+                "The price scale must be between 0 and %s!", FixedPointUtil.MAX_SCALE);
+        this.summaryUpdatePriceScale = summaryUpdatePriceScale;
+    }
+
+    /**
+     * Gets {@link #level1SnapshotStore}.
+     *
+     * @return the {@link Level1SnapshotStore}
+     */
+    public Level1SnapshotStore getLevel1SnapshotStore() {
+        return level1SnapshotStore;
+    }
+
+    /**
+     * Sets {@link #level1SnapshotStore}. If set, every received {@link SummaryUpdate} is written into the given
+     * {@link Level1SnapshotStore} before it's passed to its listener. Defaults to <code>null</code>.
+     * <br>
+     * If {@link #automaticUpdateFieldSelection} is enabled, the {@link SummaryUpdateField}s of the
+     * {@link Level1SnapshotStore} are selected upon the next watch or unwatch (or upon
+     * {@link #selectRequiredUpdateFieldNames()}).
+     *
+     * @param level1SnapshotStore the {@link Level1SnapshotStore} or <code>null</code>
+     */
+    public void setLevel1SnapshotStore(Level1SnapshotStore level1SnapshotStore) {
+        this.level1SnapshotStore = level1SnapshotStore;
+    }
+
+    /**
+     * Gets {@link #level1LatencyMetrics}.
+     *
+     * @return the {@link Level1LatencyMetrics}
+     */
+    public Level1LatencyMetrics getLevel1LatencyMetrics() {
+        return level1LatencyMetrics;
+    }
+
+    /**
+     * Sets {@link #level1LatencyMetrics}. If set, the wire-to-listener latencies of all messages received afterwards
+     * and the server clock offset of all {@link Level1MessageType#TIMESTAMP} messages received afterwards are recorded
+     * into the given {@link Level1LatencyMetrics}. Defaults to <code>null</code>, in which case no timestamps are
+     * taken.
+     *
+     * @param level1LatencyMetrics the {@link Level1LatencyMetrics} or <code>null</code>
+     */
+    public void setLevel1LatencyMetrics(Level1LatencyMetrics level1LatencyMetrics) {
+        this.level1LatencyMetrics = level1LatencyMetrics;
+    }
+
+    /**
+     * Is {@link #automaticUpdateFieldSelection}.
+     *
+     * @return a boolean
+     */
+    public boolean isAutomaticUpdateFieldSelection() {
+        return automaticUpdateFieldSelection;
+    }
+
+    /**
+     * Sets {@link #automaticUpdateFieldSelection}. If enabled, {@link #selectRequiredUpdateFieldNames()} is called
+     * upon every watch and unwatch so that IQFeed only sends the {@link SummaryUpdateField}s that are required by
+     * the {@link SelectiveSummaryUpdateListener}s of watched symbols. Note that a fieldset selected manually via
+     * {@link #selectUpdateFieldNames(SummaryUpdateField...)} is replaced upon the next watch or unwatch. Defaults to
+     * <code>false</code>.
+     *
+     * @param automaticUpdateFieldSelection true to enable, false to disable
+     */
+    public void setAutomaticUpdateFieldSelection(boolean automaticUpdateFieldSelection) {
+        this.automaticUpdateFieldSelection = automaticUpdateFieldSelection;
+    }
+
     /**
      * Gets {@link #newsHeadlineListener}.
      *
@@ -1306,4 +2069,108 @@ public class Level1Feed extends AbstractServerConnectionFeed {
     public FeedStatistics getLatestFeedStatistics() {
         return latestFeedStatistics;
     }
+
+    /**
+     * {@link SymbolSubscribers} holds the {@link FanOutFeedMessageListener}s and the subscription count of a symbol
+     * watched via {@link #subscribe(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)}.
+     */
+    protected static class SymbolSubscribers {
+
+        protected final FanOutFeedMessageListener<FundamentalData> fundamentalDataListeners;
+        protected final FanOutFeedMessageListener<SummaryUpdate> summaryUpdateListeners;
+        protected final FanOutFeedMessageListener<TradeCorrection> tradeCorrectionListeners;
+        protected int subscriptionCount;
+
+        /**
+         * Instantiates a new {@link SymbolSubscribers}.
+         */
+        protected SymbolSubscribers() {
+            fundamentalDataListeners = new FanOutFeedMessageListener<>();
+            summaryUpdateListeners = new FanOutFeedMessageListener<>();
+            tradeCorrectionListeners = new FanOutFeedMessageListener<>();
+        }
+
+        /**
+         * Adds a subscription of the given non-null listeners.
+         *
+         * @param fundamentalDataListener the {@link FeedMessageListener} of {@link FundamentalData}
+         * @param summaryUpdateListener   the {@link FeedMessageListener} of {@link SummaryUpdate}s
+         * @param tradeCorrectionListener the {@link FeedMessageListener} of {@link TradeCorrection}s
+         */
+        protected void add(FeedMessageListener<FundamentalData> fundamentalDataListener,
+                FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+                FeedMessageListener<TradeCorrection> tradeCorrectionListener) {
+            if (fundamentalDataListener != null) {
+                fundamentalDataListeners.addListener(fundamentalDataListener);
+            }
+            if (summaryUpdateListener != null) {
+                summaryUpdateListeners.addListener(summaryUpdateListener);
+            }
+            if (tradeCorrectionListener != null) {
+                tradeCorrectionListeners.addListener(tradeCorrectionListener);
+            }
+            subscriptionCount++;
+        }
+
+        /**
+         * Removes a subscription of the given non-null listeners.
+         *
+         * @param fundamentalDataListener the {@link FeedMessageListener} of {@link FundamentalData}
+         * @param summaryUpdateListener   the {@link FeedMessageListener} of {@link SummaryUpdate}s
+         * @param tradeCorrectionListener the {@link FeedMessageListener} of {@link TradeCorrection}s
+         *
+         * @return true if any of the given listeners were removed, false otherwise
+         */
+        protected boolean remove(FeedMessageListener<FundamentalData> fundamentalDataListener,
+                FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+                FeedMessageListener<TradeCorrection> tradeCorrectionListener) {
+            boolean removed = fundamentalDataListener != null &&
+                    fundamentalDataListeners.removeListener(fundamentalDataListener);
+            removed |= summaryUpdateListener != null && summaryUpdateListeners.removeListener(summaryUpdateListener);
+            removed |= tradeCorrectionListener != null &&
+                    tradeCorrectionListeners.removeListener(tradeCorrectionListener);
+            if (removed) {
+                subscriptionCount--;
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * {@link SummaryUpdateDecodeMode} defines when the fields of a received {@link SummaryUpdate} are decoded.
+     */
+    public enum SummaryUpdateDecodeMode {
+
+        /**
+         * Decodes every selected {@link SummaryUpdateField} of a {@link SummaryUpdate} message before it's passed to
+         * its listener. A message with a malformed field is logged and dropped.
+         */
+        EAGER,
+
+        /**
+         * Passes a {@link LazySummaryUpdate} to the listener, which decodes a {@link SummaryUpdateField} only when its
+         * getter is first called. This is faster when listeners only read a few fields. Note that a
+         * {@link Level1SnapshotStore} reads all of its {@link Level1SnapshotStore.Field}s.
+         */
+        LAZY,
+
+        /**
+         * Decodes every selected {@link SummaryUpdateField} into a {@link PrimitiveSummaryUpdate}, which stores its
+         * numeric and time fields as primitives, so no boxed number or {@link LocalTime} is allocated per message.
+         * Listeners read these fields without allocating via
+         * {@link PrimitiveSummaryUpdate#getDouble(SummaryUpdateField)},
+         * {@link PrimitiveSummaryUpdate#getLong(SummaryUpdateField)}, and
+         * {@link PrimitiveSummaryUpdate#getNanoOfDay(SummaryUpdateField)}. A message with a malformed field is logged
+         * and dropped.
+         */
+        PRIMITIVE,
+
+        /**
+         * Same as {@link #PRIMITIVE}, but the <code>double</code> fields are parsed directly into fixed-point mantissas
+         * at the {@link Level1Feed#getSummaryUpdatePriceScale()} (see {@link FixedPointUtil}) instead of into
+         * <code>double</code>s, so prices have no binary rounding error. Listeners read the mantissas via
+         * {@link PrimitiveSummaryUpdate#getFixedPoint(SummaryUpdateField, int)}.
+         */
+        FIXED_POINT
+    }
 }
@@ -0,0 +1,432 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import com.google.common.hash.Hashing;
+import net.jacobpeterson.iqfeed4j.feed.message.FeedMessageListener;
+import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1Feed.SummaryUpdateDecodeMode;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.FundamentalData;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.RegionalQuote;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.TradeCorrection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link Level1FeedGroup} spreads Level 1 watches across multiple {@link Level1Feed} connections to the same
+ * IQConnect port, so that the messages of a large watchlist are read and parsed by multiple socket threads in parallel
+ * instead of by a single one.
+ * <br>
+ * Each symbol is assigned to one {@link Level1Feed} by a consistent hash of the symbol (see
+ * {@link #getLevel1Feed(String)}), so all messages of a symbol are received in order on the same connection. The
+ * symbol methods of this class have the same semantics as their {@link Level1Feed} counterparts. Connection-wide
+ * requests (e.g. {@link Level1Feed#requestFeedStatistics()} or {@link Level1Feed#enableNews(boolean)}) should be
+ * made on one of the {@link #getLevel1Feeds()} directly. The {@link Level1Feed}s are instantiated, but not started,
+ * by the constructor, so they can be configured (e.g. with {@link Level1Feed#setFeedEventLoop}) before
+ * {@link #start()}.
+ */
+public class Level1FeedGroup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Level1FeedGroup.class);
+
+    protected final Level1Feed[] level1Feeds;
+
+    /**
+     * Instantiates a new {@link Level1FeedGroup}.
+     *
+     * @param level1FeedName the {@link Level1Feed} feed name (each {@link Level1Feed} is suffixed with its index)
+     * @param hostname       the hostname
+     * @param port           the port
+     * @param feedCount      the number of {@link Level1Feed} connections
+     */
+    public Level1FeedGroup(String level1FeedName, String hostname, int port, int feedCount) {
+        checkNotNull(level1FeedName);
+        checkArgument(feedCount > 0, "The feed count must be greater than 0!");
+
+        level1Feeds = new Level1Feed[feedCount];
+        for (int index = 0; index < feedCount; index++) {
+            level1Feeds[index] = new Level1Feed(level1FeedName + " " + index, hostname, port);
+        }
+    }
+
+    /**
+     * Starts all {@link Level1Feed}s. If a {@link Level1Feed} fails to start, the already started {@link Level1Feed}s
+     * are stopped.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void start() throws IOException {
+        for (int index = 0; index < level1Feeds.length; index++) {
+            try {
+                level1Feeds[index].start();
+            } catch (IOException exception) {
+                for (int startedIndex = 0; startedIndex < index; startedIndex++) {
+                    try {
+                        level1Feeds[startedIndex].stop();
+                    } catch (IOException stopException) {
+                        exception.addSuppressed(stopException);
+                    }
+                }
+                throw exception;
+            }
+        }
+
+        LOGGER.debug("Started {} Level 1 feeds.", level1Feeds.length);
+    }
+
+    /**
+     * Stops all {@link Level1Feed}s.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void stop() throws IOException {
+        IOException firstException = null;
+        for (Level1Feed level1Feed : level1Feeds) {
+            try {
+                level1Feed.stop();
+            } catch (IOException exception) {
+                if (firstException == null) {
+                    firstException = exception;
+                } else {
+                    firstException.addSuppressed(exception);
+                }
+            }
+        }
+
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    /**
+     * Gets the {@link Level1Feed} that the given <code>symbol</code> is assigned to. This uses a jump consistent hash
+     * of the symbol (see {@link Hashing#consistentHash(com.google.common.hash.HashCode, int)}), so it always returns
+     * the same {@link Level1Feed} for a symbol and the symbols are evenly spread across the {@link Level1Feed}s.
+     *
+     * @param symbol the symbol
+     *
+     * @return the {@link Level1Feed}
+     */
+    public Level1Feed getLevel1Feed(String symbol) {
+        return level1Feeds[getLevel1FeedIndex(symbol)];
+    }
+
+    /**
+     * Gets the index of the {@link #getLevel1Feed(String)} of the given <code>symbol</code> in {@link #level1Feeds}.
+     *
+     * @param symbol the symbol
+     *
+     * @return the index
+     */
+    private int getLevel1FeedIndex(String symbol) {
+        checkNotNull(symbol);
+        if (level1Feeds.length == 1) {
+            return 0;
+        }
+        return Hashing.consistentHash(Hashing.murmur3_32_fixed().hashString(symbol, StandardCharsets.US_ASCII),
+                level1Feeds.length);
+    }
+
+    /**
+     * Partitions the given <code>symbols</code> by their {@link #getLevel1Feed(String)} index.
+     *
+     * @param symbols the symbols
+     *
+     * @return a {@link List} of symbol {@link List}s, indexed analogous to {@link #level1Feeds}
+     */
+    private List<List<String>> partitionSymbols(Collection<String> symbols) {
+        checkNotNull(symbols);
+
+        List<List<String>> symbolsOfFeeds = new ArrayList<>(level1Feeds.length);
+        for (int index = 0; index < level1Feeds.length; index++) {
+            symbolsOfFeeds.add(new ArrayList<>(symbols.size() / level1Feeds.length + 1));
+        }
+        for (String symbol : symbols) {
+            symbolsOfFeeds.get(getLevel1FeedIndex(symbol)).add(symbol);
+        }
+        return symbolsOfFeeds;
+    }
+
+    //
+    // START Feed commands
+    //
+
+    /**
+     * Calls {@link Level1Feed#requestWatch(String, FeedMessageListener, FeedMessageListener)} on the
+     * {@link #getLevel1Feed(String)} of the <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatch(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener) throws IOException {
+        getLevel1Feed(symbol).requestWatch(symbol, fundamentalDataListener, summaryUpdateListener);
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestWatch(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)} on
+     * the {@link #getLevel1Feed(String)} of the <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatch(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        getLevel1Feed(symbol).requestWatch(symbol, fundamentalDataListener, summaryUpdateListener,
+                tradeCorrectionListener);
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestWatchTrades(String, FeedMessageListener, FeedMessageListener)} on the
+     * {@link #getLevel1Feed(String)} of the <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatchTrades(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener) throws IOException {
+        getLevel1Feed(symbol).requestWatchTrades(symbol, fundamentalDataListener, summaryUpdateListener);
+    }
+
+    /**
+     * Calls
+     * {@link Level1Feed#requestWatchTrades(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)} on
+     * the {@link #getLevel1Feed(String)} of the <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatchTrades(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        getLevel1Feed(symbol).requestWatchTrades(symbol, fundamentalDataListener, summaryUpdateListener,
+                tradeCorrectionListener);
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestUnwatch(String)} on the {@link #getLevel1Feed(String)} of the
+     * <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestUnwatch(String symbol) throws IOException {
+        getLevel1Feed(symbol).requestUnwatch(symbol);
+    }
+
+    /**
+     * Calls {@link #requestWatchAll(Collection, FeedMessageListener, FeedMessageListener, FeedMessageListener)} with
+     * <code>tradeCorrectionListener</code> set to <code>null</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatchAll(Collection<String> symbols,
+            FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener) throws IOException {
+        requestWatchAll(symbols, fundamentalDataListener, summaryUpdateListener, null);
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestWatchAll(Collection, FeedMessageListener, FeedMessageListener,
+     * FeedMessageListener)} on each {@link Level1Feed} with the <code>symbols</code> assigned to it.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestWatchAll(Collection<String> symbols,
+            FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        List<List<String>> symbolsOfFeeds = partitionSymbols(symbols);
+        for (int index = 0; index < level1Feeds.length; index++) {
+            if (!symbolsOfFeeds.get(index).isEmpty()) {
+                level1Feeds[index].requestWatchAll(symbolsOfFeeds.get(index), fundamentalDataListener,
+                        summaryUpdateListener, tradeCorrectionListener);
+            }
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestUnwatchAll(Collection)} on each {@link Level1Feed} with the <code>symbols</code>
+     * assigned to it.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestUnwatchAll(Collection<String> symbols) throws IOException {
+        List<List<String>> symbolsOfFeeds = partitionSymbols(symbols);
+        for (int index = 0; index < level1Feeds.length; index++) {
+            if (!symbolsOfFeeds.get(index).isEmpty()) {
+                level1Feeds[index].requestUnwatchAll(symbolsOfFeeds.get(index));
+            }
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestUnwatchAll()} on all {@link Level1Feed}s.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestUnwatchAll() throws IOException {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.requestUnwatchAll();
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#subscribe(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)} on the
+     * {@link #getLevel1Feed(String)} of the <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void subscribe(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        getLevel1Feed(symbol).subscribe(symbol, fundamentalDataListener, summaryUpdateListener,
+                tradeCorrectionListener);
+    }
+
+    /**
+     * Calls {@link Level1Feed#unsubscribe(String, FeedMessageListener, FeedMessageListener, FeedMessageListener)} on
+     * the {@link #getLevel1Feed(String)} of the <code>symbol</code>.
+     *
+     * @return true if a subscription was removed, false if no matching subscription exists
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public boolean unsubscribe(String symbol, FeedMessageListener<FundamentalData> fundamentalDataListener,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener,
+            FeedMessageListener<TradeCorrection> tradeCorrectionListener) throws IOException {
+        return getLevel1Feed(symbol).unsubscribe(symbol, fundamentalDataListener, summaryUpdateListener,
+                tradeCorrectionListener);
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestForceRefresh(String)} on the {@link #getLevel1Feed(String)} of the
+     * <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestForceRefresh(String symbol) throws IOException {
+        getLevel1Feed(symbol).requestForceRefresh(symbol);
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestRegionalQuoteWatch(String, FeedMessageListener)} on the
+     * {@link #getLevel1Feed(String)} of the <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestRegionalQuoteWatch(String symbol, FeedMessageListener<RegionalQuote> regionalQuoteListener)
+            throws IOException {
+        getLevel1Feed(symbol).requestRegionalQuoteWatch(symbol, regionalQuoteListener);
+    }
+
+    /**
+     * Calls {@link Level1Feed#requestRegionalQuoteUnwatch(String)} on the {@link #getLevel1Feed(String)} of the
+     * <code>symbol</code>.
+     *
+     * @throws IOException thrown for {@link IOException}s
+     */
+    public void requestRegionalQuoteUnwatch(String symbol) throws IOException {
+        getLevel1Feed(symbol).requestRegionalQuoteUnwatch(symbol);
+    }
+
+    //
+    // END Feed commands
+    //
+
+    /**
+     * Calls {@link Level1Feed#setLevel1FeedEventListener(Level1FeedEventListener)} on all {@link Level1Feed}s.
+     *
+     * @param level1FeedEventListener the {@link Level1FeedEventListener}
+     */
+    public void setLevel1FeedEventListener(Level1FeedEventListener level1FeedEventListener) {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.setLevel1FeedEventListener(level1FeedEventListener);
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#setSummaryUpdateConflationExecutor(Executor)} on all {@link Level1Feed}s.
+     *
+     * @param summaryUpdateConflationExecutor the {@link Executor} or <code>null</code>
+     */
+    public void setSummaryUpdateConflationExecutor(Executor summaryUpdateConflationExecutor) {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.setSummaryUpdateConflationExecutor(summaryUpdateConflationExecutor);
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#setSummaryUpdateDecodeMode(SummaryUpdateDecodeMode)} on all {@link Level1Feed}s.
+     *
+     * @param summaryUpdateDecodeMode the {@link SummaryUpdateDecodeMode}
+     */
+    public void setSummaryUpdateDecodeMode(SummaryUpdateDecodeMode summaryUpdateDecodeMode) {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.setSummaryUpdateDecodeMode(summaryUpdateDecodeMode);
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#setSummaryUpdatePriceScale(int)} on all {@link Level1Feed}s.
+     *
+     * @param summaryUpdatePriceScale the price scale
+     */
+    public void setSummaryUpdatePriceScale(int summaryUpdatePriceScale) {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.setSummaryUpdatePriceScale(summaryUpdatePriceScale);
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#setLevel1SnapshotStore(Level1SnapshotStore)} on all {@link Level1Feed}s. A single
+     * {@link Level1SnapshotStore} can be shared by all {@link Level1Feed}s of this {@link Level1FeedGroup} since each
+     * symbol is only ever written by the {@link Level1Feed} that it is assigned to.
+     *
+     * @param level1SnapshotStore the {@link Level1SnapshotStore} or <code>null</code>
+     */
+    public void setLevel1SnapshotStore(Level1SnapshotStore level1SnapshotStore) {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.setLevel1SnapshotStore(level1SnapshotStore);
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#setLevel1LatencyMetrics(Level1LatencyMetrics)} on all {@link Level1Feed}s. A single
+     * {@link Level1LatencyMetrics} can be shared by all {@link Level1Feed}s of this {@link Level1FeedGroup} to record
+     * the latencies of the whole group, or a separate one can be set on each of {@link #getLevel1Feeds()} instead.
+     *
+     * @param level1LatencyMetrics the {@link Level1LatencyMetrics} or <code>null</code>
+     */
+    public void setLevel1LatencyMetrics(Level1LatencyMetrics level1LatencyMetrics) {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.setLevel1LatencyMetrics(level1LatencyMetrics);
+        }
+    }
+
+    /**
+     * Calls {@link Level1Feed#setAutomaticUpdateFieldSelection(boolean)} on all {@link Level1Feed}s.
+     *
+     * @param automaticUpdateFieldSelection true to enable, false to disable
+     */
+    public void setAutomaticUpdateFieldSelection(boolean automaticUpdateFieldSelection) {
+        for (Level1Feed level1Feed : level1Feeds) {
+            level1Feed.setAutomaticUpdateFieldSelection(automaticUpdateFieldSelection);
+        }
+    }
+
+    /**
+     * Gets {@link #level1Feeds}.
+     *
+     * @return an unmodifiable {@link List} of {@link Level1Feed}s
+     */
+    public List<Level1Feed> getLevel1Feeds() {
+        return Collections.unmodifiableList(Arrays.asList(level1Feeds));
+    }
+}
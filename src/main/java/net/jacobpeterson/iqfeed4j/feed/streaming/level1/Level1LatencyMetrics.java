@@ -0,0 +1,181 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.Level1MessageType;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import net.jacobpeterson.iqfeed4j.util.metrics.LatencyHistogram;
+import net.jacobpeterson.iqfeed4j.util.metrics.LatencyHistogramSnapshot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link Level1LatencyMetrics} records the wire-to-listener latency of the messages received by a {@link Level1Feed}
+ * in a {@link LatencyHistogram} per {@link Level1MessageType} and stage, and estimates the offset of the local clock
+ * from the IQFeed server clock using {@link Level1MessageType#TIMESTAMP} messages.
+ * <br>
+ * A message is timed at three points: when its line is framed on the socket reader thread (see
+ * {@link CSVRecord#getReceivedNanoTime()}), when it has been mapped into its POJO, and when its listener has returned.
+ * The framed time is taken before the line is handed to a dispatch lane, so queueing time on a
+ * {@link net.jacobpeterson.iqfeed4j.feed.FeedDispatcher} is included. The mapped time is only recorded for
+ * {@link Level1MessageType#SUMMARY} and {@link Level1MessageType#UPDATE} messages (for a
+ * {@link Level1Feed.SummaryUpdateDecodeMode#LAZY} {@link Level1Feed}, decoding is deferred to the listener). Latencies
+ * are only recorded in {@link net.jacobpeterson.iqfeed4j.feed.AbstractFeed.ReceiveMode#NIO}.
+ * <br>
+ * A single {@link Level1LatencyMetrics} may be shared by multiple {@link Level1Feed}s (e.g. via
+ * {@link Level1FeedGroup#setLevel1LatencyMetrics(Level1LatencyMetrics)}), since all recording is thread-safe.
+ */
+public class Level1LatencyMetrics {
+
+    /**
+     * The {@link ZoneId} of the timestamps sent by IQFeed.
+     */
+    public static final ZoneId IQFEED_ZONE_ID = ZoneId.of("America/New_York");
+
+    private final LatencyHistogram[] receivedToMappedHistograms;
+    private final LatencyHistogram[] mappedToListenerReturnedHistograms;
+    private final LatencyHistogram[] receivedToListenerReturnedHistograms;
+    private final AtomicLong serverClockOffsetSampleCount;
+    private final LongAccumulator minimumServerClockOffsetMillis;
+    private volatile long latestServerClockOffsetMillis;
+
+    /**
+     * Instantiates a new {@link Level1LatencyMetrics}.
+     */
+    public Level1LatencyMetrics() {
+        int messageTypeCount = Level1MessageType.values().length;
+        receivedToMappedHistograms = new LatencyHistogram[messageTypeCount];
+        mappedToListenerReturnedHistograms = new LatencyHistogram[messageTypeCount];
+        receivedToListenerReturnedHistograms = new LatencyHistogram[messageTypeCount];
+        for (int index = 0; index < messageTypeCount; index++) {
+            receivedToMappedHistograms[index] = new LatencyHistogram();
+            mappedToListenerReturnedHistograms[index] = new LatencyHistogram();
+            receivedToListenerReturnedHistograms[index] = new LatencyHistogram();
+        }
+
+        serverClockOffsetSampleCount = new AtomicLong();
+        minimumServerClockOffsetMillis = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    }
+
+    /**
+     * Records the latencies of a handled message.
+     *
+     * @param messageType              the {@link Level1MessageType}
+     * @param receivedNanoTime         the {@link System#nanoTime()} at which the message line was framed
+     * @param mappedNanoTime           the {@link System#nanoTime()} at which the message was mapped, or
+     *                                 <code>0</code> if unknown
+     * @param listenerReturnedNanoTime the {@link System#nanoTime()} at which the message listener returned
+     */
+    public void record(Level1MessageType messageType, long receivedNanoTime, long mappedNanoTime,
+            long listenerReturnedNanoTime) {
+        int index = messageType.ordinal();
+        if (mappedNanoTime != 0) {
+            receivedToMappedHistograms[index].record(mappedNanoTime - receivedNanoTime);
+            mappedToListenerReturnedHistograms[index].record(listenerReturnedNanoTime - mappedNanoTime);
+        }
+        receivedToListenerReturnedHistograms[index].record(listenerReturnedNanoTime - receivedNanoTime);
+    }
+
+    /**
+     * Records a sample of the offset of the local clock from the IQFeed server clock using the timestamp of a
+     * {@link Level1MessageType#TIMESTAMP} message. IQFeed sends this message once per second with a resolution of one
+     * second, so each sample includes the network delay and up to one second of truncation, and the minimum offset
+     * over many samples is the best estimate of the clock offset.
+     *
+     * @param serverTimestamp  the server timestamp {@link LocalDateTime} in the {@link #IQFEED_ZONE_ID}
+     * @param receivedNanoTime the {@link System#nanoTime()} at which the message line was framed
+     */
+    public void recordServerTimestamp(LocalDateTime serverTimestamp, long receivedNanoTime) {
+        checkNotNull(serverTimestamp);
+
+        long receivedMillis = System.currentTimeMillis() - (System.nanoTime() - receivedNanoTime) / 1_000_000;
+        long offsetMillis = receivedMillis - serverTimestamp.atZone(IQFEED_ZONE_ID).toInstant().toEpochMilli();
+        latestServerClockOffsetMillis = offsetMillis;
+        minimumServerClockOffsetMillis.accumulate(offsetMillis);
+        serverClockOffsetSampleCount.incrementAndGet();
+    }
+
+    /**
+     * Removes all recorded latencies and server clock offset samples.
+     */
+    public void reset() {
+        for (int index = 0; index < receivedToListenerReturnedHistograms.length; index++) {
+            receivedToMappedHistograms[index].reset();
+            mappedToListenerReturnedHistograms[index].reset();
+            receivedToListenerReturnedHistograms[index].reset();
+        }
+        serverClockOffsetSampleCount.set(0);
+        minimumServerClockOffsetMillis.reset();
+    }
+
+    /**
+     * Gets a {@link LatencyHistogramSnapshot} of the latencies from line framing to the end of mapping of the given
+     * {@link Level1MessageType}.
+     *
+     * @param messageType the {@link Level1MessageType}
+     *
+     * @return a {@link LatencyHistogramSnapshot}
+     */
+    public LatencyHistogramSnapshot getReceivedToMappedSnapshot(Level1MessageType messageType) {
+        return receivedToMappedHistograms[messageType.ordinal()].getSnapshot();
+    }
+
+    /**
+     * Gets a {@link LatencyHistogramSnapshot} of the latencies from the end of mapping to listener return of the given
+     * {@link Level1MessageType}.
+     *
+     * @param messageType the {@link Level1MessageType}
+     *
+     * @return a {@link LatencyHistogramSnapshot}
+     */
+    public LatencyHistogramSnapshot getMappedToListenerReturnedSnapshot(Level1MessageType messageType) {
+        return mappedToListenerReturnedHistograms[messageType.ordinal()].getSnapshot();
+    }
+
+    /**
+     * Gets a {@link LatencyHistogramSnapshot} of the latencies from line framing to listener return of the given
+     * {@link Level1MessageType}.
+     *
+     * @param messageType the {@link Level1MessageType}
+     *
+     * @return a {@link LatencyHistogramSnapshot}
+     */
+    public LatencyHistogramSnapshot getReceivedToListenerReturnedSnapshot(Level1MessageType messageType) {
+        return receivedToListenerReturnedHistograms[messageType.ordinal()].getSnapshot();
+    }
+
+    /**
+     * Gets the estimated offset of the local clock from the IQFeed server clock, which is the minimum of all samples
+     * recorded by {@link #recordServerTimestamp(LocalDateTime, long)}. A positive offset means that the local clock is
+     * ahead of the server clock (or that messages are delayed by that much).
+     *
+     * @return the offset {@link Duration} or <code>null</code> if no samples were recorded
+     */
+    public Duration getEstimatedServerClockOffset() {
+        return serverClockOffsetSampleCount.get() == 0 ? null :
+                Duration.ofMillis(minimumServerClockOffsetMillis.get());
+    }
+
+    /**
+     * Gets the offset of the local clock from the IQFeed server clock of the latest sample recorded by
+     * {@link #recordServerTimestamp(LocalDateTime, long)}.
+     *
+     * @return the offset {@link Duration} or <code>null</code> if no samples were recorded
+     */
+    public Duration getLatestServerClockOffset() {
+        return serverClockOffsetSampleCount.get() == 0 ? null : Duration.ofMillis(latestServerClockOffsetMillis);
+    }
+
+    /**
+     * Gets the number of server clock offset samples recorded by {@link #recordServerTimestamp(LocalDateTime, long)}.
+     *
+     * @return a long
+     */
+    public long getServerClockOffsetSampleCount() {
+        return serverClockOffsetSampleCount.get();
+    }
+}
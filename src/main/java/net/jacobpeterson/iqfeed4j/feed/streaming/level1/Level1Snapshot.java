@@ -0,0 +1,124 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1SnapshotStore.Field;
+import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1SnapshotStore.FieldType;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
+
+import java.time.LocalTime;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link Level1Snapshot} is a reusable, mutable, and consistent copy of a row of a {@link Level1SnapshotStore}, which
+ * is populated via {@link Level1SnapshotStore#read(int, Level1Snapshot)}. Create one {@link Level1Snapshot} per reading
+ * thread and reuse it for all reads to avoid allocation. This class is not thread-safe.
+ */
+public class Level1Snapshot {
+
+    final long[] values;
+    int symbolID;
+    long sequence;
+    long presentMask;
+
+    /**
+     * Instantiates a new {@link Level1Snapshot}.
+     */
+    public Level1Snapshot() {
+        values = new long[Field.values().length];
+        symbolID = -1;
+    }
+
+    /**
+     * Tests if the given <code>field</code> is present (has been received at least once).
+     *
+     * @param field the {@link Field}
+     *
+     * @return a boolean
+     */
+    public boolean isPresent(Field field) {
+        return (presentMask & (1L << field.ordinal())) != 0;
+    }
+
+    /**
+     * Gets the given {@link FieldType#DOUBLE} <code>field</code>.
+     *
+     * @param field the {@link Field}
+     *
+     * @return the <code>double</code> or {@link Double#NaN} if the <code>field</code> isn't present
+     */
+    public double getDouble(Field field) {
+        checkArgument(field.getType() == FieldType.DOUBLE, "%s is not a double field!", field);
+        return isPresent(field) ? Double.longBitsToDouble(values[field.ordinal()]) : Double.NaN;
+    }
+
+    /**
+     * Gets the given {@link FieldType#DOUBLE} <code>field</code> as a fixed-point mantissa at the given
+     * <code>scale</code>. See {@link Level1SnapshotStore#getFixedPoint(int, Field, int)}.
+     *
+     * @param field the {@link Field}
+     * @param scale the scale
+     *
+     * @return the mantissa or {@link Long#MIN_VALUE} if the <code>field</code> isn't present
+     */
+    public long getFixedPoint(Field field, int scale) {
+        double value = getDouble(field);
+        return Double.isNaN(value) ? Long.MIN_VALUE : FixedPointUtil.fromDouble(value, scale);
+    }
+
+    /**
+     * Gets the given {@link FieldType#DOUBLE} <code>field</code> as a fixed-point mantissa at the scale of the
+     * {@link Field#DECIMAL_PRECISION} of this {@link Level1Snapshot}.
+     *
+     * @param field the {@link Field}
+     *
+     * @return the mantissa or {@link Long#MIN_VALUE} if the <code>field</code> or {@link Field#DECIMAL_PRECISION}
+     * isn't present
+     */
+    public long getFixedPoint(Field field) {
+        return isPresent(Field.DECIMAL_PRECISION) ?
+                getFixedPoint(field, (int) values[Field.DECIMAL_PRECISION.ordinal()]) : Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the given {@link FieldType#LONG} or {@link FieldType#NANO_OF_DAY} <code>field</code>.
+     *
+     * @param field the {@link Field}
+     *
+     * @return the <code>long</code> or {@link Long#MIN_VALUE} if the <code>field</code> isn't present
+     */
+    public long getLong(Field field) {
+        checkArgument(field.getType() != FieldType.DOUBLE, "%s is a double field!", field);
+        return isPresent(field) ? values[field.ordinal()] : Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the given {@link FieldType#NANO_OF_DAY} <code>field</code> as a {@link LocalTime}. Note that this allocates.
+     *
+     * @param field the {@link Field}
+     *
+     * @return the {@link LocalTime} or <code>null</code> if the <code>field</code> isn't present
+     */
+    public LocalTime getLocalTime(Field field) {
+        checkArgument(field.getType() == FieldType.NANO_OF_DAY, "%s is not a nano of day field!", field);
+        return isPresent(field) ? LocalTime.ofNanoOfDay(values[field.ordinal()]) : null;
+    }
+
+    /**
+     * Gets {@link #symbolID}.
+     *
+     * @return the symbol ID or <code>-1</code> if this {@link Level1Snapshot} hasn't been read into yet
+     */
+    public int getSymbolID() {
+        return symbolID;
+    }
+
+    /**
+     * Gets {@link #sequence}. The sequence increases with every update of the row, so it can be used to detect
+     * whether a row has changed since it was last read.
+     *
+     * @return a long
+     */
+    public long getSequence() {
+        return sequence;
+    }
+}
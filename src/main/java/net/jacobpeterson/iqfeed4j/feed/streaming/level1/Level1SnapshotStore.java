@@ -0,0 +1,438 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link Level1SnapshotStore} keeps the latest top-of-book {@link Field}s of {@link SummaryUpdate}s per symbol in
+ * primitive <code>long</code> columns, so that many threads can poll the current state of thousands of symbols
+ * without boxed POJOs, locks, or allocation per lookup.
+ * <br>
+ * Each symbol is interned to a dense <code>int</code> symbol ID (see {@link #internSymbol(String)}) that indexes a row
+ * of {@link AtomicLongArray} pages. Each row is guarded by a sequence number used as a seqlock: the writer makes the
+ * sequence odd, writes the changed {@link Field}s, and then makes the sequence even again, while readers retry until
+ * they have read the same even sequence before and after reading a row. This makes multi-{@link Field} reads via
+ * {@link #read(int, Level1Snapshot)} consistent. The columns are on-heap primitives rather than off-heap memory since
+ * Java 8 has no ordered off-heap memory access without <code>sun.misc.Unsafe</code>.
+ * <br>
+ * Rows are written by {@link #update(SummaryUpdate)}, which {@link Level1Feed} calls for every {@link SummaryUpdate} if
+ * a {@link Level1SnapshotStore} is set via {@link Level1Feed#setLevel1SnapshotStore(Level1SnapshotStore)}. The row of a
+ * symbol must only be written by one thread at a time, which is the case for a single {@link Level1Feed}, even if it
+ * dispatches messages across multiple lanes (since lanes are selected per symbol).
+ */
+public class Level1SnapshotStore {
+
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final int PRESENT_MASK_OFFSET = 1;
+    private static final int FIELDS_OFFSET = 2;
+    private static final Field[] FIELDS = Field.values();
+    private static final int ROW_LENGTH = FIELDS_OFFSET + FIELDS.length;
+    private static final long ABSENT_DOUBLE_BITS = Double.doubleToRawLongBits(Double.NaN);
+
+    private final ConcurrentHashMap<String, Integer> symbolIDsOfSymbols;
+    private final Object internLock;
+    private volatile String[] symbolsOfSymbolIDs;
+    private volatile AtomicLongArray[] pages;
+    private volatile int symbolCount;
+
+    /**
+     * Instantiates a new {@link Level1SnapshotStore}.
+     */
+    public Level1SnapshotStore() {
+        symbolIDsOfSymbols = new ConcurrentHashMap<>();
+        internLock = new Object();
+        symbolsOfSymbolIDs = new String[PAGE_SIZE];
+        pages = new AtomicLongArray[0];
+    }
+
+    /**
+     * Gets the symbol ID of the given <code>symbol</code>, creating one if it doesn't exist yet. Symbol IDs are dense,
+     * start at <code>0</code>, and never change, so callers should look up the symbol ID once and then use it for
+     * lookups.
+     *
+     * @param symbol the symbol
+     *
+     * @return the symbol ID
+     */
+    public int internSymbol(String symbol) {
+        Integer symbolID = symbolIDsOfSymbols.get(symbol);
+        if (symbolID != null) {
+            return symbolID;
+        }
+
+        checkNotNull(symbol);
+        synchronized (internLock) {
+            symbolID = symbolIDsOfSymbols.get(symbol);
+            if (symbolID != null) {
+                return symbolID;
+            }
+
+            int newSymbolID = symbolCount;
+            int pageIndex = newSymbolID >>> PAGE_SHIFT;
+            if (pageIndex >= pages.length) {
+                AtomicLongArray[] newPages = Arrays.copyOf(pages, pageIndex + 1);
+                newPages[pageIndex] = new AtomicLongArray(PAGE_SIZE * ROW_LENGTH);
+                pages = newPages;
+            }
+            if (newSymbolID >= symbolsOfSymbolIDs.length) {
+                symbolsOfSymbolIDs = Arrays.copyOf(symbolsOfSymbolIDs, symbolsOfSymbolIDs.length * 2);
+            }
+            symbolsOfSymbolIDs[newSymbolID] = symbol;
+
+            // Publish the symbol ID only after its page exists
+            symbolCount = newSymbolID + 1;
+            symbolIDsOfSymbols.put(symbol, newSymbolID);
+            return newSymbolID;
+        }
+    }
+
+    /**
+     * Gets the symbol ID of the given <code>symbol</code>.
+     *
+     * @param symbol the symbol
+     *
+     * @return the symbol ID or <code>-1</code> if the <code>symbol</code> has no symbol ID
+     */
+    public int getSymbolID(String symbol) {
+        Integer symbolID = symbolIDsOfSymbols.get(symbol);
+        return symbolID == null ? -1 : symbolID;
+    }
+
+    /**
+     * Gets the symbol of the given <code>symbolID</code>.
+     *
+     * @param symbolID the symbol ID
+     *
+     * @return the symbol
+     */
+    public String getSymbol(int symbolID) {
+        checkSymbolID(symbolID);
+        return symbolsOfSymbolIDs[symbolID];
+    }
+
+    /**
+     * Writes the non-null {@link Field}s of the given {@link SummaryUpdate} into the row of its symbol. The primitive
+     * {@link Field}s of a {@link PrimitiveSummaryUpdate} are read without allocating.
+     *
+     * @param summaryUpdate the {@link SummaryUpdate}
+     */
+    public void update(SummaryUpdate summaryUpdate) {
+        int symbolID = internSymbol(summaryUpdate.getSymbol());
+        AtomicLongArray page = pages[symbolID >>> PAGE_SHIFT];
+        int rowOffset = (symbolID & PAGE_MASK) * ROW_LENGTH;
+        PrimitiveSummaryUpdate primitiveSummaryUpdate = summaryUpdate instanceof PrimitiveSummaryUpdate ?
+                (PrimitiveSummaryUpdate) summaryUpdate : null;
+
+        long sequence = page.get(rowOffset + SEQUENCE_OFFSET);
+        // All stores are volatile so that readers can never observe field stores without the odd sequence
+        page.set(rowOffset + SEQUENCE_OFFSET, sequence + 1);
+
+        long presentMask = page.get(rowOffset + PRESENT_MASK_OFFSET);
+        for (Field field : FIELDS) {
+            long encodedValue;
+            if (primitiveSummaryUpdate != null && field.primitive) {
+                if (!primitiveSummaryUpdate.isPresent(field.summaryUpdateField)) {
+                    continue;
+                }
+                switch (field.type) {
+                    case DOUBLE:
+                        encodedValue = Double.doubleToRawLongBits(
+                                primitiveSummaryUpdate.getDouble(field.summaryUpdateField));
+                        break;
+                    case NANO_OF_DAY:
+                        encodedValue = primitiveSummaryUpdate.getNanoOfDay(field.summaryUpdateField);
+                        break;
+                    default:
+                        encodedValue = primitiveSummaryUpdate.getLong(field.summaryUpdateField);
+                        break;
+                }
+            } else {
+                Object value = field.getter.apply(summaryUpdate);
+                if (value == null) {
+                    continue;
+                }
+                encodedValue = field.type.encode(value);
+            }
+            page.set(rowOffset + FIELDS_OFFSET + field.ordinal(), encodedValue);
+            presentMask |= 1L << field.ordinal();
+        }
+        page.set(rowOffset + PRESENT_MASK_OFFSET, presentMask);
+
+        page.set(rowOffset + SEQUENCE_OFFSET, sequence + 2);
+    }
+
+    /**
+     * Consistently reads all {@link Field}s of the given <code>symbolID</code> into the given reusable
+     * {@link Level1Snapshot}. This doesn't allocate and doesn't block, but spins while the row is being written.
+     *
+     * @param symbolID the symbol ID
+     * @param snapshot the {@link Level1Snapshot} to read into
+     */
+    public void read(int symbolID, Level1Snapshot snapshot) {
+        checkSymbolID(symbolID);
+        AtomicLongArray page = pages[symbolID >>> PAGE_SHIFT];
+        int rowOffset = (symbolID & PAGE_MASK) * ROW_LENGTH;
+        long[] values = snapshot.values;
+
+        while (true) {
+            long sequence = page.get(rowOffset + SEQUENCE_OFFSET);
+            if ((sequence & 1) != 0) {
+                continue; // A write is in progress
+            }
+
+            long presentMask = page.get(rowOffset + PRESENT_MASK_OFFSET);
+            for (int index = 0; index < values.length; index++) {
+                values[index] = page.get(rowOffset + FIELDS_OFFSET + index);
+            }
+
+            if (page.get(rowOffset + SEQUENCE_OFFSET) == sequence) {
+                snapshot.symbolID = symbolID;
+                snapshot.sequence = sequence;
+                snapshot.presentMask = presentMask;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads the given <code>field</code> of the given <code>symbolID</code> as a <code>double</code>. This doesn't
+     * allocate or block.
+     *
+     * @param symbolID the symbol ID
+     * @param field    the {@link Field} (must be a {@link FieldType#DOUBLE} {@link Field})
+     *
+     * @return the <code>double</code> or {@link Double#NaN} if the <code>field</code> isn't present
+     */
+    public double getDouble(int symbolID, Field field) {
+        checkArgument(field.type == FieldType.DOUBLE, "%s is not a double field!", field);
+        return Double.longBitsToDouble(readField(symbolID, field, ABSENT_DOUBLE_BITS));
+    }
+
+    /**
+     * Reads the given <code>field</code> of the given <code>symbolID</code> as a <code>long</code>. This doesn't
+     * allocate or block.
+     *
+     * @param symbolID the symbol ID
+     * @param field    the {@link Field} (must be a {@link FieldType#LONG} or {@link FieldType#NANO_OF_DAY}
+     *                 {@link Field})
+     *
+     * @return the <code>long</code> or {@link Long#MIN_VALUE} if the <code>field</code> isn't present
+     */
+    public long getLong(int symbolID, Field field) {
+        checkArgument(field.type != FieldType.DOUBLE, "%s is a double field!", field);
+        return readField(symbolID, field, Long.MIN_VALUE);
+    }
+
+    /**
+     * Reads the given {@link FieldType#DOUBLE} <code>field</code> of the given <code>symbolID</code> as a fixed-point
+     * mantissa at the given <code>scale</code> (see {@link FixedPointUtil}). This is exact if the <code>scale</code> is
+     * at least the {@link Field#DECIMAL_PRECISION} of the symbol. This doesn't allocate or block.
+     *
+     * @param symbolID the symbol ID
+     * @param field    the {@link Field} (must be a {@link FieldType#DOUBLE} {@link Field})
+     * @param scale    the scale
+     *
+     * @return the mantissa or {@link Long#MIN_VALUE} if the <code>field</code> isn't present
+     */
+    public long getFixedPoint(int symbolID, Field field, int scale) {
+        double value = getDouble(symbolID, field);
+        return Double.isNaN(value) ? Long.MIN_VALUE : FixedPointUtil.fromDouble(value, scale);
+    }
+
+    /**
+     * Reads the encoded value of the given <code>field</code> of the given <code>symbolID</code>.
+     *
+     * @param symbolID    the symbol ID
+     * @param field       the {@link Field}
+     * @param absentValue the value to return if the <code>field</code> isn't present
+     *
+     * @return the encoded value or <code>absentValue</code>
+     */
+    private long readField(int symbolID, Field field, long absentValue) {
+        checkSymbolID(symbolID);
+        AtomicLongArray page = pages[symbolID >>> PAGE_SHIFT];
+        int rowOffset = (symbolID & PAGE_MASK) * ROW_LENGTH;
+
+        while (true) {
+            long sequence = page.get(rowOffset + SEQUENCE_OFFSET);
+            if ((sequence & 1) != 0) {
+                continue; // A write is in progress
+            }
+
+            long presentMask = page.get(rowOffset + PRESENT_MASK_OFFSET);
+            long value = page.get(rowOffset + FIELDS_OFFSET + field.ordinal());
+
+            if (page.get(rowOffset + SEQUENCE_OFFSET) == sequence) {
+                return (presentMask & (1L << field.ordinal())) == 0 ? absentValue : value;
+            }
+        }
+    }
+
+    /**
+     * Checks that the given <code>symbolID</code> exists.
+     *
+     * @param symbolID the symbol ID
+     */
+    private void checkSymbolID(int symbolID) {
+        checkArgument(symbolID >= 0 && symbolID < symbolCount, "Unknown symbol ID: %s", symbolID);
+    }
+
+    /**
+     * Gets the number of interned symbols.
+     *
+     * @return an int
+     */
+    public int getSymbolCount() {
+        return symbolCount;
+    }
+
+    /**
+     * {@link Field} defines the {@link SummaryUpdate} fields kept by a {@link Level1SnapshotStore}.
+     */
+    public enum Field {
+
+        BID(SummaryUpdateField.BID, SummaryUpdate::getBid, FieldType.DOUBLE),
+        BID_SIZE(SummaryUpdateField.BID_SIZE, SummaryUpdate::getBidSize, FieldType.LONG),
+        BID_TIME(SummaryUpdateField.BID_TIME, SummaryUpdate::getBidTime, FieldType.NANO_OF_DAY),
+        ASK(SummaryUpdateField.ASK, SummaryUpdate::getAsk, FieldType.DOUBLE),
+        ASK_SIZE(SummaryUpdateField.ASK_SIZE, SummaryUpdate::getAskSize, FieldType.LONG),
+        ASK_TIME(SummaryUpdateField.ASK_TIME, SummaryUpdate::getAskTime, FieldType.NANO_OF_DAY),
+        MOST_RECENT_TRADE(SummaryUpdateField.MOST_RECENT_TRADE, SummaryUpdate::getMostRecentTrade, FieldType.DOUBLE),
+        MOST_RECENT_TRADE_SIZE(SummaryUpdateField.MOST_RECENT_TRADE_SIZE, SummaryUpdate::getMostRecentTradeSize,
+                FieldType.LONG),
+        MOST_RECENT_TRADE_TIME(SummaryUpdateField.MOST_RECENT_TRADE_TIME, SummaryUpdate::getMostRecentTradeTime,
+                FieldType.NANO_OF_DAY),
+        TOTAL_VOLUME(SummaryUpdateField.TOTAL_VOLUME, SummaryUpdate::getTotalVolume, FieldType.LONG),
+        OPEN(SummaryUpdateField.OPEN, SummaryUpdate::getOpen, FieldType.DOUBLE),
+        HIGH(SummaryUpdateField.HIGH, SummaryUpdate::getHigh, FieldType.DOUBLE),
+        LOW(SummaryUpdateField.LOW, SummaryUpdate::getLow, FieldType.DOUBLE),
+        CLOSE(SummaryUpdateField.CLOSE, SummaryUpdate::getClose, FieldType.DOUBLE),
+        DECIMAL_PRECISION(SummaryUpdateField.DECIMAL_PRECISION,
+                summaryUpdate -> parseDecimalPrecision(summaryUpdate.getDecimalPrecision()), FieldType.LONG);
+
+        private final SummaryUpdateField summaryUpdateField;
+        private final Function<SummaryUpdate, ?> getter;
+        private final FieldType type;
+        // True if this is stored as a primitive in a 'PrimitiveSummaryUpdate' with the same encoding
+        private final boolean primitive;
+
+        /**
+         * Instantiates a new {@link Field}.
+         *
+         * @param summaryUpdateField the {@link SummaryUpdateField} that this {@link Field} is read from
+         * @param getter             the {@link SummaryUpdate} getter {@link Function}
+         * @param type               the {@link FieldType}
+         */
+        Field(SummaryUpdateField summaryUpdateField, Function<SummaryUpdate, ?> getter, FieldType type) {
+            this.summaryUpdateField = summaryUpdateField;
+            this.getter = getter;
+            this.type = type;
+            switch (type) {
+                case DOUBLE:
+                    primitive = PrimitiveSummaryUpdate.isDoubleField(summaryUpdateField);
+                    break;
+                case NANO_OF_DAY:
+                    primitive = PrimitiveSummaryUpdate.isTimeField(summaryUpdateField);
+                    break;
+                default:
+                    primitive = PrimitiveSummaryUpdate.isLongField(summaryUpdateField);
+                    break;
+            }
+        }
+
+        /**
+         * Parses the given {@link SummaryUpdate#getDecimalPrecision()} into a fixed-point scale.
+         *
+         * @param decimalPrecision the decimal precision {@link String}
+         *
+         * @return the scale or <code>null</code> if the <code>decimalPrecision</code> isn't a valid scale
+         */
+        private static Integer parseDecimalPrecision(String decimalPrecision) {
+            if (decimalPrecision == null) {
+                return null;
+            }
+            try {
+                int scale = Integer.parseInt(decimalPrecision.trim());
+                return scale >= 0 && scale <= FixedPointUtil.MAX_SCALE ? scale : null;
+            } catch (NumberFormatException numberFormatException) {
+                return null;
+            }
+        }
+
+        /**
+         * Gets {@link #summaryUpdateField}.
+         *
+         * @return the {@link SummaryUpdateField}
+         */
+        public SummaryUpdateField getSummaryUpdateField() {
+            return summaryUpdateField;
+        }
+
+        /**
+         * Gets {@link #type}.
+         *
+         * @return the {@link FieldType}
+         */
+        public FieldType getType() {
+            return type;
+        }
+    }
+
+    /**
+     * {@link FieldType} defines how a {@link Field} is encoded into a <code>long</code> column.
+     */
+    public enum FieldType {
+
+        /**
+         * A {@link Double} encoded with {@link Double#doubleToRawLongBits(double)}.
+         */
+        DOUBLE {
+            @Override
+            long encode(Object value) {
+                return Double.doubleToRawLongBits((Double) value);
+            }
+        },
+
+        /**
+         * An {@link Integer} or {@link Long}.
+         */
+        LONG {
+            @Override
+            long encode(Object value) {
+                return ((Number) value).longValue();
+            }
+        },
+
+        /**
+         * A {@link LocalTime} encoded with {@link LocalTime#toNanoOfDay()}.
+         */
+        NANO_OF_DAY {
+            @Override
+            long encode(Object value) {
+                return ((LocalTime) value).toNanoOfDay();
+            }
+        };
+
+        /**
+         * Encodes the given non-null <code>value</code> into a <code>long</code>.
+         *
+         * @param value the value
+         *
+         * @return the encoded <code>long</code>
+         */
+        abstract long encode(Object value);
+    }
+}
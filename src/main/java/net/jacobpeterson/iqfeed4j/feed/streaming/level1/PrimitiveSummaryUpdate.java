@@ -0,0 +1,981 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.feed.streaming.level1.Level1Feed.SummaryUpdateDecodeMode;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
+
+import java.time.LocalTime;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField.*;
+
+/**
+ * {@link PrimitiveSummaryUpdate} is a {@link SummaryUpdate} that stores its primitive {@link SummaryUpdateField}s (the
+ * {@link Double}, {@link Integer}, and {@link LocalTime} fields) in a primitive <code>long</code> array instead of in
+ * object fields, so that mapping a summary/update message into it allocates no boxed numbers or {@link LocalTime}s.
+ * The primitive fields are read without allocating via {@link #getDouble(SummaryUpdateField)},
+ * {@link #getLong(SummaryUpdateField)}, and {@link #getNanoOfDay(SummaryUpdateField)}, and whether a field was
+ * present in the message is tested via {@link #isPresent(SummaryUpdateField)}. The object getters still work (e.g. for
+ * existing listeners), but allocate their value upon every call. All other fields are stored as in a
+ * {@link SummaryUpdate}.
+ * <br>
+ * If a price scale is given, the <code>double</code> fields are stored as fixed-point mantissas at that scale (see
+ * {@link FixedPointUtil}) and are read exactly via {@link #getFixedPoint(SummaryUpdateField, int)}.
+ * <br>
+ * This class is not thread-safe.
+ *
+ * @see SummaryUpdateDecodeMode#PRIMITIVE
+ */
+public class PrimitiveSummaryUpdate extends SummaryUpdate {
+
+    /**
+     * The price scale that stores the <code>double</code> fields as <code>double</code>s.
+     */
+    public static final int DOUBLE_PRICE_SCALE = -1;
+
+    private static final long serialVersionUID = 1L;
+    private static final SummaryUpdateField[] SUMMARY_UPDATE_FIELDS = SummaryUpdateField.values();
+
+    /**
+     * The {@link SummaryUpdateField}s that are stored as <code>double</code>s.
+     */
+    static final SummaryUpdateField[] DOUBLE_FIELDS = {
+            SEVEN_DAY_YIELD, ASK, ASK_CHANGE, AVERAGE_MATURITY, BID, BID_CHANGE, CHANGE, CHANGE_FROM_OPEN, CLOSE,
+            CLOSE_RANGE_1, CLOSE_RANGE_2, EXTENDED_TRADE, EXTENDED_TRADING_CHANGE, EXTENDED_TRADING_DIFFERENCE, HIGH,
+            LAST, LOW, MARKET_CAPITALIZATION, MOST_RECENT_TRADE, NET_ASSET_VALUE, OPEN, OPEN_RANGE_1, OPEN_RANGE_2,
+            PERCENT_CHANGE, PERCENT_OFF_AVERAGE_VOLUME, PRICE_EARNINGS_RATIO, RANGE, SETTLE, SPREAD, VOLATILITY, VWAP};
+    /**
+     * The {@link SummaryUpdateField}s that are stored as <code>long</code>s.
+     */
+    static final SummaryUpdateField[] LONG_FIELDS = {
+            ASK_MARKET_CENTER, ASK_SIZE, BID_MARKET_CENTER, BID_SIZE, DELAY, EXCHANGE_ID, EXTENDED_TRADE_MARKET_CENTER,
+            EXTENDED_TRADE_SIZE, LAST_MARKET_CENTER, LAST_SIZE, MOST_RECENT_TRADE_DAY_CODE,
+            MOST_RECENT_TRADE_MARKET_CENTER, MOST_RECENT_TRADE_SIZE, NUMBER_OF_TRADES_TODAY, OPEN_INTEREST,
+            PREVIOUS_DAY_VOLUME, TICK, TICK_ID, TOTAL_VOLUME};
+    /**
+     * The {@link SummaryUpdateField}s that are stored as the <code>long</code> nanosecond of the day.
+     */
+    static final SummaryUpdateField[] TIME_FIELDS = {
+            ASK_TIME, BID_TIME, EXTENDED_TRADE_TIME, LAST_TIME, MOST_RECENT_TRADE_TIME};
+
+    private static final long[] DOUBLE_FIELD_MASKS = fieldMasksOf(DOUBLE_FIELDS);
+    private static final long[] LONG_FIELD_MASKS = fieldMasksOf(LONG_FIELDS);
+    private static final long[] TIME_FIELD_MASKS = fieldMasksOf(TIME_FIELDS);
+
+    private final int priceScale;
+    private final long[] values;
+    private final long[] presentFieldMasks;
+
+    /**
+     * Instantiates a new {@link PrimitiveSummaryUpdate} that stores the <code>double</code> fields as
+     * <code>double</code>s.
+     */
+    public PrimitiveSummaryUpdate() {
+        this(DOUBLE_PRICE_SCALE);
+    }
+
+    /**
+     * Instantiates a new {@link PrimitiveSummaryUpdate}.
+     *
+     * @param priceScale the scale of the fixed-point mantissas of the <code>double</code> fields (e.g. the Level 1
+     *                   "Decimal Precision" of the symbol) or {@link #DOUBLE_PRICE_SCALE}
+     */
+    public PrimitiveSummaryUpdate(int priceScale) {
+        checkArgument(priceScale == DOUBLE_PRICE_SCALE || (priceScale >= 0 && priceScale <= FixedPointUtil.MAX_SCALE),
+                "The price scale must be %s or between 0 and %s!", DOUBLE_PRICE_SCALE, FixedPointUtil.MAX_SCALE);
+
+        this.priceScale = priceScale;
+        values = new long[SUMMARY_UPDATE_FIELDS.length];
+        presentFieldMasks = new long[(SUMMARY_UPDATE_FIELDS.length + 63) / 64];
+    }
+
+    /**
+     * Creates the masks of the given {@link SummaryUpdateField}s indexed by their ordinals.
+     *
+     * @param summaryUpdateFields the {@link SummaryUpdateField}s
+     *
+     * @return the masks
+     */
+    private static long[] fieldMasksOf(SummaryUpdateField[] summaryUpdateFields) {
+        long[] fieldMasks = new long[(SUMMARY_UPDATE_FIELDS.length + 63) / 64];
+        for (SummaryUpdateField summaryUpdateField : summaryUpdateFields) {
+            fieldMasks[summaryUpdateField.ordinal() >>> 6] |= 1L << summaryUpdateField.ordinal();
+        }
+        return fieldMasks;
+    }
+
+    /**
+     * Tests if the given {@link SummaryUpdateField} is in the given <code>fieldMasks</code>.
+     *
+     * @param fieldMasks         the field masks
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return a boolean
+     */
+    private static boolean isInMasks(long[] fieldMasks, SummaryUpdateField summaryUpdateField) {
+        final int ordinal = summaryUpdateField.ordinal();
+        return (fieldMasks[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Tests if the given {@link SummaryUpdateField} is stored as a <code>double</code> (see
+     * {@link #getDouble(SummaryUpdateField)}).
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return a boolean
+     */
+    public static boolean isDoubleField(SummaryUpdateField summaryUpdateField) {
+        return isInMasks(DOUBLE_FIELD_MASKS, summaryUpdateField);
+    }
+
+    /**
+     * Tests if the given {@link SummaryUpdateField} is stored as a <code>long</code> (see
+     * {@link #getLong(SummaryUpdateField)}).
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return a boolean
+     */
+    public static boolean isLongField(SummaryUpdateField summaryUpdateField) {
+        return isInMasks(LONG_FIELD_MASKS, summaryUpdateField);
+    }
+
+    /**
+     * Tests if the given {@link SummaryUpdateField} is stored as the nanosecond of the day (see
+     * {@link #getNanoOfDay(SummaryUpdateField)}).
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return a boolean
+     */
+    public static boolean isTimeField(SummaryUpdateField summaryUpdateField) {
+        return isInMasks(TIME_FIELD_MASKS, summaryUpdateField);
+    }
+
+    /**
+     * Tests if the given primitive {@link SummaryUpdateField} is present (i.e. it was in the received message or it was
+     * set).
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return a boolean
+     */
+    public boolean isPresent(SummaryUpdateField summaryUpdateField) {
+        return isInMasks(presentFieldMasks, summaryUpdateField);
+    }
+
+    /**
+     * Gets the given <code>double</code> {@link SummaryUpdateField} without boxing.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isDoubleField(SummaryUpdateField)})
+     *
+     * @return the <code>double</code> or {@link Double#NaN} if the {@link SummaryUpdateField} isn't present
+     */
+    public double getDouble(SummaryUpdateField summaryUpdateField) {
+        checkArgument(isDoubleField(summaryUpdateField), "%s is not a double field!", summaryUpdateField);
+        if (!isPresent(summaryUpdateField)) {
+            return Double.NaN;
+        }
+        final long value = values[summaryUpdateField.ordinal()];
+        return isFixedPoint() ? FixedPointUtil.toDouble(value, priceScale) : Double.longBitsToDouble(value);
+    }
+
+    /**
+     * Sets the given <code>double</code> {@link SummaryUpdateField} without boxing and marks it as present. If
+     * {@link #isFixedPoint()}, the <code>value</code> is rounded half-up to the {@link #getPriceScale()}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isDoubleField(SummaryUpdateField)})
+     * @param value              the <code>double</code>
+     */
+    public void setDouble(SummaryUpdateField summaryUpdateField, double value) {
+        checkArgument(isDoubleField(summaryUpdateField), "%s is not a double field!", summaryUpdateField);
+        setValue(summaryUpdateField, isFixedPoint() ? FixedPointUtil.fromDouble(value, priceScale) :
+                Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Gets the given <code>double</code> {@link SummaryUpdateField} as a fixed-point mantissa at the given
+     * <code>scale</code> (see {@link FixedPointUtil}). This is exact if {@link #isFixedPoint()} and the
+     * <code>scale</code> is at least the {@link #getPriceScale()}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isDoubleField(SummaryUpdateField)})
+     * @param scale              the scale
+     *
+     * @return the mantissa or {@link Long#MIN_VALUE} if the {@link SummaryUpdateField} isn't present
+     */
+    public long getFixedPoint(SummaryUpdateField summaryUpdateField, int scale) {
+        checkArgument(isDoubleField(summaryUpdateField), "%s is not a double field!", summaryUpdateField);
+        if (!isPresent(summaryUpdateField)) {
+            return Long.MIN_VALUE;
+        }
+        final long value = values[summaryUpdateField.ordinal()];
+        return isFixedPoint() ? FixedPointUtil.rescale(value, priceScale, scale) :
+                FixedPointUtil.fromDouble(Double.longBitsToDouble(value), scale);
+    }
+
+    /**
+     * Sets the given <code>double</code> {@link SummaryUpdateField} from a fixed-point mantissa at the
+     * {@link #getPriceScale()} and marks it as present. This requires {@link #isFixedPoint()}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isDoubleField(SummaryUpdateField)})
+     * @param mantissa           the mantissa
+     */
+    public void setFixedPoint(SummaryUpdateField summaryUpdateField, long mantissa) {
+        checkArgument(isDoubleField(summaryUpdateField), "%s is not a double field!", summaryUpdateField);
+        checkState(isFixedPoint(), "The double fields are not stored as fixed-point mantissas!");
+        setValue(summaryUpdateField, mantissa);
+    }
+
+    /**
+     * Gets the given <code>long</code> {@link SummaryUpdateField} without boxing.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isLongField(SummaryUpdateField)})
+     *
+     * @return the <code>long</code> or {@link Long#MIN_VALUE} if the {@link SummaryUpdateField} isn't present
+     */
+    public long getLong(SummaryUpdateField summaryUpdateField) {
+        checkArgument(isLongField(summaryUpdateField), "%s is not a long field!", summaryUpdateField);
+        return isPresent(summaryUpdateField) ? values[summaryUpdateField.ordinal()] : Long.MIN_VALUE;
+    }
+
+    /**
+     * Sets the given <code>long</code> {@link SummaryUpdateField} without boxing and marks it as present.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isLongField(SummaryUpdateField)})
+     * @param value              the <code>long</code>
+     */
+    public void setLong(SummaryUpdateField summaryUpdateField, long value) {
+        checkArgument(isLongField(summaryUpdateField), "%s is not a long field!", summaryUpdateField);
+        setValue(summaryUpdateField, value);
+    }
+
+    /**
+     * Gets the given time {@link SummaryUpdateField} as its nanosecond of the day without allocating.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isTimeField(SummaryUpdateField)})
+     *
+     * @return the nanosecond of the day or {@link Long#MIN_VALUE} if the {@link SummaryUpdateField} isn't present
+     */
+    public long getNanoOfDay(SummaryUpdateField summaryUpdateField) {
+        checkArgument(isTimeField(summaryUpdateField), "%s is not a time field!", summaryUpdateField);
+        return isPresent(summaryUpdateField) ? values[summaryUpdateField.ordinal()] : Long.MIN_VALUE;
+    }
+
+    /**
+     * Sets the given time {@link SummaryUpdateField} from its nanosecond of the day and marks it as present.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField} (see {@link #isTimeField(SummaryUpdateField)})
+     * @param nanoOfDay          the nanosecond of the day
+     */
+    public void setNanoOfDay(SummaryUpdateField summaryUpdateField, long nanoOfDay) {
+        checkArgument(isTimeField(summaryUpdateField), "%s is not a time field!", summaryUpdateField);
+        setValue(summaryUpdateField, nanoOfDay);
+    }
+
+    /**
+     * Sets the encoded value of the given {@link SummaryUpdateField} and marks it as present.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     * @param value              the encoded value
+     */
+    private void setValue(SummaryUpdateField summaryUpdateField, long value) {
+        final int ordinal = summaryUpdateField.ordinal();
+        values[ordinal] = value;
+        presentFieldMasks[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    /**
+     * Clears the given primitive {@link SummaryUpdateField} so that it isn't present.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     */
+    private void clearValue(SummaryUpdateField summaryUpdateField) {
+        final int ordinal = summaryUpdateField.ordinal();
+        values[ordinal] = 0;
+        presentFieldMasks[ordinal >>> 6] &= ~(1L << ordinal);
+    }
+
+    /**
+     * Gets the given <code>double</code> {@link SummaryUpdateField} as a boxed {@link Double}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return the {@link Double} or <code>null</code> if the {@link SummaryUpdateField} isn't present
+     */
+    private Double getBoxedDouble(SummaryUpdateField summaryUpdateField) {
+        return isPresent(summaryUpdateField) ? getDouble(summaryUpdateField) : null;
+    }
+
+    /**
+     * Sets the given <code>double</code> {@link SummaryUpdateField} from a boxed {@link Double}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     * @param value              the {@link Double} or <code>null</code> to clear the {@link SummaryUpdateField}
+     */
+    private void setBoxedDouble(SummaryUpdateField summaryUpdateField, Double value) {
+        if (value == null) {
+            clearValue(summaryUpdateField);
+        } else {
+            setDouble(summaryUpdateField, value);
+        }
+    }
+
+    /**
+     * Gets the given <code>long</code> {@link SummaryUpdateField} as a boxed {@link Integer}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return the {@link Integer} or <code>null</code> if the {@link SummaryUpdateField} isn't present
+     */
+    private Integer getBoxedInteger(SummaryUpdateField summaryUpdateField) {
+        return isPresent(summaryUpdateField) ? (int) getLong(summaryUpdateField) : null;
+    }
+
+    /**
+     * Sets the given <code>long</code> {@link SummaryUpdateField} from a boxed {@link Integer}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     * @param value              the {@link Integer} or <code>null</code> to clear the {@link SummaryUpdateField}
+     */
+    private void setBoxedInteger(SummaryUpdateField summaryUpdateField, Integer value) {
+        if (value == null) {
+            clearValue(summaryUpdateField);
+        } else {
+            setLong(summaryUpdateField, value);
+        }
+    }
+
+    /**
+     * Gets the given time {@link SummaryUpdateField} as a {@link LocalTime}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     *
+     * @return the {@link LocalTime} or <code>null</code> if the {@link SummaryUpdateField} isn't present
+     */
+    private LocalTime getLocalTime(SummaryUpdateField summaryUpdateField) {
+        return isPresent(summaryUpdateField) ? LocalTime.ofNanoOfDay(getNanoOfDay(summaryUpdateField)) : null;
+    }
+
+    /**
+     * Sets the given time {@link SummaryUpdateField} from a {@link LocalTime}.
+     *
+     * @param summaryUpdateField the {@link SummaryUpdateField}
+     * @param value              the {@link LocalTime} or <code>null</code> to clear the {@link SummaryUpdateField}
+     */
+    private void setLocalTime(SummaryUpdateField summaryUpdateField, LocalTime value) {
+        if (value == null) {
+            clearValue(summaryUpdateField);
+        } else {
+            setNanoOfDay(summaryUpdateField, value.toNanoOfDay());
+        }
+    }
+
+    /**
+     * Tests if the <code>double</code> fields are stored as fixed-point mantissas.
+     *
+     * @return a boolean
+     */
+    public boolean isFixedPoint() {
+        return priceScale != DOUBLE_PRICE_SCALE;
+    }
+
+    /**
+     * Gets {@link #priceScale}.
+     *
+     * @return the price scale or {@link #DOUBLE_PRICE_SCALE}
+     */
+    public int getPriceScale() {
+        return priceScale;
+    }
+
+    /**
+     * Copies this {@link PrimitiveSummaryUpdate} into a new boxed {@link SummaryUpdate}.
+     *
+     * @return a new {@link SummaryUpdate}
+     */
+    public SummaryUpdate toSummaryUpdate() {
+        SummaryUpdate summaryUpdate = new SummaryUpdate();
+        ConflatingSummaryUpdateListener.merge(summaryUpdate, this);
+        return summaryUpdate;
+    }
+
+    @Override
+    public String toString() {
+        return toSummaryUpdate().toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        return toSummaryUpdate().equals(other instanceof PrimitiveSummaryUpdate ?
+                ((PrimitiveSummaryUpdate) other).toSummaryUpdate() : other);
+    }
+
+    @Override
+    public int hashCode() {
+        return toSummaryUpdate().hashCode();
+    }
+
+    //
+    // START Primitive-backed getters and setters
+    //
+
+    @Override
+    public Double get7DayYield() {
+        return getBoxedDouble(SEVEN_DAY_YIELD);
+    }
+
+    @Override
+    public void set7DayYield(Double sevenDayYield) {
+        setBoxedDouble(SEVEN_DAY_YIELD, sevenDayYield);
+    }
+
+    @Override
+    public Double getAsk() {
+        return getBoxedDouble(ASK);
+    }
+
+    @Override
+    public void setAsk(Double ask) {
+        setBoxedDouble(ASK, ask);
+    }
+
+    @Override
+    public Double getAskChange() {
+        return getBoxedDouble(ASK_CHANGE);
+    }
+
+    @Override
+    public void setAskChange(Double askChange) {
+        setBoxedDouble(ASK_CHANGE, askChange);
+    }
+
+    @Override
+    public Integer getAskMarketCenter() {
+        return getBoxedInteger(ASK_MARKET_CENTER);
+    }
+
+    @Override
+    public void setAskMarketCenter(Integer askMarketCenter) {
+        setBoxedInteger(ASK_MARKET_CENTER, askMarketCenter);
+    }
+
+    @Override
+    public Integer getAskSize() {
+        return getBoxedInteger(ASK_SIZE);
+    }
+
+    @Override
+    public void setAskSize(Integer askSize) {
+        setBoxedInteger(ASK_SIZE, askSize);
+    }
+
+    @Override
+    public LocalTime getAskTime() {
+        return getLocalTime(ASK_TIME);
+    }
+
+    @Override
+    public void setAskTime(LocalTime askTime) {
+        setLocalTime(ASK_TIME, askTime);
+    }
+
+    @Override
+    public Double getAverageMaturity() {
+        return getBoxedDouble(AVERAGE_MATURITY);
+    }
+
+    @Override
+    public void setAverageMaturity(Double averageMaturity) {
+        setBoxedDouble(AVERAGE_MATURITY, averageMaturity);
+    }
+
+    @Override
+    public Double getBid() {
+        return getBoxedDouble(BID);
+    }
+
+    @Override
+    public void setBid(Double bid) {
+        setBoxedDouble(BID, bid);
+    }
+
+    @Override
+    public Double getBidChange() {
+        return getBoxedDouble(BID_CHANGE);
+    }
+
+    @Override
+    public void setBidChange(Double bidChange) {
+        setBoxedDouble(BID_CHANGE, bidChange);
+    }
+
+    @Override
+    public Integer getBidMarketCenter() {
+        return getBoxedInteger(BID_MARKET_CENTER);
+    }
+
+    @Override
+    public void setBidMarketCenter(Integer bidMarketCenter) {
+        setBoxedInteger(BID_MARKET_CENTER, bidMarketCenter);
+    }
+
+    @Override
+    public Integer getBidSize() {
+        return getBoxedInteger(BID_SIZE);
+    }
+
+    @Override
+    public void setBidSize(Integer bidSize) {
+        setBoxedInteger(BID_SIZE, bidSize);
+    }
+
+    @Override
+    public LocalTime getBidTime() {
+        return getLocalTime(BID_TIME);
+    }
+
+    @Override
+    public void setBidTime(LocalTime bidTime) {
+        setLocalTime(BID_TIME, bidTime);
+    }
+
+    @Override
+    public Double getChange() {
+        return getBoxedDouble(CHANGE);
+    }
+
+    @Override
+    public void setChange(Double change) {
+        setBoxedDouble(CHANGE, change);
+    }
+
+    @Override
+    public Double getChangeFromOpen() {
+        return getBoxedDouble(CHANGE_FROM_OPEN);
+    }
+
+    @Override
+    public void setChangeFromOpen(Double changeFromOpen) {
+        setBoxedDouble(CHANGE_FROM_OPEN, changeFromOpen);
+    }
+
+    @Override
+    public Double getClose() {
+        return getBoxedDouble(CLOSE);
+    }
+
+    @Override
+    public void setClose(Double close) {
+        setBoxedDouble(CLOSE, close);
+    }
+
+    @Override
+    public Double getCloseRange1() {
+        return getBoxedDouble(CLOSE_RANGE_1);
+    }
+
+    @Override
+    public void setCloseRange1(Double closeRange1) {
+        setBoxedDouble(CLOSE_RANGE_1, closeRange1);
+    }
+
+    @Override
+    public Double getCloseRange2() {
+        return getBoxedDouble(CLOSE_RANGE_2);
+    }
+
+    @Override
+    public void setCloseRange2(Double closeRange2) {
+        setBoxedDouble(CLOSE_RANGE_2, closeRange2);
+    }
+
+    @Override
+    public Integer getDelay() {
+        return getBoxedInteger(DELAY);
+    }
+
+    @Override
+    public void setDelay(Integer delay) {
+        setBoxedInteger(DELAY, delay);
+    }
+
+    @Override
+    public Integer getExchangeID() {
+        return getBoxedInteger(EXCHANGE_ID);
+    }
+
+    @Override
+    public void setExchangeID(Integer exchangeID) {
+        setBoxedInteger(EXCHANGE_ID, exchangeID);
+    }
+
+    @Override
+    public Double getExtendedTrade() {
+        return getBoxedDouble(EXTENDED_TRADE);
+    }
+
+    @Override
+    public void setExtendedTrade(Double extendedTrade) {
+        setBoxedDouble(EXTENDED_TRADE, extendedTrade);
+    }
+
+    @Override
+    public Integer getExtendedTradeMarketCenter() {
+        return getBoxedInteger(EXTENDED_TRADE_MARKET_CENTER);
+    }
+
+    @Override
+    public void setExtendedTradeMarketCenter(Integer extendedTradeMarketCenter) {
+        setBoxedInteger(EXTENDED_TRADE_MARKET_CENTER, extendedTradeMarketCenter);
+    }
+
+    @Override
+    public Integer getExtendedTradeSize() {
+        return getBoxedInteger(EXTENDED_TRADE_SIZE);
+    }
+
+    @Override
+    public void setExtendedTradeSize(Integer extendedTradeSize) {
+        setBoxedInteger(EXTENDED_TRADE_SIZE, extendedTradeSize);
+    }
+
+    @Override
+    public LocalTime getExtendedTradeTime() {
+        return getLocalTime(EXTENDED_TRADE_TIME);
+    }
+
+    @Override
+    public void setExtendedTradeTime(LocalTime extendedTradeTime) {
+        setLocalTime(EXTENDED_TRADE_TIME, extendedTradeTime);
+    }
+
+    @Override
+    public Double getExtendedTradingChange() {
+        return getBoxedDouble(EXTENDED_TRADING_CHANGE);
+    }
+
+    @Override
+    public void setExtendedTradingChange(Double extendedTradingChange) {
+        setBoxedDouble(EXTENDED_TRADING_CHANGE, extendedTradingChange);
+    }
+
+    @Override
+    public Double getExtendedTradingDifference() {
+        return getBoxedDouble(EXTENDED_TRADING_DIFFERENCE);
+    }
+
+    @Override
+    public void setExtendedTradingDifference(Double extendedTradingDifference) {
+        setBoxedDouble(EXTENDED_TRADING_DIFFERENCE, extendedTradingDifference);
+    }
+
+    @Override
+    public Double getHigh() {
+        return getBoxedDouble(HIGH);
+    }
+
+    @Override
+    public void setHigh(Double high) {
+        setBoxedDouble(HIGH, high);
+    }
+
+    @Override
+    public Double getLast() {
+        return getBoxedDouble(LAST);
+    }
+
+    @Override
+    public void setLast(Double last) {
+        setBoxedDouble(LAST, last);
+    }
+
+    @Override
+    public Integer getLastMarketCenter() {
+        return getBoxedInteger(LAST_MARKET_CENTER);
+    }
+
+    @Override
+    public void setLastMarketCenter(Integer lastMarketCenter) {
+        setBoxedInteger(LAST_MARKET_CENTER, lastMarketCenter);
+    }
+
+    @Override
+    public Integer getLastSize() {
+        return getBoxedInteger(LAST_SIZE);
+    }
+
+    @Override
+    public void setLastSize(Integer lastSize) {
+        setBoxedInteger(LAST_SIZE, lastSize);
+    }
+
+    @Override
+    public LocalTime getLastTime() {
+        return getLocalTime(LAST_TIME);
+    }
+
+    @Override
+    public void setLastTime(LocalTime lastTime) {
+        setLocalTime(LAST_TIME, lastTime);
+    }
+
+    @Override
+    public Double getLow() {
+        return getBoxedDouble(LOW);
+    }
+
+    @Override
+    public void setLow(Double low) {
+        setBoxedDouble(LOW, low);
+    }
+
+    @Override
+    public Double getMarketCapitalization() {
+        return getBoxedDouble(MARKET_CAPITALIZATION);
+    }
+
+    @Override
+    public void setMarketCapitalization(Double marketCapitalization) {
+        setBoxedDouble(MARKET_CAPITALIZATION, marketCapitalization);
+    }
+
+    @Override
+    public Double getMostRecentTrade() {
+        return getBoxedDouble(MOST_RECENT_TRADE);
+    }
+
+    @Override
+    public void setMostRecentTrade(Double mostRecentTrade) {
+        setBoxedDouble(MOST_RECENT_TRADE, mostRecentTrade);
+    }
+
+    @Override
+    public Integer getMostRecentTradeDayCode() {
+        return getBoxedInteger(MOST_RECENT_TRADE_DAY_CODE);
+    }
+
+    @Override
+    public void setMostRecentTradeDayCode(Integer mostRecentTradeDayCode) {
+        setBoxedInteger(MOST_RECENT_TRADE_DAY_CODE, mostRecentTradeDayCode);
+    }
+
+    @Override
+    public Integer getMostRecentTradeMarketCenter() {
+        return getBoxedInteger(MOST_RECENT_TRADE_MARKET_CENTER);
+    }
+
+    @Override
+    public void setMostRecentTradeMarketCenter(Integer mostRecentTradeMarketCenter) {
+        setBoxedInteger(MOST_RECENT_TRADE_MARKET_CENTER, mostRecentTradeMarketCenter);
+    }
+
+    @Override
+    public Integer getMostRecentTradeSize() {
+        return getBoxedInteger(MOST_RECENT_TRADE_SIZE);
+    }
+
+    @Override
+    public void setMostRecentTradeSize(Integer mostRecentTradeSize) {
+        setBoxedInteger(MOST_RECENT_TRADE_SIZE, mostRecentTradeSize);
+    }
+
+    @Override
+    public LocalTime getMostRecentTradeTime() {
+        return getLocalTime(MOST_RECENT_TRADE_TIME);
+    }
+
+    @Override
+    public void setMostRecentTradeTime(LocalTime mostRecentTradeTime) {
+        setLocalTime(MOST_RECENT_TRADE_TIME, mostRecentTradeTime);
+    }
+
+    @Override
+    public Double getNetAssetValue() {
+        return getBoxedDouble(NET_ASSET_VALUE);
+    }
+
+    @Override
+    public void setNetAssetValue(Double netAssetValue) {
+        setBoxedDouble(NET_ASSET_VALUE, netAssetValue);
+    }
+
+    @Override
+    public Integer getNumberOfTradesToday() {
+        return getBoxedInteger(NUMBER_OF_TRADES_TODAY);
+    }
+
+    @Override
+    public void setNumberOfTradesToday(Integer numberOfTradesToday) {
+        setBoxedInteger(NUMBER_OF_TRADES_TODAY, numberOfTradesToday);
+    }
+
+    @Override
+    public Double getOpen() {
+        return getBoxedDouble(OPEN);
+    }
+
+    @Override
+    public void setOpen(Double open) {
+        setBoxedDouble(OPEN, open);
+    }
+
+    @Override
+    public Integer getOpenInterest() {
+        return getBoxedInteger(OPEN_INTEREST);
+    }
+
+    @Override
+    public void setOpenInterest(Integer openInterest) {
+        setBoxedInteger(OPEN_INTEREST, openInterest);
+    }
+
+    @Override
+    public Double getOpenRange1() {
+        return getBoxedDouble(OPEN_RANGE_1);
+    }
+
+    @Override
+    public void setOpenRange1(Double openRange1) {
+        setBoxedDouble(OPEN_RANGE_1, openRange1);
+    }
+
+    @Override
+    public Double getOpenRange2() {
+        return getBoxedDouble(OPEN_RANGE_2);
+    }
+
+    @Override
+    public void setOpenRange2(Double openRange2) {
+        setBoxedDouble(OPEN_RANGE_2, openRange2);
+    }
+
+    @Override
+    public Double getPercentChange() {
+        return getBoxedDouble(PERCENT_CHANGE);
+    }
+
+    @Override
+    public void setPercentChange(Double percentChange) {
+        setBoxedDouble(PERCENT_CHANGE, percentChange);
+    }
+
+    @Override
+    public Double getPercentOffAverageVolume() {
+        return getBoxedDouble(PERCENT_OFF_AVERAGE_VOLUME);
+    }
+
+    @Override
+    public void setPercentOffAverageVolume(Double percentOffAverageVolume) {
+        setBoxedDouble(PERCENT_OFF_AVERAGE_VOLUME, percentOffAverageVolume);
+    }
+
+    @Override
+    public Integer getPreviousDayVolume() {
+        return getBoxedInteger(PREVIOUS_DAY_VOLUME);
+    }
+
+    @Override
+    public void setPreviousDayVolume(Integer previousDayVolume) {
+        setBoxedInteger(PREVIOUS_DAY_VOLUME, previousDayVolume);
+    }
+
+    @Override
+    public Double getPriceEarningsRatio() {
+        return getBoxedDouble(PRICE_EARNINGS_RATIO);
+    }
+
+    @Override
+    public void setPriceEarningsRatio(Double priceEarningsRatio) {
+        setBoxedDouble(PRICE_EARNINGS_RATIO, priceEarningsRatio);
+    }
+
+    @Override
+    public Double getRange() {
+        return getBoxedDouble(RANGE);
+    }
+
+    @Override
+    public void setRange(Double range) {
+        setBoxedDouble(RANGE, range);
+    }
+
+    @Override
+    public Double getSettle() {
+        return getBoxedDouble(SETTLE);
+    }
+
+    @Override
+    public void setSettle(Double settle) {
+        setBoxedDouble(SETTLE, settle);
+    }
+
+    @Override
+    public Double getSpread() {
+        return getBoxedDouble(SPREAD);
+    }
+
+    @Override
+    public void setSpread(Double spread) {
+        setBoxedDouble(SPREAD, spread);
+    }
+
+    @Override
+    public Integer getTick() {
+        return getBoxedInteger(TICK);
+    }
+
+    @Override
+    public void setTick(Integer tick) {
+        setBoxedInteger(TICK, tick);
+    }
+
+    @Override
+    public Integer getTickID() {
+        return getBoxedInteger(TICK_ID);
+    }
+
+    @Override
+    public void setTickID(Integer tickID) {
+        setBoxedInteger(TICK_ID, tickID);
+    }
+
+    @Override
+    public Integer getTotalVolume() {
+        return getBoxedInteger(TOTAL_VOLUME);
+    }
+
+    @Override
+    public void setTotalVolume(Integer totalVolume) {
+        setBoxedInteger(TOTAL_VOLUME, totalVolume);
+    }
+
+    @Override
+    public Double getVolatility() {
+        return getBoxedDouble(VOLATILITY);
+    }
+
+    @Override
+    public void setVolatility(Double volatility) {
+        setBoxedDouble(VOLATILITY, volatility);
+    }
+
+    @Override
+    public Double getVwap() {
+        return getBoxedDouble(VWAP);
+    }
+
+    @Override
+    public void setVwap(Double vwap) {
+        setBoxedDouble(VWAP, vwap);
+    }
+
+    //
+    // END Primitive-backed getters and setters
+    //
+}
@@ -0,0 +1,67 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.feed.message.FeedMessageListener;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@link SelectiveSummaryUpdateListener} is a {@link FeedMessageListener} of {@link SummaryUpdate}s that declares the
+ * {@link SummaryUpdateField}s it reads. If {@link Level1Feed#isAutomaticUpdateFieldSelection()} is enabled, a
+ * {@link Level1Feed} selects only the union of the {@link SummaryUpdateField}s required by the listeners of its
+ * watched symbols via {@link Level1Feed#selectUpdateFieldNames(SummaryUpdateField...)}, so that IQFeed sends and
+ * {@link Level1Feed} parses fewer fields per summary/update message.
+ * <br>
+ * {@link SummaryUpdate} getters of {@link SummaryUpdateField}s that are not required may return <code>null</code>.
+ * Note that {@link SummaryUpdateField#SYMBOL} is always sent, so it doesn't need to be declared.
+ */
+public interface SelectiveSummaryUpdateListener extends FeedMessageListener<SummaryUpdate> {
+
+    /**
+     * Gets the {@link SummaryUpdateField}s that this {@link SelectiveSummaryUpdateListener} reads. This should always
+     * return the same {@link SummaryUpdateField}s since it is only read when the symbol is watched.
+     *
+     * @return a {@link Set} of {@link SummaryUpdateField}s
+     */
+    Set<SummaryUpdateField> getRequiredSummaryUpdateFields();
+
+    /**
+     * Creates a {@link SelectiveSummaryUpdateListener} that declares the given <code>requiredSummaryUpdateFields</code>
+     * and passes messages to the given <code>summaryUpdateListener</code>.
+     *
+     * @param requiredSummaryUpdateFields the required {@link SummaryUpdateField}s
+     * @param summaryUpdateListener       the {@link FeedMessageListener} of {@link SummaryUpdate}s
+     *
+     * @return a new {@link SelectiveSummaryUpdateListener}
+     */
+    static SelectiveSummaryUpdateListener of(Set<SummaryUpdateField> requiredSummaryUpdateFields,
+            FeedMessageListener<SummaryUpdate> summaryUpdateListener) {
+        checkNotNull(requiredSummaryUpdateFields);
+        checkNotNull(summaryUpdateListener);
+
+        final Set<SummaryUpdateField> requiredSummaryUpdateFieldsCopy = Collections.unmodifiableSet(
+                requiredSummaryUpdateFields.isEmpty() ? EnumSet.noneOf(SummaryUpdateField.class) :
+                        EnumSet.copyOf(requiredSummaryUpdateFields));
+        return new SelectiveSummaryUpdateListener() {
+            @Override
+            public Set<SummaryUpdateField> getRequiredSummaryUpdateFields() {
+                return requiredSummaryUpdateFieldsCopy;
+            }
+
+            @Override
+            public void onMessageReceived(SummaryUpdate summaryUpdate) {
+                summaryUpdateListener.onMessageReceived(summaryUpdate);
+            }
+
+            @Override
+            public void onMessageException(Exception exception) {
+                summaryUpdateListener.onMessageException(exception);
+            }
+        };
+    }
+}
@@ -0,0 +1,194 @@
+package net.jacobpeterson.iqfeed4j.util.bytes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * {@link ByteLineFramer} frames message lines at the byte level from a {@link ReadableByteChannel} or a
+ * {@link ByteBuffer}. Any line ending is accepted: CR, LF, or CRLF (the same as {@link
+ * java.io.BufferedReader#readLine()}), including line endings that are split across reads.
+ * <br>
+ * Framed lines are passed to a {@link LineHandler} as a reusable {@link ByteSlice}. Reads go into a heap
+ * {@link ByteBuffer} whose backing array is framed in place, so there is no copy or allocation for lines that are fully
+ * contained in a single read; only lines that span multiple reads are copied into an internal growable line buffer.
+ * This class is not thread-safe.
+ */
+public class ByteLineFramer {
+
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final int INITIAL_PARTIAL_LINE_CAPACITY = 1024;
+
+    private final ByteBuffer readBuffer;
+    private byte[] directBufferBytes;
+    private final ByteSlice line;
+    private byte[] partialLine;
+    private int partialLineLength;
+    private boolean skipLineFeed;
+
+    /**
+     * Instantiates a new {@link ByteLineFramer}.
+     *
+     * @param readBufferCapacity the capacity of the heap {@link ByteBuffer} used for reading
+     */
+    public ByteLineFramer(int readBufferCapacity) {
+        readBuffer = ByteBuffer.allocate(readBufferCapacity);
+        line = new ByteSlice();
+        partialLine = new byte[INITIAL_PARTIAL_LINE_CAPACITY];
+    }
+
+    /**
+     * Performs a single {@link ReadableByteChannel#read(ByteBuffer)} on the given <code>channel</code> and frames any
+     * read bytes into lines.
+     *
+     * @param channel     the {@link ReadableByteChannel}
+     * @param lineHandler the {@link LineHandler}
+     *
+     * @return the number of bytes read, possibly zero, or <code>-1</code> if the channel has reached end-of-stream
+     *
+     * @throws Exception thrown for {@link IOException}s or for {@link Exception}s thrown by the {@link LineHandler}
+     */
+    public int read(ReadableByteChannel channel, LineHandler lineHandler) throws Exception {
+        int bytesRead = channel.read(readBuffer);
+        if (bytesRead > 0) {
+            frame(readBuffer.array(), readBuffer.arrayOffset(), readBuffer.position(), lineHandler);
+            readBuffer.clear();
+        }
+        return bytesRead;
+    }
+
+    /**
+     * Frames all remaining bytes of the given {@link ByteBuffer} into lines. The backing array of a heap
+     * {@link ByteBuffer} is framed in place. A direct {@link ByteBuffer} is copied in chunks into a reusable array
+     * first.
+     *
+     * @param buffer      the {@link ByteBuffer}
+     * @param lineHandler the {@link LineHandler}
+     *
+     * @throws Exception thrown for {@link Exception}s thrown by the {@link LineHandler}
+     */
+    public void frame(ByteBuffer buffer, LineHandler lineHandler) throws Exception {
+        if (buffer.hasArray()) {
+            frame(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), lineHandler);
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        if (directBufferBytes == null) {
+            directBufferBytes = new byte[readBuffer.capacity()];
+        }
+        while (buffer.hasRemaining()) {
+            int chunkLength = Math.min(buffer.remaining(), directBufferBytes.length);
+            buffer.get(directBufferBytes, 0, chunkLength);
+            frame(directBufferBytes, 0, chunkLength, lineHandler);
+        }
+    }
+
+    /**
+     * Frames the given range of <code>bytes</code> into lines.
+     *
+     * @param bytes       the bytes
+     * @param offset      the offset in <code>bytes</code>
+     * @param length      the length from <code>offset</code>
+     * @param lineHandler the {@link LineHandler}
+     *
+     * @throws Exception thrown for {@link Exception}s thrown by the {@link LineHandler}
+     */
+    public void frame(byte[] bytes, int offset, int length, LineHandler lineHandler) throws Exception {
+        int end = offset + length;
+        int index = offset;
+
+        // Skip the LF of a CRLF line ending that was split across reads
+        if (skipLineFeed && index < end) {
+            skipLineFeed = false;
+            if (bytes[index] == LF) {
+                index++;
+            }
+        }
+
+        int lineStart = index;
+        while (index < end) {
+            byte value = bytes[index];
+            if (value != CR && value != LF) {
+                index++;
+                continue;
+            }
+
+            onLineFramed(bytes, lineStart, index - lineStart, lineHandler);
+
+            index++;
+            if (value == CR) {
+                if (index < end) {
+                    if (bytes[index] == LF) {
+                        index++;
+                    }
+                } else {
+                    skipLineFeed = true;
+                }
+            }
+            lineStart = index;
+        }
+
+        if (lineStart < end) {
+            appendPartialLine(bytes, lineStart, end - lineStart);
+        }
+    }
+
+    /**
+     * Called when a line has been framed.
+     *
+     * @param bytes       the bytes
+     * @param offset      the offset of the line (or the end of a partial line) in <code>bytes</code>
+     * @param length      the length from <code>offset</code>
+     * @param lineHandler the {@link LineHandler}
+     *
+     * @throws Exception thrown for {@link Exception}s thrown by the {@link LineHandler}
+     */
+    private void onLineFramed(byte[] bytes, int offset, int length, LineHandler lineHandler) throws Exception {
+        if (partialLineLength == 0) {
+            line.set(bytes, offset, length);
+        } else {
+            appendPartialLine(bytes, offset, length);
+            line.set(partialLine, 0, partialLineLength);
+            partialLineLength = 0;
+        }
+
+        lineHandler.onLine(line);
+    }
+
+    /**
+     * Appends the given range of <code>bytes</code> to {@link #partialLine}, growing it if needed.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset in <code>bytes</code>
+     * @param length the length from <code>offset</code>
+     */
+    private void appendPartialLine(byte[] bytes, int offset, int length) {
+        int requiredCapacity = partialLineLength + length;
+        if (requiredCapacity > partialLine.length) {
+            partialLine = Arrays.copyOf(partialLine, Math.max(partialLine.length * 2, requiredCapacity));
+        }
+
+        System.arraycopy(bytes, offset, partialLine, partialLineLength, length);
+        partialLineLength = requiredCapacity;
+    }
+
+    /**
+     * {@link LineHandler} handles lines framed by a {@link ByteLineFramer}.
+     */
+    @FunctionalInterface
+    public interface LineHandler {
+
+        /**
+         * Called when a line has been framed. The given {@link ByteSlice} is reused and its contents are only valid
+         * for the duration of this call.
+         *
+         * @param line the line {@link ByteSlice} (without the line ending)
+         *
+         * @throws Exception thrown for {@link Exception}s
+         */
+        void onLine(ByteSlice line) throws Exception;
+    }
+}
@@ -0,0 +1,201 @@
+package net.jacobpeterson.iqfeed4j.util.bytes;
+
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteLineFramer.LineHandler;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link ByteLineRingBuffer} is a bounded, lock-free, single-producer single-consumer ring buffer of byte lines in the
+ * style of the LMAX Disruptor. All slots are pre-allocated and reused, so a line is copied once into its slot by the
+ * producer and is then handed to the consumer as a reusable {@link ByteSlice} without any further allocation. A slot
+ * only grows if a line is longer than its current capacity.
+ * <br>
+ * Exactly one thread may call the producer methods ({@link #tryPublish(ByteSlice)}) and exactly one (other) thread may
+ * call the consumer methods ({@link #poll(LineHandler, int)}). Neither side ever blocks; waiting is up to the caller.
+ */
+public class ByteLineRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final byte[][] slotBytes;
+    private final int[] slotLengths;
+    private final long[] slotTimestamps;
+    private final ByteSlice consumerLine;
+    private long consumerLineTimestamp; // Only accessed by the consumer
+
+    private final AtomicLong publishedSequence; // The number of lines published
+    private final AtomicLong consumedSequence; // The number of lines consumed
+    private long producerSequence; // Only accessed by the producer
+    private long cachedConsumedSequence; // Only accessed by the producer
+    private long consumerSequence; // Only accessed by the consumer
+    private long cachedPublishedSequence; // Only accessed by the consumer
+
+    /**
+     * Instantiates a new {@link ByteLineRingBuffer}.
+     *
+     * @param capacity            the number of slots (must be a power of 2)
+     * @param initialSlotCapacity the initial byte capacity of each slot
+     */
+    public ByteLineRingBuffer(int capacity, int initialSlotCapacity) {
+        checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "The capacity must be a power of 2!");
+        checkArgument(initialSlotCapacity >= 0, "The initial slot capacity cannot be negative!");
+
+        this.capacity = capacity;
+        mask = capacity - 1;
+        slotBytes = new byte[capacity][initialSlotCapacity];
+        slotLengths = new int[capacity];
+        slotTimestamps = new long[capacity];
+        consumerLine = new ByteSlice();
+
+        publishedSequence = new AtomicLong();
+        consumedSequence = new AtomicLong();
+    }
+
+    /**
+     * Copies the given <code>line</code> into the next free slot and publishes it to the consumer.
+     *
+     * @param line the line {@link ByteSlice}
+     *
+     * @return true if the <code>line</code> was published, false if this {@link ByteLineRingBuffer} is full
+     */
+    public boolean tryPublish(ByteSlice line) {
+        return tryPublish(line.getBytes(), line.getOffset(), line.length(), 0);
+    }
+
+    /**
+     * Copies the given <code>line</code> and <code>timestamp</code> into the next free slot and publishes it to the
+     * consumer. The <code>timestamp</code> is available to the consumer via {@link #getConsumerLineTimestamp()}.
+     *
+     * @param line      the line {@link ByteSlice}
+     * @param timestamp the timestamp (e.g. the {@link System#nanoTime()} at which the line was framed)
+     *
+     * @return true if the <code>line</code> was published, false if this {@link ByteLineRingBuffer} is full
+     */
+    public boolean tryPublish(ByteSlice line, long timestamp) {
+        return tryPublish(line.getBytes(), line.getOffset(), line.length(), timestamp);
+    }
+
+    /**
+     * Copies the given range of <code>bytes</code> into the next free slot and publishes it to the consumer.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset in <code>bytes</code>
+     * @param length the length from <code>offset</code>
+     *
+     * @return true if the line was published, false if this {@link ByteLineRingBuffer} is full
+     */
+    public boolean tryPublish(byte[] bytes, int offset, int length) {
+        return tryPublish(bytes, offset, length, 0);
+    }
+
+    /**
+     * Copies the given range of <code>bytes</code> and <code>timestamp</code> into the next free slot and publishes it
+     * to the consumer.
+     *
+     * @param bytes     the bytes
+     * @param offset    the offset in <code>bytes</code>
+     * @param length    the length from <code>offset</code>
+     * @param timestamp the timestamp
+     *
+     * @return true if the line was published, false if this {@link ByteLineRingBuffer} is full
+     */
+    public boolean tryPublish(byte[] bytes, int offset, int length, long timestamp) {
+        if (producerSequence - cachedConsumedSequence >= capacity) {
+            cachedConsumedSequence = consumedSequence.get();
+            if (producerSequence - cachedConsumedSequence >= capacity) {
+                return false;
+            }
+        }
+
+        int slotIndex = (int) producerSequence & mask;
+        byte[] slot = slotBytes[slotIndex];
+        if (slot.length < length) {
+            slot = new byte[Math.max(slot.length * 2, length)];
+            slotBytes[slotIndex] = slot;
+        }
+        System.arraycopy(bytes, offset, slot, 0, length);
+        slotLengths[slotIndex] = length;
+        slotTimestamps[slotIndex] = timestamp;
+
+        producerSequence++;
+        publishedSequence.lazySet(producerSequence); // Ordered store publishes the slot contents
+        return true;
+    }
+
+    /**
+     * Passes up to <code>maxLines</code> published lines to the given {@link LineHandler}, in publication order. Each
+     * slot is released to the producer as soon as the {@link LineHandler} returns for it, even if it threw an
+     * {@link Exception}.
+     *
+     * @param lineHandler the {@link LineHandler}
+     * @param maxLines    the maximum number of lines to consume
+     *
+     * @return the number of lines consumed
+     *
+     * @throws Exception thrown for {@link Exception}s thrown by the {@link LineHandler}
+     */
+    public int poll(LineHandler lineHandler, int maxLines) throws Exception {
+        if (consumerSequence >= cachedPublishedSequence) {
+            cachedPublishedSequence = publishedSequence.get();
+            if (consumerSequence >= cachedPublishedSequence) {
+                return 0;
+            }
+        }
+
+        long endSequence = Math.min(cachedPublishedSequence, consumerSequence + maxLines);
+        int consumedCount = (int) (endSequence - consumerSequence);
+        while (consumerSequence < endSequence) {
+            int slotIndex = (int) consumerSequence & mask;
+            consumerLine.set(slotBytes[slotIndex], 0, slotLengths[slotIndex]);
+            consumerLineTimestamp = slotTimestamps[slotIndex];
+            try {
+                lineHandler.onLine(consumerLine);
+            } finally {
+                consumerSequence++;
+                consumedSequence.lazySet(consumerSequence);
+            }
+        }
+        return consumedCount;
+    }
+
+    /**
+     * Gets the timestamp that was published with the line currently being passed to the {@link LineHandler} by
+     * {@link #poll(LineHandler, int)}. This must only be called by the consumer from within the {@link LineHandler}.
+     *
+     * @return the timestamp, or <code>0</code> if the line was published without one
+     */
+    public long getConsumerLineTimestamp() {
+        return consumerLineTimestamp;
+    }
+
+    /**
+     * Gets the number of published lines that have not been consumed yet. This is only an estimate if called
+     * concurrently with the producer or consumer.
+     *
+     * @return an int
+     */
+    public int size() {
+        long consumed = consumedSequence.get();
+        return (int) (publishedSequence.get() - consumed);
+    }
+
+    /**
+     * Tests if there are no published lines that have not been consumed yet.
+     *
+     * @return a boolean
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets {@link #capacity}.
+     *
+     * @return an int
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
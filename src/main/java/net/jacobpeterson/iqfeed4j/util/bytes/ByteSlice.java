@@ -0,0 +1,131 @@
+package net.jacobpeterson.iqfeed4j.util.bytes;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link ByteSlice} is a reusable, mutable view of a range of ASCII bytes in a <code>byte[]</code>. It implements
+ * {@link CharSequence} so that it can be handed to parsers without first decoding it into a {@link String}.
+ * <br>
+ * Note that a {@link ByteSlice} does not own its backing <code>byte[]</code>, so the contents of a {@link ByteSlice}
+ * are only valid until the producer of the {@link ByteSlice} reuses it (e.g. until the callback it was passed to
+ * returns).
+ */
+public final class ByteSlice implements CharSequence {
+
+    private byte[] bytes;
+    private int offset;
+    private int length;
+
+    /**
+     * Instantiates a new empty {@link ByteSlice}.
+     */
+    public ByteSlice() {
+        this.bytes = new byte[0];
+    }
+
+    /**
+     * Instantiates a new {@link ByteSlice}.
+     *
+     * @param bytes  the backing <code>byte[]</code>
+     * @param offset the offset in <code>bytes</code>
+     * @param length the length from <code>offset</code>
+     */
+    public ByteSlice(byte[] bytes, int offset, int length) {
+        set(bytes, offset, length);
+    }
+
+    /**
+     * Sets this {@link ByteSlice} to view the given range of <code>bytes</code>.
+     *
+     * @param bytes  the backing <code>byte[]</code>
+     * @param offset the offset in <code>bytes</code>
+     * @param length the length from <code>offset</code>
+     */
+    public void set(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Gets the byte at the given <code>index</code> relative to {@link #getOffset()}.
+     *
+     * @param index the index
+     *
+     * @return the byte
+     */
+    public byte byteAt(int index) {
+        return bytes[offset + index];
+    }
+
+    /**
+     * Tests if the contents of this {@link ByteSlice} are equal to the given ASCII {@link String} without decoding
+     * this {@link ByteSlice}.
+     *
+     * @param string the ASCII {@link String}
+     *
+     * @return a boolean
+     */
+    public boolean contentEquals(String string) {
+        if (string.length() != length) {
+            return false;
+        }
+
+        for (int index = 0; index < length; index++) {
+            if (bytes[offset + index] != string.charAt(index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies the contents of this {@link ByteSlice} into a new <code>byte[]</code>.
+     *
+     * @return a <code>byte[]</code>
+     */
+    public byte[] toByteArray() {
+        byte[] copy = new byte[length];
+        System.arraycopy(bytes, offset, copy, 0, length);
+        return copy;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes[offset + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(bytes, offset + start, end - start, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Gets {@link #bytes}.
+     *
+     * @return a <code>byte[]</code>
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets {@link #offset}.
+     *
+     * @return an int
+     */
+    public int getOffset() {
+        return offset;
+    }
+}
@@ -0,0 +1,527 @@
+package net.jacobpeterson.iqfeed4j.util.csv;
+
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+import net.jacobpeterson.iqfeed4j.util.split.SplitUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link CSVRecord} is a reusable, allocation-free cursor over the comma (,) delimited fields of an ASCII CSV line. It
+ * only stores the start and end offsets of each field in the line buffer, so fields are only decoded (e.g. into a
+ * {@link String} or a number) when they are actually read.
+ * <br>
+ * Note that a {@link CSVRecord} does not own the line buffer it was parsed from, so it is only valid until it is parsed
+ * again or until the producer of the line buffer reuses it. Use {@link #toArray()} or {@link #fieldAsString(int)} to
+ * retain values. This class is not thread-safe.
+ */
+public final class CSVRecord {
+
+    private static final int INITIAL_FIELD_CAPACITY = 64;
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+
+    private byte[] bytes;
+    private int lineOffset;
+    private int lineLength;
+    private int[] fieldStarts;
+    private int[] fieldEnds;
+    private int fieldCount;
+    private long receivedNanoTime;
+    private byte[] ownedBytes;
+    private final ByteSlice fieldSlice;
+
+    /**
+     * Instantiates a new {@link CSVRecord}.
+     */
+    public CSVRecord() {
+        this(new byte[0], new int[INITIAL_FIELD_CAPACITY], new int[INITIAL_FIELD_CAPACITY]);
+    }
+
+    /**
+     * Instantiates a new {@link CSVRecord}.
+     *
+     * @param bytes       the line buffer
+     * @param fieldStarts the field start offsets
+     * @param fieldEnds   the field end offsets
+     */
+    private CSVRecord(byte[] bytes, int[] fieldStarts, int[] fieldEnds) {
+        this.bytes = bytes;
+        this.fieldStarts = fieldStarts;
+        this.fieldEnds = fieldEnds;
+        ownedBytes = new byte[0];
+        fieldSlice = new ByteSlice();
+    }
+
+    /**
+     * Parses the given line {@link ByteSlice} into this {@link CSVRecord}.
+     *
+     * @param line the line {@link ByteSlice}
+     */
+    public void parse(ByteSlice line) {
+        parse(line.getBytes(), line.getOffset(), line.length());
+    }
+
+    /**
+     * Parses the given range of ASCII <code>bytes</code> into this {@link CSVRecord}. The same as
+     * {@link String#split(String)} with a limit of <code>-1</code>, an empty line yields a single empty field.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the line in <code>bytes</code>
+     * @param length the length of the line
+     */
+    public void parse(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.lineOffset = offset;
+        this.lineLength = length;
+        fieldCount = 0;
+
+        int end = offset + length;
+        int fieldStart = offset;
+        for (int index = offset; index < end; index++) {
+            if (bytes[index] == ',') {
+                addField(fieldStart, index);
+                fieldStart = index + 1;
+            }
+        }
+        addField(fieldStart, end);
+    }
+
+    /**
+     * Parses the given line {@link ByteSlice} into this {@link CSVRecord}, but ignores commas surrounded in quotes. This
+     * has the same semantics as {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)}.
+     *
+     * @param line the line {@link ByteSlice}
+     */
+    public void parseQuoteEscaped(ByteSlice line) {
+        parseQuoteEscaped(line.getBytes(), line.getOffset(), line.length());
+    }
+
+    /**
+     * Parses the given range of ASCII <code>bytes</code> into this {@link CSVRecord}, but ignores commas surrounded in
+     * quotes. Quotes are not removed from the field values. This has the same semantics as
+     * {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)}.
+     *
+     * @param bytes  the bytes
+     * @param offset the offset of the line in <code>bytes</code>
+     * @param length the length of the line
+     */
+    public void parseQuoteEscaped(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.lineOffset = offset;
+        this.lineLength = length;
+
+        if (!parseQuoteEscaped(false)) {
+            parseQuoteEscaped(true);
+        }
+    }
+
+    /**
+     * Parses the current line on commas whose number of preceding quotes has the same parity as the assumed total
+     * number of quotes in the line.
+     *
+     * @param oddQuoteCount true if the total number of quotes in the line is assumed to be odd
+     *
+     * @return true if <code>oddQuoteCount</code> was correct, false otherwise
+     */
+    private boolean parseQuoteEscaped(boolean oddQuoteCount) {
+        fieldCount = 0;
+
+        boolean oddQuotesSeen = false;
+        int end = lineOffset + lineLength;
+        int fieldStart = lineOffset;
+        for (int index = lineOffset; index < end; index++) {
+            byte value = bytes[index];
+            if (value == '"') {
+                oddQuotesSeen = !oddQuotesSeen;
+            } else if (value == ',' && oddQuotesSeen == oddQuoteCount) {
+                addField(fieldStart, index);
+                fieldStart = index + 1;
+            }
+        }
+        addField(fieldStart, end);
+
+        return oddQuotesSeen == oddQuoteCount;
+    }
+
+    /**
+     * Parses the given <code>csv</code> {@link String} array into this {@link CSVRecord} by encoding it into a reusable
+     * internal line buffer. Each element becomes exactly one field, even if it contains commas or quotes. This is used
+     * to adapt a <code>String[]</code> CSV to methods that take a {@link CSVRecord}.
+     *
+     * @param csv the CSV
+     */
+    public void parse(String[] csv) {
+        int length = Math.max(csv.length - 1, 0);
+        for (String field : csv) {
+            length += field.length();
+        }
+        if (ownedBytes.length < length) {
+            ownedBytes = new byte[Math.max(length, ownedBytes.length * 2)];
+        }
+
+        bytes = ownedBytes;
+        lineOffset = 0;
+        lineLength = length;
+        fieldCount = 0;
+
+        int index = 0;
+        for (int fieldIndex = 0; fieldIndex < csv.length; fieldIndex++) {
+            if (fieldIndex > 0) {
+                ownedBytes[index++] = ',';
+            }
+            String field = csv[fieldIndex];
+            int fieldStart = index;
+            for (int charIndex = 0; charIndex < field.length(); charIndex++) {
+                char character = field.charAt(charIndex);
+                ownedBytes[index++] = character < 0x80 ? (byte) character : (byte) '?';
+            }
+            addField(fieldStart, index);
+        }
+    }
+
+    /**
+     * Adds a field to {@link #fieldStarts} and {@link #fieldEnds}, growing them if needed.
+     *
+     * @param start the start offset (inclusive)
+     * @param end   the end offset (exclusive)
+     */
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Gets the number of fields in this {@link CSVRecord}.
+     *
+     * @return an int
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * Tests if this {@link CSVRecord} has <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return a boolean
+     */
+    public boolean fieldExists(int index) {
+        return index < fieldCount;
+    }
+
+    /**
+     * Tests if this {@link CSVRecord} has <code>index</code> and if the field at <code>index</code> is not empty.
+     *
+     * @param index the index
+     *
+     * @return a boolean
+     */
+    public boolean fieldPresent(int index) {
+        return index < fieldCount && fieldEnds[index] > fieldStarts[index];
+    }
+
+    /**
+     * Tests if this {@link CSVRecord} has <code>index</code> and if the field at <code>index</code> is not empty and
+     * not whitespace (the same as {@link String#trim()} semantics).
+     *
+     * @param index the index
+     *
+     * @return a boolean
+     */
+    public boolean fieldNotWhitespace(int index) {
+        if (index >= fieldCount) {
+            return false;
+        }
+
+        for (int byteIndex = fieldStarts[index]; byteIndex < fieldEnds[index]; byteIndex++) {
+            if ((bytes[byteIndex] & 0xFF) > ' ') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Tests if this {@link CSVRecord} has <code>match</code> at <code>index</code> without decoding the field.
+     *
+     * @param index the index
+     * @param match the ASCII {@link String} to check
+     *
+     * @return a boolean
+     */
+    public boolean fieldEquals(int index, String match) {
+        if (index >= fieldCount) {
+            return false;
+        }
+
+        int start = fieldStarts[index];
+        int length = fieldEnds[index] - start;
+        if (length != match.length()) {
+            return false;
+        }
+
+        for (int charIndex = 0; charIndex < length; charIndex++) {
+            if (bytes[start + charIndex] != match.charAt(charIndex)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the length of the field at <code>index</code>.
+     *
+     * @param index the index
+     *
+     * @return an int
+     */
+    public int fieldLength(int index) {
+        checkFieldIndex(index);
+        return fieldEnds[index] - fieldStarts[index];
+    }
+
+    /**
+     * Gets a reusable {@link ByteSlice} {@link CharSequence} view of the field at <code>index</code>. The returned
+     * {@link ByteSlice} is reused by every call to this method.
+     *
+     * @param index the index
+     *
+     * @return a {@link ByteSlice}
+     */
+    public ByteSlice field(int index) {
+        checkFieldIndex(index);
+        fieldSlice.set(bytes, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+        return fieldSlice;
+    }
+
+    /**
+     * Decodes the field at <code>index</code> into a new {@link String}.
+     *
+     * @param index the index
+     *
+     * @return a {@link String}
+     */
+    public String fieldAsString(int index) {
+        checkFieldIndex(index);
+        return new String(bytes, fieldStarts[index], fieldEnds[index] - fieldStarts[index],
+                StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Decodes the field at <code>index</code> and all fields after it (including their comma delimiters) into a new
+     * {@link String}.
+     *
+     * @param index the index
+     *
+     * @return a {@link String}
+     */
+    public String remainingFieldsAsString(int index) {
+        checkFieldIndex(index);
+        return new String(bytes, fieldStarts[index], lineOffset + lineLength - fieldStarts[index],
+                StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parses the field at <code>index</code> as a signed decimal <code>int</code> without decoding the field. The
+     * same as {@link Integer#parseInt(String)}.
+     *
+     * @param index the index
+     *
+     * @return an int
+     *
+     * @throws NumberFormatException thrown for {@link NumberFormatException}s
+     */
+    public int parseInt(int index) {
+        long value = parseLong(index);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of int range: " + fieldAsString(index));
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses the field at <code>index</code> as a signed decimal <code>long</code> without decoding the field. The
+     * same as {@link Long#parseLong(String)}.
+     *
+     * @param index the index
+     *
+     * @return a long
+     *
+     * @throws NumberFormatException thrown for {@link NumberFormatException}s
+     */
+    public long parseLong(int index) {
+        checkFieldIndex(index);
+
+        int byteIndex = fieldStarts[index];
+        int end = fieldEnds[index];
+        if (byteIndex == end) {
+            throw new NumberFormatException("Empty field at index: " + index);
+        }
+
+        boolean negative = false;
+        byte first = bytes[byteIndex];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++byteIndex == end) {
+                throw new NumberFormatException("For input string: \"" + fieldAsString(index) + "\"");
+            }
+        }
+
+        // Accumulate negatively to handle Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; byteIndex < end; byteIndex++) {
+            int digit = bytes[byteIndex] - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                throw new NumberFormatException("For input string: \"" + fieldAsString(index) + "\"");
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new NumberFormatException("For input string: \"" + fieldAsString(index) + "\"");
+            }
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses the field at <code>index</code> as a <code>double</code>. Plain decimal values (e.g.
+     * <code>-123.4567</code>) with up to 18 significant digits are parsed directly from the line buffer with exact
+     * rounding. Any other format falls back to {@link Double#parseDouble(String)}.
+     *
+     * @param index the index
+     *
+     * @return a double
+     *
+     * @throws NumberFormatException thrown for {@link NumberFormatException}s
+     */
+    public double parseDouble(int index) {
+        checkFieldIndex(index);
+
+        int byteIndex = fieldStarts[index];
+        int end = fieldEnds[index];
+
+        boolean negative = false;
+        if (byteIndex < end && (bytes[byteIndex] == '-' || bytes[byteIndex] == '+')) {
+            negative = bytes[byteIndex] == '-';
+            byteIndex++;
+        }
+
+        long mantissa = 0;
+        int digitCount = 0;
+        int fractionDigitCount = 0;
+        boolean decimalPointSeen = false;
+        for (; byteIndex < end; byteIndex++) {
+            byte value = bytes[byteIndex];
+            if (value >= '0' && value <= '9') {
+                if (++digitCount > MAX_FAST_PATH_DIGITS) {
+                    return Double.parseDouble(fieldAsString(index));
+                }
+                mantissa = mantissa * 10 + (value - '0');
+                if (decimalPointSeen) {
+                    fractionDigitCount++;
+                }
+            } else if (value == '.' && !decimalPointSeen) {
+                decimalPointSeen = true;
+            } else {
+                return Double.parseDouble(fieldAsString(index));
+            }
+        }
+
+        if (digitCount == 0 || mantissa > MAX_EXACT_DOUBLE_MANTISSA) {
+            return Double.parseDouble(fieldAsString(index));
+        }
+
+        // Both operands are exactly representable, so IEEE 754 division yields the correctly rounded result
+        double result = mantissa / POWERS_OF_TEN[fractionDigitCount];
+        return negative ? -result : result;
+    }
+
+    /**
+     * Copies this {@link CSVRecord} into a new {@link CSVRecord} that owns a copy of the line buffer, so that it stays
+     * valid after this {@link CSVRecord} is parsed again or its line buffer is reused. The fields are not parsed again.
+     *
+     * @return a new {@link CSVRecord}
+     */
+    public CSVRecord copy() {
+        CSVRecord copy = new CSVRecord(Arrays.copyOfRange(bytes, lineOffset, lineOffset + lineLength),
+                new int[Math.max(fieldCount, 1)], new int[Math.max(fieldCount, 1)]);
+        copy.lineLength = lineLength;
+        copy.fieldCount = fieldCount;
+        copy.receivedNanoTime = receivedNanoTime;
+        for (int index = 0; index < fieldCount; index++) {
+            copy.fieldStarts[index] = fieldStarts[index] - lineOffset;
+            copy.fieldEnds[index] = fieldEnds[index] - lineOffset;
+        }
+        return copy;
+    }
+
+    /**
+     * Gets {@link #receivedNanoTime}.
+     *
+     * @return the {@link System#nanoTime()} at which the line of this {@link CSVRecord} was framed, or <code>0</code>
+     * if it wasn't recorded
+     */
+    public long getReceivedNanoTime() {
+        return receivedNanoTime;
+    }
+
+    /**
+     * Sets {@link #receivedNanoTime}. This is not changed by parsing.
+     *
+     * @param receivedNanoTime the {@link System#nanoTime()} at which the line of this {@link CSVRecord} was framed
+     */
+    public void setReceivedNanoTime(long receivedNanoTime) {
+        this.receivedNanoTime = receivedNanoTime;
+    }
+
+    /**
+     * Decodes all fields of this {@link CSVRecord} into a new <code>String[]</code>.
+     *
+     * @return a <code>String[]</code>
+     */
+    public String[] toArray() {
+        String[] csv = new String[fieldCount];
+        for (int index = 0; index < fieldCount; index++) {
+            csv[index] = new String(bytes, fieldStarts[index], fieldEnds[index] - fieldStarts[index],
+                    StandardCharsets.US_ASCII);
+        }
+        return csv;
+    }
+
+    /**
+     * Checks that <code>index</code> is a valid field index.
+     *
+     * @param index the index
+     */
+    private void checkFieldIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field index: " + index + ", Size: " + fieldCount);
+        }
+    }
+
+    /**
+     * Returns the whole CSV line.
+     *
+     * @return a {@link String}
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, lineOffset, lineLength, StandardCharsets.US_ASCII);
+    }
+}
@@ -54,4 +54,55 @@ public final class CSVUtil {
     public static boolean valueEquals(String[] csv, int index, String match) {
         return valueExists(csv, index) && csv[index].equals(match);
     }
+
+    /**
+     * Tests if the <code>csv</code> {@link CSVRecord} has <code>index</code>.
+     *
+     * @param csv   the {@link CSVRecord}
+     * @param index the index
+     *
+     * @return a boolean
+     */
+    public static boolean valueExists(CSVRecord csv, int index) {
+        return csv.fieldExists(index);
+    }
+
+    /**
+     * Tests if the <code>csv</code> {@link CSVRecord} has <code>index</code> and if the value at <code>index</code> is
+     * not empty.
+     *
+     * @param csv   the {@link CSVRecord}
+     * @param index the index
+     *
+     * @return a boolean
+     */
+    public static boolean valuePresent(CSVRecord csv, int index) {
+        return csv.fieldPresent(index);
+    }
+
+    /**
+     * Tests if the <code>csv</code> {@link CSVRecord} has <code>index</code> and if the value at <code>index</code> is
+     * not empty and not whitespace.
+     *
+     * @param csv   the {@link CSVRecord}
+     * @param index the index
+     *
+     * @return a boolean
+     */
+    public static boolean valueNotWhitespace(CSVRecord csv, int index) {
+        return csv.fieldNotWhitespace(index);
+    }
+
+    /**
+     * Tests if the <code>csv</code> {@link CSVRecord} has <code>match</code> at <code>index</code>.
+     *
+     * @param csv   the {@link CSVRecord}
+     * @param index the index
+     * @param match the string to check
+     *
+     * @return the boolean
+     */
+    public static boolean valueEquals(CSVRecord csv, int index, String match) {
+        return csv.fieldEquals(index, match);
+    }
 }
@@ -1,5 +1,7 @@
 package net.jacobpeterson.iqfeed4j.util.csv.mapper;
 
+import net.jacobpeterson.iqfeed4j.util.datetime.DateTimeParseUtil;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -8,7 +10,11 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
 import java.util.Locale;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * {@link AbstractCSVMapper} maps CSV {@link String} values to various types/objects.
@@ -34,6 +40,19 @@ public abstract class AbstractCSVMapper<T> {
         public static final Function<String, Double> DOUBLE = Double::valueOf;
     }
 
+    /**
+     * {@link PrimitiveParsers} contains common primitive-specialized {@link java.util.function} functions with the
+     * argument being the CSV {@link String} value and the return value being the unboxed CSV primitive value.
+     *
+     * @see CSVMapping#ofDouble(ObjDoubleConsumer)
+     */
+    public static class PrimitiveParsers {
+
+        public static final ToIntFunction<String> INTEGER = Integer::parseInt;
+        public static final ToLongFunction<String> LONG = Long::parseLong;
+        public static final ToDoubleFunction<String> DOUBLE = Double::parseDouble;
+    }
+
     /**
      * {@link DateTimeFormatters} contains various {@link DateTimeFormatters} for formatting/converting from/to CSV.
      */
@@ -96,32 +115,29 @@ public abstract class AbstractCSVMapper<T> {
         public static final Function<String, LocalDate> DATE =
                 value -> LocalDate.parse(value, DateTimeFormatters.DATE);
 
-        /** Convertor using {@link DateTimeFormatters#DATE_SPACE_TIME} */
-        public static final Function<String, LocalDateTime> DATE_SPACE_TIME =
-                value -> LocalDateTime.parse(value, DateTimeFormatters.DATE_SPACE_TIME);
+        /** Convertor using {@link DateTimeParseUtil#parseDateSpaceTime(CharSequence)} */
+        public static final Function<String, LocalDateTime> DATE_SPACE_TIME = DateTimeParseUtil::parseDateSpaceTime;
 
         /** Convertor using {@link DateTimeFormatters#MONTH3_DAY_TIME_AM_PM} */
         public static final Function<String, LocalDateTime> MONTH3_DAY_TIME_AM_PM =
                 value -> LocalDateTime.parse(value, DateTimeFormatters.MONTH3_DAY_TIME_AM_PM);
 
-        /** Convertor using {@link DateTimeFormatters#DASHED_DATE_SPACE_TIME_FRACTIONAL} */
+        /** Convertor using {@link DateTimeParseUtil#parseDashedDateSpaceTimeFractional(CharSequence)} */
         public static final Function<String, LocalDateTime> DASHED_DATE_SPACE_TIME_FRACTIONAL =
-                value -> LocalDateTime.parse(value, DateTimeFormatters.DASHED_DATE_SPACE_TIME_FRACTIONAL);
+                DateTimeParseUtil::parseDashedDateSpaceTimeFractional;
 
-        /** Convertor using {@link DateTimeFormatters#DASHED_DATE_SPACE_TIME_FRACTIONAL} */
+        /** Convertor using {@link DateTimeParseUtil#parseDashedDateSpaceTimeFractional(CharSequence)} */
         public static final Function<String, LocalDateTime> DASHED_DATE_SPACE_TIME = DASHED_DATE_SPACE_TIME_FRACTIONAL;
 
         /** Convertor using {@link DateTimeFormatters#DASHED_DATE} */
         public static final Function<String, LocalDate> DASHED_DATE =
                 value -> LocalDate.parse(value, DateTimeFormatters.DASHED_DATE);
 
-        /** Convertor using {@link DateTimeFormatters#SLASHED_DATE} */
-        public static final Function<String, LocalDate> SLASHED_DATE =
-                value -> LocalDate.parse(value, DateTimeFormatters.SLASHED_DATE);
+        /** Convertor using {@link DateTimeParseUtil#parseSlashedDate(CharSequence)} */
+        public static final Function<String, LocalDate> SLASHED_DATE = DateTimeParseUtil::parseSlashedDate;
 
-        /** Convertor using {@link DateTimeFormatters#COLON_TIME} */
-        public static final Function<String, LocalTime> COLON_TIME =
-                value -> LocalTime.parse(value, DateTimeFormatters.COLON_TIME);
+        /** Convertor using {@link DateTimeParseUtil#parseColonTime(CharSequence)} */
+        public static final Function<String, LocalTime> COLON_TIME = DateTimeParseUtil::parseColonTime;
 
         /** Convertor using {@link DateTimeFormatters#DATE_SPACE_COLON_TIME} */
         public static final Function<String, LocalDateTime> DATE_SPACE_COLON_TIME =
@@ -1,7 +1,18 @@
 package net.jacobpeterson.iqfeed4j.util.csv.mapper;
 
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeFormatters;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.PrimitiveParsers;
+import net.jacobpeterson.iqfeed4j.util.datetime.DateTimeParseUtil;
+import net.jacobpeterson.iqfeed4j.util.decimal.FixedPointUtil;
+
+import java.time.LocalTime;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToIntFunction;
 
 /**
  * {@link CSVMapping} holds a mapping for a CSV value to POJO field mapping.
@@ -11,7 +22,111 @@ import java.util.function.Function;
  */
 public final class CSVMapping<T, P> {
 
+    /**
+     * Creates a {@link CSVMapping} for a <code>double</code> POJO field. When applied to a {@link CSVRecord}, the
+     * value is parsed directly from the line bytes via {@link CSVRecord#parseDouble(int)}, so no {@link String} or
+     * boxed {@link Double} is allocated (unless the <code>fieldSetter</code> itself boxes).
+     *
+     * @param <T>         the type of the POJO
+     * @param fieldSetter the field setter {@link ObjDoubleConsumer}
+     *
+     * @return a new {@link CSVMapping}
+     */
+    public static <T> CSVMapping<T, Double> ofDouble(ObjDoubleConsumer<T> fieldSetter) {
+        return new CSVMapping<>(
+                (instance, value) -> fieldSetter.accept(instance, PrimitiveParsers.DOUBLE.applyAsDouble(value)),
+                (instance, csv, index) -> fieldSetter.accept(instance, csv.parseDouble(index)));
+    }
+
+    /**
+     * Creates a {@link CSVMapping} for a <code>long</code> POJO field. When applied to a {@link CSVRecord}, the value
+     * is parsed directly from the line bytes via {@link CSVRecord#parseLong(int)}.
+     *
+     * @param <T>         the type of the POJO
+     * @param fieldSetter the field setter {@link ObjLongConsumer}
+     *
+     * @return a new {@link CSVMapping}
+     *
+     * @see #ofDouble(ObjDoubleConsumer)
+     */
+    public static <T> CSVMapping<T, Long> ofLong(ObjLongConsumer<T> fieldSetter) {
+        return new CSVMapping<>(
+                (instance, value) -> fieldSetter.accept(instance, PrimitiveParsers.LONG.applyAsLong(value)),
+                (instance, csv, index) -> fieldSetter.accept(instance, csv.parseLong(index)));
+    }
+
+    /**
+     * Creates a {@link CSVMapping} for an <code>int</code> POJO field. When applied to a {@link CSVRecord}, the value
+     * is parsed directly from the line bytes via {@link CSVRecord#parseInt(int)}.
+     *
+     * @param <T>         the type of the POJO
+     * @param fieldSetter the field setter {@link ObjIntConsumer}
+     *
+     * @return a new {@link CSVMapping}
+     *
+     * @see #ofDouble(ObjDoubleConsumer)
+     */
+    public static <T> CSVMapping<T, Integer> ofInt(ObjIntConsumer<T> fieldSetter) {
+        return new CSVMapping<>(
+                (instance, value) -> fieldSetter.accept(instance, PrimitiveParsers.INTEGER.applyAsInt(value)),
+                (instance, csv, index) -> fieldSetter.accept(instance, csv.parseInt(index)));
+    }
+
+    /**
+     * Creates a {@link CSVMapping} for a fixed-point POJO field. The CSV value is parsed directly into a fixed-point
+     * mantissa at the given <code>scale</code> via {@link FixedPointUtil#parse(CharSequence, int)} (from the line
+     * bytes when applied to a {@link CSVRecord}).
+     *
+     * @param <T>         the type of the POJO
+     * @param fieldSetter the field setter {@link ObjLongConsumer} that accepts the mantissa
+     * @param scale       the scale
+     *
+     * @return a new {@link CSVMapping}
+     */
+    public static <T> CSVMapping<T, Long> ofFixedPoint(ObjLongConsumer<T> fieldSetter, int scale) {
+        return new CSVMapping<>(
+                (instance, value) -> fieldSetter.accept(instance, FixedPointUtil.parse(value, scale)),
+                (instance, csv, index) -> fieldSetter.accept(instance, FixedPointUtil.parse(csv.field(index), scale)));
+    }
+
+    /**
+     * Same as {@link #ofFixedPoint(ObjLongConsumer, int)}, but the scale is taken from the POJO instance that is being
+     * mapped.
+     *
+     * @param <T>           the type of the POJO
+     * @param fieldSetter   the field setter {@link ObjLongConsumer} that accepts the mantissa
+     * @param scaleFunction the {@link ToIntFunction} that gets the scale of a POJO instance
+     *
+     * @return a new {@link CSVMapping}
+     */
+    public static <T> CSVMapping<T, Long> ofFixedPoint(ObjLongConsumer<T> fieldSetter,
+            ToIntFunction<T> scaleFunction) {
+        return new CSVMapping<>(
+                (instance, value) -> fieldSetter.accept(instance,
+                        FixedPointUtil.parse(value, scaleFunction.applyAsInt(instance))),
+                (instance, csv, index) -> fieldSetter.accept(instance,
+                        FixedPointUtil.parse(csv.field(index), scaleFunction.applyAsInt(instance))));
+    }
+
+    /**
+     * Creates a {@link CSVMapping} for a {@link DateTimeFormatters#COLON_TIME} POJO field that is stored as its
+     * nanosecond of the day. The CSV value is parsed via {@link DateTimeParseUtil#parseColonTimeToNanoOfDay}
+     * (from the line bytes when applied to a {@link CSVRecord}), so no {@link LocalTime} is allocated.
+     *
+     * @param <T>         the type of the POJO
+     * @param fieldSetter the field setter {@link ObjLongConsumer} that accepts the nanosecond of the day
+     *
+     * @return a new {@link CSVMapping}
+     */
+    public static <T> CSVMapping<T, Long> ofColonTimeNanoOfDay(ObjLongConsumer<T> fieldSetter) {
+        return new CSVMapping<>(
+                (instance, value) -> fieldSetter.accept(instance, DateTimeParseUtil.parseColonTimeToNanoOfDay(value)),
+                (instance, csv, index) -> fieldSetter.accept(instance,
+                        DateTimeParseUtil.parseColonTimeToNanoOfDay(csv.field(index))));
+    }
+
     private final BiConsumer<T, String> mappingConsumer;
+    private final CSVRecordMappingConsumer<T> csvRecordMappingConsumer;
 
     /**
      * Instantiates a new {@link CSVMapping}.
@@ -22,7 +137,7 @@ public final class CSVMapping<T, P> {
      *                               POJO field instance and the argument is the CSV value {@link String}.
      */
     public CSVMapping(BiConsumer<T, P> fieldSetter, Function<String, P> stringToFieldConverter) {
-        mappingConsumer = (instance, value) -> fieldSetter.accept(instance, stringToFieldConverter.apply(value));
+        this((instance, value) -> fieldSetter.accept(instance, stringToFieldConverter.apply(value)));
     }
 
     /**
@@ -33,7 +148,18 @@ public final class CSVMapping<T, P> {
      *                         be directly set according to the passed in CSV {@link String} value.
      */
     public CSVMapping(BiConsumer<T, String> csvValueConsumer) {
-        mappingConsumer = csvValueConsumer;
+        this(csvValueConsumer, (instance, csv, index) -> csvValueConsumer.accept(instance, csv.fieldAsString(index)));
+    }
+
+    /**
+     * Instantiates a new {@link CSVMapping}.
+     *
+     * @param mappingConsumer          the {@link String} CSV value mapping consumer
+     * @param csvRecordMappingConsumer the {@link CSVRecord} CSV value mapping consumer
+     */
+    private CSVMapping(BiConsumer<T, String> mappingConsumer, CSVRecordMappingConsumer<T> csvRecordMappingConsumer) {
+        this.mappingConsumer = mappingConsumer;
+        this.csvRecordMappingConsumer = csvRecordMappingConsumer;
     }
 
     /**
@@ -45,4 +171,34 @@ public final class CSVMapping<T, P> {
     public void apply(T instance, String value) {
         mappingConsumer.accept(instance, value);
     }
+
+    /**
+     * Applies the mapping to the field at <code>index</code> of the given {@link CSVRecord}. Note this could throw a
+     * variety of {@link Exception}s.
+     *
+     * @param instance the POJO instance
+     * @param csv      the {@link CSVRecord}
+     * @param index    the index of the CSV value
+     */
+    public void apply(T instance, CSVRecord csv, int index) {
+        csvRecordMappingConsumer.accept(instance, csv, index);
+    }
+
+    /**
+     * {@link CSVRecordMappingConsumer} maps the CSV value at an index of a {@link CSVRecord} to a POJO instance.
+     *
+     * @param <T> the type of the POJO
+     */
+    @FunctionalInterface
+    private interface CSVRecordMappingConsumer<T> {
+
+        /**
+         * Maps the CSV value.
+         *
+         * @param instance the POJO instance
+         * @param csv      the {@link CSVRecord}
+         * @param index    the index of the CSV value
+         */
+        void accept(T instance, CSVRecord csv, int index);
+    }
 }
@@ -0,0 +1,103 @@
+package net.jacobpeterson.iqfeed4j.util.csv.mapper;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * {@link CompiledCSVMappings} is an immutable, dense execution plan of CSV index to {@link CSVMapping} mappings. The
+ * mappings are stored in parallel arrays sorted by CSV index, so applying them requires no {@link Map} lookups and no
+ * boxing of CSV indices.
+ *
+ * @param <T> the type of the POJO
+ */
+public final class CompiledCSVMappings<T> {
+
+    private static final CompiledCSVMappings<?> EMPTY = new CompiledCSVMappings<>(new int[0], new CSVMapping[0]);
+
+    private final int[] csvIndices;
+    private final CSVMapping<T, ?>[] csvMappings;
+
+    /**
+     * Instantiates a new {@link CompiledCSVMappings}.
+     *
+     * @param csvIndices  the sorted CSV indices
+     * @param csvMappings the {@link CSVMapping}s of the <code>csvIndices</code>
+     */
+    private CompiledCSVMappings(int[] csvIndices, CSVMapping<T, ?>[] csvMappings) {
+        this.csvIndices = csvIndices;
+        this.csvMappings = csvMappings;
+    }
+
+    /**
+     * Compiles the given {@link Map} of CSV indices to {@link CSVMapping}s.
+     *
+     * @param <T>                     the type of the POJO
+     * @param csvMappingsOfCSVIndices the {@link Map} of CSV indices to {@link CSVMapping}s
+     *
+     * @return the {@link CompiledCSVMappings}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompiledCSVMappings<T> compile(Map<Integer, CSVMapping<T, ?>> csvMappingsOfCSVIndices) {
+        int[] csvIndices = csvMappingsOfCSVIndices.keySet().stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(csvIndices);
+
+        CSVMapping<T, ?>[] csvMappings = new CSVMapping[csvIndices.length];
+        for (int index = 0; index < csvIndices.length; index++) {
+            csvMappings[index] = csvMappingsOfCSVIndices.get(csvIndices[index]);
+        }
+
+        return new CompiledCSVMappings<>(csvIndices, csvMappings);
+    }
+
+    /**
+     * Gets an empty {@link CompiledCSVMappings}.
+     *
+     * @param <T> the type of the POJO
+     *
+     * @return the {@link CompiledCSVMappings}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompiledCSVMappings<T> empty() {
+        return (CompiledCSVMappings<T>) EMPTY;
+    }
+
+    /**
+     * Gets the number of mappings.
+     *
+     * @return an int
+     */
+    public int size() {
+        return csvIndices.length;
+    }
+
+    /**
+     * Gets the CSV index of the mapping at the given <code>position</code>.
+     *
+     * @param position the position (between <code>0</code> and {@link #size()})
+     *
+     * @return the CSV index
+     */
+    public int getCSVIndex(int position) {
+        return csvIndices[position];
+    }
+
+    /**
+     * Gets the {@link CSVMapping} of the mapping at the given <code>position</code>.
+     *
+     * @param position the position (between <code>0</code> and {@link #size()})
+     *
+     * @return the {@link CSVMapping}
+     */
+    public CSVMapping<T, ?> getCSVMapping(int position) {
+        return csvMappings[position];
+    }
+
+    /**
+     * Gets the largest CSV index + 1.
+     *
+     * @return the next CSV index or <code>0</code> if there are no mappings
+     */
+    public int getNextCSVIndex() {
+        return csvIndices.length == 0 ? 0 : csvIndices[csvIndices.length - 1] + 1;
+    }
+}
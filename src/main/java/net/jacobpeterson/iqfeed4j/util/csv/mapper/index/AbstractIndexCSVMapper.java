@@ -1,5 +1,6 @@
 package net.jacobpeterson.iqfeed4j.util.csv.mapper.index;
 
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMappingException;
@@ -33,4 +34,19 @@ public abstract class AbstractIndexCSVMapper<T> extends AbstractCSVMapper<T> {
      * @throws CSVMappingException thrown for {@link CSVMappingException}s
      */
     public abstract T map(String[] csv, int offset);
+
+    /**
+     * Maps the given {@link CSVRecord} to a POJO. Only the CSV values that are mapped are decoded from the
+     * {@link CSVRecord}. By default, this decodes the entire {@link CSVRecord} and calls {@link #map(String[], int)}.
+     *
+     * @param csv    the {@link CSVRecord}
+     * @param offset offset to add to CSV indices when applying {@link CSVMapping}s
+     *
+     * @return a new POJO
+     *
+     * @throws CSVMappingException thrown for {@link CSVMappingException}s
+     */
+    public T map(CSVRecord csv, int offset) {
+        return map(csv.toArray(), offset);
+    }
 }
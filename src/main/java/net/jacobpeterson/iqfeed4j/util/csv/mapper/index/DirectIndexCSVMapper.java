@@ -1,5 +1,6 @@
 package net.jacobpeterson.iqfeed4j.util.csv.mapper.index;
 
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMappingException;
 
 import java.util.function.Function;
@@ -49,4 +50,23 @@ public class DirectIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
             throw new CSVMappingException(csvIndex, offset, exception);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Note: this will map to a type using the {@link #stringToTypeConverter}.
+     */
+    @Override
+    public T map(CSVRecord csv, int offset) {
+        if (!valueNotWhitespace(csv, csvIndex + offset)) { // Don't map empty CSV values
+            return null;
+        }
+
+        // apply() could throw a variety of exceptions
+        try {
+            return stringToTypeConverter.apply(csv.fieldAsString(csvIndex + offset));
+        } catch (Exception exception) {
+            throw new CSVMappingException(csvIndex, offset, exception);
+        }
+    }
 }
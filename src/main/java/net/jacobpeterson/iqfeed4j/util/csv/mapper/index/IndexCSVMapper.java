@@ -1,7 +1,9 @@
 package net.jacobpeterson.iqfeed4j.util.csv.mapper.index;
 
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMappingException;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CompiledCSVMappings;
 
 import java.util.HashMap;
 import java.util.function.BiConsumer;
@@ -16,6 +18,8 @@ import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueNotWhitespace;
 public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
 
     protected final HashMap<Integer, CSVMapping<T, ?>> csvMappingsOfCSVIndices;
+    // Recompiled after every change to 'csvMappingsOfCSVIndices' so that 'map()' doesn't use the 'HashMap'
+    protected CompiledCSVMappings<T> compiledCSVMappings;
 
     /**
      * Instantiates a new {@link IndexCSVMapper}.
@@ -26,6 +30,7 @@ public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
         super(pojoInstantiator);
 
         csvMappingsOfCSVIndices = new HashMap<>();
+        compiledCSVMappings = CompiledCSVMappings.empty();
     }
 
     /**
@@ -58,12 +63,12 @@ public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
     }
 
     /**
-     * Gets the largest CSV index in {@link #csvMappingsOfCSVIndices} + 1.
+     * Gets the largest CSV index in {@link #compiledCSVMappings} + 1.
      *
      * @return an int
      */
     private int getNextCSVIndex() {
-        return csvMappingsOfCSVIndices.keySet().stream().max(Integer::compareTo).orElse(-1) + 1;
+        return compiledCSVMappings.getNextCSVIndex();
     }
 
     /**
@@ -75,7 +80,7 @@ public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
      * @param stringToFieldConverter see {@link CSVMapping} constructor doc
      */
     public <P> void setMapping(int csvIndex, BiConsumer<T, P> fieldSetter, Function<String, P> stringToFieldConverter) {
-        csvMappingsOfCSVIndices.put(csvIndex, new CSVMapping<>(fieldSetter, stringToFieldConverter));
+        setMapping(csvIndex, new CSVMapping<>(fieldSetter, stringToFieldConverter));
     }
 
     /**
@@ -86,7 +91,7 @@ public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
      * @param csvValueConsumer see {@link CSVMapping} constructor doc
      */
     public <P> void setMapping(int csvIndex, BiConsumer<T, String> csvValueConsumer) {
-        csvMappingsOfCSVIndices.put(csvIndex, new CSVMapping<>(csvValueConsumer));
+        setMapping(csvIndex, new CSVMapping<>(csvValueConsumer));
     }
 
     /**
@@ -97,6 +102,7 @@ public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
      */
     public void setMapping(int csvIndex, CSVMapping<T, ?> csvMapping) {
         csvMappingsOfCSVIndices.put(csvIndex, csvMapping);
+        compiledCSVMappings = CompiledCSVMappings.compile(csvMappingsOfCSVIndices);
     }
 
     /**
@@ -106,6 +112,7 @@ public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
      */
     public void removeMapping(int csvIndex) {
         csvMappingsOfCSVIndices.remove(csvIndex);
+        compiledCSVMappings = CompiledCSVMappings.compile(csvMappingsOfCSVIndices);
     }
 
     /**
@@ -117,15 +124,45 @@ public class IndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
     public T map(String[] csv, int offset) {
         T instance = pojoInstantiator.get();
 
-        // Loop through all added 'CSVMappings' and apply them
-        for (int csvIndex : csvMappingsOfCSVIndices.keySet()) {
+        // Loop through all compiled 'CSVMapping's and apply them
+        final CompiledCSVMappings<T> compiledCSVMappings = this.compiledCSVMappings;
+        for (int position = 0; position < compiledCSVMappings.size(); position++) {
+            final int csvIndex = compiledCSVMappings.getCSVIndex(position);
             if (!valueNotWhitespace(csv, csvIndex + offset)) { // Don't map empty CSV values
                 continue;
             }
 
             // apply() could throw a variety of exceptions
             try {
-                csvMappingsOfCSVIndices.get(csvIndex).apply(instance, csv[csvIndex + offset]);
+                compiledCSVMappings.getCSVMapping(position).apply(instance, csv[csvIndex + offset]);
+            } catch (Exception exception) {
+                throw new CSVMappingException(csvIndex, offset, exception);
+            }
+        }
+
+        return instance;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Note this will map with the mappings added via {@link #setMapping(int, BiConsumer, Function)}.
+     */
+    @Override
+    public T map(CSVRecord csv, int offset) {
+        T instance = pojoInstantiator.get();
+
+        // Loop through all compiled 'CSVMapping's and apply them
+        final CompiledCSVMappings<T> compiledCSVMappings = this.compiledCSVMappings;
+        for (int position = 0; position < compiledCSVMappings.size(); position++) {
+            final int csvIndex = compiledCSVMappings.getCSVIndex(position);
+            if (!valueNotWhitespace(csv, csvIndex + offset)) { // Don't map empty CSV values
+                continue;
+            }
+
+            // apply() could throw a variety of exceptions
+            try {
+                compiledCSVMappings.getCSVMapping(position).apply(instance, csv, csvIndex + offset);
             } catch (Exception exception) {
                 throw new CSVMappingException(csvIndex, offset, exception);
             }
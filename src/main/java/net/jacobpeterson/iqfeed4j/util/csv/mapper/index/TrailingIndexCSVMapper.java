@@ -1,7 +1,9 @@
 package net.jacobpeterson.iqfeed4j.util.csv.mapper.index;
 
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMappingException;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CompiledCSVMappings;
 
 import java.util.HashMap;
 import java.util.function.BiConsumer;
@@ -20,6 +22,8 @@ import static net.jacobpeterson.iqfeed4j.util.csv.CSVUtil.valueNotWhitespace;
 public class TrailingIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
 
     protected final HashMap<Integer, CSVMapping<T, ?>> csvMappingsOfCSVIndices;
+    // Recompiled after every change to 'csvMappingsOfCSVIndices' so that 'map()' doesn't use the 'HashMap'
+    protected CompiledCSVMappings<T> compiledCSVMappings;
     protected int trailingCSVIndex;
     protected CSVMapping<T, ?> trailingCSVMapping;
 
@@ -32,6 +36,7 @@ public class TrailingIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
         super(pojoInstantiator);
 
         csvMappingsOfCSVIndices = new HashMap<>();
+        compiledCSVMappings = CompiledCSVMappings.empty();
     }
 
     /**
@@ -43,8 +48,7 @@ public class TrailingIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
      * @param stringToFieldConverter see {@link CSVMapping} constructor doc
      */
     public <P> void addMapping(BiConsumer<T, P> fieldSetter, Function<String, P> stringToFieldConverter) {
-        int nextCSVIndex = csvMappingsOfCSVIndices.keySet().stream().max(Integer::compareTo).orElse(-1) + 1;
-        setMapping(nextCSVIndex, fieldSetter, stringToFieldConverter);
+        setMapping(compiledCSVMappings.getNextCSVIndex(), fieldSetter, stringToFieldConverter);
     }
 
     /**
@@ -55,10 +59,10 @@ public class TrailingIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
      * @param fieldSetter            see {@link CSVMapping} constructor doc
      * @param stringToFieldConverter see {@link CSVMapping} constructor doc
      */
-    @SuppressWarnings("OptionalGetWithoutIsPresent") // Optional will always be present here
     public <P> void setMapping(int csvIndex, BiConsumer<T, P> fieldSetter, Function<String, P> stringToFieldConverter) {
         csvMappingsOfCSVIndices.put(csvIndex, new CSVMapping<>(fieldSetter, stringToFieldConverter));
-        trailingCSVIndex = csvMappingsOfCSVIndices.keySet().stream().max(Integer::compareTo).get() + 1;
+        compiledCSVMappings = CompiledCSVMappings.compile(csvMappingsOfCSVIndices);
+        trailingCSVIndex = compiledCSVMappings.getNextCSVIndex();
     }
 
     /**
@@ -68,6 +72,7 @@ public class TrailingIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
      */
     public void removeMapping(int csvIndex) {
         csvMappingsOfCSVIndices.remove(csvIndex);
+        compiledCSVMappings = CompiledCSVMappings.compile(csvMappingsOfCSVIndices);
     }
 
     /**
@@ -92,15 +97,17 @@ public class TrailingIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
     public T map(String[] csv, int offset) {
         T instance = pojoInstantiator.get();
 
-        // Loop through all added 'CSVMapping's and apply them
-        for (int csvIndex : csvMappingsOfCSVIndices.keySet()) {
+        // Loop through all compiled 'CSVMapping's and apply them
+        final CompiledCSVMappings<T> compiledCSVMappings = this.compiledCSVMappings;
+        for (int position = 0; position < compiledCSVMappings.size(); position++) {
+            final int csvIndex = compiledCSVMappings.getCSVIndex(position);
             if (!valueNotWhitespace(csv, csvIndex + offset)) { // Don't map empty CSV values
                 continue;
             }
 
             // apply() could throw a variety of exceptions
             try {
-                csvMappingsOfCSVIndices.get(csvIndex).apply(instance, csv[csvIndex + offset]);
+                compiledCSVMappings.getCSVMapping(position).apply(instance, csv[csvIndex + offset]);
             } catch (Exception exception) {
                 throw new CSVMappingException(csvIndex, offset, exception);
             }
@@ -128,4 +135,44 @@ public class TrailingIndexCSVMapper<T> extends AbstractIndexCSVMapper<T> {
 
         return instance;
     }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Note this will map with the mappings added via {@link #setMapping(int, BiConsumer, Function)} and
+     * {@link #setTrailingMapping(BiConsumer, Function)}.
+     */
+    @Override
+    public T map(CSVRecord csv, int offset) {
+        T instance = pojoInstantiator.get();
+
+        // Loop through all compiled 'CSVMapping's and apply them
+        final CompiledCSVMappings<T> compiledCSVMappings = this.compiledCSVMappings;
+        for (int position = 0; position < compiledCSVMappings.size(); position++) {
+            final int csvIndex = compiledCSVMappings.getCSVIndex(position);
+            if (!valueNotWhitespace(csv, csvIndex + offset)) { // Don't map empty CSV values
+                continue;
+            }
+
+            // apply() could throw a variety of exceptions
+            try {
+                compiledCSVMappings.getCSVMapping(position).apply(instance, csv, csvIndex + offset);
+            } catch (Exception exception) {
+                throw new CSVMappingException(csvIndex, offset, exception);
+            }
+        }
+
+        // Now apply 'trailingCSVMapping' on trailing CSV values (which are contiguous in the CSV line)
+        if (valueExists(csv, trailingCSVIndex + offset)) {
+            String trailingCSVString = csv.remainingFieldsAsString(trailingCSVIndex + offset);
+            // apply() could throw a variety of exceptions
+            try {
+                trailingCSVMapping.apply(instance, trailingCSVString);
+            } catch (Exception exception) {
+                throw new CSVMappingException(trailingCSVIndex, offset, exception);
+            }
+        }
+
+        return instance;
+    }
 }
@@ -2,6 +2,7 @@ package net.jacobpeterson.iqfeed4j.util.csv.mapper.list;
 
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMapping;
 import net.jacobpeterson.iqfeed4j.util.csv.mapper.CSVMappingException;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.CompiledCSVMappings;
 
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,8 @@ public class NestedListCSVMapper<T> extends AbstractListCSVMapper<T> {
 
     protected final Supplier<? extends List<T>> listInstantiator;
     protected final HashMap<Integer, CSVMapping<T, ?>> csvMappingsOfCSVIndices;
+    // Recompiled after every change to 'csvMappingsOfCSVIndices' so that 'mapToList()' doesn't use the 'HashMap'
+    protected CompiledCSVMappings<T> compiledCSVMappings;
     protected final int nestedListLength;
 
     /**
@@ -38,6 +41,7 @@ public class NestedListCSVMapper<T> extends AbstractListCSVMapper<T> {
         this.nestedListLength = nestedListLength;
 
         csvMappingsOfCSVIndices = new HashMap<>();
+        compiledCSVMappings = CompiledCSVMappings.empty();
     }
 
     /**
@@ -49,8 +53,7 @@ public class NestedListCSVMapper<T> extends AbstractListCSVMapper<T> {
      * @param stringToFieldConverter see {@link CSVMapping} constructor doc
      */
     public <P> void addMapping(BiConsumer<T, P> fieldSetter, Function<String, P> stringToFieldConverter) {
-        int nextCSVIndex = csvMappingsOfCSVIndices.keySet().stream().max(Integer::compareTo).orElse(-1) + 1;
-        setMapping(nextCSVIndex, fieldSetter, stringToFieldConverter);
+        setMapping(compiledCSVMappings.getNextCSVIndex(), fieldSetter, stringToFieldConverter);
     }
 
     /**
@@ -63,6 +66,7 @@ public class NestedListCSVMapper<T> extends AbstractListCSVMapper<T> {
      */
     public <P> void setMapping(int csvIndex, BiConsumer<T, P> fieldSetter, Function<String, P> stringToFieldConverter) {
         csvMappingsOfCSVIndices.put(csvIndex, new CSVMapping<>(fieldSetter, stringToFieldConverter));
+        compiledCSVMappings = CompiledCSVMappings.compile(csvMappingsOfCSVIndices);
     }
 
     /**
@@ -72,6 +76,7 @@ public class NestedListCSVMapper<T> extends AbstractListCSVMapper<T> {
      */
     public void removeMapping(int csvIndex) {
         csvMappingsOfCSVIndices.remove(csvIndex);
+        compiledCSVMappings = CompiledCSVMappings.compile(csvMappingsOfCSVIndices);
     }
 
     /**
@@ -84,20 +89,22 @@ public class NestedListCSVMapper<T> extends AbstractListCSVMapper<T> {
     @Override
     public List<T> mapToList(String[] csv, int offset) {
         List<T> mappedList = listInstantiator.get();
+        final CompiledCSVMappings<T> compiledCSVMappings = this.compiledCSVMappings;
 
         for (int csvIndex = offset; csvIndex < csv.length; csvIndex += nestedListLength) {
             T instance = pojoInstantiator.get();
 
-            // Loop through all added 'CSVMapping's and apply them
+            // Loop through all compiled 'CSVMapping's and apply them
             boolean valueWasMapped = false;
-            for (int mappedCSVIndex : csvMappingsOfCSVIndices.keySet()) {
+            for (int position = 0; position < compiledCSVMappings.size(); position++) {
+                final int mappedCSVIndex = compiledCSVMappings.getCSVIndex(position);
                 if (!valueNotWhitespace(csv, csvIndex + mappedCSVIndex)) { // Don't map empty CSV values
                     continue;
                 }
 
                 // apply() could throw a variety of exceptions
                 try {
-                    csvMappingsOfCSVIndices.get(mappedCSVIndex).apply(instance, csv[csvIndex + mappedCSVIndex]);
+                    compiledCSVMappings.getCSVMapping(position).apply(instance, csv[csvIndex + mappedCSVIndex]);
                     valueWasMapped = true;
                 } catch (Exception exception) {
                     throw new CSVMappingException(
@@ -0,0 +1,420 @@
+package net.jacobpeterson.iqfeed4j.util.datetime;
+
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeFormatters;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * {@link DateTimeParseUtil} contains specialized parsers for the fixed date/time layouts that IQFeed sends. They read
+ * the digits directly from a {@link CharSequence} (e.g. a {@link String} or a {@link ByteSlice}) instead of going
+ * through a {@link DateTimeFormatter}. Any value that doesn't match the canonical layout exactly (or is out of range)
+ * is delegated to the equivalent {@link DateTimeFormatters} formatter, so the results (and exceptions) are the same as
+ * those of the formatter.
+ * <br>
+ * The <code>...ToEpochMicros</code> methods return the number of microseconds from
+ * <code>1970-01-01T00:00:00</code> of the local date-time as-is (no time zone is applied, so IQFeed's Eastern times
+ * stay Eastern), truncating any nanoseconds.
+ */
+public class DateTimeParseUtil {
+
+    private static final long INVALID = -1;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+    private static final long NANOS_PER_MICRO = 1_000L;
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+    private static final int DAYS_0000_TO_1970 = (146097 * 5) - (30 * 365 + 7);
+    private static final long[] FRACTION_SCALES = {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100,
+            10, 1};
+
+    //
+    // START yyyy-MM-dd HH:mm:ss[.fffffffff]
+    //
+
+    /**
+     * Parses a {@link DateTimeFormatters#DASHED_DATE_SPACE_TIME_FRACTIONAL} value (e.g.
+     * <code>2021-05-04 09:30:00.123456</code>).
+     *
+     * @param value the value
+     *
+     * @return a {@link LocalDateTime}
+     */
+    public static LocalDateTime parseDashedDateSpaceTimeFractional(CharSequence value) {
+        int date = value.length() > 11 && value.charAt(10) == ' ' ? parseDashedDate(value, 0) : (int) INVALID;
+        long nanoOfDay = date == INVALID ? INVALID : parseColonTime(value, 11);
+        if (nanoOfDay == INVALID) {
+            return LocalDateTime.parse(value, DateTimeFormatters.DASHED_DATE_SPACE_TIME_FRACTIONAL);
+        }
+        return LocalDateTime.of(toLocalDate(date), LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Same as {@link #parseDashedDateSpaceTimeFractional(CharSequence)}, but returns epoch microseconds.
+     *
+     * @param value the value
+     *
+     * @return the epoch microseconds
+     */
+    public static long parseDashedDateSpaceTimeFractionalToEpochMicros(CharSequence value) {
+        int date = value.length() > 11 && value.charAt(10) == ' ' ? parseDashedDate(value, 0) : (int) INVALID;
+        long nanoOfDay = date == INVALID ? INVALID : parseColonTime(value, 11);
+        if (nanoOfDay == INVALID) {
+            return toEpochMicros(parseDashedDateSpaceTimeFractional(value));
+        }
+        return toEpochDay(date) * MICROS_PER_DAY + nanoOfDay / NANOS_PER_MICRO;
+    }
+
+    //
+    // END yyyy-MM-dd HH:mm:ss[.fffffffff]
+    //
+
+    //
+    // START HH:mm:ss[.fffffffff]
+    //
+
+    /**
+     * Parses a {@link DateTimeFormatters#COLON_TIME} value (e.g. <code>09:30:00.123456</code>).
+     *
+     * @param value the value
+     *
+     * @return a {@link LocalTime}
+     */
+    public static LocalTime parseColonTime(CharSequence value) {
+        long nanoOfDay = parseColonTime(value, 0);
+        if (nanoOfDay == INVALID) {
+            return LocalTime.parse(value, DateTimeFormatters.COLON_TIME);
+        }
+        return LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    /**
+     * Same as {@link #parseColonTime(CharSequence)}, but returns the microsecond of the day.
+     *
+     * @param value the value
+     *
+     * @return the microsecond of the day
+     */
+    public static long parseColonTimeToMicroOfDay(CharSequence value) {
+        long nanoOfDay = parseColonTime(value, 0);
+        if (nanoOfDay == INVALID) {
+            return parseColonTime(value).toNanoOfDay() / NANOS_PER_MICRO;
+        }
+        return nanoOfDay / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Same as {@link #parseColonTime(CharSequence)}, but returns the nanosecond of the day.
+     *
+     * @param value the value
+     *
+     * @return the nanosecond of the day
+     */
+    public static long parseColonTimeToNanoOfDay(CharSequence value) {
+        long nanoOfDay = parseColonTime(value, 0);
+        if (nanoOfDay == INVALID) {
+            return parseColonTime(value).toNanoOfDay();
+        }
+        return nanoOfDay;
+    }
+
+    //
+    // END HH:mm:ss[.fffffffff]
+    //
+
+    //
+    // START yyyyMMdd HHmmss
+    //
+
+    /**
+     * Parses a {@link DateTimeFormatters#DATE_SPACE_TIME} value (e.g. <code>20210504 093000</code>).
+     *
+     * @param value the value
+     *
+     * @return a {@link LocalDateTime}
+     */
+    public static LocalDateTime parseDateSpaceTime(CharSequence value) {
+        int date = value.length() == 15 && value.charAt(8) == ' ' ? parseCompactDate(value, 0) : (int) INVALID;
+        long nanoOfDay = date == INVALID ? INVALID : parseCompactTime(value, 9);
+        if (nanoOfDay == INVALID) {
+            return LocalDateTime.parse(value, DateTimeFormatters.DATE_SPACE_TIME);
+        }
+        return LocalDateTime.of(toLocalDate(date), LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Same as {@link #parseDateSpaceTime(CharSequence)}, but returns epoch microseconds.
+     *
+     * @param value the value
+     *
+     * @return the epoch microseconds
+     */
+    public static long parseDateSpaceTimeToEpochMicros(CharSequence value) {
+        int date = value.length() == 15 && value.charAt(8) == ' ' ? parseCompactDate(value, 0) : (int) INVALID;
+        long nanoOfDay = date == INVALID ? INVALID : parseCompactTime(value, 9);
+        if (nanoOfDay == INVALID) {
+            return toEpochMicros(parseDateSpaceTime(value));
+        }
+        return toEpochDay(date) * MICROS_PER_DAY + nanoOfDay / NANOS_PER_MICRO;
+    }
+
+    //
+    // END yyyyMMdd HHmmss
+    //
+
+    //
+    // START MM/dd/yyyy
+    //
+
+    /**
+     * Parses a {@link DateTimeFormatters#SLASHED_DATE} value (e.g. <code>05/04/2021</code>).
+     *
+     * @param value the value
+     *
+     * @return a {@link LocalDate}
+     */
+    public static LocalDate parseSlashedDate(CharSequence value) {
+        int date = parseSlashedDateFields(value);
+        if (date == INVALID) {
+            return LocalDate.parse(value, DateTimeFormatters.SLASHED_DATE);
+        }
+        return toLocalDate(date);
+    }
+
+    /**
+     * Same as {@link #parseSlashedDate(CharSequence)}, but returns the epoch day.
+     *
+     * @param value the value
+     *
+     * @return the epoch day
+     */
+    public static long parseSlashedDateToEpochDay(CharSequence value) {
+        int date = parseSlashedDateFields(value);
+        if (date == INVALID) {
+            return parseSlashedDate(value).toEpochDay();
+        }
+        return toEpochDay(date);
+    }
+
+    //
+    // END MM/dd/yyyy
+    //
+
+    /**
+     * Parses <code>yyyy-MM-dd</code> at <code>offset</code>.
+     *
+     * @param value  the value
+     * @param offset the offset
+     *
+     * @return the date packed as <code>yyyyMMdd</code> or {@link #INVALID}
+     */
+    private static int parseDashedDate(CharSequence value, int offset) {
+        if (value.length() < offset + 10 || value.charAt(offset + 4) != '-' || value.charAt(offset + 7) != '-') {
+            return (int) INVALID;
+        }
+        return packDate(parseDigits(value, offset, 4), parseDigits(value, offset + 5, 2),
+                parseDigits(value, offset + 8, 2));
+    }
+
+    /**
+     * Parses <code>yyyyMMdd</code> at <code>offset</code>.
+     *
+     * @param value  the value
+     * @param offset the offset
+     *
+     * @return the date packed as <code>yyyyMMdd</code> or {@link #INVALID}
+     */
+    private static int parseCompactDate(CharSequence value, int offset) {
+        if (value.length() < offset + 8) {
+            return (int) INVALID;
+        }
+        return packDate(parseDigits(value, offset, 4), parseDigits(value, offset + 4, 2),
+                parseDigits(value, offset + 6, 2));
+    }
+
+    /**
+     * Parses <code>MM/dd/yyyy</code>.
+     *
+     * @param value the value
+     *
+     * @return the date packed as <code>yyyyMMdd</code> or {@link #INVALID}
+     */
+    private static int parseSlashedDateFields(CharSequence value) {
+        if (value.length() != 10 || value.charAt(2) != '/' || value.charAt(5) != '/') {
+            return (int) INVALID;
+        }
+        return packDate(parseDigits(value, 6, 4), parseDigits(value, 0, 2), parseDigits(value, 3, 2));
+    }
+
+    /**
+     * Parses <code>HH:mm:ss[.fffffffff]</code> from <code>offset</code> to the end of <code>value</code>.
+     *
+     * @param value  the value
+     * @param offset the offset
+     *
+     * @return the nanosecond of the day or {@link #INVALID}
+     */
+    private static long parseColonTime(CharSequence value, int offset) {
+        int length = value.length();
+        if (length < offset + 8 || value.charAt(offset + 2) != ':' || value.charAt(offset + 5) != ':') {
+            return INVALID;
+        }
+
+        long nanoOfDay = toNanoOfDay(parseDigits(value, offset, 2), parseDigits(value, offset + 3, 2),
+                parseDigits(value, offset + 6, 2));
+        if (nanoOfDay == INVALID || length == offset + 8) {
+            return nanoOfDay;
+        }
+
+        int fractionDigitCount = length - offset - 9;
+        if (value.charAt(offset + 8) != '.' || fractionDigitCount < 1 || fractionDigitCount > 9) {
+            return INVALID;
+        }
+        int fraction = parseDigits(value, offset + 9, fractionDigitCount);
+        if (fraction == INVALID) {
+            return INVALID;
+        }
+        return nanoOfDay + fraction * FRACTION_SCALES[fractionDigitCount];
+    }
+
+    /**
+     * Parses <code>HHmmss</code> at <code>offset</code>.
+     *
+     * @param value  the value
+     * @param offset the offset
+     *
+     * @return the nanosecond of the day or {@link #INVALID}
+     */
+    private static long parseCompactTime(CharSequence value, int offset) {
+        if (value.length() < offset + 6) {
+            return INVALID;
+        }
+        return toNanoOfDay(parseDigits(value, offset, 2), parseDigits(value, offset + 2, 2),
+                parseDigits(value, offset + 4, 2));
+    }
+
+    /**
+     * Parses <code>count</code> ASCII decimal digits at <code>offset</code>.
+     *
+     * @param value  the value
+     * @param offset the offset
+     * @param count  the number of digits (at most 9)
+     *
+     * @return the parsed int or {@link #INVALID} if a character isn't a digit
+     */
+    private static int parseDigits(CharSequence value, int offset, int count) {
+        int result = 0;
+        for (int index = offset; index < offset + count; index++) {
+            int digit = value.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return (int) INVALID;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Validates and packs the given date fields as <code>yyyyMMdd</code>.
+     *
+     * @param year  the year
+     * @param month the month
+     * @param day   the day of month
+     *
+     * @return the packed date or {@link #INVALID}
+     */
+    private static int packDate(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return (int) INVALID;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Validates and converts the given time fields to the nanosecond of the day.
+     *
+     * @param hour   the hour
+     * @param minute the minute
+     * @param second the second
+     *
+     * @return the nanosecond of the day or {@link #INVALID}
+     */
+    private static long toNanoOfDay(int hour, int minute, int second) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+        return hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE + second * NANOS_PER_SECOND;
+    }
+
+    /**
+     * Gets the length of the given month.
+     *
+     * @param year  the year
+     * @param month the month
+     *
+     * @return the length of the month
+     */
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Converts the given <code>yyyyMMdd</code> packed date to a {@link LocalDate}.
+     *
+     * @param date the packed date
+     *
+     * @return the {@link LocalDate}
+     */
+    private static LocalDate toLocalDate(int date) {
+        return LocalDate.of(date / 10000, date / 100 % 100, date % 100);
+    }
+
+    /**
+     * Converts the given <code>yyyyMMdd</code> packed date to the epoch day. This is the same algorithm as
+     * {@link LocalDate#toEpochDay()}.
+     *
+     * @param date the packed date
+     *
+     * @return the epoch day
+     */
+    private static long toEpochDay(int date) {
+        long year = date / 10000;
+        long month = date / 100 % 100;
+        long total = 365 * year;
+        total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += date % 100 - 1;
+        if (month > 2) {
+            total--;
+            if (lengthOfMonth((int) year, 2) == 28) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts the given {@link LocalDateTime} to epoch microseconds.
+     *
+     * @param localDateTime the {@link LocalDateTime}
+     *
+     * @return the epoch microseconds
+     */
+    private static long toEpochMicros(LocalDateTime localDateTime) {
+        return localDateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + localDateTime.getNano() / NANOS_PER_MICRO;
+    }
+}
@@ -0,0 +1,207 @@
+package net.jacobpeterson.iqfeed4j.util.decimal;
+
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link FixedPointUtil} contains functions for fixed-point decimal values. A fixed-point value is a <code>long</code>
+ * mantissa and an <code>int</code> scale (the number of fractional digits), so that the decimal value is
+ * <code>mantissa * 10^-scale</code> (e.g. <code>123.45</code> at a scale of <code>4</code> is a mantissa of
+ * <code>1234500</code>). Unlike <code>double</code>s, fixed-point values with the same scale can be added and
+ * subtracted without any rounding error.
+ */
+public class FixedPointUtil {
+
+    /** The maximum supported scale. */
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int index = 1; index < POWERS_OF_TEN.length; index++) {
+            POWERS_OF_TEN[index] = POWERS_OF_TEN[index - 1] * 10;
+        }
+    }
+
+    /**
+     * Parses the given plain ASCII decimal <code>value</code> (e.g. <code>-123.45</code>) directly into a fixed-point
+     * mantissa at the given <code>scale</code>. Fractional digits beyond the <code>scale</code> are rounded
+     * {@link RoundingMode#HALF_UP}. Any other format (e.g. with an exponent) falls back to {@link BigDecimal}.
+     *
+     * @param value the value (e.g. a {@link String} or a {@link ByteSlice})
+     * @param scale the scale
+     *
+     * @return the mantissa
+     *
+     * @throws NumberFormatException thrown for {@link NumberFormatException}s
+     */
+    public static long parse(CharSequence value, int scale) {
+        checkScale(scale);
+
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+
+        // Accumulate negatively to handle Long.MIN_VALUE
+        long mantissa = 0;
+        int digitCount = 0;
+        int fractionDigitCount = -1;
+        boolean roundUp = false;
+        try {
+            for (; index < length; index++) {
+                char character = value.charAt(index);
+                if (character >= '0' && character <= '9') {
+                    digitCount++;
+                    if (fractionDigitCount < scale) {
+                        mantissa = Math.subtractExact(Math.multiplyExact(mantissa, 10), character - '0');
+                        if (fractionDigitCount >= 0) {
+                            fractionDigitCount++;
+                        }
+                    } else if (fractionDigitCount == scale) {
+                        roundUp = character >= '5';
+                        fractionDigitCount++; // Remaining digits don't affect HALF_UP rounding
+                    }
+                } else if (character == '.' && fractionDigitCount == -1) {
+                    fractionDigitCount = 0;
+                } else {
+                    return parseWithBigDecimal(value, scale);
+                }
+            }
+
+            if (digitCount == 0) {
+                throw new NumberFormatException("For input string: \"" + value + "\"");
+            }
+
+            if (fractionDigitCount > scale) {
+                fractionDigitCount = scale;
+            }
+            mantissa = Math.multiplyExact(mantissa, POWERS_OF_TEN[scale - Math.max(fractionDigitCount, 0)]);
+            if (roundUp) {
+                mantissa = Math.subtractExact(mantissa, 1);
+            }
+            return negative ? mantissa : Math.negateExact(mantissa);
+        } catch (ArithmeticException arithmeticException) {
+            throw new NumberFormatException("Value out of fixed-point range: \"" + value + "\"");
+        }
+    }
+
+    /**
+     * Parses the given <code>value</code> via {@link BigDecimal}.
+     *
+     * @param value the value
+     * @param scale the scale
+     *
+     * @return the mantissa
+     *
+     * @throws NumberFormatException thrown for {@link NumberFormatException}s
+     */
+    private static long parseWithBigDecimal(CharSequence value, int scale) {
+        try {
+            return new BigDecimal(value.toString()).setScale(scale, RoundingMode.HALF_UP).unscaledValue()
+                    .longValueExact();
+        } catch (ArithmeticException arithmeticException) {
+            throw new NumberFormatException("Value out of fixed-point range: \"" + value + "\"");
+        }
+    }
+
+    /**
+     * Converts the given <code>double</code> to a fixed-point mantissa at the given <code>scale</code>, rounding
+     * half-up. This is exact for any <code>double</code> that was parsed from a decimal value with at most
+     * <code>scale</code> fractional digits and at most 15 significant digits.
+     *
+     * @param value the value
+     * @param scale the scale
+     *
+     * @return the mantissa
+     */
+    public static long fromDouble(double value, int scale) {
+        checkScale(scale);
+        checkArgument(Double.isFinite(value), "The value must be finite!");
+        return Math.round(value * POWERS_OF_TEN[scale]);
+    }
+
+    /**
+     * Converts the given fixed-point value to the closest <code>double</code>.
+     *
+     * @param mantissa the mantissa
+     * @param scale    the scale
+     *
+     * @return the <code>double</code>
+     */
+    public static double toDouble(long mantissa, int scale) {
+        checkScale(scale);
+        return mantissa / (double) POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * Converts the given fixed-point value to a {@link BigDecimal}.
+     *
+     * @param mantissa the mantissa
+     * @param scale    the scale
+     *
+     * @return the {@link BigDecimal}
+     */
+    public static BigDecimal toBigDecimal(long mantissa, int scale) {
+        return BigDecimal.valueOf(mantissa, scale);
+    }
+
+    /**
+     * Converts the given fixed-point value to a different scale, rounding half-up if the <code>newScale</code> is
+     * smaller than the <code>scale</code>.
+     *
+     * @param mantissa the mantissa
+     * @param scale    the scale of the <code>mantissa</code>
+     * @param newScale the new scale
+     *
+     * @return the mantissa at the <code>newScale</code>
+     *
+     * @throws ArithmeticException thrown if the result overflows a <code>long</code>
+     */
+    public static long rescale(long mantissa, int scale, int newScale) {
+        checkScale(scale);
+        checkScale(newScale);
+
+        if (newScale >= scale) {
+            return Math.multiplyExact(mantissa, POWERS_OF_TEN[newScale - scale]);
+        }
+
+        long divisor = POWERS_OF_TEN[scale - newScale];
+        long quotient = mantissa / divisor;
+        long remainder = Math.abs(mantissa % divisor);
+        if (remainder >= divisor - remainder) { // 'remainder >= divisor / 2' without truncation
+            quotient += Long.signum(mantissa);
+        }
+        return quotient;
+    }
+
+    /**
+     * Formats the given fixed-point value as a plain decimal {@link String} with exactly <code>scale</code> fractional
+     * digits.
+     *
+     * @param mantissa the mantissa
+     * @param scale    the scale
+     *
+     * @return the {@link String}
+     */
+    public static String toString(long mantissa, int scale) {
+        return toBigDecimal(mantissa, scale).toPlainString();
+    }
+
+    /**
+     * Checks that the given <code>scale</code> is between <code>0</code> and {@link #MAX_SCALE}.
+     *
+     * @param scale the scale
+     */
+    private static void checkScale(int scale) {
+        checkArgument(scale >= 0 && scale <= MAX_SCALE, "The scale must be between 0 and %s!", MAX_SCALE);
+    }
+}
@@ -0,0 +1,129 @@
+package net.jacobpeterson.iqfeed4j.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LatencyHistogram} is a lock-free, fixed-size histogram of nanosecond latencies in the style of an HDR
+ * histogram. Latencies below <code>64</code> nanoseconds are counted exactly and all larger latencies are counted in
+ * log-linear buckets with <code>32</code> sub-buckets per power of 2, so every recorded latency is accurate to within
+ * about 3% over the entire <code>long</code> range while the histogram only uses a fixed array of counts.
+ * <br>
+ * {@link #record(long)} never allocates or blocks, so it may be called on a hot message handling path by any number of
+ * threads. {@link #getSnapshot()} takes a consistent-enough copy for reporting while recording continues.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT << 1;
+    /**
+     * The number of buckets needed to cover all positive <code>long</code> values.
+     */
+    static final int BUCKET_COUNT = getBucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray bucketCounts;
+    private final LongAdder totalCount;
+    private final LongAdder totalNanos;
+    private final LongAccumulator minimumNanos;
+    private final LongAccumulator maximumNanos;
+
+    /**
+     * Instantiates a new {@link LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+        bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+        totalCount = new LongAdder();
+        totalNanos = new LongAdder();
+        minimumNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        maximumNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records the given latency. Negative latencies (e.g. from a skewed clock) are recorded as <code>0</code>.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     */
+    public void record(long latencyNanos) {
+        long nanos = Math.max(latencyNanos, 0);
+        bucketCounts.incrementAndGet(getBucketIndex(nanos));
+        totalCount.increment();
+        totalNanos.add(nanos);
+        minimumNanos.accumulate(nanos);
+        maximumNanos.accumulate(nanos);
+    }
+
+    /**
+     * Removes all recorded latencies. Latencies recorded concurrently with this call may or may not be removed.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            bucketCounts.set(index, 0);
+        }
+        totalCount.reset();
+        totalNanos.reset();
+        minimumNanos.reset();
+        maximumNanos.reset();
+    }
+
+    /**
+     * Gets a {@link LatencyHistogramSnapshot} of the recorded latencies.
+     *
+     * @return a new {@link LatencyHistogramSnapshot}
+     */
+    public LatencyHistogramSnapshot getSnapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            counts[index] = bucketCounts.get(index);
+            count += counts[index];
+        }
+        return new LatencyHistogramSnapshot(counts, count, count == 0 ? 0 : minimumNanos.get(),
+                maximumNanos.get(), totalNanos.sum());
+    }
+
+    /**
+     * Gets the bucket index of the given non-negative <code>nanos</code>.
+     *
+     * @param nanos the nanoseconds
+     *
+     * @return the bucket index
+     */
+    static int getBucketIndex(long nanos) {
+        if (nanos < LINEAR_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+
+        // The number of low bits that are dropped from 'nanos' so that its remaining sub-bucket fits in 6 bits
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (nanos >>> shift);
+    }
+
+    /**
+     * Gets the lowest nanoseconds counted by the given bucket index.
+     *
+     * @param bucketIndex the bucket index
+     *
+     * @return the lowest nanoseconds
+     */
+    static long getBucketLowestNanos(int bucketIndex) {
+        if (bucketIndex < LINEAR_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+
+        int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        return (long) (SUB_BUCKET_COUNT + (bucketIndex & (SUB_BUCKET_COUNT - 1))) << shift;
+    }
+
+    /**
+     * Gets the highest nanoseconds counted by the given bucket index.
+     *
+     * @param bucketIndex the bucket index
+     *
+     * @return the highest nanoseconds
+     */
+    static long getBucketHighestNanos(int bucketIndex) {
+        return bucketIndex == BUCKET_COUNT - 1 ? Long.MAX_VALUE : getBucketLowestNanos(bucketIndex + 1) - 1;
+    }
+}
@@ -0,0 +1,124 @@
+package net.jacobpeterson.iqfeed4j.util.metrics;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link LatencyHistogramSnapshot} is an immutable copy of the latencies recorded by a {@link LatencyHistogram}.
+ * Percentiles are reported as the highest latency of the bucket that they fall in, so they are never understated.
+ */
+public class LatencyHistogramSnapshot {
+
+    private final long[] bucketCounts;
+    private final long count;
+    private final long minimumNanos;
+    private final long maximumNanos;
+    private final long totalNanos;
+
+    /**
+     * Instantiates a new {@link LatencyHistogramSnapshot}.
+     *
+     * @param bucketCounts the bucket counts
+     * @param count        the count
+     * @param minimumNanos the minimum nanos
+     * @param maximumNanos the maximum nanos
+     * @param totalNanos   the total nanos
+     */
+    LatencyHistogramSnapshot(long[] bucketCounts, long count, long minimumNanos, long maximumNanos,
+            long totalNanos) {
+        this.bucketCounts = bucketCounts;
+        this.count = count;
+        this.minimumNanos = minimumNanos;
+        this.maximumNanos = maximumNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Gets the latency in nanoseconds at or below which the given <code>percentile</code> of the recorded latencies
+     * fall.
+     *
+     * @param percentile the percentile (between <code>0</code> and <code>100</code> inclusive)
+     *
+     * @return the latency in nanoseconds, or <code>0</code> if no latencies were recorded
+     */
+    public long getValueAtPercentileNanos(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "The percentile must be between 0 and 100!");
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int index = 0; index < bucketCounts.length; index++) {
+            cumulativeCount += bucketCounts[index];
+            if (cumulativeCount >= targetCount) {
+                return Math.min(LatencyHistogram.getBucketHighestNanos(index), maximumNanos);
+            }
+        }
+        return maximumNanos;
+    }
+
+    /**
+     * Gets the latency at or below which the given <code>percentile</code> of the recorded latencies fall.
+     *
+     * @param percentile the percentile (between <code>0</code> and <code>100</code> inclusive)
+     *
+     * @return the latency {@link Duration}
+     *
+     * @see #getValueAtPercentileNanos(double)
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        return Duration.ofNanos(getValueAtPercentileNanos(percentile));
+    }
+
+    /**
+     * Gets the mean latency in nanoseconds.
+     *
+     * @return the mean latency in nanoseconds, or <code>0</code> if no latencies were recorded
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Gets {@link #count}.
+     *
+     * @return a long
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets {@link #minimumNanos}.
+     *
+     * @return a long
+     */
+    public long getMinimumNanos() {
+        return minimumNanos;
+    }
+
+    /**
+     * Gets {@link #maximumNanos}.
+     *
+     * @return a long
+     */
+    public long getMaximumNanos() {
+        return maximumNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogramSnapshot{" +
+                "count=" + count +
+                ", minimumNanos=" + minimumNanos +
+                ", meanNanos=" + (long) getMeanNanos() +
+                ", p50Nanos=" + getValueAtPercentileNanos(50) +
+                ", p99Nanos=" + getValueAtPercentileNanos(99) +
+                ", p999Nanos=" + getValueAtPercentileNanos(99.9) +
+                ", maximumNanos=" + maximumNanos +
+                '}';
+    }
+}
@@ -0,0 +1,187 @@
+package net.jacobpeterson.iqfeed4j.util.ratelimit;
+
+import net.jacobpeterson.iqfeed4j.util.thread.ThreadUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link TokenBucketRateLimiter} is a lock-free token bucket rate limiter. The bucket holds up to a burst size of
+ * permits and is refilled at a constant rate of permits per second, so up to the burst size of permits can be acquired
+ * at once after an idle period while the long-term rate never exceeds the permits per second.
+ * <br>
+ * The bucket is stored as the single {@link System#nanoTime()} at which it would be empty, which is advanced with a
+ * compare-and-set, so no lock is held and no thread sleeps while holding shared state. A permit that isn't available
+ * yet is reserved in advance, so callers are granted permits in the order of their reservations and each caller only
+ * waits for its own reservation.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static volatile ScheduledExecutorService permitScheduler;
+
+    private final double permitsPerSecond;
+    private final int burstSize;
+    private final long permitIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoTimeSupplier;
+    private final AtomicLong emptyNanoTime;
+
+    /**
+     * Instantiates a new {@link TokenBucketRateLimiter}. The bucket starts full.
+     *
+     * @param permitsPerSecond the rate at which permits are refilled
+     * @param burstSize        the maximum number of permits that can be acquired at once
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int burstSize) {
+        this(permitsPerSecond, burstSize, System::nanoTime);
+    }
+
+    /**
+     * Instantiates a new {@link TokenBucketRateLimiter} with the given {@link System#nanoTime()} source (e.g. a
+     * simulated clock for testing). The bucket starts full.
+     *
+     * @param permitsPerSecond the rate at which permits are refilled
+     * @param burstSize        the maximum number of permits that can be acquired at once
+     * @param nanoTimeSupplier the {@link LongSupplier} of the current {@link System#nanoTime()}
+     */
+    TokenBucketRateLimiter(double permitsPerSecond, int burstSize, LongSupplier nanoTimeSupplier) {
+        checkArgument(permitsPerSecond > 0, "The permits per second must be positive!");
+        checkArgument(burstSize > 0, "The burst size must be positive!");
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = burstSize;
+        // Round up so that the rate is never exceeded
+        permitIntervalNanos = Math.max((long) Math.ceil(NANOS_PER_SECOND / permitsPerSecond), 1);
+        burstNanos = permitIntervalNanos * burstSize;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        emptyNanoTime = new AtomicLong(nanoTimeSupplier.getAsLong() - burstNanos);
+    }
+
+    /**
+     * Reserves a permit.
+     *
+     * @return the number of nanoseconds to wait until the reserved permit may be used, or <code>0</code> if it may be
+     * used immediately
+     */
+    public long reserve() {
+        while (true) {
+            long nowNanoTime = nanoTimeSupplier.getAsLong();
+            long previousEmptyNanoTime = emptyNanoTime.get();
+            long nextEmptyNanoTime = nextEmptyNanoTime(previousEmptyNanoTime, nowNanoTime);
+            if (emptyNanoTime.compareAndSet(previousEmptyNanoTime, nextEmptyNanoTime)) {
+                return Math.max(nextEmptyNanoTime - nowNanoTime, 0);
+            }
+        }
+    }
+
+    /**
+     * Acquires a permit only if it's available immediately.
+     *
+     * @return true if a permit was acquired
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long nowNanoTime = nanoTimeSupplier.getAsLong();
+            long previousEmptyNanoTime = emptyNanoTime.get();
+            long nextEmptyNanoTime = nextEmptyNanoTime(previousEmptyNanoTime, nowNanoTime);
+            if (nextEmptyNanoTime - nowNanoTime > 0) {
+                return false;
+            }
+            if (emptyNanoTime.compareAndSet(previousEmptyNanoTime, nextEmptyNanoTime)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Acquires a permit, blocking until it's available.
+     *
+     * @throws InterruptedException thrown for {@link InterruptedException}s (the reserved permit is still consumed)
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Acquires a permit asynchronously. No thread is blocked while waiting for the permit. Note that if the permit
+     * isn't available immediately, the returned {@link CompletableFuture} is completed on a shared scheduler thread, so
+     * non-async dependent stages shouldn't block.
+     *
+     * @return a {@link CompletableFuture} that completes once the permit is available
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> permitFuture = new CompletableFuture<>();
+        getPermitScheduler().schedule(() -> permitFuture.complete(null), waitNanos, TimeUnit.NANOSECONDS);
+        return permitFuture;
+    }
+
+    /**
+     * Gets the {@link System#nanoTime()} at which the bucket would be empty after taking a permit at the given
+     * <code>nowNanoTime</code>. The bucket is capped at {@link #burstSize} permits.
+     *
+     * @param previousEmptyNanoTime the previous {@link System#nanoTime()} at which the bucket would be empty
+     * @param nowNanoTime           the current {@link System#nanoTime()}
+     *
+     * @return the next {@link System#nanoTime()} at which the bucket would be empty
+     */
+    private long nextEmptyNanoTime(long previousEmptyNanoTime, long nowNanoTime) {
+        long fullNanoTime = nowNanoTime - burstNanos;
+        return (previousEmptyNanoTime - fullNanoTime > 0 ? previousEmptyNanoTime : fullNanoTime) +
+                permitIntervalNanos;
+    }
+
+    /**
+     * Gets the shared daemon {@link ScheduledExecutorService} that completes the {@link CompletableFuture}s of
+     * {@link #acquireAsync()}, creating it if needed.
+     *
+     * @return a {@link ScheduledExecutorService}
+     */
+    private static ScheduledExecutorService getPermitScheduler() {
+        ScheduledExecutorService scheduler = permitScheduler;
+        if (scheduler == null) {
+            synchronized (TokenBucketRateLimiter.class) {
+                scheduler = permitScheduler;
+                if (scheduler == null) {
+                    scheduler = Executors.newSingleThreadScheduledExecutor(
+                            ThreadUtil.newPlatformThreadFactory("TokenBucketRateLimiter Scheduler", true));
+                    permitScheduler = scheduler;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * Gets {@link #permitsPerSecond}.
+     *
+     * @return a double
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Gets {@link #burstSize}.
+     *
+     * @return an int
+     */
+    public int getBurstSize() {
+        return burstSize;
+    }
+}
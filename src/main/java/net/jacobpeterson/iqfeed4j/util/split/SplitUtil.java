@@ -40,4 +40,56 @@ public class SplitUtil {
 
         return splitList;
     }
+
+    /**
+     * Splits a {@link CharSequence} using the comma (,) key as a delimiter, but ignores commas surrounded in quotes.
+     * Quotes are not removed from the split values.
+     * <br>
+     * This has the same semantics as splitting on the Regex <code>,(?=(?:[^"]*"[^"]*")*[^"]*$)</code> (a comma
+     * followed by an even number of quotes), but uses a single-pass state machine instead of a quadratic lookahead. A
+     * second pass is only needed for malformed input with an odd number of quotes.
+     *
+     * @param toSplit the {@link CharSequence} to split
+     *
+     * @return a {@link List} of {@link String}s
+     */
+    public static List<String> splitQuoteEscapedCommas(CharSequence toSplit) {
+        List<String> splitList = new ArrayList<>();
+        if (!splitQuoteEscapedCommas(toSplit, false, splitList)) {
+            splitList.clear();
+            splitQuoteEscapedCommas(toSplit, true, splitList);
+        }
+        return splitList;
+    }
+
+    /**
+     * Splits a {@link CharSequence} on commas whose number of preceding quotes has the same parity as the assumed
+     * total number of quotes in <code>toSplit</code>, which is equivalent to the comma being followed by an even
+     * number of quotes.
+     *
+     * @param toSplit       the {@link CharSequence} to split
+     * @param oddQuoteCount true if the total number of quotes in <code>toSplit</code> is assumed to be odd
+     * @param splitList     the {@link List} to add split values to
+     *
+     * @return true if <code>oddQuoteCount</code> was correct, false otherwise
+     */
+    private static boolean splitQuoteEscapedCommas(CharSequence toSplit, boolean oddQuoteCount,
+            List<String> splitList) {
+        boolean oddQuotesSeen = false;
+        int valueStart = 0;
+        int length = toSplit.length();
+
+        for (int index = 0; index < length; index++) {
+            char ch = toSplit.charAt(index);
+            if (ch == '"') {
+                oddQuotesSeen = !oddQuotesSeen;
+            } else if (ch == ',' && oddQuotesSeen == oddQuoteCount) {
+                splitList.add(toSplit.subSequence(valueStart, index).toString());
+                valueStart = index + 1;
+            }
+        }
+        splitList.add(toSplit.subSequence(valueStart, length).toString());
+
+        return oddQuotesSeen == oddQuoteCount;
+    }
 }
@@ -0,0 +1,72 @@
+package net.jacobpeterson.iqfeed4j.util.thread;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ThreadUtil} contains utility functions for creating {@link ThreadFactory}s and {@link Executor}s.
+ * <br>
+ * Virtual threads are used on JDK 21+, which {@link VirtualThreadSupport} detects at runtime (via reflection, so
+ * this works with the default JDK 8 build). On older JDKs, platform threads are used instead.
+ */
+public class ThreadUtil {
+
+    /**
+     * Tests if virtual threads are supported by the running JDK (JDK 21+).
+     *
+     * @return a boolean
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreadSupport.isSupported();
+    }
+
+    /**
+     * Creates a new platform {@link ThreadFactory}. Created {@link Thread}s are named <code>name</code> followed by a
+     * space and an incrementing index.
+     *
+     * @param name   the {@link Thread} name prefix
+     * @param daemon true to create daemon {@link Thread}s
+     *
+     * @return a {@link ThreadFactory}
+     */
+    public static ThreadFactory newPlatformThreadFactory(String name, boolean daemon) {
+        final AtomicInteger threadIndex = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " " + threadIndex.getAndIncrement());
+            thread.setDaemon(daemon);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates a new virtual {@link ThreadFactory} if {@link #isVirtualThreadSupported()}, otherwise creates a new
+     * daemon platform {@link ThreadFactory} via {@link #newPlatformThreadFactory(String, boolean)}. Note that virtual
+     * threads are always daemon threads. Created {@link Thread}s are named <code>name</code> followed by a space and an
+     * incrementing index.
+     *
+     * @param name the {@link Thread} name prefix
+     *
+     * @return a {@link ThreadFactory}
+     */
+    public static ThreadFactory newVirtualThreadFactory(String name) {
+        if (VirtualThreadSupport.isSupported()) {
+            return VirtualThreadSupport.newVirtualThreadFactory(name);
+        } else {
+            return newPlatformThreadFactory(name, true);
+        }
+    }
+
+    /**
+     * Creates a new {@link Executor} that starts a new {@link Thread} from the given {@link ThreadFactory} for each
+     * executed task. This is intended for use with a virtual {@link ThreadFactory}, where blocking a {@link Thread} is
+     * cheap.
+     *
+     * @param threadFactory the {@link ThreadFactory}
+     *
+     * @return an {@link Executor}
+     */
+    public static Executor newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        return task -> threadFactory.newThread(task).start();
+    }
+}
@@ -0,0 +1,69 @@
+package net.jacobpeterson.iqfeed4j.util.thread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * {@link VirtualThreadSupport} provides virtual thread support to {@link ThreadUtil}. This is the JDK 8
+ * implementation, which looks up the JDK 21+ virtual thread API (<code>Thread.ofVirtual()</code>) via reflection, so
+ * that virtual threads are used on JDK 21+ even if this JAR wasn't built with the JDK 21 classes. If IQFeed4j is built
+ * as a multi-release JAR (see the <code>java21</code> property in <code>build.gradle</code>), the JDK 21+
+ * implementation in the <code>META-INF/versions/21</code> directory calls the API directly instead.
+ */
+final class VirtualThreadSupport {
+
+    private static final Method OF_VIRTUAL_METHOD;
+    private static final Method BUILDER_NAME_METHOD;
+    private static final Method BUILDER_FACTORY_METHOD;
+
+    static {
+        Method ofVirtualMethod = null;
+        Method builderNameMethod = null;
+        Method builderFactoryMethod = null;
+        try {
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builderNameMethod = builderClass.getMethod("name", String.class, long.class);
+            builderFactoryMethod = builderClass.getMethod("factory");
+            // Virtual threads are a preview API on JDK 19 and 20, where this throws unless previews are enabled
+            ofVirtualMethod.invoke(null);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException exception) {
+            ofVirtualMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        BUILDER_NAME_METHOD = builderNameMethod;
+        BUILDER_FACTORY_METHOD = builderFactoryMethod;
+    }
+
+    /**
+     * Tests if virtual threads are supported.
+     *
+     * @return a boolean
+     */
+    static boolean isSupported() {
+        return OF_VIRTUAL_METHOD != null;
+    }
+
+    /**
+     * Creates a new virtual {@link ThreadFactory}.
+     *
+     * @param name the {@link Thread} name prefix
+     *
+     * @return a {@link ThreadFactory}
+     *
+     * @throws IllegalStateException thrown if virtual threads aren't {@link #isSupported()}
+     */
+    static ThreadFactory newVirtualThreadFactory(String name) {
+        checkState(isSupported(), "Virtual threads require JDK 21+!");
+        try {
+            Object builder = OF_VIRTUAL_METHOD.invoke(null);
+            builder = BUILDER_NAME_METHOD.invoke(builder, name + " ", 0L);
+            return (ThreadFactory) BUILDER_FACTORY_METHOD.invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException exception) {
+            throw new IllegalStateException("Could not create a virtual thread factory!", exception);
+        }
+    }
+}
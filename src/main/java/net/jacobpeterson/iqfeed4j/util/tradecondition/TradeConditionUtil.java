@@ -8,6 +8,11 @@ import java.util.List;
  */
 public class TradeConditionUtil {
 
+    /**
+     * The maximum number of trade conditions that can be packed into a <code>long</code>.
+     */
+    public static final int MAX_PACKED_TRADE_CONDITIONS = 8;
+
     /**
      * Gets a list of base-10 integers from a non-delimited list of 2-digit hexadecimal numbers (with no '0x' prefix)
      * which represent various trade conditions.
@@ -34,4 +39,63 @@ public class TradeConditionUtil {
 
         return tradeConditions;
     }
+
+    /**
+     * Packs a non-delimited list of 2-digit hexadecimal trade conditions (with no '0x' prefix) into a
+     * <code>long</code>, with the first trade condition in the lowest byte, without allocating. Since trade conditions
+     * are never <code>0</code>, unused bytes are <code>0</code>.
+     *
+     * @param tradeConditionString the non-delimited list of hexadecimal trade conditions (e.g. a
+     *                             {@link net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice})
+     *
+     * @return the packed trade conditions or <code>0</code> if there are none
+     *
+     * @throws IllegalArgumentException thrown if there are more than {@link #MAX_PACKED_TRADE_CONDITIONS} trade
+     *                                  conditions or an invalid hex digit
+     */
+    public static long packFromTradeConditionString(CharSequence tradeConditionString) {
+        if (tradeConditionString == null || tradeConditionString.length() == 0) {
+            return 0;
+        }
+
+        int length = tradeConditionString.length();
+        if (length % 2 != 0) {
+            throw new IllegalArgumentException("Only found one hex digit for trade condition at index " + (length - 1));
+        }
+        if (length / 2 > MAX_PACKED_TRADE_CONDITIONS) {
+            throw new IllegalArgumentException("More than " + MAX_PACKED_TRADE_CONDITIONS +
+                    " trade conditions: " + tradeConditionString);
+        }
+
+        long packedTradeConditions = 0;
+        for (int index = 0; index < length; index += 2) {
+            int high = Character.digit(tradeConditionString.charAt(index), 16);
+            int low = Character.digit(tradeConditionString.charAt(index + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid hex digit for trade condition at index " + index);
+            }
+            packedTradeConditions |= (long) (high << 4 | low) << (index * 4);
+        }
+        return packedTradeConditions;
+    }
+
+    /**
+     * Unpacks trade conditions packed by {@link #packFromTradeConditionString(CharSequence)} into a list of base-10
+     * integers.
+     *
+     * @param packedTradeConditions the packed trade conditions
+     *
+     * @return a new {@link List} or <code>null</code> if there are no trade conditions
+     */
+    public static List<Integer> listFromPackedTradeConditions(long packedTradeConditions) {
+        if (packedTradeConditions == 0) {
+            return null;
+        }
+
+        ArrayList<Integer> tradeConditions = new ArrayList<>(4);
+        for (long remaining = packedTradeConditions; remaining != 0; remaining >>>= 8) {
+            tradeConditions.add((int) (remaining & 0xFF));
+        }
+        return tradeConditions;
+    }
 }
@@ -0,0 +1,30 @@
+package net.jacobpeterson.iqfeed4j.util.thread;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * {@link VirtualThreadSupport} provides virtual thread support to {@link ThreadUtil}. This is the JDK 21+
+ * implementation, which is packaged in the <code>META-INF/versions/21</code> directory of the multi-release JAR.
+ */
+final class VirtualThreadSupport {
+
+    /**
+     * Tests if virtual threads are supported.
+     *
+     * @return true
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Creates a new virtual {@link ThreadFactory}.
+     *
+     * @param name the {@link Thread} name prefix
+     *
+     * @return a {@link ThreadFactory}
+     */
+    static ThreadFactory newVirtualThreadFactory(String name) {
+        return Thread.ofVirtual().name(name + " ", 0).factory();
+    }
+}
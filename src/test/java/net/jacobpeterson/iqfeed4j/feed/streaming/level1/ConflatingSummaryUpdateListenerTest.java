@@ -0,0 +1,130 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.feed.message.FeedMessageListener;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateContent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link ConflatingSummaryUpdateListenerTest} tests {@link ConflatingSummaryUpdateListener} with an executor that only
+ * runs its tasks when told to, so that {@link SummaryUpdate}s are conflated deterministically.
+ */
+public class ConflatingSummaryUpdateListenerTest {
+
+    /**
+     * Tests that two {@link SummaryUpdate}s of one symbol that are received before delivery are delivered as one
+     * listener-owned {@link SummaryUpdate} that keeps the symbol and has the latest field values.
+     */
+    @Test
+    public void conflatedSummaryUpdateKeepsSymbolAndLatestValues() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<SummaryUpdate> deliveredSummaryUpdates = new ArrayList<>();
+        ConflatingSummaryUpdateListener conflatingListener = new ConflatingSummaryUpdateListener(
+                createListener(deliveredSummaryUpdates), tasks::add);
+
+        SummaryUpdate firstSummaryUpdate = createSummaryUpdate("AAPL", SummaryUpdateContent.BID_UPDATE);
+        firstSummaryUpdate.setBid(1.0);
+        firstSummaryUpdate.setBidSize(100);
+        SummaryUpdate secondSummaryUpdate = createSummaryUpdate("AAPL", SummaryUpdateContent.ASK_UPDATE);
+        secondSummaryUpdate.setBid(2.0);
+        secondSummaryUpdate.setAsk(3.0);
+
+        conflatingListener.onMessageReceived(firstSummaryUpdate);
+        conflatingListener.onMessageReceived(secondSummaryUpdate);
+        runAll(tasks);
+
+        assertEquals(1, deliveredSummaryUpdates.size());
+        SummaryUpdate deliveredSummaryUpdate = deliveredSummaryUpdates.get(0);
+        assertNotSame(firstSummaryUpdate, deliveredSummaryUpdate);
+        assertNotSame(secondSummaryUpdate, deliveredSummaryUpdate);
+        assertEquals("AAPL", deliveredSummaryUpdate.getSymbol());
+        assertEquals(2.0, deliveredSummaryUpdate.getBid());
+        assertEquals(100, deliveredSummaryUpdate.getBidSize());
+        assertEquals(3.0, deliveredSummaryUpdate.getAsk());
+        assertEquals(Arrays.asList(SummaryUpdateContent.BID_UPDATE, SummaryUpdateContent.ASK_UPDATE),
+                deliveredSummaryUpdate.getMessageContents());
+        assertEquals(1L, conflatingListener.getConflatedCount());
+
+        // The received instances must not be modified
+        assertEquals(1.0, firstSummaryUpdate.getBid());
+        assertNull(firstSummaryUpdate.getAsk());
+        assertEquals(Collections.singletonList(SummaryUpdateContent.BID_UPDATE),
+                firstSummaryUpdate.getMessageContents());
+    }
+
+    /**
+     * Tests that a {@link SummaryUpdate} that isn't conflated is delivered as-is.
+     */
+    @Test
+    public void singleSummaryUpdateIsDeliveredAsIs() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<SummaryUpdate> deliveredSummaryUpdates = new ArrayList<>();
+        ConflatingSummaryUpdateListener conflatingListener = new ConflatingSummaryUpdateListener(
+                createListener(deliveredSummaryUpdates), tasks::add);
+
+        SummaryUpdate summaryUpdate = createSummaryUpdate("AAPL", SummaryUpdateContent.BID_UPDATE);
+        conflatingListener.onMessageReceived(summaryUpdate);
+        runAll(tasks);
+
+        assertEquals(1, deliveredSummaryUpdates.size());
+        assertSame(summaryUpdate, deliveredSummaryUpdates.get(0));
+    }
+
+    /**
+     * Creates a {@link SummaryUpdate} with the given <code>symbol</code> and <code>messageContent</code>.
+     *
+     * @param symbol         the symbol
+     * @param messageContent the {@link SummaryUpdateContent}
+     *
+     * @return a {@link SummaryUpdate}
+     */
+    private static SummaryUpdate createSummaryUpdate(String symbol, SummaryUpdateContent messageContent) {
+        SummaryUpdate summaryUpdate = new SummaryUpdate();
+        summaryUpdate.setSymbol(symbol);
+        summaryUpdate.setType(SummaryUpdate.Type.UPDATE);
+        summaryUpdate.setMessageContents(new ArrayList<>(Collections.singletonList(messageContent)));
+        return summaryUpdate;
+    }
+
+    /**
+     * Creates a {@link FeedMessageListener} that adds received {@link SummaryUpdate}s to the given {@link List}.
+     *
+     * @param deliveredSummaryUpdates the {@link List} of delivered {@link SummaryUpdate}s
+     *
+     * @return a {@link FeedMessageListener}
+     */
+    private static FeedMessageListener<SummaryUpdate> createListener(List<SummaryUpdate> deliveredSummaryUpdates) {
+        return new FeedMessageListener<SummaryUpdate>() {
+            @Override
+            public void onMessageReceived(SummaryUpdate summaryUpdate) {
+                deliveredSummaryUpdates.add(summaryUpdate);
+            }
+
+            @Override
+            public void onMessageException(Exception exception) {
+                throw new AssertionError(exception);
+            }
+        };
+    }
+
+    /**
+     * Runs the given <code>tasks</code> until there are none left.
+     *
+     * @param tasks the tasks
+     */
+    private static void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package net.jacobpeterson.iqfeed4j.feed.streaming.level1;
+
+import net.jacobpeterson.iqfeed4j.feed.message.FeedMessageListener;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.SummaryUpdate;
+import net.jacobpeterson.iqfeed4j.model.feed.streaming.level1.enums.summaryupdate.SummaryUpdateField;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link PrimitiveSummaryUpdateTest} tests {@link PrimitiveSummaryUpdate} against the boxed fields of a
+ * {@link SummaryUpdate}.
+ */
+public class PrimitiveSummaryUpdateTest {
+
+    /**
+     * Tests that the primitive accessors and the boxed getters and setters of a {@link PrimitiveSummaryUpdate} agree.
+     */
+    @Test
+    public void primitiveAndBoxedAccessorsAgree() {
+        PrimitiveSummaryUpdate primitiveSummaryUpdate = new PrimitiveSummaryUpdate();
+        assertFalse(primitiveSummaryUpdate.isPresent(SummaryUpdateField.BID));
+        assertTrue(Double.isNaN(primitiveSummaryUpdate.getDouble(SummaryUpdateField.BID)));
+        assertEquals(Long.MIN_VALUE, primitiveSummaryUpdate.getLong(SummaryUpdateField.BID_SIZE));
+        assertNull(primitiveSummaryUpdate.getBid());
+
+        primitiveSummaryUpdate.setDouble(SummaryUpdateField.BID, 1.25);
+        primitiveSummaryUpdate.setLong(SummaryUpdateField.BID_SIZE, 300);
+        primitiveSummaryUpdate.setAsk(1.5);
+        primitiveSummaryUpdate.setTotalVolume(12345);
+        assertTrue(primitiveSummaryUpdate.isPresent(SummaryUpdateField.BID));
+        assertEquals(1.25, primitiveSummaryUpdate.getBid());
+        assertEquals(300, primitiveSummaryUpdate.getBidSize());
+        assertEquals(1.5, primitiveSummaryUpdate.getDouble(SummaryUpdateField.ASK));
+        assertEquals(12345L, primitiveSummaryUpdate.getLong(SummaryUpdateField.TOTAL_VOLUME));
+
+        primitiveSummaryUpdate.setNanoOfDay(SummaryUpdateField.BID_TIME,
+                LocalTime.of(9, 30, 0, 123456000).toNanoOfDay());
+        primitiveSummaryUpdate.setLastTime(LocalTime.of(16, 0));
+        assertEquals(LocalTime.of(9, 30, 0, 123456000), primitiveSummaryUpdate.getBidTime());
+        assertEquals(LocalTime.of(16, 0).toNanoOfDay(),
+                primitiveSummaryUpdate.getNanoOfDay(SummaryUpdateField.LAST_TIME));
+        assertEquals(Long.MIN_VALUE, primitiveSummaryUpdate.getNanoOfDay(SummaryUpdateField.ASK_TIME));
+
+        primitiveSummaryUpdate.setBid(null);
+        primitiveSummaryUpdate.setBidTime(null);
+        assertFalse(primitiveSummaryUpdate.isPresent(SummaryUpdateField.BID));
+        assertNull(primitiveSummaryUpdate.getBid());
+        assertNull(primitiveSummaryUpdate.getBidTime());
+    }
+
+    /**
+     * Tests that a fixed-point {@link PrimitiveSummaryUpdate} stores the <code>double</code> fields as exact mantissas.
+     */
+    @Test
+    public void fixedPointAccessorsAreExact() {
+        PrimitiveSummaryUpdate primitiveSummaryUpdate = new PrimitiveSummaryUpdate(4);
+        assertTrue(primitiveSummaryUpdate.isFixedPoint());
+        assertEquals(Long.MIN_VALUE, primitiveSummaryUpdate.getFixedPoint(SummaryUpdateField.BID, 4));
+
+        primitiveSummaryUpdate.setFixedPoint(SummaryUpdateField.BID, 1234567L);
+        assertEquals(1234567L, primitiveSummaryUpdate.getFixedPoint(SummaryUpdateField.BID, 4));
+        assertEquals(123456700L, primitiveSummaryUpdate.getFixedPoint(SummaryUpdateField.BID, 6));
+        assertEquals(12346L, primitiveSummaryUpdate.getFixedPoint(SummaryUpdateField.BID, 2));
+        assertEquals(123.4567, primitiveSummaryUpdate.getBid());
+
+        primitiveSummaryUpdate.setAsk(0.1 + 0.2);
+        assertEquals(3000L, primitiveSummaryUpdate.getFixedPoint(SummaryUpdateField.ASK, 4));
+        assertEquals(0.3, primitiveSummaryUpdate.getDouble(SummaryUpdateField.ASK));
+
+        PrimitiveSummaryUpdate doubleSummaryUpdate = new PrimitiveSummaryUpdate();
+        assertFalse(doubleSummaryUpdate.isFixedPoint());
+        doubleSummaryUpdate.setDouble(SummaryUpdateField.BID, 123.4567);
+        assertEquals(1234567L, doubleSummaryUpdate.getFixedPoint(SummaryUpdateField.BID, 4));
+        assertThrows(IllegalStateException.class, () -> doubleSummaryUpdate.setFixedPoint(SummaryUpdateField.BID, 1));
+    }
+
+    /**
+     * Tests that a {@link PrimitiveSummaryUpdate} equals the {@link SummaryUpdate} with the same field values.
+     */
+    @Test
+    public void primitiveSummaryUpdateEqualsBoxedSummaryUpdate() {
+        PrimitiveSummaryUpdate primitiveSummaryUpdate = new PrimitiveSummaryUpdate();
+        primitiveSummaryUpdate.setSymbol("AAPL");
+        primitiveSummaryUpdate.setDouble(SummaryUpdateField.LAST, 150.75);
+        primitiveSummaryUpdate.setLong(SummaryUpdateField.LAST_SIZE, 10);
+
+        SummaryUpdate summaryUpdate = new SummaryUpdate();
+        summaryUpdate.setSymbol("AAPL");
+        summaryUpdate.setLast(150.75);
+        summaryUpdate.setLastSize(10);
+
+        assertEquals(summaryUpdate, primitiveSummaryUpdate.toSummaryUpdate());
+        assertEquals(summaryUpdate.hashCode(), primitiveSummaryUpdate.hashCode());
+    }
+
+    /**
+     * Tests that {@link Level1SnapshotStore#update(SummaryUpdate)} stores the same values for a
+     * {@link PrimitiveSummaryUpdate} as for the equal {@link SummaryUpdate}.
+     */
+    @Test
+    public void snapshotStoreUpdateMatchesBoxedSummaryUpdate() {
+        PrimitiveSummaryUpdate primitiveSummaryUpdate = new PrimitiveSummaryUpdate();
+        primitiveSummaryUpdate.setSymbol("AAPL");
+        primitiveSummaryUpdate.setDouble(SummaryUpdateField.BID, 150.5);
+        primitiveSummaryUpdate.setLong(SummaryUpdateField.BID_SIZE, 200);
+        primitiveSummaryUpdate.setLong(SummaryUpdateField.TOTAL_VOLUME, 1000000);
+        primitiveSummaryUpdate.setNanoOfDay(SummaryUpdateField.BID_TIME, LocalTime.of(10, 15, 30).toNanoOfDay());
+
+        SummaryUpdate summaryUpdate = primitiveSummaryUpdate.toSummaryUpdate();
+        summaryUpdate.setSymbol("MSFT");
+
+        Level1SnapshotStore snapshotStore = new Level1SnapshotStore();
+        snapshotStore.update(primitiveSummaryUpdate);
+        snapshotStore.update(summaryUpdate);
+        int primitiveSymbolID = snapshotStore.getSymbolID("AAPL");
+        int boxedSymbolID = snapshotStore.getSymbolID("MSFT");
+
+        for (Level1SnapshotStore.Field field : Level1SnapshotStore.Field.values()) {
+            if (field.getType() == Level1SnapshotStore.FieldType.DOUBLE) {
+                assertEquals(snapshotStore.getDouble(boxedSymbolID, field),
+                        snapshotStore.getDouble(primitiveSymbolID, field), field.name());
+            } else {
+                assertEquals(snapshotStore.getLong(boxedSymbolID, field),
+                        snapshotStore.getLong(primitiveSymbolID, field), field.name());
+            }
+        }
+    }
+
+    /**
+     * Tests that {@link ConflatingSummaryUpdateListener} delivers a conflated {@link PrimitiveSummaryUpdate} as a
+     * {@link PrimitiveSummaryUpdate}.
+     */
+    @Test
+    public void conflatedPrimitiveSummaryUpdateKeepsType() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<SummaryUpdate> deliveredSummaryUpdates = new ArrayList<>();
+        ConflatingSummaryUpdateListener conflatingListener = new ConflatingSummaryUpdateListener(
+                new FeedMessageListener<SummaryUpdate>() {
+                    @Override
+                    public void onMessageReceived(SummaryUpdate summaryUpdate) {
+                        deliveredSummaryUpdates.add(summaryUpdate);
+                    }
+
+                    @Override
+                    public void onMessageException(Exception exception) {
+                        throw new AssertionError(exception);
+                    }
+                }, tasks::add);
+
+        PrimitiveSummaryUpdate firstSummaryUpdate = new PrimitiveSummaryUpdate();
+        firstSummaryUpdate.setSymbol("AAPL");
+        firstSummaryUpdate.setDouble(SummaryUpdateField.BID, 1.0);
+        PrimitiveSummaryUpdate secondSummaryUpdate = new PrimitiveSummaryUpdate();
+        secondSummaryUpdate.setSymbol("AAPL");
+        secondSummaryUpdate.setDouble(SummaryUpdateField.ASK, 2.0);
+
+        conflatingListener.onMessageReceived(firstSummaryUpdate);
+        conflatingListener.onMessageReceived(secondSummaryUpdate);
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+
+        assertEquals(1, deliveredSummaryUpdates.size());
+        assertTrue(deliveredSummaryUpdates.get(0) instanceof PrimitiveSummaryUpdate);
+        PrimitiveSummaryUpdate deliveredSummaryUpdate = (PrimitiveSummaryUpdate) deliveredSummaryUpdates.get(0);
+        assertEquals("AAPL", deliveredSummaryUpdate.getSymbol());
+        assertEquals(1.0, deliveredSummaryUpdate.getDouble(SummaryUpdateField.BID));
+        assertEquals(2.0, deliveredSummaryUpdate.getDouble(SummaryUpdateField.ASK));
+    }
+}
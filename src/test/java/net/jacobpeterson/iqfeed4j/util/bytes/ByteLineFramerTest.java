@@ -0,0 +1,74 @@
+package net.jacobpeterson.iqfeed4j.util.bytes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * {@link ByteLineFramerTest} tests that {@link ByteLineFramer} frames lines with any line ending, including lines and
+ * CRLF line endings that are split across reads, from a {@link ReadableByteChannel} and from heap and direct
+ * {@link ByteBuffer}s.
+ */
+public class ByteLineFramerTest {
+
+    private static final String INPUT = "Q,AAPL,132.45\r\nT,20210503 09:30:00\nQ,\"A,B\",1\r\rS,SERVER CONNECTED\r\n";
+    private static final List<String> EXPECTED_LINES = Arrays.asList(
+            "Q,AAPL,132.45", "T,20210503 09:30:00", "Q,\"A,B\",1", "", "S,SERVER CONNECTED");
+
+    /**
+     * Tests {@link ByteLineFramer#read(ReadableByteChannel, ByteLineFramer.LineHandler)} with read buffer capacities
+     * from smaller than every line up to larger than the whole input.
+     *
+     * @throws Exception thrown for {@link Exception}s
+     */
+    @Test
+    public void readFramesLinesSplitAcrossReads() throws Exception {
+        byte[] bytes = INPUT.getBytes(StandardCharsets.US_ASCII);
+        for (int capacity = 1; capacity <= bytes.length + 1; capacity++) {
+            ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(bytes));
+            ByteLineFramer byteLineFramer = new ByteLineFramer(capacity);
+            List<String> lines = new ArrayList<>();
+            while (byteLineFramer.read(channel, line -> lines.add(line.toString())) >= 0) {
+                // Read until end-of-stream
+            }
+
+            assertEquals(EXPECTED_LINES, lines, "capacity " + capacity);
+        }
+    }
+
+    /**
+     * Tests {@link ByteLineFramer#frame(ByteBuffer, ByteLineFramer.LineHandler)} with a heap {@link ByteBuffer} that
+     * has a non-zero array offset and position and with a direct {@link ByteBuffer}.
+     *
+     * @throws Exception thrown for {@link Exception}s
+     */
+    @Test
+    public void frameHeapAndDirectByteBuffers() throws Exception {
+        byte[] bytes = ("xx" + INPUT).getBytes(StandardCharsets.US_ASCII);
+
+        ByteBuffer heapBuffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1).slice();
+        heapBuffer.position(1);
+        List<String> heapLines = new ArrayList<>();
+        new ByteLineFramer(4).frame(heapBuffer, line -> heapLines.add(line.toString()));
+        assertEquals(EXPECTED_LINES, heapLines);
+        assertFalse(heapBuffer.hasRemaining());
+
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        directBuffer.position(2);
+        List<String> directLines = new ArrayList<>();
+        new ByteLineFramer(4).frame(directBuffer, line -> directLines.add(line.toString()));
+        assertEquals(EXPECTED_LINES, directLines);
+        assertFalse(directBuffer.hasRemaining());
+    }
+}
@@ -0,0 +1,227 @@
+package net.jacobpeterson.iqfeed4j.util.datetime;
+
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+import net.jacobpeterson.iqfeed4j.util.csv.mapper.AbstractCSVMapper.DateTimeFormatters;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link DateTimeParseUtilTest} tests that the specialized parsers of {@link DateTimeParseUtil} are equivalent to their
+ * {@link DateTimeFormatters} formatters (same result or same exception type) for random valid values and for random
+ * invalid values (mutated characters, inserted and deleted characters, and out-of-range fields).
+ */
+public class DateTimeParseUtilTest {
+
+    private static final int ITERATIONS = 50_000;
+    private static final String MUTATION_CHARACTERS = "0123456789012345678901234567890123456789:-/. aT+";
+
+    /**
+     * Tests {@link DateTimeParseUtil#parseDashedDateSpaceTimeFractional(CharSequence)} and
+     * {@link DateTimeParseUtil#parseDashedDateSpaceTimeFractionalToEpochMicros(CharSequence)} against
+     * {@link DateTimeFormatters#DASHED_DATE_SPACE_TIME_FRACTIONAL}.
+     */
+    @Test
+    public void dashedDateSpaceTimeFractionalMatchesFormatter() {
+        Random random = new Random(12);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            LocalDateTime localDateTime = randomLocalDateTime(random);
+            String value = localDateTime.toLocalDate() + " " + formatColonTime(localDateTime.toLocalTime(),
+                    random.nextInt(10));
+            value = randomlyInvalidate(random, value);
+
+            Function<CharSequence, LocalDateTime> formatterParser =
+                    text -> LocalDateTime.parse(text, DateTimeFormatters.DASHED_DATE_SPACE_TIME_FRACTIONAL);
+            assertEquivalent(value, formatterParser, DateTimeParseUtil::parseDashedDateSpaceTimeFractional);
+            assertEquivalent(value, formatterParser.andThen(DateTimeParseUtilTest::toEpochMicros),
+                    DateTimeParseUtil::parseDashedDateSpaceTimeFractionalToEpochMicros);
+        }
+    }
+
+    /**
+     * Tests {@link DateTimeParseUtil#parseColonTime(CharSequence)},
+     * {@link DateTimeParseUtil#parseColonTimeToMicroOfDay(CharSequence)}, and
+     * {@link DateTimeParseUtil#parseColonTimeToNanoOfDay(CharSequence)} against {@link DateTimeFormatters#COLON_TIME}.
+     */
+    @Test
+    public void colonTimeMatchesFormatter() {
+        Random random = new Random(34);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            String value = formatColonTime(randomLocalDateTime(random).toLocalTime(), random.nextInt(10));
+            value = randomlyInvalidate(random, value);
+
+            Function<CharSequence, LocalTime> formatterParser =
+                    text -> LocalTime.parse(text, DateTimeFormatters.COLON_TIME);
+            assertEquivalent(value, formatterParser, DateTimeParseUtil::parseColonTime);
+            assertEquivalent(value, formatterParser.andThen(localTime -> localTime.toNanoOfDay() / 1_000),
+                    DateTimeParseUtil::parseColonTimeToMicroOfDay);
+            assertEquivalent(value, formatterParser.andThen(LocalTime::toNanoOfDay),
+                    DateTimeParseUtil::parseColonTimeToNanoOfDay);
+        }
+    }
+
+    /**
+     * Tests {@link DateTimeParseUtil#parseDateSpaceTime(CharSequence)} and
+     * {@link DateTimeParseUtil#parseDateSpaceTimeToEpochMicros(CharSequence)} against
+     * {@link DateTimeFormatters#DATE_SPACE_TIME}.
+     */
+    @Test
+    public void dateSpaceTimeMatchesFormatter() {
+        Random random = new Random(56);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            String value = randomLocalDateTime(random).format(DateTimeFormatters.DATE_SPACE_TIME);
+            value = randomlyInvalidate(random, value);
+
+            Function<CharSequence, LocalDateTime> formatterParser =
+                    text -> LocalDateTime.parse(text, DateTimeFormatters.DATE_SPACE_TIME);
+            assertEquivalent(value, formatterParser, DateTimeParseUtil::parseDateSpaceTime);
+            assertEquivalent(value, formatterParser.andThen(DateTimeParseUtilTest::toEpochMicros),
+                    DateTimeParseUtil::parseDateSpaceTimeToEpochMicros);
+        }
+    }
+
+    /**
+     * Tests {@link DateTimeParseUtil#parseSlashedDate(CharSequence)} and
+     * {@link DateTimeParseUtil#parseSlashedDateToEpochDay(CharSequence)} against
+     * {@link DateTimeFormatters#SLASHED_DATE}.
+     */
+    @Test
+    public void slashedDateMatchesFormatter() {
+        Random random = new Random(78);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            String value = randomLocalDateTime(random).toLocalDate().format(DateTimeFormatters.SLASHED_DATE);
+            value = randomlyInvalidate(random, value);
+
+            Function<CharSequence, LocalDate> formatterParser =
+                    text -> LocalDate.parse(text, DateTimeFormatters.SLASHED_DATE);
+            assertEquivalent(value, formatterParser, DateTimeParseUtil::parseSlashedDate);
+            assertEquivalent(value, formatterParser.andThen(LocalDate::toEpochDay),
+                    DateTimeParseUtil::parseSlashedDateToEpochDay);
+        }
+    }
+
+    /**
+     * Asserts that the given <code>parser</code> returns the same result (or throws the same type of
+     * {@link Exception}) as the given <code>formatterParser</code> for the given <code>value</code>, both as a
+     * {@link String} and as a {@link ByteSlice}.
+     *
+     * @param <T>             the type of the result
+     * @param value           the value
+     * @param formatterParser the {@link DateTimeFormatter}-based parser
+     * @param parser          the {@link DateTimeParseUtil} parser
+     */
+    private static <T> void assertEquivalent(String value, Function<CharSequence, T> formatterParser,
+            Function<CharSequence, T> parser) {
+        Object expected = parseOrGetExceptionClass(formatterParser, value);
+        assertEquals(expected, parseOrGetExceptionClass(parser, value), "\"" + value + "\"");
+
+        byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(expected, parseOrGetExceptionClass(parser, new ByteSlice(bytes, 0, bytes.length)),
+                "ByteSlice \"" + value + "\"");
+    }
+
+    /**
+     * Applies the given <code>parser</code> to the given <code>value</code>.
+     *
+     * @param <T>    the type of the result
+     * @param parser the parser
+     * @param value  the value
+     *
+     * @return the result or the {@link Class} of the thrown {@link RuntimeException}
+     */
+    private static <T> Object parseOrGetExceptionClass(Function<CharSequence, T> parser, CharSequence value) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException exception) {
+            return exception.getClass();
+        }
+    }
+
+    /**
+     * Creates a random {@link LocalDateTime} with a random nanosecond between the years 1 and 9999.
+     *
+     * @param random the {@link Random}
+     *
+     * @return a {@link LocalDateTime}
+     */
+    private static LocalDateTime randomLocalDateTime(Random random) {
+        // Mostly recent dates, but also the whole supported range of four-digit years
+        int year = random.nextInt(4) == 0 ? 1 + random.nextInt(9999) : 1990 + random.nextInt(50);
+        LocalDate localDate = LocalDate.ofYearDay(year, 1 + random.nextInt(LocalDate.of(year, 1, 1).lengthOfYear()));
+        return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay((long) (random.nextDouble() * 86_400e9)));
+    }
+
+    /**
+     * Formats the given {@link LocalTime} as <code>HH:mm:ss</code> followed by the given number of fractional digits.
+     *
+     * @param localTime          the {@link LocalTime}
+     * @param fractionDigitCount the number of fractional digits (<code>0</code> for no fraction)
+     *
+     * @return the formatted {@link String}
+     */
+    private static String formatColonTime(LocalTime localTime, int fractionDigitCount) {
+        String value = String.format("%02d:%02d:%02d", localTime.getHour(), localTime.getMinute(),
+                localTime.getSecond());
+        if (fractionDigitCount > 0) {
+            value += "." + String.format("%09d", localTime.getNano()).substring(0, fractionDigitCount);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the given valid <code>value</code> as-is half of the time, and otherwise applies one to three random
+     * mutations to it (replacing, inserting, or deleting a character), which often make it invalid or out of range.
+     *
+     * @param random the {@link Random}
+     * @param value  the value
+     *
+     * @return the possibly mutated value
+     */
+    private static String randomlyInvalidate(Random random, String value) {
+        if (random.nextBoolean()) {
+            return value;
+        }
+
+        StringBuilder mutatedValue = new StringBuilder(value);
+        for (int mutation = random.nextInt(3); mutation >= 0; mutation--) {
+            int index = random.nextInt(mutatedValue.length() + 1);
+            char character = MUTATION_CHARACTERS.charAt(random.nextInt(MUTATION_CHARACTERS.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    if (index < mutatedValue.length()) {
+                        mutatedValue.setCharAt(index, character);
+                    }
+                    break;
+                case 1:
+                    mutatedValue.insert(index, character);
+                    break;
+                default:
+                    if (index < mutatedValue.length()) {
+                        mutatedValue.deleteCharAt(index);
+                    }
+                    break;
+            }
+        }
+        return mutatedValue.toString();
+    }
+
+    /**
+     * Converts the given {@link LocalDateTime} to epoch microseconds, truncating any nanoseconds.
+     *
+     * @param localDateTime the {@link LocalDateTime}
+     *
+     * @return the epoch microseconds
+     */
+    private static long toEpochMicros(LocalDateTime localDateTime) {
+        return localDateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + localDateTime.getNano() / 1_000;
+    }
+}
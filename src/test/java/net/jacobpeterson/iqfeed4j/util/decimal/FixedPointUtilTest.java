@@ -0,0 +1,90 @@
+package net.jacobpeterson.iqfeed4j.util.decimal;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link FixedPointUtilTest} tests {@link FixedPointUtil} against {@link BigDecimal}.
+ */
+public class FixedPointUtilTest {
+
+    /**
+     * Tests {@link FixedPointUtil#parse(CharSequence, int)} with plain decimal values.
+     */
+    @Test
+    public void parsePlainDecimal() {
+        assertEquals(1234500L, FixedPointUtil.parse("123.45", 4));
+        assertEquals(-1234500L, FixedPointUtil.parse("-123.45", 4));
+        assertEquals(12346L, FixedPointUtil.parse("123.455", 2));
+        assertEquals(-12346L, FixedPointUtil.parse("-123.455", 2));
+        assertEquals(123L, FixedPointUtil.parse("123", 0));
+        assertEquals(50L, FixedPointUtil.parse(".5", 2));
+        assertEquals(Long.MIN_VALUE, FixedPointUtil.parse("-9223372036854775808", 0));
+    }
+
+    /**
+     * Tests that values with an exponent fall back to {@link BigDecimal} and return a mantissa at the requested scale.
+     */
+    @Test
+    public void parseExponentFallsBackToBigDecimal() {
+        assertEquals(100000L, FixedPointUtil.parse("1e3", 2));
+        assertEquals(150L, FixedPointUtil.parse("1.5e0", 2));
+        assertEquals(150L, FixedPointUtil.parse("15E-1", 2));
+        assertEquals(-123L, FixedPointUtil.parse("-1.225E0", 2));
+        assertEquals(123L, FixedPointUtil.parse("1.225E0", 2));
+        assertEquals(1L, FixedPointUtil.parse("5e-3", 2));
+        assertEquals(12L, FixedPointUtil.parse("1.2e1", 0));
+    }
+
+    /**
+     * Tests that {@link FixedPointUtil#parse(CharSequence, int)} throws a {@link NumberFormatException} for values
+     * that aren't decimal or that don't fit in a fixed-point mantissa.
+     */
+    @Test
+    public void parseInvalidValueThrows() {
+        assertThrows(NumberFormatException.class, () -> FixedPointUtil.parse("", 2));
+        assertThrows(NumberFormatException.class, () -> FixedPointUtil.parse("-", 2));
+        assertThrows(NumberFormatException.class, () -> FixedPointUtil.parse("1.2.3", 2));
+        assertThrows(NumberFormatException.class, () -> FixedPointUtil.parse("abc", 2));
+        assertThrows(NumberFormatException.class, () -> FixedPointUtil.parse("9223372036854775808", 0));
+        assertThrows(NumberFormatException.class, () -> FixedPointUtil.parse("1e19", 0));
+        assertThrows(NumberFormatException.class, () -> FixedPointUtil.parse("1e17", 4));
+    }
+
+    /**
+     * Tests {@link FixedPointUtil#parse(CharSequence, int)} against {@link BigDecimal} with random plain and exponent
+     * values.
+     */
+    @Test
+    public void parseMatchesBigDecimal() {
+        Random random = new Random(13);
+        for (int iteration = 0; iteration < 100_000; iteration++) {
+            int scale = random.nextInt(9);
+            BigDecimal decimal = BigDecimal.valueOf(random.nextLong() % 1_000_000_000L, random.nextInt(12));
+            String value = random.nextBoolean() ? decimal.toPlainString() : decimal.toEngineeringString()
+                    .replace('E', random.nextBoolean() ? 'E' : 'e');
+
+            long expected = decimal.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            assertEquals(expected, FixedPointUtil.parse(value, scale), value + " at scale " + scale);
+        }
+    }
+
+    /**
+     * Tests {@link FixedPointUtil#rescale(long, int, int)} and {@link FixedPointUtil#fromDouble(double, int)}.
+     */
+    @Test
+    public void rescaleAndFromDouble() {
+        assertEquals(12300L, FixedPointUtil.rescale(123L, 0, 2));
+        assertEquals(124L, FixedPointUtil.rescale(12350L, 2, 0));
+        assertEquals(-124L, FixedPointUtil.rescale(-12350L, 2, 0));
+        assertEquals(123L, FixedPointUtil.rescale(12349L, 2, 0));
+        assertEquals(1234500L, FixedPointUtil.fromDouble(123.45, 4));
+        assertEquals("123.4500", FixedPointUtil.toString(1234500L, 4));
+    }
+}
@@ -0,0 +1,94 @@
+package net.jacobpeterson.iqfeed4j.util.ratelimit;
+
+import net.jacobpeterson.iqfeed4j.feed.lookup.historical.pool.HistoricalFeedPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TokenBucketRateLimiterTest} tests {@link TokenBucketRateLimiter} with a simulated clock.
+ */
+public class TokenBucketRateLimiterTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Tests that the default {@link HistoricalFeedPool} rate limiter never allows more than IQFeed's limit of requests
+     * in any one-second window when permits are taken as soon as they're available, including after idle periods.
+     */
+    @Test
+    public void defaultRateLimiterNeverExceedsLimitWithTryAcquire() {
+        long[] nowNanoTime = {0};
+        TokenBucketRateLimiter rateLimiter = createDefaultRateLimiter(nowNanoTime);
+
+        List<Long> acquisitionNanoTimes = new ArrayList<>();
+        for (; nowNanoTime[0] < TimeUnit.SECONDS.toNanos(20); nowNanoTime[0] += STEP_NANOS) {
+            // Go idle for a while every 5 seconds so that the bucket refills
+            if (nowNanoTime[0] % TimeUnit.SECONDS.toNanos(5) >= TimeUnit.SECONDS.toNanos(4)) {
+                continue;
+            }
+            while (rateLimiter.tryAcquire()) {
+                acquisitionNanoTimes.add(nowNanoTime[0]);
+            }
+        }
+
+        assertMaxAcquisitionsPerWindow(acquisitionNanoTimes);
+    }
+
+    /**
+     * Tests that the default {@link HistoricalFeedPool} rate limiter never allows more than IQFeed's limit of requests
+     * in any one-second window when many permits are reserved at once.
+     */
+    @Test
+    public void defaultRateLimiterNeverExceedsLimitWithReserve() {
+        long[] nowNanoTime = {0};
+        TokenBucketRateLimiter rateLimiter = createDefaultRateLimiter(nowNanoTime);
+
+        List<Long> acquisitionNanoTimes = new ArrayList<>();
+        for (int burst = 0; burst < 3; burst++) {
+            for (int reservation = 0; reservation < 200; reservation++) {
+                acquisitionNanoTimes.add(nowNanoTime[0] + rateLimiter.reserve());
+            }
+            // Wait until all reservations have been used and the bucket has refilled
+            nowNanoTime[0] = Collections.max(acquisitionNanoTimes) + WINDOW_NANOS;
+        }
+
+        assertMaxAcquisitionsPerWindow(acquisitionNanoTimes);
+    }
+
+    /**
+     * Creates a {@link TokenBucketRateLimiter} with the default rate and burst size of {@link HistoricalFeedPool}.
+     *
+     * @param nowNanoTime the simulated current nano time
+     *
+     * @return a {@link TokenBucketRateLimiter}
+     */
+    private static TokenBucketRateLimiter createDefaultRateLimiter(long[] nowNanoTime) {
+        return new TokenBucketRateLimiter(HistoricalFeedPool.DEFAULT_FEED_REQUESTS_PER_SECOND,
+                HistoricalFeedPool.DEFAULT_FEED_REQUEST_BURST_SIZE, () -> nowNanoTime[0]);
+    }
+
+    /**
+     * Asserts that no closed one-second window contains more than
+     * {@link HistoricalFeedPool#FEED_REQUESTS_PER_SECOND_LIMIT} of the given acquisition nano times.
+     *
+     * @param acquisitionNanoTimes the acquisition nano times
+     */
+    private static void assertMaxAcquisitionsPerWindow(List<Long> acquisitionNanoTimes) {
+        final int limit = HistoricalFeedPool.FEED_REQUESTS_PER_SECOND_LIMIT;
+        Collections.sort(acquisitionNanoTimes);
+
+        assertTrue(acquisitionNanoTimes.size() > limit, "Too few acquisitions to test the limit!");
+        for (int index = limit; index < acquisitionNanoTimes.size(); index++) {
+            long windowNanos = acquisitionNanoTimes.get(index) - acquisitionNanoTimes.get(index - limit);
+            assertTrue(windowNanos > WINDOW_NANOS, String.format("%d acquisitions within %d ns at index %d!",
+                    limit + 1, windowNanos, index));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package net.jacobpeterson.iqfeed4j.util.split;
+
+import net.jacobpeterson.iqfeed4j.feed.AbstractFeed;
+import net.jacobpeterson.iqfeed4j.util.bytes.ByteSlice;
+import net.jacobpeterson.iqfeed4j.util.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link SplitUtilTest} tests that {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)} and
+ * {@link CSVRecord#parseQuoteEscaped(ByteSlice)} are equivalent to splitting with the Regex of
+ * {@link AbstractFeed#QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER} for fixed and random lines, including malformed lines
+ * with an odd number of quotes.
+ */
+public class SplitUtilTest {
+
+    private static final int ITERATIONS = 100_000;
+    private static final String RANDOM_CHARACTERS = "ab1 .,,,\"\"";
+
+    /**
+     * Tests {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)} and
+     * {@link CSVRecord#parseQuoteEscaped(byte[], int, int)} with fixed lines.
+     */
+    @Test
+    public void splitQuoteEscapedCommasFixedLines() {
+        assertSplit("a,b,c", "a", "b", "c");
+        assertSplit("a,\"b,c\",d", "a", "\"b,c\"", "d");
+        assertSplit("\"a,b\",\"c,d\"", "\"a,b\"", "\"c,d\"");
+        assertSplit("", "");
+        assertSplit(",", "", "");
+        assertSplit("a,", "a", "");
+        assertSplit("\"", "\"");
+        // A comma is only a delimiter if it is followed by an even number of quotes
+        assertSplit("a,\"b,c", "a,\"b", "c");
+        assertSplit("a\",b,c\",d,\"e", "a\"", "b", "c\",d,\"e");
+    }
+
+    /**
+     * Tests {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)} and
+     * {@link CSVRecord#parseQuoteEscaped(byte[], int, int)} against the Regex with random lines of random lengths made
+     * up of commas, quotes, and other characters.
+     */
+    @Test
+    public void splitQuoteEscapedCommasMatchesRegex() {
+        Random random = new Random(3);
+        StringBuilder lineBuilder = new StringBuilder();
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            lineBuilder.setLength(0);
+            for (int length = random.nextInt(random.nextBoolean() ? 8 : 64); length > 0; length--) {
+                lineBuilder.append(RANDOM_CHARACTERS.charAt(random.nextInt(RANDOM_CHARACTERS.length())));
+            }
+
+            String line = lineBuilder.toString();
+            assertSplit(line, AbstractFeed.QUOTE_ESCAPED_COMMA_DELIMITED_SPLITTER.splitToList(line)
+                    .toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Asserts that the given <code>line</code> is split into the given <code>expected</code> values by
+     * {@link SplitUtil#splitQuoteEscapedCommas(CharSequence)} and by
+     * {@link CSVRecord#parseQuoteEscaped(byte[], int, int)}, with the line placed at a non-zero offset in its buffer.
+     *
+     * @param line     the line
+     * @param expected the expected values
+     */
+    private static void assertSplit(String line, String... expected) {
+        List<String> expectedList = Arrays.asList(expected);
+        assertEquals(expectedList, SplitUtil.splitQuoteEscapedCommas(line), "\"" + line + "\"");
+
+        byte[] bytes = ("\",x" + line + ",\"").getBytes(StandardCharsets.US_ASCII);
+        CSVRecord csvRecord = new CSVRecord();
+        csvRecord.parseQuoteEscaped(bytes, 3, line.length());
+        assertEquals(expectedList, Arrays.asList(csvRecord.toArray()), "CSVRecord \"" + line + "\"");
+    }
+}